@@ -0,0 +1,348 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.gis.panel;
+
+import com.google.gson.Gson;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.utils.CommonUtils;
+import org.locationtech.jts.geom.*;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+
+import java.util.*;
+
+/**
+ * Spatial index of geometries shown in the leaflet viewer.
+ * <p>
+ * Map requests features for the visible area on every zoom/pan. Geometries are simplified
+ * according to the zoom level, small geometries which fall into the same grid cell are clustered.
+ * Thus the amount of data passed to the browser depends on the viewport size, not on the number of values.
+ */
+public class GISFeatureIndex {
+
+    private static final Log log = Log.getLog(GISFeatureIndex.class);
+
+    private static final int TILE_SIZE = 256;
+    // Cluster grid cell size in screen pixels
+    private static final int CLUSTER_CELL_SIZE = 32;
+    // Simplification tolerance in screen pixels
+    private static final double SIMPLIFY_TOLERANCE = 0.5;
+    private static final int MAX_ZOOM_LEVEL = 24;
+    private static final int MAX_COORDINATE_DIGITS = 12;
+
+    private final Gson gson;
+    private final boolean simpleCRS;
+    private final STRtree tree = new STRtree();
+    private final Envelope extent = new Envelope();
+    private int featureCount;
+
+    private static class Feature {
+        final int index;
+        final Geometry geometry;
+        final Envelope envelope;
+        @Nullable
+        final Map<String, Object> properties;
+        // Simplified geometry for the last requested zoom level
+        Geometry simplified;
+        int simplifiedZoom = Integer.MIN_VALUE;
+
+        Feature(int index, @NotNull Geometry geometry, @Nullable Map<String, Object> properties) {
+            this.index = index;
+            this.geometry = geometry;
+            this.envelope = geometry.getEnvelopeInternal();
+            this.properties = properties;
+        }
+
+        boolean isSmall(double cellSize) {
+            return geometry instanceof Point || (envelope.getWidth() < cellSize && envelope.getHeight() < cellSize);
+        }
+    }
+
+    private static class Cluster {
+        Feature first;
+        int count;
+        double sumX;
+        double sumY;
+    }
+
+    public GISFeatureIndex(@NotNull Gson gson, boolean simpleCRS) {
+        this.gson = gson;
+        this.simpleCRS = simpleCRS;
+    }
+
+    public void addFeature(@NotNull Geometry geometry, @Nullable Map<String, Object> properties) {
+        if (geometry.isEmpty()) {
+            return;
+        }
+        Feature feature = new Feature(featureCount++, geometry, properties);
+        tree.insert(feature.envelope, feature);
+        extent.expandToInclude(feature.envelope);
+    }
+
+    public int getFeatureCount() {
+        return featureCount;
+    }
+
+    @NotNull
+    public Envelope getExtent() {
+        return extent;
+    }
+
+    public boolean isSimpleCRS() {
+        return simpleCRS;
+    }
+
+    /**
+     * Returns extent as leaflet bounds expression
+     */
+    @NotNull
+    public String getExtentDefinition() {
+        if (extent.isNull()) {
+            return "undefined";
+        }
+        return String.format(
+            Locale.ROOT,
+            "L.latLngBounds(L.latLng(%f, %f), L.latLng(%f, %f))",
+            extent.getMaxY(), extent.getMaxX(), extent.getMinY(), extent.getMinX());
+    }
+
+    /**
+     * Map units per screen pixel. Web mercator maps use degrees, simple CRS uses 1 unit per pixel at zoom 0.
+     * Mercator latitude stretching is ignored, it only makes clusters a bit taller at high latitudes.
+     */
+    public double getUnitsPerPixel(int zoom) {
+        double zeroZoomUnits = simpleCRS ? 1.0 : 360.0 / TILE_SIZE;
+        return zeroZoomUnits / Math.pow(2, zoom);
+    }
+
+    /**
+     * Estimates zoom level at which the whole extent fits into the viewport of specified size
+     */
+    public int estimateZoom(int viewportSize) {
+        double extentSize = Math.max(extent.getWidth(), extent.getHeight());
+        if (extent.isNull() || extentSize <= 0) {
+            return simpleCRS ? 0 : MAX_ZOOM_LEVEL / 2;
+        }
+        int zoom = (int) Math.floor(Math.log(getUnitsPerPixel(0) * viewportSize / extentSize) / Math.log(2));
+        return CommonUtils.clamp(zoom, simpleCRS ? -MAX_ZOOM_LEVEL : 0, MAX_ZOOM_LEVEL);
+    }
+
+    /**
+     * Returns JSON array of GeoJSON geometries which intersect with specified area.
+     *
+     * @param zoom        map zoom level, used to choose simplification tolerance and cluster size
+     * @param area        requested area (usually visible bounds with some margin)
+     * @param maxFeatures maximum number of features in result. Cluster cells are enlarged until result fits.
+     */
+    @NotNull
+    public String getFeaturesJson(int zoom, @NotNull Envelope area, int maxFeatures) {
+        double unitsPerPixel = getUnitsPerPixel(zoom);
+        List<Feature> features = queryFeatures(area);
+
+        double cellSize = CLUSTER_CELL_SIZE * unitsPerPixel;
+        List<Feature> largeFeatures = new ArrayList<>();
+        Collection<Cluster> clusters;
+        while (true) {
+            largeFeatures.clear();
+            clusters = clusterFeatures(features, cellSize, largeFeatures);
+            if (largeFeatures.size() + clusters.size() <= maxFeatures || largeFeatures.size() >= maxFeatures) {
+                break;
+            }
+            // Too many objects in the viewport, use larger cells
+            cellSize *= 2;
+        }
+        if (largeFeatures.size() > maxFeatures) {
+            log.debug("Too many geometries in the viewport (" + largeFeatures.size() + "), only " + maxFeatures + " will be shown");
+            largeFeatures.subList(maxFeatures, largeFeatures.size()).clear();
+        }
+
+        int digits = CommonUtils.clamp((int) Math.ceil(-Math.log10(unitsPerPixel)) + 1, 0, MAX_COORDINATE_DIGITS);
+        StringBuilder json = new StringBuilder();
+        json.append("[");
+        boolean first = true;
+        for (Feature feature : largeFeatures) {
+            Geometry geometry = getSimplifiedGeometry(feature, zoom, unitsPerPixel);
+            if (geometry.isEmpty()) {
+                continue;
+            }
+            if (!first) json.append(",");
+            first = false;
+            writeGeometry(json, geometry, digits, feature.properties);
+        }
+        for (Cluster cluster : clusters) {
+            if (!first) json.append(",");
+            first = false;
+            if (cluster.count == 1) {
+                writeGeometry(json, getSimplifiedGeometry(cluster.first, zoom, unitsPerPixel), digits, cluster.first.properties);
+            } else {
+                json.append("{\"type\":\"Point\",\"coordinates\":[");
+                appendCoordinate(json, cluster.sumX / cluster.count, cluster.sumY / cluster.count, digits);
+                json.append("],\"cluster\":").append(cluster.count).append("}");
+            }
+        }
+        json.append("]");
+        return json.toString();
+    }
+
+    @NotNull
+    private List<Feature> queryFeatures(@NotNull Envelope area) {
+        List<Feature> result = new ArrayList<>();
+        tree.query(area, item -> result.add((Feature) item));
+        // Keep original order so rendering is stable
+        result.sort(Comparator.comparingInt(f -> f.index));
+        return result;
+    }
+
+    @NotNull
+    private static Collection<Cluster> clusterFeatures(
+        @NotNull List<Feature> features,
+        double cellSize,
+        @NotNull List<Feature> largeFeatures
+    ) {
+        Map<Long, Cluster> cells = new LinkedHashMap<>();
+        for (Feature feature : features) {
+            if (!feature.isSmall(cellSize)) {
+                largeFeatures.add(feature);
+                continue;
+            }
+            Coordinate center = feature.envelope.centre();
+            long cellX = (long) Math.floor(center.x / cellSize);
+            long cellY = (long) Math.floor(center.y / cellSize);
+            Cluster cluster = cells.computeIfAbsent((cellX << 32) ^ (cellY & 0xFFFFFFFFL), k -> new Cluster());
+            if (cluster.first == null) {
+                cluster.first = feature;
+            }
+            cluster.count++;
+            cluster.sumX += center.x;
+            cluster.sumY += center.y;
+        }
+        return cells.values();
+    }
+
+    @NotNull
+    private static Geometry getSimplifiedGeometry(@NotNull Feature feature, int zoom, double unitsPerPixel) {
+        if (feature.geometry instanceof Point) {
+            return feature.geometry;
+        }
+        if (feature.simplifiedZoom != zoom) {
+            try {
+                feature.simplified = TopologyPreservingSimplifier.simplify(feature.geometry, unitsPerPixel * SIMPLIFY_TOLERANCE);
+            } catch (Exception e) {
+                log.debug("Error simplifying geometry", e);
+                feature.simplified = feature.geometry;
+            }
+            feature.simplifiedZoom = zoom;
+        }
+        return feature.simplified;
+    }
+
+    private void writeGeometry(@NotNull StringBuilder json, @NotNull Geometry geometry, int digits, @Nullable Map<String, Object> properties) {
+        json.append("{");
+        writeGeometryBody(json, geometry, digits);
+        if (!CommonUtils.isEmpty(properties)) {
+            try {
+                json.append(",\"tip\":").append(gson.toJson(properties));
+            } catch (Exception e) {
+                log.debug(e);
+            }
+        }
+        json.append("}");
+    }
+
+    private static void writeGeometryBody(@NotNull StringBuilder json, @NotNull Geometry geometry, int digits) {
+        String type = geometry instanceof LinearRing ? Geometry.TYPENAME_LINESTRING : geometry.getGeometryType();
+        json.append("\"type\":\"").append(type).append("\",");
+        if (geometry instanceof GeometryCollection && !(geometry instanceof MultiPoint || geometry instanceof MultiLineString || geometry instanceof MultiPolygon)) {
+            json.append("\"geometries\":[");
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                if (i > 0) json.append(",");
+                json.append("{");
+                writeGeometryBody(json, geometry.getGeometryN(i), digits);
+                json.append("}");
+            }
+            json.append("]");
+            return;
+        }
+        json.append("\"coordinates\":");
+        writeCoordinates(json, geometry, digits);
+    }
+
+    private static void writeCoordinates(@NotNull StringBuilder json, @NotNull Geometry geometry, int digits) {
+        if (geometry instanceof Point point) {
+            json.append("[");
+            appendCoordinate(json, point.getX(), point.getY(), digits);
+            json.append("]");
+        } else if (geometry instanceof LineString lineString) {
+            writeCoordinateSequence(json, lineString.getCoordinateSequence(), digits);
+        } else if (geometry instanceof Polygon polygon) {
+            json.append("[");
+            writeCoordinateSequence(json, polygon.getExteriorRing().getCoordinateSequence(), digits);
+            for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                json.append(",");
+                writeCoordinateSequence(json, polygon.getInteriorRingN(i).getCoordinateSequence(), digits);
+            }
+            json.append("]");
+        } else {
+            // Multi geometries
+            json.append("[");
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                if (i > 0) json.append(",");
+                writeCoordinates(json, geometry.getGeometryN(i), digits);
+            }
+            json.append("]");
+        }
+    }
+
+    private static void writeCoordinateSequence(@NotNull StringBuilder json, @NotNull CoordinateSequence sequence, int digits) {
+        json.append("[");
+        for (int i = 0; i < sequence.size(); i++) {
+            if (i > 0) json.append(",");
+            json.append("[");
+            appendCoordinate(json, sequence.getX(i), sequence.getY(i), digits);
+            json.append("]");
+        }
+        json.append("]");
+    }
+
+    private static void appendCoordinate(@NotNull StringBuilder json, double x, double y, int digits) {
+        appendNumber(json, x, digits);
+        json.append(",");
+        appendNumber(json, y, digits);
+    }
+
+    private static void appendNumber(@NotNull StringBuilder json, double value, int digits) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            json.append("0");
+            return;
+        }
+        // Precision beyond a screen pixel is useless for rendering
+        double scale = Math.pow(10, digits);
+        if (Math.abs(value * scale) >= Long.MAX_VALUE / 2.0) {
+            json.append(value);
+            return;
+        }
+        double rounded = Math.round(value * scale) / scale;
+        if (rounded == Math.rint(rounded) && Math.abs(rounded) < 1e15) {
+            json.append((long) rounded);
+        } else {
+            json.append(rounded);
+        }
+    }
+
+}
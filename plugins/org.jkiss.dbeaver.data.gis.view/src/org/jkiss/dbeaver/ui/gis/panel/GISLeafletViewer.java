@@ -72,13 +72,17 @@ import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.IOUtils;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceListener {
     private static final Log log = Log.getLog(GISLeafletViewer.class);
@@ -90,6 +94,8 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
     private static final String PROP_FLIP_COORDINATES = "gis.flipCoords";
     private static final String PROP_SRID = "gis.srid";
     private static final int UNDEFINED_SRID = -1;
+    // Viewport size used to estimate initial zoom level
+    private static final int INITIAL_VIEWPORT_SIZE = 1024;
 
     private volatile boolean browserCreating = false;
 
@@ -102,6 +108,7 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
 
     private Browser browser;
     private DBGeometry[] lastValue;
+    private GISFeatureIndex featureIndex;
     private int sourceSRID = UNDEFINED_SRID; // Explicitly set SRID
     private int actualSourceSRID; // SRID taken from geometry value
     private Path scriptFile;
@@ -143,6 +150,20 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
 
         if (browser != null) {
             browser.setLayoutData(new GridData(GridData.FILL_BOTH));
+            new BrowserFunction(browser, "loadGeometries") {
+                @Override
+                public Object function(Object[] arguments) {
+                    if (featureIndex == null || arguments.length < 5) {
+                        return null;
+                    }
+                    Envelope area = new Envelope(
+                        CommonUtils.toDouble(arguments[1]),
+                        CommonUtils.toDouble(arguments[3]),
+                        CommonUtils.toDouble(arguments[2]),
+                        CommonUtils.toDouble(arguments[4]));
+                    return featureIndex.getFeaturesJson(CommonUtils.toInt(arguments[0]), area, getMaxObjectsToRender());
+                }
+            };
             new BrowserFunction(browser, "setClipboardContents") {
                 @Override
                 public Object function(Object[] arguments) {
@@ -287,19 +308,10 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
         if (!force && CommonUtils.equalObjects(lastValue, values)) {
             return;
         }
-        int maxObjects = GISViewerActivator.getDefault().getPreferences().getInt(GeometryViewerConstants.PREF_MAX_OBJECTS_RENDER);
-        if (maxObjects <= 0) {
-            maxObjects = GeometryViewerConstants.DEFAULT_MAX_OBJECTS_RENDER;
-        }
-        if (values != null && values.length > maxObjects) {
-            // Truncate value list
-            DBGeometry[] truncValues = new DBGeometry[maxObjects];
-            System.arraycopy(values, 0, truncValues, 0, maxObjects);
-            values = truncValues;
-        }
         if (browser != null) {
             try {
                 if (ArrayUtils.isEmpty(values)) {
+                    featureIndex = null;
                     browser.setUrl("about:blank");
                 } else {
                     final Bounds bounds = recenter ? null : Bounds.tryExtractFromBrowser(browser);
@@ -314,6 +326,14 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
         populateToolbar();
     }
 
+    private static int getMaxObjectsToRender() {
+        int maxObjects = GISViewerActivator.getDefault().getPreferences().getInt(GeometryViewerConstants.PREF_MAX_OBJECTS_RENDER);
+        if (maxObjects <= 0) {
+            maxObjects = GeometryViewerConstants.DEFAULT_MAX_OBJECTS_RENDER;
+        }
+        return maxObjects;
+    }
+
     private Path generateViewScript(DBGeometry[] values, @Nullable Bounds bounds) throws IOException {
         if (scriptFile == null) {
             Path tempDir = DBWorkbench.getPlatform().getTempFolder(new VoidProgressMonitor(), "gis-viewer-files");
@@ -332,9 +352,15 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             }
         }
 
-        List<String> geomValues = new ArrayList<>();
-        List<String> geomTipValues = new ArrayList<>();
+        List<Geometry> geometries = new ArrayList<>(values.length);
+        List<Map<String, Object>> geometryProperties = new ArrayList<>(values.length);
         boolean showMap = false;
+
+        DBGeometry[] sourceValues = new DBGeometry[values.length];
+        Object[] targetValues = new Object[values.length];
+        int[] sourceSRIDs = new int[values.length];
+        GisTransformRequest[] transformRequests = new GisTransformRequest[values.length];
+        List<GisTransformRequest> pendingTransforms = new ArrayList<>();
         for (int i = 0; i < values.length; i++) {
             DBGeometry value = values[i];
             if (DBUtils.isNullValue(value)) {
@@ -366,52 +392,81 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             if (srid == UNDEFINED_SRID) {
                 srid = GeometryDataUtils.getDefaultSRID();
             }
+            if (srid != GisConstants.SRID_SIMPLE && srid != GisConstants.SRID_4326) {
+                Geometry geometry = GisTransformUtils.getJtsGeometry(targetValue);
+                if (geometry != null) {
+                    transformRequests[i] = new GisTransformRequest(geometry, srid, GisConstants.SRID_4326);
+                    pendingTransforms.add(transformRequests[i]);
+                }
+            }
+            sourceValues[i] = value;
+            targetValues[i] = targetValue;
+            sourceSRIDs[i] = srid;
+        }
+
+        // Reproject all geometries at once
+        GisTransformUtils.transformGisData(pendingTransforms);
+
+        for (int i = 0; i < values.length; i++) {
+            DBGeometry value = sourceValues[i];
+            if (value == null) {
+                continue;
+            }
+            Object targetValue = targetValues[i];
+            int srid = sourceSRIDs[i];
+            GisTransformRequest request = transformRequests[i];
             if (srid == GisConstants.SRID_SIMPLE) {
                 showMap = false;
                 actualSourceSRID = srid;
             } else if (srid == GisConstants.SRID_4326) {
                 showMap = true;
                 actualSourceSRID = srid;
-            } else {
-                Geometry geometry = GisTransformUtils.getJtsGeometry(targetValue);
-                if (geometry != null) {
-                    try {
-                        GisTransformRequest request = new GisTransformRequest(geometry, srid, GisConstants.SRID_4326);
-                        GisTransformUtils.transformGisData(request);
-                        targetValue = request.getTargetValue();
-                        srid = request.getTargetSRID();
-                        actualSourceSRID = request.getSourceSRID();
-                        showMap = request.isShowOnMap();
-                    } catch (DBException e) {
-                        log.debug("Error transforming CRS", e);
-                        actualSourceSRID = srid;
-                        showMap = false;
-                    }
-                } else {
+            } else if (request != null) {
+                if (request.getError() != null) {
+                    log.debug("Error transforming CRS", request.getError());
                     actualSourceSRID = srid;
+                    showMap = false;
+                } else {
+                    targetValue = request.getTargetValue();
+                    actualSourceSRID = request.getSourceSRID();
+                    showMap = request.isShowOnMap();
                 }
+            } else {
+                actualSourceSRID = srid;
             }
 
             if (targetValue == null) {
                 continue;
             }
-            geomValues.add("'" + targetValue + "'");
-            try {
-                if (CommonUtils.isEmpty(value.getProperties())) {
-                    geomTipValues.add("null");
-                } else {
-                    geomTipValues.add(gson.toJson(value.getProperties()));
+            Geometry targetGeometry = GisTransformUtils.getJtsGeometry(targetValue);
+            if (targetGeometry == null) {
+                try {
+                    targetGeometry = new WKTReader().read(targetValue.toString());
+                } catch (ParseException e) {
+                    log.debug("Unable to parse geometry: " + e.getMessage());
+                    continue;
                 }
-            } catch (Exception e) {
-                log.debug(e);
             }
+            geometries.add(targetGeometry);
+            geometryProperties.add(value.getProperties());
         }
         this.defaultSRID = actualSourceSRID;
-        String geomValuesString = String.join(",", geomValues);
-        String geomTipValuesString = String.join(",", geomTipValues);
         String geomCRS = actualSourceSRID == GisConstants.SRID_SIMPLE ? GisConstants.LL_CRS_SIMPLE : GisConstants.LL_CRS_3857;
         boolean isShowMap = showMap;
 
+        // Geometries are passed to the map on demand, simplified and clustered according to the current zoom
+        GISFeatureIndex index = new GISFeatureIndex(gson, actualSourceSRID == GisConstants.SRID_SIMPLE);
+        for (int i = 0; i < geometries.size(); i++) {
+            index.addFeature(geometries.get(i), geometryProperties.get(i));
+        }
+        this.featureIndex = index;
+        // Initial geometries for the whole extent. Also used when map is opened in external browser.
+        String initialGeometries = index.getFeaturesJson(
+            index.estimateZoom(INITIAL_VIEWPORT_SIZE),
+            index.getExtent(),
+            getMaxObjectsToRender()
+        ).replace("</", "<\\/");
+
         InputStream fis = GISViewerActivator.getDefault().getResourceStream(GISBrowserViewerConstants.VIEW_TEMPLATE_PATH);
         if (fis == null) {
             throw new IOException("View template file not found (" + GISBrowserViewerConstants.VIEW_TEMPLATE_PATH + ")");
@@ -423,8 +478,8 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
         }
 
         IVariableResolver resolver = name -> switch (name) {
-            case "geomValues" -> CommonUtils.escapeHtml(geomValuesString);
-            case "geomTipValues" -> CommonUtils.escapeHtml(geomTipValuesString);
+            case "geomValues" -> initialGeometries;
+            case "geomExtent" -> index.getExtentDefinition();
             case "geomSRID" -> String.valueOf(defaultSRID);
             case "showMap" -> String.valueOf(isShowMap);
             case "showTools" -> String.valueOf(toolsVisible);
@@ -43,13 +43,15 @@ import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 import org.jkiss.utils.CommonUtils;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 /**
  * GisTransformUtils.
@@ -61,12 +63,19 @@ public class GisTransformUtils {
     private static CRSFactory crsFactory = new CRSFactory();
     private static CoordinateReferenceSystem crs3857;
 
+    // Transform batches smaller than this are processed in the caller thread
+    private static final int PARALLEL_TRANSFORM_THRESHOLD = 1000;
+
+    private static final Map<Integer, CoordinateReferenceSystem> crsCache = new ConcurrentHashMap<>();
+    // Key is (sourceSRID << 32 | targetSRID). Empty value means that there is no operation between these CRSs.
+    private static final Map<Long, Optional<CoordinateOperation>> operationCache = new ConcurrentHashMap<>();
+
     static {
         RegistryManager registryManager = crsFactory.getRegistryManager();
         registryManager.addRegistry(new EPSGRegistry());
         //registryManager.addRegistry(new IGNFRegistry());
         try {
-            crs3857 = crsFactory.getCRS("EPSG:3857");
+            crs3857 = getCRS(GisConstants.SRID_3857);
         } catch (CRSException e) {
             log.error("Error getting default CRS", e);
         }
@@ -98,21 +107,41 @@ public class GisTransformUtils {
         return crsCodes;
     }
 
+    /**
+     * Returns CRS for the specified EPSG code. Resolved CRSs are cached.
+     */
+    @NotNull
+    public static CoordinateReferenceSystem getCRS(int srid) throws CRSException {
+        CoordinateReferenceSystem crs = crsCache.get(srid);
+        if (crs == null) {
+            crs = crsFactory.getCRS("EPSG:" + srid);
+            CoordinateReferenceSystem prevCrs = crsCache.putIfAbsent(srid, crs);
+            if (prevCrs != null) {
+                crs = prevCrs;
+            }
+        }
+        return crs;
+    }
+
     public static void transformGisData(GisTransformRequest request) throws DBException {
         try {
             //srcSRID = 3857;
-            CoordinateReferenceSystem crs1 = crsFactory.getCRS("EPSG:" + request.getSourceSRID());
-            CoordinateReferenceSystem crs2 = crsFactory.getCRS("EPSG:" + request.getTargetSRID());
+            int sourceSRID = request.getSourceSRID();
+            int targetSRID = request.getTargetSRID();
+            CoordinateReferenceSystem crs1 = getCRS(sourceSRID);
+            CoordinateReferenceSystem crs2 = getCRS(targetSRID);
 
             try {
-                Geometry targetValue = transformGisData(request.getSourceValue(), crs1, crs2);
-                targetValue.setSRID(request.getTargetSRID());
+                Geometry targetValue = transformGeometry(request.getSourceValue(), getCoordinateOperation(sourceSRID, crs1, targetSRID, crs2));
+                targetValue.setSRID(targetSRID);
                 request.setTargetValue(targetValue);
                 request.setShowOnMap(true);
             } catch (IllegalArgumentException e) {
                 if (CommonUtils.equalObjects(crs1.getCoordinateSystem(), crs3857.getCoordinateSystem())) {
-                    Geometry geometry = transformGisData(request.getSourceValue(), crs3857, crs2);
-                    geometry.setSRID(request.getTargetSRID());
+                    Geometry geometry = transformGeometry(
+                        request.getSourceValue(),
+                        getCoordinateOperation(GisConstants.SRID_3857, crs3857, targetSRID, crs2));
+                    geometry.setSRID(targetSRID);
                     request.setTargetValue(geometry);
                     request.setShowOnMap(false);
 //                    if (crs1 instanceof ProjectedCRS) {
@@ -126,6 +155,38 @@ public class GisTransformUtils {
         }
     }
 
+    /**
+     * Transforms a batch of geometries. Big batches are processed in parallel in the common fork-join pool.
+     * Errors do not interrupt the batch, they are reported in the corresponding request.
+     */
+    public static void transformGisData(@NotNull List<GisTransformRequest> requests) {
+        // Resolve CRSs and operations in the caller thread, CRS factory is not thread-safe
+        Set<Long> sridPairs = new HashSet<>();
+        for (GisTransformRequest request : requests) {
+            int sourceSRID = request.getSourceSRID();
+            int targetSRID = request.getTargetSRID();
+            if (sridPairs.add(((long) sourceSRID << 32) | (targetSRID & 0xFFFFFFFFL))) {
+                try {
+                    getCoordinateOperation(sourceSRID, getCRS(sourceSRID), targetSRID, getCRS(targetSRID));
+                } catch (Exception e) {
+                    log.debug("Error resolving transformation from " + sourceSRID + " to " + targetSRID, e);
+                }
+            }
+        }
+        IntStream indexes = IntStream.range(0, requests.size());
+        if (requests.size() >= PARALLEL_TRANSFORM_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            GisTransformRequest request = requests.get(i);
+            try {
+                transformGisData(request);
+            } catch (DBException e) {
+                request.setError(e);
+            }
+        });
+    }
+
     private static Geometry transformGeometryTo(ProjectedCRS projectedCRS, Geometry geometry) throws CoordinateOperationException, IllegalCoordinateException {
         CoordinateOperation coordinateOperation = projectedCRS.toGeographicCoordinateConverter();
         for (Coordinate coord : geometry.getCoordinates()) {
@@ -137,27 +198,80 @@ public class GisTransformUtils {
     }
 
     public static Geometry transformGisData(Geometry jtsValue, CoordinateReferenceSystem crs1, CoordinateReferenceSystem crs2) throws Exception {
+        return transformGeometry(jtsValue, createCoordinateOperation(crs1, crs2));
+    }
+
+    @Nullable
+    private static CoordinateOperation getCoordinateOperation(
+        int sourceSRID,
+        @NotNull CoordinateReferenceSystem crs1,
+        int targetSRID,
+        @NotNull CoordinateReferenceSystem crs2
+    ) throws CoordinateOperationException {
+        long key = ((long) sourceSRID << 32) | (targetSRID & 0xFFFFFFFFL);
+        Optional<CoordinateOperation> op = operationCache.get(key);
+        if (op == null) {
+            op = Optional.ofNullable(createCoordinateOperation(crs1, crs2));
+            operationCache.putIfAbsent(key, op);
+        }
+        return op.orElse(null);
+    }
+
+    @Nullable
+    private static CoordinateOperation createCoordinateOperation(
+        @NotNull CoordinateReferenceSystem crs1,
+        @NotNull CoordinateReferenceSystem crs2
+    ) throws CoordinateOperationException {
         if (crs1 instanceof GeodeticCRS && crs2 instanceof GeodeticCRS) {
             Set<CoordinateOperation> coordOps = CoordinateOperationFactory.createCoordinateOperations((GeodeticCRS) crs1, (GeodeticCRS) crs2);
             if (!coordOps.isEmpty()) {
-            	CoordinateOperation op = CoordinateOperationFactory.getMostPrecise(coordOps);
-                // Transform coord using the op CoordinateOperation from crs1 to crs2
-                jtsValue = transformGeometry(jtsValue, op);
-                return jtsValue;
+                return CoordinateOperationFactory.getMostPrecise(coordOps);
             }
         }
-        return jtsValue;
+        return null;
     }
 
-    private static Geometry transformGeometry(Geometry geom, CoordinateOperation op) throws Exception {
-        geom = (Geometry) geom.clone();
-        for (Coordinate coord : geom.getCoordinates()) {
-            double[] srcCoord = getCoordinateValues(coord);
-            double[] targetCoord = op.transform(srcCoord);
-            setCoordinateValues(coord, targetCoord);
+    private static Geometry transformGeometry(Geometry geom, @Nullable CoordinateOperation op) throws Exception {
+        if (op == null) {
+            return geom;
         }
-        return geom;
+        geom = geom.copy();
+        try {
+            // Transform coordinate sequences in place, Geometry.getCoordinates() may return copies
+            geom.apply(new CoordinateSequenceFilter() {
+                @Override
+                public void filter(CoordinateSequence seq, int i) {
+                    double z = seq.getDimension() > 2 ? seq.getZ(i) : Double.NaN;
+                    double[] srcCoord = Double.isNaN(z) ? new double[]{seq.getX(i), seq.getY(i)} : new double[]{seq.getX(i), seq.getY(i), z};
+                    double[] targetCoord;
+                    try {
+                        targetCoord = op.transform(srcCoord);
+                    } catch (IllegalCoordinateException | CoordinateOperationException e) {
+                        throw new TransformException(e);
+                    }
+                    if (targetCoord != null) {
+                        seq.setOrdinate(i, CoordinateSequence.X, targetCoord[0]);
+                        seq.setOrdinate(i, CoordinateSequence.Y, targetCoord[1]);
+                        if (targetCoord.length > 2 && seq.getDimension() > 2) {
+                            seq.setOrdinate(i, CoordinateSequence.Z, targetCoord[2]);
+                        }
+                    }
+                }
 
+                @Override
+                public boolean isDone() {
+                    return false;
+                }
+
+                @Override
+                public boolean isGeometryChanged() {
+                    return true;
+                }
+            });
+        } catch (TransformException e) {
+            throw (Exception) e.getCause();
+        }
+        return geom;
     }
 
     private static void setCoordinateValues(Coordinate coord, double[] targetCoord) {
@@ -243,4 +357,10 @@ public class GisTransformUtils {
 
         return null;
     }
+
+    private static class TransformException extends RuntimeException {
+        TransformException(Exception cause) {
+            super(cause);
+        }
+    }
 }
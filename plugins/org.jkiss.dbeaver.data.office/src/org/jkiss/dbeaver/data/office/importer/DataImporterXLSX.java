@@ -0,0 +1,453 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.data.office.importer;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBFetchProgress;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
+import org.jkiss.dbeaver.tools.transfer.database.DatabaseTransferUtils;
+import org.jkiss.dbeaver.tools.transfer.stream.*;
+import org.jkiss.dbeaver.tools.transfer.stream.importer.StreamImporterAbstract;
+import org.jkiss.utils.CommonUtils;
+import org.jkiss.utils.Pair;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * XLSX importer.
+ * <p>
+ * Uses POI event model (SAX parsing of sheet XML) so workbook is never loaded in memory as a whole.
+ * Each worksheet is exposed as a separate entity.
+ */
+public class DataImporterXLSX extends StreamImporterAbstract implements IMultiStreamDataImporter {
+    private static final Log log = Log.getLog(DataImporterXLSX.class);
+
+    private static final String PROP_HEADER = "header";
+    private static final String PROP_SHEETS = "sheets";
+    private static final String PROP_NULL_STRING = "nullString";
+    private static final String PROP_EMPTY_STRING_NULL = "emptyStringNull";
+    private static final String PROP_TRIM_WHITESPACES = "trimWhitespaces";
+
+    private static final DateTimeFormatter DATE_VALUE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    public enum HeaderPosition {
+        none,
+        top,
+    }
+
+    public DataImporterXLSX() {
+    }
+
+    @NotNull
+    @Override
+    public List<StreamEntityMapping> readEntitiesInfo(
+        @NotNull StreamEntityMapping entityMapping,
+        @NotNull InputStream inputStream,
+        @NotNull Map<String, Object> processorProperties
+    ) throws DBException {
+        List<StreamEntityMapping> entities = new ArrayList<>();
+        Set<String> selectedSheets = getSelectedSheets(processorProperties);
+        OPCPackage xlsPackage = openPackage(entityMapping, inputStream);
+        try {
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) new XSSFReader(xlsPackage).getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream ignored = sheets.next()) {
+                    String sheetName = sheets.getSheetName();
+                    if (isSheetSelected(selectedSheets, sheetName)) {
+                        entities.add(new StreamEntityMapping(entityMapping.getInputFile(), sheetName, true));
+                    }
+                }
+            }
+        } catch (IOException | OpenXML4JException e) {
+            throw new DBException("Error reading XLSX workbook sheets", e);
+        } finally {
+            xlsPackage.revert();
+        }
+        return entities;
+    }
+
+    @NotNull
+    @Override
+    public List<StreamDataImporterColumnInfo> readColumnsInfo(StreamEntityMapping entityMapping, @NotNull InputStream inputStream) throws DBException {
+        Map<String, Object> processorProperties = getSite().getProcessorProperties();
+        HeaderPosition headerPosition = getHeaderPosition(processorProperties);
+
+        final int columnSamplesCount = Math.max(CommonUtils.toInt(processorProperties.get(PROP_COLUMN_TYPE_SAMPLES), 100), 0);
+        final int columnMinimalLength = Math.max(CommonUtils.toInt(processorProperties.get(PROP_COLUMN_TYPE_LENGTH), 50), 1);
+        final boolean columnIsByteLength = CommonUtils.getBoolean(processorProperties.get(PROP_COLUMN_IS_BYTE_LENGTH), false);
+
+        List<StreamDataImporterColumnInfo> columnsInfo = new ArrayList<>();
+        readSheet(entityMapping, inputStream, new RowHandler() {
+            private String[] header;
+            private int samples;
+
+            @Override
+            public boolean handleRow(@NotNull String[] row) {
+                if (header == null) {
+                    header = row;
+                    for (int i = 0; i < header.length; i++) {
+                        String column = null;
+                        if (headerPosition == HeaderPosition.top) {
+                            column = DBUtils.getUnQuotedIdentifier(entityMapping.getDataSource(), CommonUtils.notEmpty(header[i]));
+                        }
+                        if (CommonUtils.isEmptyTrimmed(column)) {
+                            column = "Column" + (i + 1);
+                        }
+                        StreamDataImporterColumnInfo columnInfo = new StreamDataImporterColumnInfo(
+                            entityMapping,
+                            i,
+                            column,
+                            STRING_DATA_TYPE,
+                            columnMinimalLength,
+                            DBPDataKind.UNKNOWN);
+                        columnInfo.setMappingMetadataPresent(headerPosition != HeaderPosition.none);
+                        columnsInfo.add(columnInfo);
+                    }
+                    if (headerPosition == HeaderPosition.top) {
+                        return columnSamplesCount > 0;
+                    }
+                }
+                if (samples >= columnSamplesCount) {
+                    return false;
+                }
+                samples++;
+                for (int i = 0; i < Math.min(row.length, header.length); i++) {
+                    if (row[i] == null) {
+                        continue;
+                    }
+                    Pair<DBPDataKind, String> dataType = DatabaseTransferUtils.getDataType(row[i]);
+                    StreamDataImporterColumnInfo columnInfo = columnsInfo.get(i);
+
+                    switch (dataType.getFirst()) {
+                        case STRING:
+                            columnInfo.updateMaxLength(
+                                entityMapping.getDataSource(),
+                                columnIsByteLength ? row[i].getBytes(StandardCharsets.UTF_8).length : row[i].length());
+                            /* fall-through */
+                        case NUMERIC:
+                        case BOOLEAN:
+                            columnInfo.updateType(dataType.getFirst(), dataType.getSecond());
+                            break;
+                        default:
+                            break;
+                    }
+                }
+                return samples < columnSamplesCount;
+            }
+        });
+
+        for (StreamDataImporterColumnInfo columnInfo : columnsInfo) {
+            if (columnInfo.getDataKind() == DBPDataKind.UNKNOWN) {
+                log.debug("Cannot guess data type for column '" + columnInfo.getName() + "', defaulting to VARCHAR");
+                columnInfo.updateType(DBPDataKind.STRING, "VARCHAR");
+            }
+        }
+
+        return columnsInfo;
+    }
+
+    @Override
+    public void runImport(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBPDataSource streamDataSource,
+        @NotNull InputStream inputStream,
+        @NotNull IDataTransferConsumer<?, ?> consumer
+    ) throws DBException {
+        IStreamDataImporterSite site = getSite();
+        StreamEntityMapping entityMapping = site.getSourceObject();
+        Map<String, Object> properties = site.getProcessorProperties();
+        HeaderPosition headerPosition = getHeaderPosition(properties);
+        boolean emptyStringNull = CommonUtils.getBoolean(properties.get(PROP_EMPTY_STRING_NULL), false);
+        boolean trimWhitespaces = CommonUtils.getBoolean(properties.get(PROP_TRIM_WHITESPACES), false);
+        String nullValueMark = CommonUtils.toString(properties.get(PROP_NULL_STRING));
+        int maxRows = site.getSettings().getMaxRows();
+        int targetAttrSize = entityMapping.getStreamColumns().size();
+
+        DBCExecutionContext context = streamDataSource.getDefaultInstance().getDefaultContext(monitor, false);
+        try (DBCSession producerSession = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Transfer stream data")) {
+            try (LocalStatement localStatement = new LocalStatement(producerSession, "SELECT * FROM Stream")) {
+                try (StreamTransferResultSet resultSet = new StreamTransferResultSet(producerSession, localStatement, entityMapping)) {
+                    DBDDataReceiver.startFetchWorkflow(consumer, producerSession, resultSet, -1, -1);
+
+                    applyTransformHints(resultSet, consumer, properties, PROP_TIMESTAMP_FORMAT, PROP_TIMESTAMP_ZONE);
+
+                    readSheet(entityMapping, inputStream, new RowHandler() {
+                        private boolean headerRead;
+                        private long rowNum;
+
+                        @Override
+                        public boolean handleRow(@NotNull String[] row) throws DBException {
+                            if (monitor.isCanceled()) {
+                                return false;
+                            }
+                            if (headerPosition != HeaderPosition.none && !headerRead) {
+                                // First row is a header
+                                headerRead = true;
+                                return true;
+                            }
+                            if (maxRows > 0 && rowNum >= maxRows) {
+                                return false;
+                            }
+                            // Sheet row may be shorter or longer than header
+                            Object[] line = Arrays.copyOf(row, targetAttrSize, Object[].class);
+                            for (int i = 0; i < line.length; i++) {
+                                String value = (String) line[i];
+                                if (value == null) {
+                                    continue;
+                                }
+                                if (trimWhitespaces) {
+                                    value = value.trim();
+                                }
+                                if (emptyStringNull && value.isEmpty()) {
+                                    value = null;
+                                } else if (!CommonUtils.isEmpty(nullValueMark) && nullValueMark.equals(value)) {
+                                    value = null;
+                                }
+                                line[i] = value;
+                            }
+
+                            resultSet.setStreamRow(line);
+                            consumer.fetchRow(producerSession, resultSet);
+                            rowNum++;
+
+                            if (DBFetchProgress.monitorFetchProgress(rowNum)) {
+                                monitor.subTask(Long.toUnsignedString(rowNum) + " rows processed");
+                            }
+                            return true;
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * Streams rows of the sheet which corresponds to the entity mapping into the handler.
+     * Parsing stops as soon as handler returns false.
+     */
+    private void readSheet(
+        @NotNull StreamEntityMapping entityMapping,
+        @NotNull InputStream inputStream,
+        @NotNull RowHandler rowHandler
+    ) throws DBException {
+        Set<String> selectedSheets = getSelectedSheets(getSite().getProcessorProperties());
+        OPCPackage xlsPackage = openPackage(entityMapping, inputStream);
+        try {
+            XSSFReader xssfReader = new XSSFReader(xlsPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(xlsPackage);
+            StylesTable styles = xssfReader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+            InputStream sheetStream = null;
+            InputStream fallbackStream = null;
+            while (sheets.hasNext()) {
+                InputStream stream = sheets.next();
+                String sheetName = sheets.getSheetName();
+                if (sheetStream == null && sheetName.equals(entityMapping.getEntityName())) {
+                    sheetStream = stream;
+                } else if (fallbackStream == null && isSheetSelected(selectedSheets, sheetName)) {
+                    fallbackStream = stream;
+                } else {
+                    stream.close();
+                }
+            }
+            if (sheetStream == null) {
+                // Entity is not a sheet (e.g. mapping was restored from saved task). Use first sheet.
+                sheetStream = fallbackStream;
+            } else if (fallbackStream != null) {
+                fallbackStream.close();
+            }
+            if (sheetStream == null) {
+                throw new DBException("Sheet '" + entityMapping.getEntityName() + "' not found in workbook");
+            }
+
+            try (InputStream is = sheetStream) {
+                SheetRowsCollector rowsCollector = new SheetRowsCollector(rowHandler);
+                XMLReader sheetParser = XMLHelper.newXMLReader();
+                sheetParser.setContentHandler(new XSSFSheetXMLHandler(
+                    styles,
+                    sharedStrings,
+                    rowsCollector,
+                    new ImportDataFormatter(),
+                    false));
+                try {
+                    sheetParser.parse(new InputSource(is));
+                } catch (StopReadingException e) {
+                    if (e.getCause() instanceof DBException dbe) {
+                        throw dbe;
+                    }
+                }
+            }
+        } catch (DBException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DBException("Error reading XLSX sheet '" + entityMapping.getEntityName() + "'", e);
+        } finally {
+            xlsPackage.revert();
+        }
+    }
+
+    @NotNull
+    private static OPCPackage openPackage(@NotNull StreamEntityMapping entityMapping, @NotNull InputStream inputStream) throws DBException {
+        try {
+            Path inputFile = entityMapping.getInputFile();
+            if (inputFile.getFileSystem() == FileSystems.getDefault()) {
+                // Random access to zip entries, nothing is inflated in memory ahead of time
+                return OPCPackage.open(inputFile.toFile(), PackageAccess.READ);
+            }
+            // Remote file systems do not support random access, read the whole archive
+            return OPCPackage.open(inputStream);
+        } catch (IOException | OpenXML4JException e) {
+            throw new DBException("Error opening XLSX workbook", e);
+        }
+    }
+
+    private static HeaderPosition getHeaderPosition(Map<String, Object> processorProperties) {
+        return CommonUtils.valueOf(HeaderPosition.class, CommonUtils.toString(processorProperties.get(PROP_HEADER)), HeaderPosition.top);
+    }
+
+    @NotNull
+    private static Set<String> getSelectedSheets(@NotNull Map<String, Object> processorProperties) {
+        Set<String> sheets = new HashSet<>();
+        for (String sheet : CommonUtils.splitString(CommonUtils.toString(processorProperties.get(PROP_SHEETS)), ',')) {
+            if (!CommonUtils.isEmptyTrimmed(sheet)) {
+                sheets.add(sheet.trim());
+            }
+        }
+        return sheets;
+    }
+
+    private static boolean isSheetSelected(@NotNull Set<String> selectedSheets, @NotNull String sheetName) {
+        return selectedSheets.isEmpty() || selectedSheets.contains(sheetName);
+    }
+
+    private interface RowHandler {
+        /**
+         * @return false to stop reading
+         */
+        boolean handleRow(@NotNull String[] row) throws DBException;
+    }
+
+    /**
+     * Collects cells of a single row. Only current row is kept in memory.
+     */
+    private static class SheetRowsCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler rowHandler;
+        private final List<String> rowValues = new ArrayList<>();
+        private int currentColumn;
+
+        SheetRowsCollector(@NotNull RowHandler rowHandler) {
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            rowValues.clear();
+            currentColumn = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (rowValues.isEmpty()) {
+                // Skip empty rows
+                return;
+            }
+            boolean proceed;
+            try {
+                proceed = rowHandler.handleRow(rowValues.toArray(new String[0]));
+            } catch (DBException e) {
+                throw new StopReadingException(e);
+            }
+            if (!proceed) {
+                throw new StopReadingException(null);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? currentColumn + 1 : new CellReference(cellReference).getCol();
+            // Missing cells are null
+            while (rowValues.size() < column) {
+                rowValues.add(null);
+            }
+            rowValues.add(formattedValue);
+            currentColumn = column;
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+            // Not needed
+        }
+    }
+
+    /**
+     * Keeps numbers and dates in a locale independent form so they can be parsed by the stream result set.
+     */
+    private static class ImportDataFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DATE_VALUE_FORMAT.format(DateUtil.getLocalDateTime(value, use1904Windowing));
+            }
+            return NumberToTextConverter.toText(value);
+        }
+    }
+
+    /**
+     * Unchecked SAX exception which interrupts sheet parsing
+     */
+    private static class StopReadingException extends RuntimeException {
+        StopReadingException(@Nullable DBException cause) {
+            super(cause);
+        }
+    }
+
+}
@@ -101,6 +101,8 @@ public class DTUIMessages extends NLS {
 
     public static String database_producer_page_extract_settings_name_and_title;
     public static String database_producer_page_extract_settings_description;
+    public static String generator_producer_page_settings_name_and_title;
+    public static String generator_producer_page_settings_description;
     public static String database_producer_page_extract_settings_threads_num_text_tooltip;
     public static String database_producer_page_extract_settings_new_connection_checkbox_tooltip;
     public static String database_producer_page_extract_settings_row_count_checkbox_tooltip;
@@ -48,6 +48,7 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
     // Query database
     private final UIObservable<Boolean> openNewConnections = UIObservable.of(false);
     private final UIObservable<Boolean> fetchRowCount = UIObservable.of(false);
+    private final UIObservable<Boolean> exactRowCount = UIObservable.of(false);
 
     // Fetched rows
     private final UIObservable<Boolean> selectedRowsOnly = UIObservable.of(false);
@@ -131,7 +132,12 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
                 .enabled(enabled)
                 .checkBox(DTMessages.data_transfer_wizard_output_checkbox_select_row_count, bb -> bb
                     .tooltip(DTUIMessages.database_producer_page_extract_settings_row_count_checkbox_tooltip)
-                    .selected(fetchRowCount)));
+                    .selected(fetchRowCount)))
+            .row(rb -> rb
+                .enabled(UIObservables.and(enabled, fetchRowCount))
+                .checkBox(DTMessages.data_transfer_wizard_output_checkbox_exact_row_count, bb -> bb
+                    .tooltip("Count rows with a query. Otherwise the row count is taken from the table statistics when possible")
+                    .selected(exactRowCount)));
     }
 
     @NotNull
@@ -186,6 +192,7 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
         // Query database
         openNewConnections.set(settings.isOpenNewConnections());
         fetchRowCount.set(settings.isQueryRowCount());
+        exactRowCount.set(settings.isExactRowCount());
 
         // Fetched rows
         var useFetchedRows = settings.getFetchedRowsPolicy();
@@ -209,6 +216,7 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
         // Query database
         settings.setOpenNewConnections(openNewConnections.get());
         settings.setQueryRowCount(fetchRowCount.get());
+        settings.setExactRowCount(exactRowCount.get());
 
         // Fetched rows
         if (strategy.get() == Strategy.USE_FETCHED_ROWS && canExportFetchedRows()) {
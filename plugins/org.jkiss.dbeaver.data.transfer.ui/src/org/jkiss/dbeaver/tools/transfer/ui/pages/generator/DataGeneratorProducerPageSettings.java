@@ -0,0 +1,136 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.ui.pages.generator;
+
+import org.eclipse.swt.widgets.Composite;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.tools.transfer.DataTransferPipe;
+import org.jkiss.dbeaver.tools.transfer.generator.DataGeneratorProducerSettings;
+import org.jkiss.dbeaver.tools.transfer.generator.DataGeneratorTransferProducer;
+import org.jkiss.dbeaver.tools.transfer.internal.DTMessages;
+import org.jkiss.dbeaver.tools.transfer.ui.internal.DTUIMessages;
+import org.jkiss.dbeaver.tools.transfer.ui.pages.DataTransferPageNodeSettings;
+import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.dbeaver.ui.forms.UIObservable;
+import org.jkiss.dbeaver.ui.forms.UIPanelBuilder;
+import org.jkiss.utils.CommonUtils;
+
+public class DataGeneratorProducerPageSettings extends DataTransferPageNodeSettings {
+
+    private final UIObservable<String> rowCount = UIObservable.of("");
+    private final UIObservable<Integer> threadCount = UIObservable.of(1);
+    private final UIObservable<String> rowsPerSecond = UIObservable.of("");
+    private final UIObservable<String> seed = UIObservable.of("");
+    private final UIObservable<Integer> nullPercent = UIObservable.of(0);
+    private final UIObservable<Integer> referenceKeys = UIObservable.of(0);
+    private final UIObservable<String> sequenceStart = UIObservable.of("");
+
+    public DataGeneratorProducerPageSettings() {
+        super(DTUIMessages.generator_producer_page_settings_name_and_title);
+        setTitle(DTUIMessages.generator_producer_page_settings_name_and_title);
+        setDescription(DTUIMessages.generator_producer_page_settings_description);
+        setPageComplete(false);
+    }
+
+    @Override
+    public void createControl(@NotNull Composite parent) {
+        initializeDialogUnits(parent);
+
+        Composite composite = UIUtils.createComposite(parent, 1);
+
+        UIPanelBuilder.build(composite, pb -> pb
+            .margins(0, 0)
+            .row(rb -> rb
+                .group("Generation", gb -> gb
+                    .row(DTMessages.data_transfer_generator_label_row_count, r -> r
+                        .textField(rowCount, tb -> tb.tooltip("Number of rows to generate for each table")))
+                    .row(DTMessages.data_transfer_generator_label_threads, r -> r
+                        .intTextField(threadCount, tb -> tb.tooltip("Number of threads generating rows")))
+                    .row(DTMessages.data_transfer_generator_label_rows_per_second, r -> r
+                        .textField(rowsPerSecond, tb -> tb.tooltip("Maximum rows passed to the target per second. 0 means as fast as possible")))
+                    .row(DTMessages.data_transfer_generator_label_seed, r -> r
+                        .textField(seed, tb -> tb.tooltip("The same seed always generates the same rows")))
+                    .row(DTMessages.data_transfer_generator_label_null_percent, r -> r
+                        .intTextField(nullPercent, tb -> tb.tooltip("Percent of NULL values in nullable columns")))
+                    .row(DTMessages.data_transfer_generator_label_reference_keys, r -> r
+                        .intTextField(referenceKeys, tb -> tb.tooltip("Foreign key columns take values from this number of referenced rows")))
+                    .row(DTMessages.data_transfer_generator_label_sequence_start, r -> r
+                        .textField(sequenceStart, tb -> tb.tooltip("First value of unique key columns. 0 means values continue after the existing rows"))))));
+
+        if (getWizard().getCurrentTask() != null) {
+            Composite buttonsPanel = UIUtils.createComposite(composite, 1);
+            getWizard().createVariablesEditButton(buttonsPanel);
+        }
+
+        setControl(composite);
+    }
+
+    @Override
+    public void activatePage() {
+        getWizard().loadNodeSettings();
+
+        // Rows are generated for the target tables
+        for (DataTransferPipe pipe : getWizard().getSettings().getDataPipes()) {
+            if (pipe.getProducer() instanceof DataGeneratorTransferProducer producer && producer.getDatabaseObject() == null &&
+                pipe.getConsumer() != null && pipe.getConsumer().getDatabaseObject() instanceof DBSEntity entity
+            ) {
+                producer.setEntity(entity);
+            }
+        }
+
+        var settings = getWizard().getPageSettings(this, DataGeneratorProducerSettings.class);
+        rowCount.set(String.valueOf(settings.getRowCount()));
+        threadCount.set(settings.getThreadCount());
+        rowsPerSecond.set(String.valueOf(settings.getRowsPerSecond()));
+        seed.set(String.valueOf(settings.getSeed()));
+        nullPercent.set(settings.getNullPercent());
+        referenceKeys.set(settings.getReferenceKeys());
+        sequenceStart.set(String.valueOf(settings.getSequenceStart()));
+
+        updatePageCompletion();
+    }
+
+    @Override
+    public void deactivatePage() {
+        var settings = getWizard().getPageSettings(this, DataGeneratorProducerSettings.class);
+        settings.setRowCount(CommonUtils.toLong(rowCount.get(), settings.getRowCount()));
+        settings.setThreadCount(threadCount.get());
+        settings.setRowsPerSecond(CommonUtils.toLong(rowsPerSecond.get(), 0));
+        settings.setSeed(CommonUtils.toLong(seed.get(), settings.getSeed()));
+        settings.setNullPercent(nullPercent.get());
+        settings.setReferenceKeys(referenceKeys.get());
+        settings.setSequenceStart(CommonUtils.toLong(sequenceStart.get(), 0));
+    }
+
+    @Override
+    protected boolean determinePageCompletion() {
+        for (DataTransferPipe pipe : getWizard().getSettings().getDataPipes()) {
+            if (pipe.getProducer() == null || !pipe.getProducer().isConfigurationComplete()) {
+                setErrorMessage("Generated table is not specified");
+                return false;
+            }
+        }
+        setErrorMessage(null);
+        return true;
+    }
+
+    @Override
+    public boolean isPageApplicable() {
+        return isProducerOfType(DataGeneratorTransferProducer.class);
+    }
+}
@@ -50,6 +50,7 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings {
 
     private boolean ignoreErrors;
     private boolean dumpQueryResultsToLog;
+    private long startOffset;
 
     public List<String> getScriptFiles() {
         return scriptFiles;
@@ -83,6 +84,18 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings {
         this.dumpQueryResultsToLog = dumpQueryResultsToLog;
     }
 
+    /**
+     * Byte offset in the first script file to start execution from.
+     * Used to resume execution of a large script after failure.
+     */
+    public long getStartOffset() {
+        return startOffset;
+    }
+
+    public void setStartOffset(long startOffset) {
+        this.startOffset = startOffset;
+    }
+
     public boolean isAutoCommit() {
         return autoCommit;
     }
@@ -136,6 +149,7 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings {
 
         ignoreErrors = JSONUtils.getBoolean(config, "ignoreErrors");
         dumpQueryResultsToLog = JSONUtils.getBoolean(config, "dumpQueryResultsToLog");
+        startOffset = JSONUtils.getLong(config, "startOffset", 0);
 
         autoCommit = JSONUtils.getBoolean(config, "autoCommit");
     }
@@ -167,6 +181,9 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings {
 
         config.put("ignoreErrors", ignoreErrors);
         config.put("dumpQueryResultsToLog", dumpQueryResultsToLog);
+        if (startOffset > 0) {
+            config.put("startOffset", startOffset);
+        }
 
         config.put("autoCommit", autoCommit);
     }
@@ -32,10 +32,9 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
 import org.jkiss.dbeaver.model.sql.SQLScriptCommitType;
 import org.jkiss.dbeaver.model.sql.SQLScriptContext;
-import org.jkiss.dbeaver.model.sql.SQLScriptElement;
 import org.jkiss.dbeaver.model.sql.SQLScriptErrorHandling;
 import org.jkiss.dbeaver.model.sql.exec.SQLScriptProcessor;
-import org.jkiss.dbeaver.model.sql.parser.SQLScriptParser;
+import org.jkiss.dbeaver.model.sql.parser.SQLScriptStreamParser;
 import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
 import org.jkiss.dbeaver.model.task.*;
@@ -43,10 +42,7 @@ import org.jkiss.dbeaver.tools.sql.SQLScriptExecuteSettings;
 import org.jkiss.dbeaver.tools.transfer.DTUtils;
 import org.jkiss.utils.IOUtils;
 
-import java.io.IOException;
-import java.io.PrintStream;
-import java.io.PrintWriter;
-import java.io.Reader;
+import java.io.*;
 import java.lang.reflect.InvocationTargetException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -115,10 +111,10 @@ public class SQLScriptExecuteHandler implements DBTTaskHandler {
     private void runScripts(DBRProgressMonitor monitor, DBTTask task, SQLScriptExecuteSettings settings, Log log, PrintStream logStream) throws DBException {
         List<DBPDataSourceContainer> dataSources = settings.getDataSources();
 
+        long startOffset = settings.getStartOffset();
         for (String filePath : settings.getScriptFiles()) {
             try {
                 for (DBPDataSourceContainer dataSourceContainer : dataSources) {
-                    var sqlScriptContent = readScriptContents(monitor, task.getProject(), filePath);
                     if (!dataSourceContainer.isConnected()) {
                         dataSourceContainer.connect(monitor, true, true);
                     }
@@ -129,6 +125,9 @@ public class SQLScriptExecuteHandler implements DBTTaskHandler {
                     DBCExecutionContext executionContext = dataSource.getDefaultInstance().getDefaultContext(monitor, false);
 
                     log.debug("> Execute script [" + filePath + "] in [" + dataSourceContainer.getName() + "]");
+                    if (startOffset > 0) {
+                        log.debug("> Start from offset " + startOffset);
+                    }
                     DBCExecutionContextDefaults contextDefaults = executionContext.getContextDefaults();
                     if (contextDefaults != null) {
                         DBSCatalog defaultCatalog = contextDefaults.getDefaultCatalog();
@@ -141,35 +140,66 @@ public class SQLScriptExecuteHandler implements DBTTaskHandler {
                         }
                     }
 
-                    processScript(monitor, task, settings, executionContext, filePath, sqlScriptContent, log, logStream);
+                    processScript(monitor, task, settings, executionContext, filePath, startOffset, log, logStream);
                 }
             } catch (Throwable e) {
                 Throwable error = e instanceof InvocationTargetException ? ((InvocationTargetException) e).getTargetException() : e;
                 throw new DBException("Error executing script '" + filePath + "'", error);
             }
+            // Start offset is applicable to the first script only
+            startOffset = 0;
         }
     }
 
-    private void processScript(DBRProgressMonitor monitor, DBTTask task, SQLScriptExecuteSettings settings, DBCExecutionContext executionContext, String filePath, String sqlScriptContent, Log log, PrintStream logStream) throws DBException {
+    private void processScript(
+        DBRProgressMonitor monitor,
+        DBTTask task,
+        SQLScriptExecuteSettings settings,
+        DBCExecutionContext executionContext,
+        String filePath,
+        long startOffset,
+        Log log,
+        PrintStream logStream
+    ) throws DBException, IOException {
         PrintWriter logWriter = new PrintWriter(logStream, true);
-        List<SQLScriptElement> scriptElements = SQLScriptParser.parseScript(executionContext.getDataSource(), sqlScriptContent);
         SQLScriptContext scriptContext = new SQLScriptContext(null, () -> executionContext, null, logWriter, null);
         scriptContext.setVariables(DBTaskUtils.getVariables(task));
         SQLScriptDataReceiver dataReceiver = new SQLScriptDataReceiver();
-        SQLScriptProcessor scriptProcessor = new SQLScriptProcessor(executionContext, scriptElements, scriptContext, dataReceiver, log);
-
-        scriptProcessor.setCommitType(settings.isAutoCommit() ? SQLScriptCommitType.AUTOCOMMIT : SQLScriptCommitType.AT_END);
-        scriptProcessor.setErrorHandling(settings.isIgnoreErrors() ? SQLScriptErrorHandling.IGNORE : SQLScriptErrorHandling.STOP_ROLLBACK);
-        if (settings.isDumpQueryResultsToLog()) {
-            dataReceiver.setDumpWriter(logWriter);
-        }
 
-        scriptProcessor.runScript(monitor);
+        try (ScriptStream scriptStream = openScriptStream(monitor, task.getProject(), filePath)) {
+            InputStream inputStream = scriptStream.stream();
+            if (startOffset > 0) {
+                inputStream.skipNBytes(startOffset);
+            }
+            Reader scriptReader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+            SQLScriptStreamParser scriptParser = new SQLScriptStreamParser(
+                executionContext.getDataSource(), scriptReader, StandardCharsets.UTF_8, startOffset);
+            SQLScriptProcessor scriptProcessor = new SQLScriptProcessor(
+                executionContext, scriptParser, scriptStream.size(), scriptContext, dataReceiver, log);
+
+            scriptProcessor.setCommitType(settings.isAutoCommit() ? SQLScriptCommitType.AUTOCOMMIT : SQLScriptCommitType.AT_END);
+            scriptProcessor.setErrorHandling(settings.isIgnoreErrors() ? SQLScriptErrorHandling.IGNORE : SQLScriptErrorHandling.STOP_ROLLBACK);
+            if (settings.isDumpQueryResultsToLog()) {
+                dataReceiver.setDumpWriter(logWriter);
+            }
 
-        totalStatistics.accumulate(scriptProcessor.getTotalStatistics());
+            try {
+                scriptProcessor.runScript(monitor);
+            } catch (DBException e) {
+                log.error("Script [" + filePath + "] execution stopped. It can be resumed from offset " + scriptProcessor.getCommittedOffset());
+                throw e;
+            } finally {
+                totalStatistics.accumulate(scriptProcessor.getTotalStatistics());
+            }
+        }
     }
 
-    public static String readScriptContents(
+    /**
+     * Opens script file for sequential reading. Script contents is not loaded in memory unless
+     * it is stored in a remote resource manager.
+     */
+    @NotNull
+    public static ScriptStream openScriptStream(
         @NotNull DBRProgressMonitor monitor,
         @NotNull DBPProject project,
         @NotNull String filePath
@@ -177,20 +207,26 @@ public class SQLScriptExecuteHandler implements DBTTaskHandler {
         Path nioPath = DBFUtils.resolvePathFromString(monitor, project, filePath);
         if (!IOUtils.isLocalPath(nioPath)) {
             // Remote file
-            return Files.readString(nioPath);
+            return new ScriptStream(new BufferedInputStream(Files.newInputStream(nioPath)), Files.size(nioPath));
         }
 
         RMControllerProvider rmControllerProvider = DBUtils.getAdapter(RMControllerProvider.class, project);
         if (rmControllerProvider != null) {
             var rmController = rmControllerProvider.getResourceController();
-            return new String(rmController.getResourceContents(project.getId(), filePath), StandardCharsets.UTF_8);
+            byte[] contents = rmController.getResourceContents(project.getId(), filePath);
+            return new ScriptStream(new ByteArrayInputStream(contents), contents.length);
         }
         var sqlFile = DTUtils.findProjectFile(project, filePath);
         if (sqlFile == null) {
             throw new DBException("File " + filePath + " is not found in project " + project.getId());
         }
-        try (Reader fileReader = Files.newBufferedReader(sqlFile)) {
-            return IOUtils.readToString(fileReader);
+        return new ScriptStream(new BufferedInputStream(Files.newInputStream(sqlFile)), Files.size(sqlFile));
+    }
+
+    public record ScriptStream(@NotNull InputStream stream, long size) implements AutoCloseable {
+        @Override
+        public void close() throws IOException {
+            stream.close();
         }
     }
 
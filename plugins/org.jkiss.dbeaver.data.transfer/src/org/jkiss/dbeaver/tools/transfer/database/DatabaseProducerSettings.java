@@ -46,6 +46,7 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
 
     private boolean openNewConnections = true;
     private boolean queryRowCount = true;
+    private boolean exactRowCount;
     private FetchedRowsPolicy fetchedRowsPolicy;
     private ExtractType extractType = ExtractType.SINGLE_QUERY;
     private int fetchSize = DEFAULT_FETCH_SIZE;
@@ -71,6 +72,17 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         this.queryRowCount = queryRowCount;
     }
 
+    /**
+     * Count rows with a query even if the database statistics has the row count estimate
+     */
+    public boolean isExactRowCount() {
+        return exactRowCount;
+    }
+
+    public void setExactRowCount(boolean exactRowCount) {
+        this.exactRowCount = exactRowCount;
+    }
+
     public int getFetchSize() {
         return fetchSize;
     }
@@ -119,6 +131,7 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         fetchSize = CommonUtils.toInt(settings.get("fetchSize"), fetchSize);
         openNewConnections = CommonUtils.toBoolean(settings.get("openNewConnections"));
         queryRowCount = CommonUtils.toBoolean(settings.get("queryRowCount"));
+        exactRowCount = CommonUtils.toBoolean(settings.get("exactRowCount"));
 
         boolean fetchedRowsOnly = CommonUtils.toBoolean(settings.get("fetchedRowsOnly"));
         boolean selectedRowsOnly = CommonUtils.toBoolean(settings.get("selectedRowsOnly"));
@@ -137,6 +150,7 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         settings.put("fetchSize", fetchSize);
         settings.put("openNewConnections", openNewConnections);
         settings.put("queryRowCount", queryRowCount);
+        settings.put("exactRowCount", exactRowCount);
         settings.put("fetchedRowsOnly", fetchedRowsPolicy != null);
         settings.put("selectedColumnsOnly", fetchedRowsPolicy != null && fetchedRowsPolicy.selectedColumnsOnly());
         settings.put("selectedRowsOnly", fetchedRowsPolicy != null && fetchedRowsPolicy.selectedRowsOnly());
@@ -149,6 +163,7 @@ public class DatabaseProducerSettings implements IDataTransferSettings {
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_new_connection, openNewConnections);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_label_extract_type, extractType.name());
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_select_row_count, queryRowCount);
+        DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_exact_row_count, exactRowCount);
         DTUtils.addSummary(summary, DTMessages.data_transfer_wizard_output_checkbox_fetched_rows_only, fetchedRowsPolicy != null);
         DTUtils.addSummary(
             summary,
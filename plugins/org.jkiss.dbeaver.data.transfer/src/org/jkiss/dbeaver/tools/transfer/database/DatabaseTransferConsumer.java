@@ -37,6 +37,7 @@ import org.jkiss.dbeaver.model.navigator.DBNModel;
 import org.jkiss.dbeaver.model.navigator.DBNUtils;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.jfr.DataTransferBatchEvent;
 import org.jkiss.dbeaver.model.sql.SQLDialectInsertReplaceMethod;
 import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.*;
@@ -78,6 +79,8 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     private DBSDataManipulator.ExecuteBatch executeBatch;
     private DBSDataBulkLoader.BulkLoadManager bulkLoadManager;
     private long rowsExported = 0;
+    // Number of rows reported in transfer batch events
+    private long rowsInEvents = 0;
     private boolean ignoreErrors = false;
 
     private List<DBSAttributeBase> targetAttributes;
@@ -400,6 +403,27 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         insertBatch(false);
     }
 
+    @Nullable
+    private DataTransferBatchEvent beginBatchEvent() {
+        if (!DataTransferBatchEvent.isEventEnabled()) {
+            return null;
+        }
+        DataTransferBatchEvent batchEvent = new DataTransferBatchEvent();
+        batchEvent.begin();
+        return batchEvent;
+    }
+
+    private void finishBatchEvent(@Nullable DataTransferBatchEvent batchEvent) {
+        if (batchEvent != null) {
+            DBSDataManipulator targetObject = getTargetObject();
+            batchEvent.setDataSource(targetSession.getDataSource());
+            batchEvent.targetName = targetObject == null ? null : DBUtils.getObjectFullName(targetObject, DBPEvaluationContext.UI);
+            batchEvent.rows = rowsExported - rowsInEvents;
+            batchEvent.finish();
+        }
+        rowsInEvents = rowsExported;
+    }
+
     private void insertBatch(boolean force) throws DBCException {
         if (isPreview) {
             return;
@@ -413,7 +437,9 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
 
         if (bulkLoadManager != null) {
             if (needCommit) {
+                DataTransferBatchEvent batchEvent = beginBatchEvent();
                 bulkLoadManager.flushRows(targetSession);
+                finishBatchEvent(batchEvent);
             }
             return;
         } else {
@@ -446,6 +472,7 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                     }
                 }
 
+                DataTransferBatchEvent batchEvent = beginBatchEvent();
                 boolean retryInsert;
                 do {
                     retryInsert = false;
@@ -488,6 +515,7 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
                         };
                     }
                 } while (retryInsert);
+                finishBatchEvent(batchEvent);
             }
         }
         if (settings.isUseTransactions() && needCommit && !targetSession.getProgressMonitor().isCanceled()) {
@@ -38,6 +38,7 @@ import org.jkiss.dbeaver.model.sql.SQLScriptElement;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSRowCountEstimator;
 import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.model.task.DBTaskUtils;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
@@ -254,7 +255,14 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
                     if (settings.isQueryRowCount() && dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_COUNT)) {
                         monitor.beginTask(DTMessages.data_transfer_wizard_job_task_retrieve, 1);
                         try {
-                            totalRows = dataContainer.countData(transferSource, session, dataFilter, readFlags);
+                            // Statistics estimate is enough for the progress
+                            DBSRowCountEstimator.Estimate estimate = settings.isExactRowCount() || useFetchedRows != null ?
+                                null : DBUtils.estimateRowCount(monitor, dataContainer, dataFilter);
+                            if (estimate != null) {
+                                totalRows = estimate.rowCount();
+                            } else {
+                                totalRows = dataContainer.countData(transferSource, session, dataFilter, readFlags);
+                            }
                         } catch (Throwable e) {
                             log.warn("Can't retrieve row count from '" + dataContainer.getName() + "'", e);
                             try {
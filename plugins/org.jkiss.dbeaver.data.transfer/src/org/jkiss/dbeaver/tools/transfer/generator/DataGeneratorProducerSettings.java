@@ -0,0 +1,199 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.generator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
+import org.jkiss.dbeaver.tools.transfer.DTUtils;
+import org.jkiss.dbeaver.tools.transfer.DataTransferSettings;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferSettings;
+import org.jkiss.dbeaver.tools.transfer.internal.DTMessages;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data generator settings
+ */
+public class DataGeneratorProducerSettings implements IDataTransferSettings {
+
+    private static final long DEFAULT_ROW_COUNT = 1000;
+    private static final long DEFAULT_SEED = 1;
+    private static final int DEFAULT_NULL_PERCENT = 10;
+    private static final int DEFAULT_REFERENCE_KEYS = 10000;
+
+    private long rowCount = DEFAULT_ROW_COUNT;
+    private int threadCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private long rowsPerSecond;
+    private long seed = DEFAULT_SEED;
+    private int nullPercent = DEFAULT_NULL_PERCENT;
+    private int referenceKeys = DEFAULT_REFERENCE_KEYS;
+    private long sequenceStart;
+    // Column name -> generator type
+    private final Map<String, DataGeneratorType> columnGenerators = new LinkedHashMap<>();
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public void setRowCount(long rowCount) {
+        if (rowCount > 0) {
+            this.rowCount = rowCount;
+        }
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public void setThreadCount(int threadCount) {
+        if (threadCount > 0) {
+            this.threadCount = threadCount;
+        }
+    }
+
+    /**
+     * Maximum rows passed to the consumer per second. Zero means no limit.
+     */
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(long rowsPerSecond) {
+        this.rowsPerSecond = Math.max(0, rowsPerSecond);
+    }
+
+    /**
+     * Random seed. Generation with the same seed produces the same rows regardless of threads count.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Percent of NULL values in nullable columns
+     */
+    public int getNullPercent() {
+        return nullPercent;
+    }
+
+    public void setNullPercent(int nullPercent) {
+        this.nullPercent = Math.max(0, Math.min(100, nullPercent));
+    }
+
+    /**
+     * Maximum number of keys read from each referenced table
+     */
+    public int getReferenceKeys() {
+        return referenceKeys;
+    }
+
+    public void setReferenceKeys(int referenceKeys) {
+        if (referenceKeys > 0) {
+            this.referenceKeys = referenceKeys;
+        }
+    }
+
+    /**
+     * First value of sequence columns. Zero means sequences continue after the existing rows.
+     */
+    public long getSequenceStart() {
+        return sequenceStart;
+    }
+
+    public void setSequenceStart(long sequenceStart) {
+        this.sequenceStart = Math.max(0, sequenceStart);
+    }
+
+    /**
+     * Returns generator type of the column. Null means generator is chosen by the column metadata.
+     */
+    @Nullable
+    public DataGeneratorType getColumnGenerator(@NotNull String columnName) {
+        return columnGenerators.get(columnName);
+    }
+
+    public void setColumnGenerator(@NotNull String columnName, @Nullable DataGeneratorType type) {
+        if (type == null) {
+            columnGenerators.remove(columnName);
+        } else {
+            columnGenerators.put(columnName, type);
+        }
+    }
+
+    @Override
+    public void loadSettings(DBRRunnableContext runnableContext, DataTransferSettings dataTransferSettings, Map<String, Object> settings) {
+        setRowCount(CommonUtils.toLong(settings.get("rowCount"), DEFAULT_ROW_COUNT));
+        setThreadCount(CommonUtils.toInt(settings.get("threadCount"), threadCount));
+        setRowsPerSecond(CommonUtils.toLong(settings.get("rowsPerSecond"), 0));
+        setSeed(CommonUtils.toLong(settings.get("seed"), DEFAULT_SEED));
+        setNullPercent(CommonUtils.toInt(settings.get("nullPercent"), DEFAULT_NULL_PERCENT));
+        setReferenceKeys(CommonUtils.toInt(settings.get("referenceKeys"), DEFAULT_REFERENCE_KEYS));
+        setSequenceStart(CommonUtils.toLong(settings.get("sequenceStart"), 0));
+
+        columnGenerators.clear();
+        Object generators = settings.get("columnGenerators");
+        if (generators instanceof Map<?, ?> generatorsMap) {
+            for (Map.Entry<?, ?> entry : generatorsMap.entrySet()) {
+                DataGeneratorType type = DataGeneratorType.getById(CommonUtils.toString(entry.getValue()));
+                if (type != null) {
+                    columnGenerators.put(CommonUtils.toString(entry.getKey()), type);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void saveSettings(Map<String, Object> settings) {
+        settings.put("rowCount", rowCount);
+        settings.put("threadCount", threadCount);
+        settings.put("rowsPerSecond", rowsPerSecond);
+        settings.put("seed", seed);
+        settings.put("nullPercent", nullPercent);
+        settings.put("referenceKeys", referenceKeys);
+        settings.put("sequenceStart", sequenceStart);
+        Map<String, Object> generators = new LinkedHashMap<>();
+        for (Map.Entry<String, DataGeneratorType> entry : columnGenerators.entrySet()) {
+            generators.put(entry.getKey(), entry.getValue().name());
+        }
+        settings.put("columnGenerators", generators);
+    }
+
+    @Override
+    public String getSettingsSummary() {
+        StringBuilder summary = new StringBuilder();
+
+        DTUtils.addSummary(summary, DTMessages.data_transfer_generator_label_row_count, rowCount);
+        DTUtils.addSummary(summary, DTMessages.data_transfer_generator_label_threads, threadCount);
+        DTUtils.addSummary(summary, DTMessages.data_transfer_generator_label_rows_per_second, rowsPerSecond);
+        DTUtils.addSummary(summary, DTMessages.data_transfer_generator_label_seed, seed);
+        DTUtils.addSummary(summary, DTMessages.data_transfer_generator_label_null_percent, nullPercent);
+        DTUtils.addSummary(summary, DTMessages.data_transfer_generator_label_reference_keys, referenceKeys);
+        DTUtils.addSummary(summary, DTMessages.data_transfer_generator_label_sequence_start, sequenceStart);
+        for (Map.Entry<String, DataGeneratorType> entry : columnGenerators.entrySet()) {
+            DTUtils.addSummary(summary, entry.getKey(), entry.getValue().name());
+        }
+
+        return summary.toString();
+    }
+}
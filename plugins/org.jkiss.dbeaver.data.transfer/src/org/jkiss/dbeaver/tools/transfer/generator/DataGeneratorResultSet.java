@@ -0,0 +1,120 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.generator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.data.DBDValueMeta;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSetColumn;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSetMeta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generated rows result set. Consumer reads the current generated row.
+ */
+public class DataGeneratorResultSet implements DBCResultSet {
+
+    private final DBCSession session;
+    private final DBCStatement statement;
+    private final List<GeneratorColumn> columns;
+    private final List<DBCAttributeMetaData> metaAttrs;
+    private Object[] row;
+
+    public DataGeneratorResultSet(@NotNull DBCSession session, @NotNull DBCStatement statement, @NotNull List<GeneratorColumn> columns) {
+        this.session = session;
+        this.statement = statement;
+        this.columns = columns;
+        this.metaAttrs = new ArrayList<>(columns.size());
+        for (GeneratorColumn column : columns) {
+            metaAttrs.add(new LocalResultSetColumn(this, column.getIndex(), column.getName(), column.getAttribute()));
+        }
+    }
+
+    public void setRow(@NotNull Object[] row) {
+        this.row = row;
+    }
+
+    @NotNull
+    @Override
+    public DBCSession getSession() {
+        return session;
+    }
+
+    @NotNull
+    @Override
+    public DBCStatement getSourceStatement() {
+        return statement;
+    }
+
+    @Override
+    public Object getAttributeValue(int index) throws DBCException {
+        return row[index];
+    }
+
+    @Override
+    public Object getAttributeValue(String name) throws DBCException {
+        for (GeneratorColumn column : columns) {
+            if (column.getName().equals(name)) {
+                return row[column.getIndex()];
+            }
+        }
+        throw new DBCException("Bad attribute name: " + name);
+    }
+
+    @Override
+    public DBDValueMeta getAttributeValueMeta(int index) throws DBCException {
+        return null;
+    }
+
+    @Override
+    public DBDValueMeta getRowMeta() throws DBCException {
+        return null;
+    }
+
+    @Override
+    public boolean nextRow() throws DBCException {
+        return false;
+    }
+
+    @Override
+    public boolean moveTo(int position) throws DBCException {
+        return false;
+    }
+
+    @NotNull
+    @Override
+    public DBCResultSetMetaData getMeta() throws DBCException {
+        return new LocalResultSetMeta(metaAttrs);
+    }
+
+    @Override
+    public String getResultSetName() throws DBCException {
+        return null;
+    }
+
+    @Override
+    public Object getFeature(String name) {
+        return null;
+    }
+
+    @Override
+    public void close() {
+
+    }
+}
@@ -0,0 +1,541 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.generator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.*;
+import org.jkiss.dbeaver.model.app.DBPProject;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
+import org.jkiss.dbeaver.model.meta.DBSerializable;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
+import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.dbeaver.model.task.DBTTask;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferProcessor;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferProducer;
+import org.jkiss.dbeaver.tools.transfer.serialize.DTObjectSerializer;
+import org.jkiss.dbeaver.tools.transfer.serialize.SerializerContext;
+import org.jkiss.utils.CommonUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * Produces generated rows for the entity.
+ * Column values are generated by the attribute metadata: types, lengths, nullability, unique keys and foreign keys.
+ * <p>
+ * Rows are generated in blocks by several threads and passed to the consumer in order.
+ * Each block has its own random seed, so the same settings always produce the same rows.
+ */
+@DBSerializable("dataGeneratorTransferProducer")
+public class DataGeneratorTransferProducer implements IDataTransferProducer<DataGeneratorProducerSettings> {
+
+    private static final Log log = Log.getLog(DataGeneratorTransferProducer.class);
+
+    private static final int BLOCK_SIZE = 1000;
+    // Generated blocks which wait for the consumer, per generator thread
+    private static final int BLOCKS_PER_THREAD = 4;
+
+    private final DBCStatistics producerStatistics = new DBCStatistics();
+
+    private DBPDataSourceContainer dataSourceContainer;
+    private DBSEntity entity;
+    private String objectId;
+
+    public DataGeneratorTransferProducer() {
+    }
+
+    public DataGeneratorTransferProducer(@NotNull DBSEntity entity) {
+        this.entity = entity;
+    }
+
+    public void setEntity(@Nullable DBSEntity entity) {
+        this.entity = entity;
+    }
+
+    @Override
+    public DBSEntity getDatabaseObject() {
+        return entity;
+    }
+
+    @Nullable
+    @Override
+    public DBPProject getProject() {
+        return entity == null ? null : DBUtils.getObjectOwnerProject(entity);
+    }
+
+    @Override
+    public String getObjectName() {
+        return entity == null ? objectId : DBUtils.getObjectFullName(entity, DBPEvaluationContext.DML);
+    }
+
+    @Override
+    public DBPImage getObjectIcon() {
+        return DBIcon.TREE_TABLE;
+    }
+
+    @Override
+    public String getObjectContainerName() {
+        DBPDataSourceContainer container = getDataSourceContainer();
+        return container != null ? container.getName() : CommonUtils.notNull(objectId, "?");
+    }
+
+    @Override
+    public DBPImage getObjectContainerIcon() {
+        DBPDataSourceContainer container = getDataSourceContainer();
+        return container != null ? container.getDriver().getIcon() : null;
+    }
+
+    @Override
+    public boolean isConfigurationComplete() {
+        return entity != null;
+    }
+
+    @Override
+    public DBPDataSourceContainer getDataSourceContainer() {
+        if (entity != null) {
+            DBPDataSource dataSource = entity.getDataSource();
+            return dataSource == null ? null : dataSource.getContainer();
+        }
+        return dataSourceContainer;
+    }
+
+    @Override
+    public void transferData(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull IDataTransferConsumer consumer,
+        @Nullable IDataTransferProcessor processor,
+        @NotNull DataGeneratorProducerSettings settings,
+        @Nullable DBTTask task
+    ) throws DBException {
+        if (entity == null) {
+            throw new DBException("No entity to generate data for");
+        }
+        DBCExecutionContext context = DBUtils.getDefaultContext(entity, false);
+        if (context == null) {
+            throw new DBCException("Can't retrieve execution context of '" + entity.getName() + "'");
+        }
+
+        List<GeneratorColumn> columns = makeColumns(monitor, settings);
+        DataGeneratorType[] types = new DataGeneratorType[columns.size()];
+        List<GeneratorColumn> sequenceColumns = new ArrayList<>();
+        long rowCount = settings.getRowCount();
+        for (GeneratorColumn column : columns) {
+            DataGeneratorType type = settings.getColumnGenerator(column.getName());
+            if (type == null) {
+                type = DataGeneratorType.getDefaultType(column);
+            }
+            types[column.getIndex()] = type;
+            if (type == DataGeneratorType.SEQUENCE) {
+                sequenceColumns.add(column);
+            }
+        }
+
+        try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Generate data")) {
+            Map<GeneratorColumn, Long> sequenceStarts = getSequenceStarts(session, sequenceColumns, settings.getSequenceStart());
+            Set<GeneratorReference> uniqueReferences = new HashSet<>();
+            IDataGenerator[] generators = new IDataGenerator[columns.size()];
+            for (GeneratorColumn column : columns) {
+                DataGeneratorType type = types[column.getIndex()];
+                long firstRowNumber = sequenceStarts.getOrDefault(column, 1L);
+                GeneratorReference reference = column.getReference();
+                if (type == DataGeneratorType.REFERENCE && column.isUnique() && reference != null && !reference.isEmpty()) {
+                    // Unique references can't repeat keys, including keys of the existing rows
+                    if (uniqueReferences.add(reference)) {
+                        reference.removeUsedKeys(session, entity);
+                    }
+                    if (reference.getKeyCount() < rowCount) {
+                        log.warn("Only " + reference.getKeyCount() + " rows can be generated for unique column '" + column.getName() +
+                            "' which references '" + reference + "' (" + rowCount + " requested)");
+                        rowCount = reference.getKeyCount();
+                    }
+                } else if (type == DataGeneratorType.SEQUENCE) {
+                    long capacity = DataGeneratorType.getSequenceCapacity(column, firstRowNumber);
+                    if (capacity < rowCount) {
+                        log.warn("Only " + capacity + " rows can be generated for sequence column '" + column.getName() +
+                            "' of length " + column.getMaxLength() + " (" + rowCount + " requested)");
+                        rowCount = capacity;
+                    }
+                }
+                generators[column.getIndex()] = type.createGenerator(column, firstRowNumber);
+            }
+            try (LocalStatement statement = new LocalStatement(session, "SELECT * FROM " + entity.getName())) {
+                try (DataGeneratorResultSet resultSet = new DataGeneratorResultSet(session, statement, columns)) {
+                    DBDDataReceiver.startFetchWorkflow(consumer, session, resultSet, 0, rowCount);
+                    generateRows(monitor, session, resultSet, consumer, columns, generators, settings, rowCount);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns first values of sequence columns. By default sequences continue after the existing rows:
+     * numeric columns start after the current maximum, other columns after the current row count.
+     */
+    @NotNull
+    private Map<GeneratorColumn, Long> getSequenceStarts(
+        @NotNull DBCSession session,
+        @NotNull List<GeneratorColumn> sequenceColumns,
+        long sequenceStart
+    ) throws DBException {
+        Map<GeneratorColumn, Long> result = new HashMap<>();
+        if (sequenceColumns.isEmpty()) {
+            return result;
+        }
+        if (sequenceStart > 0) {
+            for (GeneratorColumn column : sequenceColumns) {
+                result.put(column, sequenceStart);
+            }
+            return result;
+        }
+        List<GeneratorColumn> numericColumns = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*)");
+        for (GeneratorColumn column : sequenceColumns) {
+            if (column.getDataKind() == DBPDataKind.NUMERIC) {
+                numericColumns.add(column);
+                sql.append(", MAX(").append(DBUtils.getQuotedIdentifier(column.getAttribute())).append(")");
+            }
+        }
+        sql.append(" FROM ").append(DBUtils.getObjectFullName(entity, DBPEvaluationContext.DML));
+
+        session.getProgressMonitor().subTask("Read current keys");
+        try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, sql.toString(), false, false, false)) {
+            if (dbStat.executeStatement()) {
+                try (DBCResultSet dbResult = dbStat.openResultSet()) {
+                    if (dbResult != null && dbResult.nextRow()) {
+                        long rowCount = CommonUtils.toLong(dbResult.getAttributeValue(0));
+                        for (GeneratorColumn column : sequenceColumns) {
+                            result.put(column, rowCount + 1);
+                        }
+                        for (int i = 0; i < numericColumns.size(); i++) {
+                            Object maxValue = dbResult.getAttributeValue(i + 1);
+                            if (maxValue instanceof Number number) {
+                                result.put(numericColumns.get(i), (long) Math.floor(number.doubleValue()) + 1);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @NotNull
+    private List<GeneratorColumn> makeColumns(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DataGeneratorProducerSettings settings
+    ) throws DBException {
+        List<DBSEntityAttribute> attributes = new ArrayList<>();
+        for (DBSEntityAttribute attribute : CommonUtils.safeCollection(entity.getAttributes(monitor))) {
+            // Database fills these columns by itself
+            if (!DBUtils.isHiddenObject(attribute) && !attribute.isAutoGenerated()) {
+                attributes.add(attribute);
+            }
+        }
+        if (attributes.isEmpty()) {
+            throw new DBException("Entity '" + entity.getName() + "' has no columns to generate");
+        }
+
+        // Leading column of a unique key makes the whole key unique
+        Set<DBSEntityAttribute> uniqueAttributes = new HashSet<>();
+        for (DBSEntityConstraint constraint : CommonUtils.safeCollection(entity.getConstraints(monitor))) {
+            if (constraint.getConstraintType().isUnique() && constraint instanceof DBSEntityReferrer referrer) {
+                List<DBSEntityAttribute> keyAttributes = DBUtils.getEntityAttributes(monitor, referrer);
+                if (!keyAttributes.isEmpty()) {
+                    uniqueAttributes.add(keyAttributes.get(0));
+                }
+            }
+        }
+
+        List<GeneratorColumn> columns = new ArrayList<>(attributes.size());
+        Map<DBSEntityAttribute, GeneratorColumn> columnMap = new HashMap<>();
+        for (DBSEntityAttribute attribute : attributes) {
+            GeneratorColumn column = new GeneratorColumn(attribute, columns.size(), uniqueAttributes.contains(attribute));
+            columns.add(column);
+            columnMap.put(attribute, column);
+        }
+
+        monitor.subTask("Read referenced keys");
+        for (DBSEntityAssociation association : CommonUtils.safeCollection(entity.getAssociations(monitor))) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            if (!(association instanceof DBSEntityReferrer referrer) || !(association.getReferencedConstraint() instanceof DBSEntityReferrer refKey)) {
+                continue;
+            }
+            List<DBSEntityAttribute> ownAttributes = DBUtils.getEntityAttributes(monitor, referrer);
+            List<DBSEntityAttribute> refAttributes = DBUtils.getEntityAttributes(monitor, refKey);
+            if (ownAttributes.isEmpty() || ownAttributes.size() != refAttributes.size()) {
+                continue;
+            }
+            GeneratorReference reference = new GeneratorReference(association, ownAttributes, refAttributes);
+            try {
+                reference.readKeys(monitor, settings.getReferenceKeys());
+            } catch (DBException e) {
+                log.warn("Can't read keys of '" + association.getName() + "'", e);
+                continue;
+            }
+            if (reference.isEmpty()) {
+                log.debug("Referenced table of '" + association.getName() + "' is empty");
+                continue;
+            }
+            for (int i = 0; i < ownAttributes.size(); i++) {
+                GeneratorColumn column = columnMap.get(ownAttributes.get(i));
+                if (column != null && column.getReference() == null) {
+                    column.setReference(reference, i);
+                    if (column.isUnique()) {
+                        // Other columns of the key must take the same keys in the same order
+                        reference.setUnique(true);
+                    }
+                }
+            }
+        }
+        return columns;
+    }
+
+    private void generateRows(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCSession session,
+        @NotNull DataGeneratorResultSet resultSet,
+        @NotNull IDataTransferConsumer consumer,
+        @NotNull List<GeneratorColumn> columns,
+        @NotNull IDataGenerator[] generators,
+        @NotNull DataGeneratorProducerSettings settings,
+        long rowCount
+    ) throws DBException {
+        // Nullable columns which are not part of keys
+        boolean[] nullable = new boolean[columns.size()];
+        for (GeneratorColumn column : columns) {
+            nullable[column.getIndex()] = !column.isRequired() && !column.isUnique() && column.getReference() == null;
+        }
+        long startTime = System.nanoTime();
+        long rowsGenerated = generateRows(
+            monitor,
+            rowCount,
+            settings.getThreadCount(),
+            settings.getSeed(),
+            settings.getRowsPerSecond(),
+            generators,
+            nullable,
+            settings.getNullPercent() / 100.0,
+            row -> {
+                resultSet.setRow(row);
+                consumer.fetchRow(session, resultSet);
+            });
+        producerStatistics.setRowsFetched(rowsGenerated);
+        producerStatistics.addFetchTime((System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * Generates rows in blocks by several threads and passes them to the receiver in order.
+     * Rows depend only on the seed, not on the number of threads.
+     *
+     * @return number of generated rows
+     */
+    static long generateRows(
+        @NotNull DBRProgressMonitor monitor,
+        long rowCount,
+        int threadCount,
+        long seed,
+        long rowsPerSecond,
+        @NotNull IDataGenerator[] generators,
+        @NotNull boolean[] nullable,
+        double nullRatio,
+        @NotNull RowReceiver receiver
+    ) throws DBException {
+        long blockCount = (rowCount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        if (blockCount == 0) {
+            return 0;
+        }
+        threadCount = (int) Math.max(1, Math.min(threadCount, blockCount));
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, "Data generator worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        monitor.beginTask("Generate data", (int) Math.min(blockCount, Integer.MAX_VALUE));
+        long startTime = System.nanoTime();
+        try {
+            Deque<Future<Object[][]>> pendingBlocks = new ArrayDeque<>();
+            long nextBlock = 0;
+            long rowNumber = 0;
+            while (rowNumber < rowCount && !monitor.isCanceled()) {
+                while (nextBlock < blockCount && pendingBlocks.size() < threadCount * BLOCKS_PER_THREAD) {
+                    long firstRow = nextBlock * BLOCK_SIZE;
+                    int blockSize = (int) Math.min(BLOCK_SIZE, rowCount - firstRow);
+                    RandomGenerator random = new SplittableRandom(seed ^ (nextBlock * 0x9E3779B97F4A7C15L));
+                    pendingBlocks.add(executor.submit(() -> generateBlock(firstRow, blockSize, random, generators, nullable, nullRatio)));
+                    nextBlock++;
+                }
+                Object[][] block;
+                try {
+                    block = pendingBlocks.remove().get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (ExecutionException e) {
+                    throw new DBException("Error generating data", e.getCause());
+                }
+                for (Object[] row : block) {
+                    if (rowsPerSecond > 0) {
+                        throttle(monitor, startTime, rowNumber, rowsPerSecond);
+                        if (monitor.isCanceled()) {
+                            break;
+                        }
+                    }
+                    receiver.receiveRow(row);
+                    rowNumber++;
+                }
+                monitor.worked(1);
+                monitor.subTask(rowNumber + " rows generated");
+            }
+            return rowNumber;
+        } finally {
+            executor.shutdownNow();
+            monitor.done();
+        }
+    }
+
+    @NotNull
+    private static Object[][] generateBlock(
+        long firstRow,
+        int blockSize,
+        @NotNull RandomGenerator random,
+        @NotNull IDataGenerator[] generators,
+        @NotNull boolean[] nullable,
+        double nullRatio
+    ) {
+        Object[][] rows = new Object[blockSize][];
+        for (int i = 0; i < blockSize; i++) {
+            long rowNumber = firstRow + i;
+            Object[] row = new Object[generators.length];
+            for (int k = 0; k < generators.length; k++) {
+                if (nullable[k] && nullRatio > 0 && random.nextDouble() < nullRatio) {
+                    continue;
+                }
+                row[k] = generators[k].generateValue(rowNumber, random);
+            }
+            rows[i] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * Receives generated rows
+     */
+    interface RowReceiver {
+        void receiveRow(@NotNull Object[] row) throws DBException;
+    }
+
+    private static void throttle(@NotNull DBRProgressMonitor monitor, long startTime, long rowNumber, long rowsPerSecond) {
+        long dueTime = startTime + rowNumber * 1_000_000_000L / rowsPerSecond;
+        for (long delay = dueTime - System.nanoTime(); delay > 0 && !monitor.isCanceled(); delay = dueTime - System.nanoTime()) {
+            try {
+                // Wake up periodically to check cancel
+                Thread.sleep(Math.min(delay / 1_000_000 + 1, 100));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof DataGeneratorTransferProducer producer &&
+            CommonUtils.equalObjects(entity, producer.entity);
+    }
+
+    @Override
+    @NotNull
+    public DBCStatistics getStatistics() {
+        return producerStatistics;
+    }
+
+    public static class ObjectSerializer implements DTObjectSerializer<DBTTask, DataGeneratorTransferProducer> {
+
+        @Override
+        public void serializeObject(
+            @NotNull DBRRunnableContext runnableContext,
+            @NotNull DBTTask context,
+            @NotNull DataGeneratorTransferProducer object,
+            @NotNull Map<String, Object> state
+        ) throws DBException {
+            DBSEntity entity = object.entity;
+            if (entity == null) {
+                throw new DBException("Task configuration incomplete: generated table not specified");
+            }
+            if (entity.getDataSource() != null) {
+                state.put("project", entity.getDataSource().getContainer().getProject().getName());
+            }
+            state.put("entityId", DBUtils.getObjectFullId(entity));
+        }
+
+        @Override
+        public DataGeneratorTransferProducer deserializeObject(
+            @NotNull DBRRunnableContext runnableContext,
+            @NotNull SerializerContext serializeContext,
+            @NotNull DBTTask objectContext,
+            @NotNull Map<String, Object> state
+        ) throws DBException {
+            DataGeneratorTransferProducer producer = new DataGeneratorTransferProducer();
+            try {
+                runnableContext.run(true, true, monitor -> {
+                    String projectName = CommonUtils.toString(state.get("project"));
+                    DBPProject project = CommonUtils.isEmpty(projectName) ? null : DBWorkbench.getPlatform().getWorkspace().getProject(projectName);
+                    if (project == null) {
+                        project = objectContext.getProject();
+                    }
+                    String id = CommonUtils.toString(state.get("entityId"));
+                    String[] pathItems = id.split("/");
+                    producer.objectId = pathItems.length > 2 ? String.join("/", List.of(pathItems).subList(2, pathItems.length)) : id;
+                    producer.dataSourceContainer = DBUtils.findDataSourceByObjectId(project, id);
+                    if (producer.dataSourceContainer != null && !serializeContext.isDataSourceFailed(producer.dataSourceContainer)) {
+                        try {
+                            if (DBUtils.findObjectById(monitor, project, id) instanceof DBSEntity entity) {
+                                producer.entity = entity;
+                            } else {
+                                serializeContext.addError(new DBException("Table '" + id + "' not found"));
+                            }
+                        } catch (DBException e) {
+                            serializeContext.addError(e);
+                            serializeContext.addDataSourceFail(producer.dataSourceContainer);
+                        }
+                    }
+                });
+            } catch (InvocationTargetException e) {
+                throw new DBCException("Error instantiating data generator", e.getTargetException());
+            } catch (InterruptedException e) {
+                throw new DBCException("Deserialization canceled", e);
+            }
+            return producer;
+        }
+    }
+}
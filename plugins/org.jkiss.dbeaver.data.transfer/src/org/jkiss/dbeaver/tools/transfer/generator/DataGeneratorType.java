@@ -0,0 +1,366 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.generator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataKind;
+
+import java.math.BigDecimal;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * Built-in column value generators
+ */
+public enum DataGeneratorType {
+
+    /**
+     * Always null
+     */
+    NULL {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            return (rowNumber, random) -> null;
+        }
+    },
+    /**
+     * Unique values made of the row number
+     */
+    SEQUENCE {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            String typeName = column.getTypeName();
+            int scale = column.getScale();
+            long maxLength = column.getMaxLength();
+            String prefix = column.getName().toLowerCase(Locale.ENGLISH) + "_";
+            return switch (column.getDataKind()) {
+                case NUMERIC -> {
+                    if (isFloatType(typeName)) {
+                        yield (rowNumber, random) -> (double) (firstRowNumber + rowNumber);
+                    } else if (scale > 0) {
+                        yield (rowNumber, random) -> BigDecimal.valueOf(firstRowNumber + rowNumber);
+                    }
+                    yield (rowNumber, random) -> firstRowNumber + rowNumber;
+                }
+                case DATETIME -> (rowNumber, random) -> makeDateTime(typeName, BASE_TIME + (firstRowNumber + rowNumber) * 1000);
+                case STRING, CONTENT -> (rowNumber, random) -> {
+                    String number = String.valueOf(firstRowNumber + rowNumber);
+                    return maxLength <= 0 || prefix.length() + number.length() <= maxLength ? prefix + number : number;
+                };
+                default -> UUID_VALUE.createGenerator(column, firstRowNumber);
+            };
+        }
+    },
+    /**
+     * Values of the referenced key. Columns of a unique key take keys one by one.
+     */
+    REFERENCE {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            GeneratorReference reference = column.getReference();
+            if (reference == null || reference.isEmpty()) {
+                return getDefaultType(column, false).createGenerator(column, firstRowNumber);
+            }
+            int position = column.getReferencePosition();
+            return (rowNumber, random) -> reference.getKey(firstRowNumber + rowNumber)[position];
+        }
+    },
+    NUMBER {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            String typeName = column.getTypeName();
+            int precision = column.getPrecision();
+            int scale = column.getScale();
+            if (isFloatType(typeName)) {
+                return (rowNumber, random) -> Math.round(random.nextDouble(1_000_000) * 100) / 100.0;
+            }
+            if (scale > 0) {
+                long bound = pow10(precision > 0 ? precision : scale + 6);
+                return (rowNumber, random) -> BigDecimal.valueOf(random.nextLong(bound), scale);
+            }
+            long bound = getIntegerBound(typeName, precision);
+            return (rowNumber, random) -> random.nextLong(bound);
+        }
+    },
+    BOOLEAN {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            return (rowNumber, random) -> random.nextBoolean();
+        }
+    },
+    DATE {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            String typeName = column.getTypeName();
+            return (rowNumber, random) -> makeDateTime(typeName, BASE_TIME + random.nextLong(DATE_RANGE) * 1000);
+        }
+    },
+    /**
+     * Random letters
+     */
+    TEXT {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            int maxLength = getTextLength(column, 16);
+            return (rowNumber, random) -> {
+                int length = 1 + random.nextInt(maxLength);
+                StringBuilder text = new StringBuilder(length);
+                for (int i = 0; i < length; i++) {
+                    text.append((char) ('a' + random.nextInt(26)));
+                }
+                return text.toString();
+            };
+        }
+    },
+    /**
+     * Sentences of random words
+     */
+    WORDS {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            int maxLength = getTextLength(column, 200);
+            return (rowNumber, random) -> {
+                int wordCount = 1 + random.nextInt(Math.max(1, maxLength / 8));
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < wordCount && text.length() < maxLength; i++) {
+                    if (i > 0) {
+                        text.append(' ');
+                    }
+                    text.append(pick(WORD_LIST, random));
+                }
+                return truncate(text.toString(), maxLength);
+            };
+        }
+    },
+    NAME {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            int maxLength = getTextLength(column, 100);
+            return (rowNumber, random) -> truncate(pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random), maxLength);
+        }
+    },
+    EMAIL {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            int maxLength = getTextLength(column, 100);
+            return (rowNumber, random) -> truncate(
+                pick(FIRST_NAMES, random).toLowerCase(Locale.ENGLISH) + "." + pick(LAST_NAMES, random).toLowerCase(Locale.ENGLISH) +
+                    random.nextInt(1000) + "@" + pick(DOMAINS, random),
+                maxLength);
+        }
+    },
+    PHONE {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            int maxLength = getTextLength(column, 20);
+            return (rowNumber, random) -> truncate(
+                String.format("+1-%03d-%03d-%04d", 200 + random.nextInt(800), random.nextInt(1000), random.nextInt(10000)),
+                maxLength);
+        }
+    },
+    UUID_VALUE {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            int maxLength = getTextLength(column, 36);
+            return (rowNumber, random) -> truncate(new UUID(random.nextLong(), random.nextLong()).toString(), maxLength);
+        }
+    },
+    BINARY {
+        @NotNull
+        @Override
+        public IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber) {
+            int maxLength = getTextLength(column, 16);
+            return (rowNumber, random) -> {
+                byte[] bytes = new byte[1 + random.nextInt(maxLength)];
+                random.nextBytes(bytes);
+                return bytes;
+            };
+        }
+    };
+
+    // 2015-01-01 00:00:00 UTC. Fixed base time keeps generated data reproducible.
+    private static final long BASE_TIME = 1420070400000L;
+    // Ten years in seconds
+    private static final long DATE_RANGE = 10L * 365 * 24 * 3600;
+
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Sandra", "Paul", "Ashley"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson"
+    };
+    private static final String[] DOMAINS = {
+        "example.com", "example.org", "example.net", "mail.test", "corp.test"
+    };
+    private static final String[] WORD_LIST = {
+        "account", "order", "service", "product", "customer", "payment", "delivery", "report", "request", "status",
+        "review", "update", "market", "price", "system", "network", "support", "project", "invoice", "contract",
+        "quality", "region", "channel", "balance", "history", "address", "profile", "segment", "partner", "supply"
+    };
+
+    /**
+     * Creates generator of the column values
+     *
+     * @param firstRowNumber number of the first row in sequences
+     */
+    @NotNull
+    public abstract IDataGenerator createGenerator(@NotNull GeneratorColumn column, long firstRowNumber);
+
+    /**
+     * Chooses generator by the column type, name and keys
+     */
+    @NotNull
+    public static DataGeneratorType getDefaultType(@NotNull GeneratorColumn column) {
+        return getDefaultType(column, true);
+    }
+
+    @NotNull
+    private static DataGeneratorType getDefaultType(@NotNull GeneratorColumn column, boolean useReference) {
+        if (useReference && column.getReference() != null && !column.getReference().isEmpty()) {
+            return REFERENCE;
+        }
+        if (column.isUnique()) {
+            return SEQUENCE;
+        }
+        String typeName = column.getTypeName();
+        String name = column.getName().toLowerCase(Locale.ENGLISH);
+        return switch (column.getDataKind()) {
+            case NUMERIC -> NUMBER;
+            case BOOLEAN -> BOOLEAN;
+            case DATETIME -> DATE;
+            case BINARY -> BINARY;
+            case CONTENT -> typeName.contains("blob") || typeName.contains("binary") || typeName.contains("bytea") ? BINARY : WORDS;
+            case STRING -> {
+                if (typeName.contains("uuid") || typeName.contains("guid")) {
+                    yield UUID_VALUE;
+                } else if (name.contains("mail")) {
+                    yield EMAIL;
+                } else if (name.contains("phone")) {
+                    yield PHONE;
+                } else if (name.contains("name")) {
+                    yield NAME;
+                }
+                yield column.getMaxLength() <= 0 || column.getMaxLength() >= 40 ? WORDS : TEXT;
+            }
+            default -> NULL;
+        };
+    }
+
+    /**
+     * Returns max number of rows which {@link #SEQUENCE} can generate for the column without exceeding the column length.
+     * Text sequences drop the column name prefix when it doesn't fit, but the number itself must fit.
+     *
+     * @return max number of rows or {@link Long#MAX_VALUE} if it is not limited
+     */
+    public static long getSequenceCapacity(@NotNull GeneratorColumn column, long firstRowNumber) {
+        DBPDataKind dataKind = column.getDataKind();
+        long maxLength = column.getMaxLength();
+        if ((dataKind != DBPDataKind.STRING && dataKind != DBPDataKind.CONTENT) || maxLength <= 0 || maxLength > 18) {
+            return Long.MAX_VALUE;
+        }
+        long maxNumber = pow10((int) maxLength) - 1;
+        return Math.max(0, maxNumber - firstRowNumber + 1);
+    }
+
+    @Nullable
+    public static DataGeneratorType getById(@Nullable String id) {
+        for (DataGeneratorType type : values()) {
+            if (type.name().equalsIgnoreCase(id)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFloatType(@NotNull String typeName) {
+        return typeName.contains("float") || typeName.contains("double") || typeName.contains("real");
+    }
+
+    /**
+     * Returns upper bound of non-negative values of the integer type.
+     * Precision is used for decimal types only: integer types report the number of digits of their maximum value.
+     */
+    private static long getIntegerBound(@NotNull String typeName, int precision) {
+        if (typeName.contains("tinyint")) {
+            return Byte.MAX_VALUE + 1;
+        } else if (typeName.contains("smallint") || typeName.equals("int2") || typeName.equals("smallserial")) {
+            return Short.MAX_VALUE + 1;
+        } else if (typeName.contains("mediumint")) {
+            return 1 << 23;
+        } else if (typeName.contains("bigint") || typeName.equals("int8") || typeName.equals("bigserial")) {
+            return Long.MAX_VALUE;
+        } else if (typeName.contains("int") || typeName.contains("serial")) {
+            return Integer.MAX_VALUE + 1L;
+        } else if (precision > 0) {
+            return pow10(precision);
+        }
+        return 1_000_000;
+    }
+
+    private static long pow10(int digits) {
+        long result = 1;
+        for (int i = 0; i < Math.min(digits, 18); i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    private static int getTextLength(@NotNull GeneratorColumn column, int defaultLength) {
+        long maxLength = column.getMaxLength();
+        return maxLength <= 0 ? defaultLength : (int) Math.min(maxLength, defaultLength);
+    }
+
+    @NotNull
+    private static String pick(@NotNull String[] values, @NotNull RandomGenerator random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    @NotNull
+    private static String truncate(@NotNull String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    @NotNull
+    private static Object makeDateTime(@NotNull String typeName, long time) {
+        if (typeName.equals("date")) {
+            return new java.sql.Date(time);
+        } else if (typeName.startsWith("time") && !typeName.startsWith("timestamp")) {
+            return new Time(time);
+        }
+        return new Timestamp(time);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.generator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.Locale;
+
+/**
+ * Generated column. Keeps attribute metadata which generators need.
+ */
+public class GeneratorColumn {
+
+    @NotNull
+    private final DBSEntityAttribute attribute;
+    private final int index;
+    private final boolean unique;
+    @Nullable
+    private GeneratorReference reference;
+    private int referencePosition;
+
+    public GeneratorColumn(@NotNull DBSEntityAttribute attribute, int index, boolean unique) {
+        this.attribute = attribute;
+        this.index = index;
+        this.unique = unique;
+    }
+
+    @NotNull
+    public DBSEntityAttribute getAttribute() {
+        return attribute;
+    }
+
+    @NotNull
+    public String getName() {
+        return attribute.getName();
+    }
+
+    /**
+     * Column position in generated rows
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    @NotNull
+    public DBPDataKind getDataKind() {
+        return attribute.getDataKind();
+    }
+
+    /**
+     * Lower case type name
+     */
+    @NotNull
+    public String getTypeName() {
+        return CommonUtils.notEmpty(attribute.getTypeName()).toLowerCase(Locale.ENGLISH);
+    }
+
+    public long getMaxLength() {
+        return attribute.getMaxLength();
+    }
+
+    public int getPrecision() {
+        return CommonUtils.toInt(attribute.getPrecision());
+    }
+
+    public int getScale() {
+        return CommonUtils.toInt(attribute.getScale());
+    }
+
+    public boolean isRequired() {
+        return attribute.isRequired();
+    }
+
+    /**
+     * Column is the first column of a primary or unique key. Its values must not repeat.
+     */
+    public boolean isUnique() {
+        return unique;
+    }
+
+    /**
+     * Foreign key which the column belongs to
+     */
+    @Nullable
+    public GeneratorReference getReference() {
+        return reference;
+    }
+
+    /**
+     * Column position in the foreign key
+     */
+    public int getReferencePosition() {
+        return referencePosition;
+    }
+
+    public void setReference(@Nullable GeneratorReference reference, int referencePosition) {
+        this.reference = reference;
+        this.referencePosition = referencePosition;
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
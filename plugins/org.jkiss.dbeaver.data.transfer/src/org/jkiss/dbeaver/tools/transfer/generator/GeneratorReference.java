@@ -0,0 +1,242 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.generator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAssociation;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.dbeaver.tools.transfer.DTUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Foreign key of the generated entity.
+ * Keeps a sample of the referenced key values. All columns of the foreign key take values from the same key.
+ */
+public class GeneratorReference {
+
+    @NotNull
+    private final DBSEntityAssociation association;
+    @NotNull
+    private final List<DBSEntityAttribute> ownAttributes;
+    @NotNull
+    private final List<DBSEntityAttribute> referencedAttributes;
+    private final long salt;
+    private final List<Object[]> keys = new ArrayList<>();
+    private boolean unique;
+
+    public GeneratorReference(
+        @NotNull DBSEntityAssociation association,
+        @NotNull List<DBSEntityAttribute> ownAttributes,
+        @NotNull List<DBSEntityAttribute> referencedAttributes
+    ) {
+        this.association = association;
+        this.ownAttributes = ownAttributes;
+        this.referencedAttributes = referencedAttributes;
+        this.salt = association.getName().hashCode() * 0x9E3779B97F4A7C15L;
+    }
+
+    @NotNull
+    public DBSEntityAssociation getAssociation() {
+        return association;
+    }
+
+    public boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    public int getKeyCount() {
+        return keys.size();
+    }
+
+    public boolean isUnique() {
+        return unique;
+    }
+
+    /**
+     * Unique references return keys one by one. Keys do not repeat until all of them are used,
+     * so unique columns can't have more rows than {@link #getKeyCount()}.
+     */
+    public void setUnique(boolean unique) {
+        this.unique = unique;
+    }
+
+    /**
+     * Returns key for the row. Key depends only on the row number, so all columns of the reference get the same key.
+     */
+    @NotNull
+    public Object[] getKey(long rowNumber) {
+        long index = unique ? rowNumber : mix(rowNumber ^ salt);
+        return keys.get((int) Long.remainderUnsigned(index, keys.size()));
+    }
+
+    /**
+     * Reads first keys of the referenced entity
+     */
+    public void readKeys(@NotNull DBRProgressMonitor monitor, int maxKeys) throws DBException {
+        DBSEntity entity = association.getAssociatedEntity();
+        if (!(entity instanceof DBSDataContainer dataContainer)) {
+            throw new DBException("Referenced entity '" + DBUtils.getObjectFullName(entity, DBPEvaluationContext.DML) + "' doesn't support data read");
+        }
+        DBCExecutionContext context = DBUtils.getDefaultContext(entity, false);
+        if (context == null) {
+            throw new DBCException("Can't find execution context of '" + entity.getName() + "'");
+        }
+        keys.clear();
+        try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Read referenced keys")) {
+            dataContainer.readData(
+                new AbstractExecutionSource(dataContainer, context, this),
+                session,
+                new KeysReceiver(dataContainer),
+                null,
+                0,
+                maxKeys,
+                DBSDataContainer.FLAG_NONE,
+                Math.min(maxKeys, 10000));
+        }
+    }
+
+    /**
+     * Removes keys which are already referenced by rows of the generated entity,
+     * so unique columns don't repeat them in new rows.
+     */
+    public void removeUsedKeys(@NotNull DBCSession session, @NotNull DBSEntity entity) throws DBException {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Map<List<Object>, Object[]> unusedKeys = new LinkedHashMap<>();
+        for (Object[] key : keys) {
+            unusedKeys.put(makeKeyValues(key), key);
+        }
+        StringBuilder sql = new StringBuilder("SELECT ");
+        StringBuilder condition = new StringBuilder();
+        for (int i = 0; i < ownAttributes.size(); i++) {
+            String columnName = DBUtils.getQuotedIdentifier(ownAttributes.get(i));
+            if (i > 0) {
+                sql.append(", ");
+                condition.append(" AND ");
+            }
+            sql.append(columnName);
+            condition.append(columnName).append(" IS NOT NULL");
+        }
+        sql.append(" FROM ").append(DBUtils.getObjectFullName(entity, DBPEvaluationContext.DML)).append(" WHERE ").append(condition);
+
+        session.getProgressMonitor().subTask("Read used keys of '" + association.getName() + "'");
+        try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, sql.toString(), false, false, false)) {
+            if (dbStat.executeStatement()) {
+                try (DBCResultSet dbResult = dbStat.openResultSet()) {
+                    Object[] key = new Object[ownAttributes.size()];
+                    while (dbResult != null && !unusedKeys.isEmpty() && dbResult.nextRow()) {
+                        for (int i = 0; i < key.length; i++) {
+                            key[i] = dbResult.getAttributeValue(i);
+                        }
+                        unusedKeys.remove(makeKeyValues(key));
+                    }
+                }
+            }
+        }
+        keys.clear();
+        keys.addAll(unusedKeys.values());
+    }
+
+    /**
+     * Makes comparable key values. Values of the referenced key and of the foreign key may have different Java types.
+     */
+    @NotNull
+    static List<Object> makeKeyValues(@NotNull Object[] key) {
+        List<Object> values = new ArrayList<>(key.length);
+        for (Object value : key) {
+            if (value instanceof Number number) {
+                values.add(new BigDecimal(number.toString()).stripTrailingZeros());
+            } else {
+                values.add(CommonUtils.toString(value));
+            }
+        }
+        return values;
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return value ^ (value >>> 33);
+    }
+
+    @Override
+    public String toString() {
+        return association.getName();
+    }
+
+    private class KeysReceiver implements DBDDataReceiver {
+        private final DBSDataContainer dataContainer;
+        private DBDAttributeBinding[] keyBindings;
+
+        KeysReceiver(@NotNull DBSDataContainer dataContainer) {
+            this.dataContainer = dataContainer;
+        }
+
+        @Override
+        public void fetchStart(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, long offset, long maxRows) throws DBCException {
+            DBDAttributeBinding[] bindings = DTUtils.makeLeafAttributeBindings(session, dataContainer, resultSet);
+            keyBindings = new DBDAttributeBinding[referencedAttributes.size()];
+            for (int i = 0; i < keyBindings.length; i++) {
+                String name = referencedAttributes.get(i).getName();
+                for (DBDAttributeBinding binding : bindings) {
+                    if (binding.getName().equalsIgnoreCase(name)) {
+                        keyBindings[i] = binding;
+                        break;
+                    }
+                }
+                if (keyBindings[i] == null) {
+                    throw new DBCException("Referenced column '" + name + "' not found in '" + dataContainer.getName() + "'");
+                }
+            }
+        }
+
+        @Override
+        public void fetchRow(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+            Object[] key = new Object[keyBindings.length];
+            for (int i = 0; i < keyBindings.length; i++) {
+                DBDAttributeBinding binding = keyBindings[i];
+                key[i] = binding.getValueHandler().fetchValueObject(session, resultSet, binding, binding.getOrdinalPosition());
+                if (key[i] == null) {
+                    return;
+                }
+            }
+            keys.add(key);
+        }
+
+        @Override
+        public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
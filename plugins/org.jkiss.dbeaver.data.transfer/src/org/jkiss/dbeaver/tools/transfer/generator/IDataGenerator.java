@@ -0,0 +1,38 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.generator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Generator of column values.
+ * The same generator is called by several threads, so it must not have mutable state.
+ * Values must depend only on the row number and the random generator, so generation is reproducible.
+ */
+public interface IDataGenerator {
+
+    /**
+     * @param rowNumber zero based number of the generated row
+     * @param random    random generator of the row
+     */
+    @Nullable
+    Object generateValue(long rowNumber, @NotNull RandomGenerator random);
+
+}
@@ -35,6 +35,7 @@ public class DTMessages extends NLS {
     public static String data_transfer_wizard_output_checkbox_split_files_tip;
     public static String data_transfer_wizard_output_checkbox_new_connection;
     public static String data_transfer_wizard_output_checkbox_select_row_count;
+    public static String data_transfer_wizard_output_checkbox_exact_row_count;
     public static String data_transfer_wizard_output_checkbox_fetched_rows_only;
     public static String data_transfer_wizard_output_checkbox_selected_columns_only;
     public static String data_transfer_wizard_output_checkbox_selected_rows_only;
@@ -58,6 +59,13 @@ public class DTMessages extends NLS {
     public static String data_transfer_wizard_output_label_insert_bom_tooltip;
     public static String data_transfer_wizard_output_label_max_threads;
     public static String data_transfer_wizard_output_label_segment_size;
+    public static String data_transfer_generator_label_row_count;
+    public static String data_transfer_generator_label_threads;
+    public static String data_transfer_generator_label_rows_per_second;
+    public static String data_transfer_generator_label_seed;
+    public static String data_transfer_generator_label_null_percent;
+    public static String data_transfer_generator_label_reference_keys;
+    public static String data_transfer_generator_label_sequence_start;
     public static String data_transfer_wizard_output_label_add_to_end_of_file;
     public static String data_transfer_wizard_output_label_add_to_end_of_file_tip;
     public static String data_transfer_wizard_output_error_empty_output_directory;
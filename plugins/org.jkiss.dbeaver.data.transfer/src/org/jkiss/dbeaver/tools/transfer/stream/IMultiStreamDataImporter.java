@@ -21,6 +21,7 @@ import org.jkiss.dbeaver.DBException;
 
 import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents an importer that can read multiple entities from a single stream.
@@ -28,14 +29,17 @@ import java.util.List;
 public interface IMultiStreamDataImporter extends IStreamDataImporter {
     /**
      * Extracts list of entities contained in the given stream.
+     * Importer may be not initialized yet, so processor properties are passed explicitly.
      *
-     * @param entityMapping original entity mapping
-     * @param inputStream   stream to read entities from
+     * @param entityMapping       original entity mapping
+     * @param inputStream         stream to read entities from
+     * @param processorProperties processor properties
      * @return list of entity mappings from the stream
      * @throws DBException on any DB or IO error
      */
     @NotNull
     List<StreamEntityMapping> readEntitiesInfo(
         @NotNull StreamEntityMapping entityMapping,
-        @NotNull InputStream inputStream) throws DBException;
+        @NotNull InputStream inputStream,
+        @NotNull Map<String, Object> processorProperties) throws DBException;
 }
@@ -104,11 +104,15 @@ public class StreamProducerSettings implements IDataTransferSettings {
     ) {
         if (!entityMapping.isChild() && settings.getProcessor().isMulti()) {
             final IMultiStreamDataImporter importer = (IMultiStreamDataImporter) settings.getProcessor().getInstance();
+            final Map<String, Object> processorProperties = settings.getProcessorProperties();
 
             monitor.beginTask("Extract extra entities from stream", 1);
 
             try (InputStream is = Files.newInputStream(entityMapping.getInputFile())) {
-                return pendingEntityMappings.addAll(importer.readEntitiesInfo(entityMapping, is));
+                return pendingEntityMappings.addAll(importer.readEntitiesInfo(
+                    entityMapping,
+                    is,
+                    processorProperties == null ? Collections.emptyMap() : processorProperties));
             } catch (Exception e) {
                 settings.getState().addError(e);
                 log.error("IO error while reading entities from stream", e);
@@ -33,6 +33,7 @@ import org.jkiss.dbeaver.model.meta.DBSerializable;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
+import org.jkiss.dbeaver.model.runtime.jfr.DataTransferBatchEvent;
 import org.jkiss.dbeaver.model.sql.SQLQueryContainer;
 import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
@@ -150,7 +151,10 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
     private final List<Path> outputFiles = new ArrayList<>();
     private StatOutputStream statStream;
-    
+    // Event of the current fetch segment
+    private DataTransferBatchEvent segmentEvent;
+    private long segmentStartBytes;
+
     public StreamTransferConsumer() {
     }
 
@@ -164,6 +168,11 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             // Can be invoked multiple times in case of per-segment transfer
             initExporter(session);
         }
+        if (DataTransferBatchEvent.isEventEnabled()) {
+            segmentEvent = new DataTransferBatchEvent();
+            segmentEvent.begin();
+            segmentStartBytes = getBytesWritten();
+        }
 
         // Prepare columns
         columnMetas = DBUtils.getAttributeBindings(session, dataContainer, resultSet.getMeta());
@@ -241,6 +250,9 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             // Export row
             processor.exportRow(session, resultSet, targetRow);
             firstRow = false;
+            if (segmentEvent != null) {
+                segmentEvent.rows++;
+            }
         } catch (IOException e) {
             throw new DBCException("IO error", e);
         } catch (Throwable e) {
@@ -270,6 +282,13 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
 
     @Override
     public void fetchEnd(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException {
+        if (segmentEvent != null) {
+            segmentEvent.setDataSource(session.getDataSource());
+            segmentEvent.targetName = outputFile == null ? null : outputFile.toString();
+            segmentEvent.bytes = getBytesWritten() - segmentStartBytes;
+            segmentEvent.finish();
+            segmentEvent = null;
+        }
     }
 
     @Override
@@ -16,15 +16,14 @@
  */
 package org.jkiss.dbeaver.tools.transfer.transformers;
 
-import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.JexlExpression;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
-import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.json.JSONUtils;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.virtual.DBVCompiledExpression;
 import org.jkiss.dbeaver.model.virtual.DBVUtils;
 import org.jkiss.dbeaver.tools.transfer.IDataTransferAttributeTransformer;
 
@@ -36,14 +35,18 @@ import java.util.Map;
 public class DataTransferTransformerExpression implements IDataTransferAttributeTransformer {
 
     private JexlExpression jexlExpression;
+    private DBVCompiledExpression compiledExpression;
 
     @Override
     public Object transformAttribute(@NotNull DBCSession session, @NotNull DBDAttributeBinding[] dataAttributes, @NotNull Object[] dataRow, @NotNull DBDAttributeBinding attribute, Object attrValue, @NotNull Map<String, Object> options) throws DBException {
         JexlExpression jexlExpression = getJexlExpression(options);
 
-        JexlContext context = new VariablesContext(session, dataAttributes, dataRow);
+        // Variables are resolved once for the source attributes, not for each row
+        if (compiledExpression == null || !compiledExpression.isBoundTo(jexlExpression, dataAttributes)) {
+            compiledExpression = DBVCompiledExpression.compileAttributesExpression(jexlExpression, dataAttributes);
+        }
 
-        return jexlExpression.evaluate(context);
+        return compiledExpression.evaluate(dataRow);
     }
 
     public JexlExpression getJexlExpression(Map<String, Object> options) throws DBCException {
@@ -58,44 +61,4 @@ public class DataTransferTransformerExpression implements IDataTransferAttribute
         return jexlExpression;
     }
 
-    private static class VariablesContext implements JexlContext {
-
-        private final DBCSession session;
-        private final DBDAttributeBinding[] dataAttributes;
-        private final Object[] dataRow;
-
-        public VariablesContext(DBCSession session, DBDAttributeBinding[] dataAttributes, Object[] dataRow) {
-            this.session = session;
-            this.dataAttributes = dataAttributes;
-            this.dataRow = dataRow;
-        }
-
-        @Override
-        public Object get(String s) {
-            for (DBDAttributeBinding attribute : dataAttributes) {
-                if (attribute.getName().equals(s)) {
-                    return DBUtils.getAttributeValue(attribute, dataAttributes, dataRow);
-                }
-            }
-
-            return null;
-        }
-
-        @Override
-        public void set(String s, Object o) {
-
-        }
-
-        @Override
-        public boolean has(String s) {
-            for (DBDAttributeBinding attribute : dataAttributes) {
-                if (attribute.getName().equals(s)) {
-                    return true;
-                }
-            }
-
-            return false;
-        }
-    }
-
 }
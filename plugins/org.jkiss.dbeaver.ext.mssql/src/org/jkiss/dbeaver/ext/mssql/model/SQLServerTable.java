@@ -18,6 +18,7 @@ package org.jkiss.dbeaver.ext.mssql.model;
 
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBDatabaseException;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.mssql.SQLServerUtils;
@@ -46,7 +47,7 @@ import java.util.Map;
  * SQLServerTable
  */
 public class SQLServerTable extends SQLServerTableBase
-        implements DBPObjectStatistics, DBSCheckConstraintContainer, DBPReferentialIntegrityController, DBSEntityConstrainable {
+        implements DBPObjectStatistics, DBSCheckConstraintContainer, DBPReferentialIntegrityController, DBSEntityConstrainable, DBSRowCountEstimator {
     private static final Log log = Log.getLog(SQLServerTable.class);
 
     private static final String DISABLE_REFERENTIAL_INTEGRITY_STATEMENT = "ALTER TABLE ? NOCHECK CONSTRAINT ALL";
@@ -212,6 +213,37 @@ public class SQLServerTable extends SQLServerTableBase
         return totalBytes;
     }
 
+    @Nullable
+    @Override
+    public Estimate estimateRowCount(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (!isPersisted() || SQLServerUtils.isDriverBabelfish(getDataSource().getContainer().getDriver())) {
+            return null;
+        }
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, this, "Estimate row count")) {
+            // Heap or clustered index partitions keep the row count of the whole table
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT SUM(p.rows) FROM " + SQLServerUtils.getSystemTableName(getDatabase(), "partitions") + " p " +
+                    "WHERE p.object_id=? AND p.index_id IN (0,1)")) {
+                dbStat.setLong(1, getObjectId());
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    if (!dbResult.next()) {
+                        return null;
+                    }
+                    long rows = dbResult.getLong(1);
+                    return dbResult.wasNull() ? null : new Estimate(rows, false);
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBDatabaseException(e, getDataSource());
+        }
+    }
+
+    @Nullable
+    @Override
+    public Estimate getCachedRowCountEstimate() {
+        return hasStatistics() && rowCount != null && rowCount >= 0 ? new Estimate(rowCount, false) : null;
+    }
+
     private void readTableStats(DBRProgressMonitor monitor) throws DBCException {
         if (hasStatistics()) {
             return;
@@ -49,7 +49,7 @@ import java.util.*;
  * MySQLTable
  */
 public class MySQLTable extends MySQLTableBase
-    implements DBPObjectStatistics, DBPReferentialIntegrityController, DBSPartitionContainer, DBSEntityConstrainable
+    implements DBPObjectStatistics, DBPReferentialIntegrityController, DBSPartitionContainer, DBSEntityConstrainable, DBSRowCountEstimator
 {
     private static final Log log = Log.getLog(MySQLTable.class);
 
@@ -401,6 +401,45 @@ public class MySQLTable extends MySQLTableBase
         return partitionCache.getAllObjects(monitor, this);
     }
 
+    @Nullable
+    @Override
+    public Estimate estimateRowCount(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (!isPersisted()) {
+            return null;
+        }
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, this, "Estimate row count")) {
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT " + MySQLConstants.COL_TABLE_ROWS + "," + MySQLConstants.COL_ENGINE + " FROM " + MySQLConstants.META_TABLE_TABLES +
+                    " WHERE " + MySQLConstants.COL_TABLE_SCHEMA + "=? AND " + MySQLConstants.COL_TABLE_NAME + "=?")) {
+                dbStat.setString(1, getContainer().getName());
+                dbStat.setString(2, getName());
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    if (!dbResult.next()) {
+                        return null;
+                    }
+                    long rowCount = dbResult.getLong(1);
+                    if (dbResult.wasNull()) {
+                        return null;
+                    }
+                    // MyISAM keeps the exact number of rows, InnoDB statistics are sampled
+                    return new Estimate(rowCount, MySQLEngine.MYISAM.equalsIgnoreCase(dbResult.getString(2)));
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBDatabaseException(e, getDataSource());
+        }
+    }
+
+    @Nullable
+    @Override
+    public Estimate getCachedRowCountEstimate() {
+        if (!additionalInfo.loaded || !isPersisted()) {
+            return null;
+        }
+        MySQLEngine engine = additionalInfo.engine;
+        return new Estimate(additionalInfo.rowCount, engine != null && MySQLEngine.MYISAM.equals(engine.getName()));
+    }
+
     private void loadAdditionalInfo(DBRProgressMonitor monitor) throws DBCException
     {
         if (!isPersisted()) {
@@ -19,6 +19,7 @@ package org.jkiss.dbeaver.ext.mysql.model.session;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.admin.sessions.AbstractServerSession;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionActivity;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.meta.IPropertyValueValidator;
 import org.jkiss.dbeaver.model.meta.Property;
@@ -31,7 +32,7 @@ import java.util.Objects;
 /**
  * MySQL session
  */
-public class MySQLSession extends AbstractServerSession {
+public class MySQLSession extends AbstractServerSession implements DBAServerSessionActivity {
 
     static final String CAT_PERFORMANCE = "Performance";
 
@@ -238,6 +239,32 @@ public class MySQLSession extends AbstractServerSession {
         return readPerformanceStats;
     }
 
+    @Nullable
+    @Override
+    public String getSessionUser() {
+        return user;
+    }
+
+    /**
+     * Thread state is the closest thing to wait event which is available in process list
+     */
+    @Nullable
+    @Override
+    public String getWaitEvent() {
+        return CommonUtils.isEmpty(state) ? null : state;
+    }
+
+    @Nullable
+    @Override
+    public String getBlockingSessionId() {
+        return null;
+    }
+
+    @Override
+    public boolean isSessionActive() {
+        return !"Sleep".equalsIgnoreCase(command) && !"Daemon".equalsIgnoreCase(command) && !CommonUtils.isEmpty(info);
+    }
+
     @Override
     public String toString()
     {
@@ -23,6 +23,7 @@ import org.jkiss.dbeaver.ext.mysql.model.MySQLDataSource;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionManager;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionManagerSQL;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionSampler;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
@@ -115,6 +116,8 @@ public class MySQLSessionManager implements DBAServerSessionManager<MySQLSession
     @NotNull
     @Override
     public String generateSessionReadQuery(@NotNull Map<String, Object> options) {
+        // Session history sampler doesn't count its own query
+        boolean excludeCurrent = CommonUtils.getOption(options, DBAServerSessionSampler.OPTION_READ_ACTIVITY);
         if (dataSource.supportsSysSchema() && CommonUtils.toBoolean(options.get(OPTION_SHOW_PERFORMANCE))) {
             return "SELECT\n" +
                 "\tip.*,\n" +
@@ -137,7 +140,12 @@ public class MySQLSessionManager implements DBAServerSessionManager<MySQLSession
                 "\tsp.program_name\n" +
                 "FROM information_schema.PROCESSLIST ip\n" +
                 "LEFT JOIN sys.processlist sp ON\n" +
-                "\tsp.CONN_ID = ip.ID";
+                "\tsp.CONN_ID = ip.ID" +
+                (excludeCurrent ? "\nWHERE ip.ID <> CONNECTION_ID()" : "");
+        }
+        if (excludeCurrent) {
+            // Same columns as in SHOW FULL PROCESSLIST
+            return "SELECT * FROM information_schema.PROCESSLIST WHERE ID <> CONNECTION_ID()";
         }
         return "SHOW FULL PROCESSLIST";
     }
@@ -40,6 +40,7 @@ import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectLazy;
+import org.jkiss.dbeaver.model.struct.DBSRowCountEstimator;
 import org.jkiss.dbeaver.model.struct.rdb.DBSPartitionContainer;
 import org.jkiss.utils.CommonUtils;
 
@@ -51,7 +52,7 @@ import java.util.stream.Collectors;
 /**
  * Oracle physical table
  */
-public abstract class OracleTablePhysical extends OracleTableBase implements DBSObjectLazy<OracleDataSource>, DBSPartitionContainer {
+public abstract class OracleTablePhysical extends OracleTableBase implements DBSObjectLazy<OracleDataSource>, DBSPartitionContainer, DBSRowCountEstimator {
     private static final Log log = Log.getLog(OracleTablePhysical.class);
     private static final String SUB_PART_KEY_TYPE = "SUBPART";
 
@@ -123,6 +124,43 @@ public abstract class OracleTablePhysical extends OracleTableBase implements DBS
         return realRowCount;
     }
 
+    @Nullable
+    @Override
+    public Estimate estimateRowCount(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (!isPersisted()) {
+            return null;
+        }
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, this, "Estimate row count")) {
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SELECT " + OracleUtils.getSysCatalogHint(getDataSource()) + " NUM_ROWS FROM " +
+                    OracleUtils.getAdminAllViewPrefix(monitor, getDataSource(), "TABLES") + " WHERE OWNER=? AND TABLE_NAME=?")) {
+                dbStat.setString(1, getSchema().getName());
+                dbStat.setString(2, getName());
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    if (!dbResult.next()) {
+                        return null;
+                    }
+                    long numRows = dbResult.getLong(1);
+                    if (dbResult.wasNull()) {
+                        // Statistics wasn't gathered
+                        return null;
+                    }
+                    rowCount = numRows;
+                    return new Estimate(numRows, false);
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBDatabaseException(e, getDataSource());
+        }
+    }
+
+    @Nullable
+    @Override
+    public Estimate getCachedRowCountEstimate() {
+        // NUM_ROWS is empty for tables without statistics
+        return isPersisted() && rowCount > 0 ? new Estimate(rowCount, false) : null;
+    }
+
     @Nullable
     @Override
     public Object getLazyReference(Object propertyId)
@@ -38,6 +38,10 @@ public class PostgreMessages extends NLS {
     public static String wizard_backup_page_setting_label_format;
     public static String wizard_backup_page_setting_label_compression;
     public static String wizard_backup_page_setting_label_encoding;
+    public static String wizard_backup_page_setting_label_jobs;
+    public static String wizard_backup_page_setting_label_jobs_tip;
+    public static String wizard_backup_page_setting_label_parallel_databases;
+    public static String wizard_backup_page_setting_label_parallel_databases_tip;
     public static String wizard_backup_page_setting_checkbox_use_insert;
     public static String wizard_backup_page_setting_checkbox_use_insert_tip;
     public static String wizard_backup_page_setting_checkbox_no_privileges;
@@ -90,6 +94,7 @@ public class PostgreMessages extends NLS {
     public static String wizard_restore_page_setting_label_backup_file;
     public static String wizard_restore_page_setting_label_choose_backup_file;
     public static String wizard_restore_page_setting_label_format;
+    public static String wizard_restore_page_setting_label_jobs_tip;
     public static String wizard_restore_page_setting_label_input;
     public static String wizard_restore_page_setting_label_setting;
     public static String wizard_restore_page_setting_title;
@@ -24,6 +24,7 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Spinner;
 import org.jkiss.dbeaver.ext.postgresql.PostgreMessages;
 import org.jkiss.dbeaver.ext.postgresql.PostgreUIUtils;
 import org.jkiss.dbeaver.ext.postgresql.tasks.PostgreBackupRestoreSettings;
@@ -37,6 +38,8 @@ class PostgreBackupWizardPageSettings extends PostgreToolWizardPageSettings<Post
     private Combo formatCombo;
     private Combo compressCombo;
     private Combo encodingCombo;
+    private Spinner jobsSpinner;
+    private Spinner parallelDatabasesSpinner;
     private Button useInsertsCheck;
     private Button noPrivilegesCheck;
     private Button noOwnerCheck;
@@ -103,6 +106,27 @@ class PostgreBackupWizardPageSettings extends PostgreToolWizardPageSettings<Post
         encodingCombo.addSelectionListener(changeListener);
         encodingCombo.setText(settings.getEncoding());
 
+        jobsSpinner = UIUtils.createLabelSpinner(
+            formatGroup,
+            PostgreMessages.wizard_backup_page_setting_label_jobs,
+            PostgreMessages.wizard_backup_page_setting_label_jobs_tip,
+            settings.getJobs(),
+            1,
+            PostgreBackupRestoreSettings.MAX_JOBS
+        );
+        jobsSpinner.addSelectionListener(changeListener);
+        jobsSpinner.setEnabled(settings.getFormat() == PostgreBackupRestoreSettings.ExportFormat.DIRECTORY);
+
+        parallelDatabasesSpinner = UIUtils.createLabelSpinner(
+            formatGroup,
+            PostgreMessages.wizard_backup_page_setting_label_parallel_databases,
+            PostgreMessages.wizard_backup_page_setting_label_parallel_databases_tip,
+            settings.getParallelDatabases(),
+            1,
+            PostgreBackupRestoreSettings.MAX_JOBS
+        );
+        parallelDatabasesSpinner.addSelectionListener(changeListener);
+
         useInsertsCheck = UIUtils.createCheckbox(formatGroup,
         	PostgreMessages.wizard_backup_page_setting_checkbox_use_insert,
             PostgreMessages.wizard_backup_page_setting_checkbox_use_insert_tip,
@@ -169,6 +193,7 @@ class PostgreBackupWizardPageSettings extends PostgreToolWizardPageSettings<Post
     protected void updateState()
     {
         saveState();
+        jobsSpinner.setEnabled(getChosenExportFormat() == PostgreBackupRestoreSettings.ExportFormat.DIRECTORY);
         updatePageCompletion();
         getContainer().updateButtons();
     }
@@ -186,6 +211,8 @@ class PostgreBackupWizardPageSettings extends PostgreToolWizardPageSettings<Post
         settings.setFormat(getChosenExportFormat());
         settings.setCompression(compressCombo.getText());
         settings.setEncoding(encodingCombo.getText());
+        settings.setJobs(jobsSpinner.getSelection());
+        settings.setParallelDatabases(parallelDatabasesSpinner.getSelection());
         settings.setUseInserts(useInsertsCheck.getSelection());
         settings.setNoPrivileges(noPrivilegesCheck.getSelection());
         settings.setNoOwner(noOwnerCheck.getSelection());
@@ -23,6 +23,7 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.widgets.*;
 import org.jkiss.dbeaver.ext.postgresql.PostgreMessages;
 import org.jkiss.dbeaver.ext.postgresql.PostgreUIUtils;
+import org.jkiss.dbeaver.ext.postgresql.tasks.PostgreBackupRestoreSettings;
 import org.jkiss.dbeaver.ext.postgresql.tasks.PostgreDatabaseBackupSettings;
 import org.jkiss.dbeaver.ext.postgresql.tasks.PostgreDatabaseRestoreSettings;
 import org.jkiss.dbeaver.model.DBIcon;
@@ -35,6 +36,7 @@ class PostgreRestoreWizardPageSettings extends PostgreToolWizardPageSettings<Pos
 
     private TextWithOpenFile inputFileText;
     private Combo formatCombo;
+    private Spinner jobsSpinner;
     private Button cleanFirstButton;
     private Button noOwnerCheck;
     private Button createDatabase;
@@ -77,6 +79,17 @@ class PostgreRestoreWizardPageSettings extends PostgreToolWizardPageSettings<Pos
         formatCombo.select(settings.getFormat().ordinal());
         formatCombo.addListener(SWT.Selection, updateListener);
 
+        jobsSpinner = UIUtils.createLabelSpinner(
+            formatGroup,
+            PostgreMessages.wizard_backup_page_setting_label_jobs,
+            PostgreMessages.wizard_restore_page_setting_label_jobs_tip,
+            settings.getJobs(),
+            1,
+            PostgreBackupRestoreSettings.MAX_JOBS
+        );
+        jobsSpinner.addListener(SWT.Selection, updateListener);
+        jobsSpinner.setEnabled(settings.getFormat().isParallelRestoreSupported());
+
         cleanFirstButton = UIUtils.createCheckbox(formatGroup,
         	PostgreMessages.wizard_restore_page_setting_btn_clean_first,
             PostgreMessages.wizard_restore_page_setting_btn_clean_first_tip,
@@ -159,6 +172,7 @@ class PostgreRestoreWizardPageSettings extends PostgreToolWizardPageSettings<Pos
         PostgreDatabaseRestoreSettings settings = wizard.getSettings();
         settings.setFormat(PostgreDatabaseBackupSettings.ExportFormat.values()[formatCombo.getSelectionIndex()]);
         settings.setInputFile(inputFileText.getText());
+        settings.setJobs(jobsSpinner.getSelection());
         settings.setCleanFirst(cleanFirstButton.getSelection());
         settings.setCreateDatabase(createDatabase.getSelection());
         settings.setNoOwner(noOwnerCheck.getSelection());
@@ -168,7 +182,9 @@ class PostgreRestoreWizardPageSettings extends PostgreToolWizardPageSettings<Pos
     protected void updateState() {
         saveState();
 
-        inputFileText.setOpenFolder(wizard.getSettings().getFormat() == PostgreDatabaseBackupSettings.ExportFormat.DIRECTORY);
+        PostgreBackupRestoreSettings.ExportFormat format = wizard.getSettings().getFormat();
+        inputFileText.setOpenFolder(format == PostgreDatabaseBackupSettings.ExportFormat.DIRECTORY);
+        jobsSpinner.setEnabled(format.isParallelRestoreSupported());
         updatePageCompletion();
         getContainer().updateButtons();
     }
@@ -93,6 +93,10 @@ public abstract class PostgreTable extends PostgreTableReal
 
         this.partitionKey = getDataSource().isServerVersionAtLeast(10, 0) ? JDBCUtils.safeGetString(dbResult, "partition_key")  : null;
         this.hasPartitions = this.partitionKey != null;
+        if (hasPartitions) {
+            // reltuples of partitioned table doesn't count rows of partitions
+            this.rowCountEstimate = -1;
+        }
         this.hasRowLevelSecurity = getDataSource().getServerType().supportsRowLevelSecurity()
             && JDBCUtils.safeGetBoolean(dbResult, "relrowsecurity");
     }
@@ -18,6 +18,7 @@ package org.jkiss.dbeaver.ext.postgresql.model;
 
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBDatabaseException;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
@@ -39,6 +40,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectType;
+import org.jkiss.dbeaver.model.struct.DBSRowCountEstimator;
 import org.jkiss.utils.ByteNumberFormat;
 import org.jkiss.utils.CommonUtils;
 
@@ -51,7 +53,7 @@ import java.util.List;
 /**
  * PostgreTable base
  */
-public abstract class PostgreTableReal extends PostgreTableBase implements DBPObjectStatistics
+public abstract class PostgreTableReal extends PostgreTableBase implements DBPObjectStatistics, DBSRowCountEstimator
 {
     private static final Log log = Log.getLog(PostgreTableReal.class);
 
@@ -138,6 +140,70 @@ public abstract class PostgreTableReal extends PostgreTableBase implements DBPOb
         return tableRelSize;
     }
 
+    @Nullable
+    @Override
+    public Estimate estimateRowCount(@NotNull DBRProgressMonitor monitor) throws DBException {
+        if (!isPersisted() || this instanceof PostgreView) {
+            return null;
+        }
+        if (!getDataSource().getServerType().supportsRelationSizeCalc()) {
+            return getCachedRowCountEstimate();
+        }
+        boolean partitioned = this instanceof PostgreTable table && table.hasPartitions();
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, this, "Estimate row count")) {
+            // Partitioned table has no storage, so rows of all its partitions are summed.
+            // Relation row counts are scaled to the current relation size, the same way the planner does
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(
+                partitioned ?
+                    "with recursive parts(oid) as (" +
+                        "select ?::oid union all " +
+                        "select i.inhrelid from pg_catalog.pg_inherits i join parts p on i.inhparent=p.oid) " +
+                        "select c.reltuples, c.relpages, " +
+                        "pg_catalog.pg_relation_size(c.oid) / pg_catalog.current_setting('block_size')::int as curpages, c.relkind " +
+                        "from parts p join pg_catalog.pg_class c on c.oid=p.oid where c.relkind<>'p'" :
+                    "select c.reltuples, c.relpages, " +
+                        "pg_catalog.pg_relation_size(c.oid) / pg_catalog.current_setting('block_size')::int as curpages, c.relkind " +
+                        "from pg_catalog.pg_class c where c.oid=?"))
+            {
+                dbStat.setLong(1, getObjectId());
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    long estimate = 0;
+                    boolean found = false;
+                    while (dbResult.next()) {
+                        found = true;
+                        double relTuples = dbResult.getDouble(1);
+                        long relPages = dbResult.getLong(2);
+                        long curPages = dbResult.getLong(3);
+                        if ("f".equals(dbResult.getString(4))) {
+                            // Foreign table (or partition) size is unknown
+                            return null;
+                        }
+                        if (curPages > 0) {
+                            if (relPages <= 0 || relTuples < 0) {
+                                // Table was never vacuumed or analyzed
+                                return null;
+                            }
+                            estimate += Math.round(relTuples / relPages * curPages);
+                        }
+                    }
+                    if (!found && !partitioned) {
+                        return null;
+                    }
+                    rowCountEstimate = estimate;
+                    return new Estimate(rowCountEstimate, false);
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBDatabaseException(e, getDataSource());
+        }
+    }
+
+    @Nullable
+    @Override
+    public Estimate getCachedRowCountEstimate() {
+        return isPersisted() && rowCountEstimate >= 0 && !(this instanceof PostgreView) ? new Estimate(rowCountEstimate, false) : null;
+    }
+
     @Override
     public boolean hasStatistics() {
         return diskSpace != null;
@@ -16,7 +16,9 @@
  */
 package org.jkiss.dbeaver.ext.postgresql.model.session;
 
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.admin.sessions.AbstractServerSession;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionActivity;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.utils.CommonUtils;
@@ -28,7 +30,7 @@ import java.util.Objects;
 /**
  * PostgreSQL session
  */
-public class PostgreSession extends AbstractServerSession {
+public class PostgreSession extends AbstractServerSession implements DBAServerSessionActivity {
     private static final String CAT_CLIENT = "Client";
     private static final String CAT_TIMING = "Timings";
 
@@ -44,6 +46,9 @@ public class PostgreSession extends AbstractServerSession {
     private Date stateChange;
     private String state;
     private String appName;
+    private String waitEventType;
+    private String waitEvent;
+    private String blockingPids;
 
     public PostgreSession(ResultSet dbResult) {
         this.pid = JDBCUtils.safeGetInt(dbResult, "pid");
@@ -63,6 +68,9 @@ public class PostgreSession extends AbstractServerSession {
 
         this.state = JDBCUtils.safeGetStringTrimmed(dbResult, "state");
         this.appName = JDBCUtils.safeGetStringTrimmed(dbResult, "application_name");
+        this.waitEventType = JDBCUtils.safeGetStringTrimmed(dbResult, "wait_event_type");
+        this.waitEvent = JDBCUtils.safeGetStringTrimmed(dbResult, "wait_event");
+        this.blockingPids = JDBCUtils.safeGetStringTrimmed(dbResult, "blocking_pids");
     }
 
     @Property(viewable = true, order = 1)
@@ -125,6 +133,21 @@ public class PostgreSession extends AbstractServerSession {
         return state;
     }
 
+    @Property(viewable = false, order = 8)
+    public String getWaitEventType() {
+        return waitEventType;
+    }
+
+    @Property(viewable = false, order = 9)
+    public String getWaitEventName() {
+        return waitEvent;
+    }
+
+    @Property(viewable = false, order = 10)
+    public String getBlockingPids() {
+        return blockingPids;
+    }
+
     @Property(viewable = true, order = 100)
     public String getBriefQuery() {
         if (query != null && query.length() > 500) {
@@ -145,6 +168,42 @@ public class PostgreSession extends AbstractServerSession {
         return String.valueOf(pid);
     }
 
+    @Nullable
+    @Override
+    public String getSessionUser() {
+        return user;
+    }
+
+    @Nullable
+    @Override
+    public String getWaitEvent() {
+        if (CommonUtils.isEmpty(waitEvent)) {
+            return null;
+        }
+        return CommonUtils.isEmpty(waitEventType) ? waitEvent : waitEventType + ":" + waitEvent;
+    }
+
+    @Nullable
+    @Override
+    public String getBlockingSessionId() {
+        // Array of blocking process ids, e.g. {123,456}
+        if (CommonUtils.isEmpty(blockingPids)) {
+            return null;
+        }
+        String pids = blockingPids.replace("{", "").replace("}", "").trim();
+        if (pids.isEmpty()) {
+            return null;
+        }
+        int divPos = pids.indexOf(',');
+        return divPos < 0 ? pids : pids.substring(0, divPos);
+    }
+
+    @Override
+    public boolean isSessionActive() {
+        // Sessions idle in transaction hold locks, but they don't use server resources
+        return "active".equals(state) || (state == null && !CommonUtils.isEmpty(query));
+    }
+
     @Override
     public String toString()
     {
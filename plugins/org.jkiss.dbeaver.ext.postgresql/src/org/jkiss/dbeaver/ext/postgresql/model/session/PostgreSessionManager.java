@@ -20,9 +20,11 @@ import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBDatabaseException;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.ext.postgresql.model.PostgreDataSource;
+import org.jkiss.dbeaver.ext.postgresql.model.impls.PostgreServerPostgreSQL;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionManager;
 import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionManagerSQL;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionSampler;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
@@ -108,10 +110,25 @@ public class PostgreSessionManager implements DBAServerSessionManager<PostgreSes
     @NotNull
     @Override
     public String generateSessionReadQuery(@NotNull Map<String, Object> options) {
-        StringBuilder sql =  new StringBuilder("SELECT sa.* FROM pg_catalog.pg_stat_activity sa");
+        StringBuilder sql =  new StringBuilder("SELECT sa.*");
+        if (CommonUtils.getOption(options, DBAServerSessionSampler.OPTION_READ_ACTIVITY) &&
+            dataSource.getServerType() instanceof PostgreServerPostgreSQL && dataSource.isServerVersionAtLeast(9, 6)
+        ) {
+            // Blocking pids are read for session history only, pg_blocking_pids is too expensive for the session list
+            sql.append(", pg_catalog.pg_blocking_pids(sa.pid) AS blocking_pids");
+        }
+        sql.append(" FROM pg_catalog.pg_stat_activity sa");
         
+        List<String> conditions = new ArrayList<>();
         if (!CommonUtils.getOption(options, OPTION_SHOW_IDLE)) {
-            sql.append(" where sa.state is null or sa.state not like 'idle%'");
+            conditions.add("(sa.state is null or sa.state not like 'idle%')");
+        }
+        if (CommonUtils.getOption(options, DBAServerSessionSampler.OPTION_READ_ACTIVITY)) {
+            // Session history sampler doesn't count its own query
+            conditions.add("sa.pid <> pg_catalog.pg_backend_pid()");
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" where ").append(String.join(" and ", conditions));
         }
         
         return sql.toString();
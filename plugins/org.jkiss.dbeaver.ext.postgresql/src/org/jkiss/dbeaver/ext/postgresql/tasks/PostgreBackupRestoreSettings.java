@@ -55,9 +55,19 @@ public class PostgreBackupRestoreSettings extends AbstractImportExportSettings<D
         public String getExt() {
             return ext;
         }
+
+        /**
+         * pg_restore runs parallel jobs only for archive formats which support random access
+         */
+        public boolean isParallelRestoreSupported() {
+            return this == CUSTOM || this == DIRECTORY;
+        }
     }
 
+    public static final int MAX_JOBS = 64;
+
     private ExportFormat format = ExportFormat.CUSTOM;
+    private int jobs = 1;
 
     public PostgreBackupRestoreSettings() {
     }
@@ -73,9 +83,23 @@ public class PostgreBackupRestoreSettings extends AbstractImportExportSettings<D
     public void setFormat(ExportFormat format) {
         this.format = format;
     }
+
+    /**
+     * Number of parallel jobs of pg_dump/pg_restore (--jobs).
+     * Dump supports it only for directory format, restore - for custom and directory formats.
+     */
+    public int getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(int jobs) {
+        this.jobs = Math.max(1, Math.min(jobs, MAX_JOBS));
+    }
+
     @Override
     public void loadSettings(DBRRunnableContext runnableContext, DBPPreferenceStore store) throws DBException {
         this.format = CommonUtils.valueOf(ExportFormat.class, store.getString("pg.format"), ExportFormat.CUSTOM);
+        setJobs(store.getInt("pg.jobs"));
         super.loadSettings(runnableContext, store);
     }
 
@@ -84,6 +108,7 @@ public class PostgreBackupRestoreSettings extends AbstractImportExportSettings<D
         super.saveSettings(runnableContext, store);
 
         store.setValue("pg.format", format == null ? null : format.name());
+        store.setValue("pg.jobs", jobs);
     }
 
 }
@@ -75,6 +75,11 @@ public class PostgreDatabaseBackupHandler extends PostgreNativeToolHandler<Postg
         return true;
     }
 
+    @Override
+    protected int getMaxParallelProcesses(PostgreDatabaseBackupSettings settings) {
+        return settings.getParallelDatabases();
+    }
+
     @Override
     protected boolean needsModelRefresh() {
         return false;
@@ -104,6 +109,10 @@ public class PostgreDatabaseBackupHandler extends PostgreNativeToolHandler<Postg
         super.fillProcessParameters(settings, arg, cmd);
 
         cmd.add("--format=" + settings.getFormat().getId());
+        if (settings.getFormat() == PostgreBackupRestoreSettings.ExportFormat.DIRECTORY && settings.getJobs() > 1) {
+            // Parallel dump is supported only for directory format
+            cmd.add("--jobs=" + settings.getJobs());
+        }
         if (!CommonUtils.isEmpty(settings.getCompression())) {
             cmd.add("--compress=" + settings.getCompression());
         }
@@ -52,6 +52,7 @@ public class PostgreDatabaseBackupSettings extends PostgreBackupRestoreSettings
     private boolean noOwner;
     private boolean dropObjects;
     private boolean createDatabase;
+    private int parallelDatabases = 1;
 
     public PostgreDatabaseBackupSettings() {
     }
@@ -143,6 +144,17 @@ public class PostgreDatabaseBackupSettings extends PostgreBackupRestoreSettings
         this.createDatabase = createDatabase;
     }
 
+    /**
+     * Max number of databases dumped at the same time
+     */
+    public int getParallelDatabases() {
+        return parallelDatabases;
+    }
+
+    public void setParallelDatabases(int parallelDatabases) {
+        this.parallelDatabases = Math.max(1, parallelDatabases);
+    }
+
     public void fillExportObjectsFromInput() {
         Map<PostgreDatabase, PostgreDatabaseBackupInfo> objMap = new LinkedHashMap<>();
         for (DBSObject object : getDatabaseObjects()) {
@@ -196,6 +208,7 @@ public class PostgreDatabaseBackupSettings extends PostgreBackupRestoreSettings
         noOwner = store.getBoolean("pg.export.noOwner");
         dropObjects = store.getBoolean("pg.export.dropObjects");
         createDatabase = store.getBoolean("pg.export.createDatabase");
+        setParallelDatabases(store.getInt("pg.export.parallelDatabases"));
 
         super.loadSettings(runnableContext, store);
         if (store instanceof DBPPreferenceMap) {
@@ -276,6 +289,7 @@ public class PostgreDatabaseBackupSettings extends PostgreBackupRestoreSettings
         store.setValue("pg.export.noOwner", noOwner);
         store.setValue("pg.export.dropObjects", dropObjects);
         store.setValue("pg.export.createDatabase", createDatabase);
+        store.setValue("pg.export.parallelDatabases", parallelDatabases);
 
         if (store instanceof DBPPreferenceMap && !CommonUtils.isEmpty(exportObjects)) {
             // Save input objects to task properties
@@ -129,6 +129,10 @@ public class PostgreDatabaseRestoreHandler extends PostgreNativeToolHandler<Post
             if (!isUseStreamTransfer(settings.getInputFile()) ||
                 settings.getFormat() == PostgreBackupRestoreSettings.ExportFormat.DIRECTORY
             ) {
+                if (settings.getJobs() > 1 && settings.getFormat().isParallelRestoreSupported()) {
+                    // Parallel restore needs a seekable archive, so it doesn't work with standard input
+                    cmd.add("--jobs=" + settings.getJobs());
+                }
                 cmd.add(settings.getInputFile());
             }
         }
@@ -16,10 +16,13 @@
  */
 package org.jkiss.dbeaver.ext.postgresql.tasks;
 
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.postgresql.PostgreConstants;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.tasks.nativetool.AbstractNativeToolHandler;
 import org.jkiss.dbeaver.tasks.nativetool.AbstractNativeToolSettings;
 import org.jkiss.dbeaver.tasks.nativetool.NativeToolUtils;
@@ -30,10 +33,59 @@ import org.jkiss.utils.IOUtils;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public abstract class PostgreNativeToolHandler<SETTINGS extends AbstractNativeToolSettings<BASE_OBJECT>, BASE_OBJECT extends DBSObject, PROCESS_ARG>
     extends AbstractNativeToolHandler<SETTINGS, BASE_OBJECT, PROCESS_ARG> {
 
+    // Verbose output of pg_dump and pg_restore about table data
+    private static final Pattern TABLE_DATA_PATTERN = Pattern.compile("(?:dumping contents of table|processing data for table) (.+)$");
+
+    private final Map<PROCESS_ARG, AtomicInteger> processedTables = new ConcurrentHashMap<>();
+    private volatile DBRProgressMonitor progressMonitor;
+
+    @Override
+    protected boolean doExecute(DBRProgressMonitor monitor, DBTTask task, SETTINGS settings, Log log) throws DBException, InterruptedException {
+        processedTables.clear();
+        progressMonitor = monitor;
+        try {
+            return super.doExecute(monitor, task, settings, log);
+        } finally {
+            progressMonitor = null;
+        }
+    }
+
+    /**
+     * Reports total number of processed tables of all running processes
+     */
+    @Override
+    protected void handleProcessOutputLine(PROCESS_ARG arg, String line) {
+        DBRProgressMonitor monitor = progressMonitor;
+        if (monitor == null) {
+            return;
+        }
+        Matcher matcher = TABLE_DATA_PATTERN.matcher(line);
+        if (!matcher.find()) {
+            return;
+        }
+        processedTables.computeIfAbsent(arg, a -> new AtomicInteger()).incrementAndGet();
+        int totalTables = 0;
+        for (AtomicInteger count : processedTables.values()) {
+            totalTables += count.get();
+        }
+        String message = "Processed " + totalTables + " table(s)";
+        if (processedTables.size() > 1) {
+            message += " in " + processedTables.size() + " databases";
+        }
+        synchronized (monitor) {
+            monitor.subTask(message + ": " + matcher.group(1));
+        }
+    }
+
     public boolean isUseStreamTransfer(String targetFile) {
         return !IOUtils.isLocalFile(targetFile);
     }
@@ -20,7 +20,9 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPNamedObject;
+import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.ai.AIDatabaseScope;
 import org.jkiss.dbeaver.model.ai.AISchemaGenerationOptions;
 import org.jkiss.dbeaver.model.ai.AISchemaGenerator;
@@ -31,6 +33,7 @@ import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContextDefaults;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
 
@@ -44,6 +47,9 @@ import java.util.stream.Stream;
 public class AIDatabaseSnapshotService {
 
     private static final Log LOG = Log.getLog(AIDatabaseSnapshotService.class);
+    // Stop filling ranked snapshot after this number of entities which didn't fit
+    private static final int MAX_RANKED_MISSES = 5;
+
     private AISchemaGenerator schemaGenerator;
 
     public AIDatabaseSnapshotService() {
@@ -54,6 +60,22 @@ public class AIDatabaseSnapshotService {
         @NotNull DBRProgressMonitor monitor,
         @Nullable AIDatabaseContext aiDatabaseContext,
         @NotNull AISchemaGenerationOptions options
+    ) throws DBException {
+        return createDbSnapshot(monitor, aiDatabaseContext, options, null);
+    }
+
+    /**
+     * Creates snapshot of the context. If the whole context doesn't fit into the token limit
+     * then entities most relevant to the question are described first.
+     *
+     * @param question user question, used to rank entities
+     */
+    @Nullable
+    public TokenBoundedStringBuilder createDbSnapshot(
+        @NotNull DBRProgressMonitor monitor,
+        @Nullable AIDatabaseContext aiDatabaseContext,
+        @NotNull AISchemaGenerationOptions options,
+        @Nullable String question
     ) throws DBException {
         schemaGenerator = AIAssistantRegistry.getInstance().getDescriptor().createSchemaGenerator();
 
@@ -70,6 +92,15 @@ public class AIDatabaseSnapshotService {
             return prompt;
         }
 
+        // --- relevant entities ---------------------------------------------
+        if (question != null && !question.isBlank()) {
+            var rankedPrompt = new TokenBoundedStringBuilder(options.maxDbSnapshotTokens(), true);
+            if (appendRelevantEntities(monitor, aiDatabaseContext, options, question, rankedPrompt)) {
+                LOG.debug("Context description is too long, generating description of relevant entities");
+                return rankedPrompt;
+            }
+        }
+
         // --- fall-back -----------------------------------------------------
         AISchemaGenerationOptions fallback = buildFallbackOptions(options);
         if (options.equals(fallback)) {        // nothing else we can exclude
@@ -146,8 +177,7 @@ public class AIDatabaseSnapshotService {
 
         if (obj instanceof DBSEntity entity) {
             try {
-                String ddl = schemaGenerator.generateSchema(monitor, entity, execCtx, options, useFqn) + "\n";
-                return out.append(ddl);
+                return out.append(getEntityDescription(monitor, entity, execCtx, options, useFqn));
             } catch (DBException e) {
                 LOG.warn("Failed to read metadata for entity '" + entity.getName() + "'", e);
                 return true;
@@ -219,6 +249,147 @@ public class AIDatabaseSnapshotService {
         return true;
     }
 
+    /**
+     * Appends descriptions of entities ranked by relevance to the question until the token limit is reached.
+     * Entities which don't fit are described without comments, types and constraints.
+     *
+     * @return {@code false} if no entity matches the question
+     */
+    private boolean appendRelevantEntities(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull AIDatabaseContext ctx,
+        @NotNull AISchemaGenerationOptions options,
+        @NotNull String question,
+        @NotNull TokenBoundedStringBuilder out
+    ) throws DBException {
+        Map<DBSEntity, Boolean> entities = new LinkedHashMap<>();
+        if (ctx.getScope() == AIDatabaseScope.CUSTOM && ctx.getCustomEntities() != null) {
+            for (DBSObject object : normalizeCustomEntities(ctx.getCustomEntities())) {
+                collectEntities(monitor, object, ctx.getExecutionContext(), requiresFqn(object, ctx.getExecutionContext()), entities);
+            }
+        } else {
+            collectEntities(monitor, ctx.getScopeObject(), ctx.getExecutionContext(), false, entities);
+        }
+
+        Map<DBSEntity, Map<String, Integer>> documents = new LinkedHashMap<>();
+        for (DBSEntity entity : entities.keySet()) {
+            documents.put(entity, getEntityTerms(monitor, entity));
+        }
+        List<AISchemaRelevanceRanker.RankedItem<DBSEntity>> ranked = AISchemaRelevanceRanker.rank(question, documents);
+        if (ranked.isEmpty()) {
+            return false;
+        }
+
+        AISchemaGenerationOptions compactOptions = buildFallbackOptions(options);
+        int misses = 0;
+        for (AISchemaRelevanceRanker.RankedItem<DBSEntity> item : ranked) {
+            if (monitor.isCanceled()) {
+                throw new DBException("Snapshot generation was canceled");
+            }
+            DBSEntity entity = item.item();
+            boolean useFqn = entities.get(entity);
+            try {
+                if (out.append(getEntityDescription(monitor, entity, ctx.getExecutionContext(), options, useFqn))
+                    || out.append(getEntityDescription(monitor, entity, ctx.getExecutionContext(), compactOptions, useFqn))) {
+                    misses = 0;
+                } else if (++misses >= MAX_RANKED_MISSES) {
+                    break;
+                }
+            } catch (DBException e) {
+                LOG.warn("Failed to read metadata for entity '" + entity.getName() + "'", e);
+            }
+        }
+        return true;
+    }
+
+    private void collectEntities(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSObject obj,
+        @Nullable DBCExecutionContext execCtx,
+        boolean useFqn,
+        @NotNull Map<DBSEntity, Boolean> result
+    ) throws DBException {
+        if (monitor.isCanceled()) {
+            throw new DBException("Snapshot generation was canceled");
+        }
+        if (AIUtils.isExcludableObject(monitor, obj)) {
+            return;
+        }
+        if (obj instanceof DBSEntity entity) {
+            result.putIfAbsent(entity, useFqn);
+        } else if (obj instanceof DBSObjectContainer container) {
+            try {
+                Collection<? extends DBSObject> children = container.getChildren(monitor);
+                if (children != null) {
+                    for (DBSObject child : children) {
+                        collectEntities(monitor, child, execCtx, requiresFqn(child, execCtx), result);
+                    }
+                }
+            } catch (DBException e) {
+                LOG.warn("Failed to children for '" + container.getName() + "'", e);
+            }
+        }
+    }
+
+    @NotNull
+    private String getEntityDescription(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBSEntity entity,
+        @Nullable DBCExecutionContext execCtx,
+        @NotNull AISchemaGenerationOptions options,
+        boolean useFqn
+    ) throws DBException {
+        AISchemaSnapshotCache.DataSourceSnapshot snapshot = getSnapshot(entity);
+        AISchemaSnapshotCache.DescriptionKey key = new AISchemaSnapshotCache.DescriptionKey(entity, options, useFqn);
+        String description = snapshot == null ? null : snapshot.getDescription(key);
+        if (description == null) {
+            description = schemaGenerator.generateSchema(monitor, entity, execCtx, options, useFqn) + "\n";
+            if (snapshot != null) {
+                snapshot.putDescription(key, description);
+            }
+        }
+        return description;
+    }
+
+    /**
+     * Returns terms of entity name, columns and comments
+     */
+    @NotNull
+    private static Map<String, Integer> getEntityTerms(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity) {
+        AISchemaSnapshotCache.DataSourceSnapshot snapshot = getSnapshot(entity);
+        Map<String, Integer> terms = snapshot == null ? null : snapshot.getEntityTerms(entity);
+        if (terms != null) {
+            return terms;
+        }
+        terms = new HashMap<>();
+        AISchemaRelevanceRanker.addTerms(terms, entity.getName(), AISchemaRelevanceRanker.NAME_TERM_WEIGHT);
+        AISchemaRelevanceRanker.addTerms(terms, entity.getDescription(), 1);
+        try {
+            Collection<? extends DBSEntityAttribute> attributes = entity.getAttributes(monitor);
+            if (attributes != null) {
+                for (DBSEntityAttribute attribute : attributes) {
+                    if (DBUtils.isHiddenObject(attribute)) {
+                        continue;
+                    }
+                    AISchemaRelevanceRanker.addTerms(terms, attribute.getName(), 1);
+                    AISchemaRelevanceRanker.addTerms(terms, attribute.getDescription(), 1);
+                }
+            }
+        } catch (DBException e) {
+            LOG.debug("Failed to read attributes of '" + entity.getName() + "'", e);
+        }
+        if (snapshot != null) {
+            snapshot.putEntityTerms(entity, terms);
+        }
+        return terms;
+    }
+
+    @Nullable
+    private static AISchemaSnapshotCache.DataSourceSnapshot getSnapshot(@NotNull DBSEntity entity) {
+        DBPDataSource dataSource = entity.getDataSource();
+        return dataSource == null ? null : AISchemaSnapshotCache.getInstance().getSnapshot(dataSource.getContainer());
+    }
+
     private static boolean requiresFqn(
         @NotNull DBSObject obj,
         @Nullable DBCExecutionContext ctx
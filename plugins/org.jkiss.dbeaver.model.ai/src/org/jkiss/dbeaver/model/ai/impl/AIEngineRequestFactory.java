@@ -100,7 +100,12 @@ public class AIEngineRequestFactory {
         boolean isContextTruncated = false;
         if (databaseContext != null && dbSnapshotTokenBudget > 0) {
             AISchemaGenerationOptions ddlOptions = buildOptions(dbSnapshotTokenBudget);
-            AIDatabaseSnapshotService.TokenBoundedStringBuilder dbSnapshotBuilder = databaseSnapshotService.createDbSnapshot(monitor, databaseContext, ddlOptions);
+            AIDatabaseSnapshotService.TokenBoundedStringBuilder dbSnapshotBuilder = databaseSnapshotService.createDbSnapshot(
+                monitor,
+                databaseContext,
+                ddlOptions,
+                getLastUserQuestion(messages)
+            );
             if (dbSnapshotBuilder != null) {
                 dbSnapshot = dbSnapshotBuilder.toString();
                 isContextTruncated = dbSnapshotBuilder.isTruncated();
@@ -179,6 +184,20 @@ public class AIEngineRequestFactory {
     }
 
 
+    /**
+     * Last user message is used to pick entities relevant to the question
+     */
+    @Nullable
+    private static String getLastUserQuestion(@NotNull List<AIMessage> messages) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            AIMessage message = messages.get(i);
+            if (message.getRole() == AIMessageType.USER && !CommonUtils.isEmpty(message.getContent())) {
+                return message.getContent();
+            }
+        }
+        return null;
+    }
+
     private static int getContextWindowSize(@NotNull DBRProgressMonitor monitor, @NotNull AIEngine<?> engine) {
         try {
             return engine.getContextWindowSize(monitor);
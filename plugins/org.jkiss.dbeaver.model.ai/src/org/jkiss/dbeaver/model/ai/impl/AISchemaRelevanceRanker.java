@@ -0,0 +1,167 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.impl;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.*;
+
+/**
+ * Local lexical ranker of schema objects (BM25).
+ * Each object is described by a bag of terms made from its name, column names and comments.
+ * Identifiers are split by underscores and camel case, so "customerOrders" matches "customer orders".
+ */
+public class AISchemaRelevanceRanker {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Terms of object name are more important than terms of its columns
+    public static final int NAME_TERM_WEIGHT = 3;
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private AISchemaRelevanceRanker() {
+    }
+
+    /**
+     * Ranked object with its score
+     */
+    public record RankedItem<T>(@NotNull T item, double score) {
+    }
+
+    /**
+     * Returns objects whose terms match the query, most relevant first.
+     *
+     * @param documents term frequencies of each object
+     */
+    @NotNull
+    public static <T> List<RankedItem<T>> rank(@NotNull String query, @NotNull Map<T, Map<String, Integer>> documents) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty() || documents.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int documentCount = documents.size();
+        long totalLength = 0;
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (Map<String, Integer> terms : documents.values()) {
+            totalLength += getLength(terms);
+            for (String term : queryTerms) {
+                if (terms.containsKey(term)) {
+                    documentFrequency.merge(term, 1, Integer::sum);
+                }
+            }
+        }
+        if (documentFrequency.isEmpty()) {
+            return Collections.emptyList();
+        }
+        double avgLength = Math.max((double) totalLength / documentCount, 1);
+        Map<String, Double> idf = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : documentFrequency.entrySet()) {
+            int df = entry.getValue();
+            idf.put(entry.getKey(), Math.log(1 + (documentCount - df + 0.5) / (df + 0.5)));
+        }
+
+        List<RankedItem<T>> result = new ArrayList<>();
+        for (Map.Entry<T, Map<String, Integer>> document : documents.entrySet()) {
+            Map<String, Integer> terms = document.getValue();
+            double lengthNorm = K1 * (1 - B + B * getLength(terms) / avgLength);
+            double score = 0;
+            for (Map.Entry<String, Double> termIdf : idf.entrySet()) {
+                Integer tf = terms.get(termIdf.getKey());
+                if (tf != null) {
+                    score += termIdf.getValue() * (tf * (K1 + 1)) / (tf + lengthNorm);
+                }
+            }
+            if (score > 0) {
+                result.add(new RankedItem<>(document.getKey(), score));
+            }
+        }
+        result.sort(Comparator.comparingDouble((RankedItem<T> item) -> item.score).reversed());
+        return result;
+    }
+
+    /**
+     * Adds terms of the text to the term frequency map
+     */
+    public static void addTerms(@NotNull Map<String, Integer> termFrequencies, @Nullable String text, int weight) {
+        if (text == null) {
+            return;
+        }
+        for (String term : tokenize(text)) {
+            termFrequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Splits text into lower case terms. Identifiers are split by non-letters and camel case.
+     * Simple plural forms are reduced to singular.
+     */
+    @NotNull
+    public static List<String> tokenize(@NotNull String text) {
+        List<String> terms = new ArrayList<>();
+        StringBuilder term = new StringBuilder();
+        char prevChar = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                addTerm(terms, term);
+            } else {
+                if (Character.isUpperCase(c) && Character.isLowerCase(prevChar)) {
+                    // camelCase boundary
+                    addTerm(terms, term);
+                } else if (Character.isDigit(c) != Character.isDigit(prevChar) && term.length() > 0) {
+                    addTerm(terms, term);
+                }
+                term.append(Character.toLowerCase(c));
+            }
+            prevChar = c;
+        }
+        addTerm(terms, term);
+        return terms;
+    }
+
+    private static void addTerm(@NotNull List<String> terms, @NotNull StringBuilder term) {
+        if (term.length() >= MIN_TERM_LENGTH) {
+            terms.add(normalizeTerm(term.toString()));
+        }
+        term.setLength(0);
+    }
+
+    @NotNull
+    private static String normalizeTerm(@NotNull String term) {
+        int length = term.length();
+        if (length > 4 && term.endsWith("ies")) {
+            return term.substring(0, length - 3) + "y";
+        }
+        if (length > 4 && (term.endsWith("ses") || term.endsWith("xes"))) {
+            return term.substring(0, length - 2);
+        }
+        if (length > 3 && term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us")) {
+            return term.substring(0, length - 1);
+        }
+        return term;
+    }
+
+    private static int getLength(@NotNull Map<String, Integer> terms) {
+        int length = 0;
+        for (int tf : terms.values()) {
+            length += tf;
+        }
+        return length;
+    }
+
+}
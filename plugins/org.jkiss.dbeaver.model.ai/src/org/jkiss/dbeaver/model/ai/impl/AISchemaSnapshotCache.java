@@ -0,0 +1,153 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.impl;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBPEvent;
+import org.jkiss.dbeaver.model.DBPEventListener;
+import org.jkiss.dbeaver.model.ai.AISchemaGenerationOptions;
+import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of entity descriptions and relevance terms used in AI prompts.
+ * Each data source has its own metadata version. The version changes on metadata events (refresh, create, delete,
+ * connect or disconnect), and snapshots made for older versions are dropped.
+ * Snapshots also expire after some time, because DDL executed outside the navigator doesn't produce events.
+ */
+public class AISchemaSnapshotCache {
+
+    private static final long SNAPSHOT_TTL_MS = 10 * 60 * 1000L;
+
+    private static final AISchemaSnapshotCache INSTANCE = new AISchemaSnapshotCache();
+
+    private final Map<DBPDataSourceContainer, DataSourceSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<DBPDataSourceContainer, AtomicLong> metadataVersions = new ConcurrentHashMap<>();
+    private final Set<DBPDataSourceRegistry> registries = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+    private final DBPEventListener metadataListener = this::handleMetadataEvent;
+
+    @NotNull
+    public static AISchemaSnapshotCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns snapshot of the current metadata version of the data source
+     */
+    @NotNull
+    public DataSourceSnapshot getSnapshot(@NotNull DBPDataSourceContainer container) {
+        if (registries.add(container.getRegistry())) {
+            container.getRegistry().addDataSourceListener(metadataListener);
+        }
+        long version = getMetadataVersion(container).get();
+        return snapshots.compute(container, (key, snapshot) ->
+            snapshot == null || snapshot.version != version || snapshot.isExpired() ? new DataSourceSnapshot(version) : snapshot);
+    }
+
+    public void invalidate(@NotNull DBPDataSourceContainer container) {
+        getMetadataVersion(container).incrementAndGet();
+        snapshots.remove(container);
+    }
+
+    @NotNull
+    private AtomicLong getMetadataVersion(@NotNull DBPDataSourceContainer container) {
+        return metadataVersions.computeIfAbsent(container, key -> new AtomicLong());
+    }
+
+    private void handleMetadataEvent(@NotNull DBPEvent event) {
+        if (event.getAction() == DBPEvent.Action.OBJECT_SELECT) {
+            return;
+        }
+        DBPDataSourceContainer container = getEventContainer(event.getObject());
+        if (container != null) {
+            if (event.getAction() == DBPEvent.Action.OBJECT_REMOVE && event.getObject() == container) {
+                metadataVersions.remove(container);
+                snapshots.remove(container);
+            } else {
+                invalidate(container);
+            }
+        }
+    }
+
+    @Nullable
+    private static DBPDataSourceContainer getEventContainer(@Nullable DBSObject object) {
+        if (object instanceof DBPDataSourceContainer container) {
+            return container;
+        }
+        DBPDataSource dataSource = object == null ? null : object.getDataSource();
+        return dataSource == null ? null : dataSource.getContainer();
+    }
+
+    /**
+     * Key of entity description. Token limit of the options doesn't affect the description, so it is always 0.
+     */
+    record DescriptionKey(@NotNull DBSEntity entity, @NotNull AISchemaGenerationOptions options, boolean useFqn) {
+        DescriptionKey(@NotNull DBSEntity entity, @NotNull AISchemaGenerationOptions options, boolean useFqn) {
+            this.entity = entity;
+            this.options = options.maxDbSnapshotTokens() == 0 ? options : options.toBuilder().withMaxDbSnapshotTokens(0).build();
+            this.useFqn = useFqn;
+        }
+    }
+
+    /**
+     * Cached metadata of one data source
+     */
+    public static class DataSourceSnapshot {
+        private final long version;
+        private final long createTime = System.currentTimeMillis();
+        private final Map<DescriptionKey, String> descriptions = new ConcurrentHashMap<>();
+        private final Map<DBSEntity, Map<String, Integer>> entityTerms = new ConcurrentHashMap<>();
+
+        DataSourceSnapshot(long version) {
+            this.version = version;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - createTime > SNAPSHOT_TTL_MS;
+        }
+
+        @Nullable
+        String getDescription(@NotNull DescriptionKey key) {
+            return descriptions.get(key);
+        }
+
+        void putDescription(@NotNull DescriptionKey key, @NotNull String description) {
+            descriptions.put(key, description);
+        }
+
+        @Nullable
+        Map<String, Integer> getEntityTerms(@NotNull DBSEntity entity) {
+            return entityTerms.get(entity);
+        }
+
+        void putEntityTerms(@NotNull DBSEntity entity, @NotNull Map<String, Integer> terms) {
+            entityTerms.put(entity, terms);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.dashboard.data;
+
+import org.jkiss.code.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Bounded time series of dashboard values.
+ * Values are kept in primitive ring buffers, the oldest values are dropped when the capacity is reached.
+ * Timestamps are ascending. Missing values are NaN.
+ */
+public class DashboardTimeSeries {
+
+    /**
+     * Downsampled values. Each bucket has the timestamp of its last value.
+     */
+    public record Samples(
+        @NotNull long[] timestamps,
+        @NotNull double[] min,
+        @NotNull double[] max,
+        @NotNull double[] avg
+    ) {
+        public int size() {
+            return timestamps.length;
+        }
+    }
+
+    @NotNull
+    private final String[] columnNames;
+    @NotNull
+    private final long[] timestamps;
+    @NotNull
+    private final double[][] values;
+    // Index of the oldest value
+    private int start;
+    private int size;
+
+    public DashboardTimeSeries(@NotNull String[] columnNames, int capacity) {
+        this.columnNames = columnNames;
+        this.timestamps = new long[Math.max(capacity, 1)];
+        this.values = new double[columnNames.length][timestamps.length];
+    }
+
+    @NotNull
+    public String[] getColumnNames() {
+        return columnNames;
+    }
+
+    public int getCapacity() {
+        return timestamps.length;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[toBufferIndex(index)];
+    }
+
+    public double getValue(int column, int index) {
+        return values[column][toBufferIndex(index)];
+    }
+
+    /**
+     * Adds values. Value with the last timestamp replaces it, older values are ignored.
+     *
+     * @param rowValues values of all columns, NaN if there is no value
+     */
+    public void add(long timestamp, @NotNull double[] rowValues) {
+        int pos;
+        if (size > 0 && timestamp <= getTimestamp(size - 1)) {
+            if (timestamp < getTimestamp(size - 1)) {
+                return;
+            }
+            pos = toBufferIndex(size - 1);
+        } else if (size < timestamps.length) {
+            pos = toBufferIndex(size);
+            size++;
+        } else {
+            // Overwrite the oldest value
+            pos = start;
+            start = (start + 1) % timestamps.length;
+        }
+        timestamps[pos] = timestamp;
+        for (int i = 0; i < values.length; i++) {
+            values[i][pos] = i < rowValues.length ? rowValues[i] : Double.NaN;
+        }
+    }
+
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns values since the given time. If there are more values than maxPoints then they are grouped into
+     * time buckets of the same width with minimum, maximum and average values of each bucket.
+     */
+    @NotNull
+    public Samples getSamples(int column, long fromTime, int maxPoints) {
+        int first = findFirstIndex(fromTime);
+        int count = size - first;
+        if (count <= 0 || maxPoints <= 0) {
+            return new Samples(new long[0], new double[0], new double[0], new double[0]);
+        }
+        int bucketCount = Math.min(count, maxPoints);
+        long[] resTimestamps = new long[bucketCount];
+        double[] resMin = new double[bucketCount];
+        double[] resMax = new double[bucketCount];
+        double[] resAvg = new double[bucketCount];
+
+        long firstTime = getTimestamp(first);
+        double bucketWidth = count <= maxPoints ? 0 : (double) (getTimestamp(size - 1) - firstTime + 1) / maxPoints;
+        int bucket = 0;
+        int bucketIndex = -1;
+        double min = 0, max = 0, sum = 0;
+        int valueCount = 0;
+        long lastTime = 0;
+        for (int i = first; i < size; i++) {
+            long time = getTimestamp(i);
+            int index = bucketWidth == 0 ? i : (int) ((time - firstTime) / bucketWidth);
+            if (index != bucketIndex) {
+                if (valueCount > 0) {
+                    resTimestamps[bucket] = lastTime;
+                    resMin[bucket] = min;
+                    resMax[bucket] = max;
+                    resAvg[bucket] = sum / valueCount;
+                    bucket++;
+                }
+                bucketIndex = index;
+                valueCount = 0;
+                sum = 0;
+            }
+            double value = getValue(column, i);
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            if (valueCount == 0) {
+                min = value;
+                max = value;
+            } else {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            sum += value;
+            valueCount++;
+            lastTime = time;
+        }
+        if (valueCount > 0) {
+            resTimestamps[bucket] = lastTime;
+            resMin[bucket] = min;
+            resMax[bucket] = max;
+            resAvg[bucket] = sum / valueCount;
+            bucket++;
+        }
+        if (bucket < bucketCount) {
+            return new Samples(
+                Arrays.copyOf(resTimestamps, bucket),
+                Arrays.copyOf(resMin, bucket),
+                Arrays.copyOf(resMax, bucket),
+                Arrays.copyOf(resAvg, bucket));
+        }
+        return new Samples(resTimestamps, resMin, resMax, resAvg);
+    }
+
+    private int findFirstIndex(long fromTime) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getTimestamp(mid) < fromTime) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int toBufferIndex(int index) {
+        return (start + index) % timestamps.length;
+    }
+}
@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.model.erd;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
@@ -25,12 +26,18 @@ import org.jkiss.dbeaver.model.DBPNamedObject;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.app.DBPProject;
 import org.jkiss.dbeaver.model.exec.DBExecUtils;
+import org.jkiss.dbeaver.model.runtime.BlockCanceler;
+import org.jkiss.dbeaver.model.runtime.DBRBlockingObject;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
 import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTablePartition;
+import org.jkiss.dbeaver.model.virtual.DBVUtils;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 /**
@@ -40,6 +47,10 @@ public class DiagramObjectCollector {
 
     private static final Log log = Log.getLog(DiagramObjectCollector.class);
 
+    // Metadata of smaller diagrams is read in the caller thread
+    private static final int PARALLEL_PREFETCH_MIN_ENTITIES = 100;
+    private static final int MAX_PREFETCH_WORKERS = 4;
+
     private final ERDDiagram diagram;
     private final List<ERDEntity> erdEntities = new ArrayList<>();
     private boolean showViews;
@@ -148,11 +159,19 @@ public class DiagramObjectCollector {
         throws DBException
     {
         Collection<DBSEntity> tables = collectTables(monitor, roots, settings, showViews);
+        List<DBSEntity> visibleTables = new ArrayList<>(tables.size());
         for (DBSEntity table : tables) {
             if (DBUtils.isHiddenObject(table)) {
                 // Skip hidden tables
                 continue;
             }
+            visibleTables.add(table);
+        }
+        prefetchEntityMetadata(monitor, visibleTables);
+        for (DBSEntity table : visibleTables) {
+            if (monitor.isCanceled()) {
+                break;
+            }
             addDiagramEntity(monitor, table);
         }
 
@@ -162,6 +181,76 @@ public class DiagramObjectCollector {
         }
     }
 
+    /**
+     * Reads attributes, constraints and associations of big entity sets in several threads.
+     * Entities are then built from the cached metadata. Read errors are ignored here,
+     * they are reported when the diagram entity is created.
+     */
+    private static void prefetchEntityMetadata(@NotNull DBRProgressMonitor monitor, @NotNull List<DBSEntity> entities) {
+        if (entities.size() < PARALLEL_PREFETCH_MIN_ENTITIES) {
+            return;
+        }
+        Queue<DBSEntity> entityQueue = new ConcurrentLinkedQueue<>();
+        for (DBSEntity entity : entities) {
+            DBPDataSourceContainer container = entity.getDataSource() == null ? null : entity.getDataSource().getContainer();
+            // Embedded databases don't benefit from concurrent reads
+            if (container != null && !container.getDriver().isEmbedded()) {
+                entityQueue.add(entity);
+            }
+        }
+        int workerCount = Math.min(MAX_PREFETCH_WORKERS, entityQueue.size() / PARALLEL_PREFETCH_MIN_ENTITIES + 1);
+        if (workerCount <= 1) {
+            return;
+        }
+        monitor.subTask("Read metadata of " + entityQueue.size() + " entities");
+        List<PrefetchMonitor> workerMonitors = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "Diagram metadata reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < workerCount; i++) {
+                PrefetchMonitor workerMonitor = new PrefetchMonitor(monitor);
+                workerMonitors.add(workerMonitor);
+                workers.add(executor.submit(() -> {
+                    for (DBSEntity entity = entityQueue.poll(); entity != null && !workerMonitor.isCanceled(); entity = entityQueue.poll()) {
+                        prefetchEntity(workerMonitor, entity);
+                    }
+                }));
+            }
+            while (!workers.stream().allMatch(Future::isDone)) {
+                if (monitor.isCanceled()) {
+                    entityQueue.clear();
+                    for (PrefetchMonitor workerMonitor : workerMonitors) {
+                        workerMonitor.cancel();
+                    }
+                }
+                RuntimeUtils.pause(50);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void prefetchEntity(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity) {
+        try {
+            entity.getAttributes(monitor);
+            entity.getConstraints(monitor);
+            Collection<? extends DBSEntityAssociation> associations = DBVUtils.getAllAssociations(monitor, entity);
+            if (associations != null) {
+                for (DBSEntityAssociation association : associations) {
+                    if (association instanceof DBSEntityReferrer referrer) {
+                        DBUtils.getEntityAttributes(monitor, referrer);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Error reading metadata of '" + entity.getName() + "'", e);
+        }
+    }
+
     private void addDiagramEntity(DBRProgressMonitor monitor, DBSEntity table)
     {
         if (diagram.containsTable(table) && !diagram.getContentProvider().allowEntityDuplicates()) {
@@ -255,4 +344,83 @@ public class DiagramObjectCollector {
         }
     }
 
+    /**
+     * Progress monitor of a metadata reader thread
+     */
+    private static class PrefetchMonitor extends ProxyProgressMonitor {
+
+        private volatile boolean canceled;
+        // Blocks of the reader thread. They can't be registered in the shared monitor,
+        // because its block stack would be mixed by concurrent readers.
+        private final List<DBRBlockingObject> blocks = new ArrayList<>();
+
+        PrefetchMonitor(@NotNull DBRProgressMonitor monitor) {
+            super(monitor);
+        }
+
+        /**
+         * Stops the reader and cancels its running queries
+         */
+        void cancel() {
+            if (canceled) {
+                return;
+            }
+            canceled = true;
+            for (DBRBlockingObject block : getActiveBlocks()) {
+                try {
+                    BlockCanceler.cancelBlock(this, block);
+                } catch (Exception e) {
+                    log.debug("Error canceling metadata read", e);
+                }
+            }
+        }
+
+        // Readers don't report their progress in the shared monitor
+
+        @Override
+        public void beginTask(@NotNull String name, int totalWork) {
+        }
+
+        @Override
+        public void done() {
+        }
+
+        @Override
+        public void subTask(@NotNull String name) {
+        }
+
+        @Override
+        public void worked(int work) {
+        }
+
+        @Override
+        public void startBlock(@NotNull DBRBlockingObject object, @Nullable String taskName) {
+            synchronized (blocks) {
+                blocks.add(object);
+            }
+        }
+
+        @Override
+        public void endBlock() {
+            synchronized (blocks) {
+                if (!blocks.isEmpty()) {
+                    blocks.remove(blocks.size() - 1);
+                }
+            }
+        }
+
+        @NotNull
+        @Override
+        public List<DBRBlockingObject> getActiveBlocks() {
+            synchronized (blocks) {
+                return new ArrayList<>(blocks);
+            }
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled || original.isCanceled();
+        }
+    }
+
 }
@@ -29,6 +29,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.jfr.ObjectCacheLoadEvent;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.cache.AbstractObjectCache;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
@@ -105,6 +106,11 @@ public abstract class JDBCObjectCache<OWNER extends DBSObject, OBJECT extends DB
         if (dataSource == null) {
             throw new DBException(ModelMessages.error_not_connected_to_database);
         }
+        ObjectCacheLoadEvent loadEvent = null;
+        if (ObjectCacheLoadEvent.isEventEnabled()) {
+            loadEvent = new ObjectCacheLoadEvent();
+            loadEvent.begin();
+        }
         if (owner.isPersisted()) {
             // Load cache from database only for persisted objects
             try {
@@ -166,6 +172,14 @@ public abstract class JDBCObjectCache<OWNER extends DBSObject, OBJECT extends DB
         detectCaseSensitivity(owner);
         mergeCache(tmpObjectList);
         this.invalidateObjects(monitor, owner, new CacheIterator());
+
+        if (loadEvent != null) {
+            loadEvent.setDataSource(dataSource);
+            loadEvent.cacheName = getCacheName();
+            loadEvent.ownerName = owner.getName();
+            loadEvent.rows = tmpObjectList.size();
+            loadEvent.finish();
+        }
     }
 
     public void beforeCacheLoading(@NotNull JDBCSession session, OWNER owner) throws DBException {
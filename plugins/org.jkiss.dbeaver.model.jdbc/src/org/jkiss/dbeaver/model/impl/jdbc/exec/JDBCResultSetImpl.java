@@ -28,6 +28,7 @@ import org.jkiss.dbeaver.model.impl.AbstractResultSet;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCTrace;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.runtime.jfr.ResultSetFetchEvent;
 
 import java.io.InputStream;
 import java.io.Reader;
@@ -44,11 +45,15 @@ public class JDBCResultSetImpl extends AbstractResultSet<JDBCSession, JDBCStatem
 
     private static final Log log = Log.getLog(JDBCResultSetImpl.class);
 
+    // Number of rows in a single fetch event
+    private static final int FETCH_EVENT_ROWS = 1000;
+
     private final ResultSet original;
     private JDBCResultSetMetaData metaData;
     private long rowsFetched;
     private long maxRows = -1;
     private final boolean disableLogging;
+    private ResultSetFetchEvent fetchEvent;
 
     protected JDBCResultSetImpl(
         @NotNull JDBCSession session,
@@ -279,10 +284,17 @@ public class JDBCResultSetImpl extends AbstractResultSet<JDBCSession, JDBCStatem
         this.beforeFetch();
         try {
             // Fetch next row
+            if (fetchEvent == null && ResultSetFetchEvent.isEventEnabled()) {
+                fetchEvent = new ResultSetFetchEvent();
+                fetchEvent.begin();
+            }
             boolean fetched = original.next();
             if (fetched) {
                 rowsFetched++;
             }
+            if (fetchEvent != null && (!fetched || ++fetchEvent.rows >= FETCH_EVENT_ROWS)) {
+                commitFetchEvent();
+            }
             if (fetched && JDBCTrace.isApiTraceEnabled()) {
                 JDBCTrace.dumpResultSetRow(this.original);
             }
@@ -294,6 +306,13 @@ public class JDBCResultSetImpl extends AbstractResultSet<JDBCSession, JDBCStatem
         }
     }
 
+    private void commitFetchEvent() {
+        fetchEvent.setDataSource(session.getDataSource());
+        fetchEvent.setQuery(statement.getQueryString());
+        fetchEvent.finish();
+        fetchEvent = null;
+    }
+
     @Override
     public void close()
     {
@@ -307,6 +326,9 @@ public class JDBCResultSetImpl extends AbstractResultSet<JDBCSession, JDBCStatem
                 log.debug("Can't check for resultset warnings", e);
             }
 */
+            if (fetchEvent != null) {
+                commitFetchEvent();
+            }
             if (!disableLogging) {
                 // Handle close
                 QMUtils.getDefaultHandler().handleResultSetClose(this, rowsFetched);
@@ -33,7 +33,9 @@ import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.qm.QMUtils;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.jfr.StatementExecuteEvent;
 import org.jkiss.dbeaver.model.sql.DBSQLException;
+import org.jkiss.dbeaver.model.sql.SQLQueryResultCache;
 import org.jkiss.utils.CommonUtils;
 
 import java.sql.*;
@@ -59,6 +61,7 @@ public class JDBCStatementImpl<STATEMENT extends Statement> extends AbstractStat
     private long updateCount;
     private Throwable executeError;
     private boolean closed;
+    private StatementExecuteEvent executeEvent;
 
     public JDBCStatementImpl(
         @NotNull JDBCSession connection,
@@ -303,6 +306,10 @@ public class JDBCStatementImpl<STATEMENT extends Statement> extends AbstractStat
         if (JDBCTrace.isApiTraceEnabled()) {
             JDBCTrace.traceQueryBegin(getQueryString());
         }
+        if (StatementExecuteEvent.isEventEnabled()) {
+            this.executeEvent = new StatementExecuteEvent();
+            this.executeEvent.begin();
+        }
         this.startBlock();
     }
 
@@ -319,6 +326,17 @@ public class JDBCStatementImpl<STATEMENT extends Statement> extends AbstractStat
         this.endBlock();
         if (isQMLoggingEnabled()) {
             QMUtils.getDefaultHandler().handleStatementExecuteEnd(this, this.updateCount, this.executeError);
+        } else {
+            // Query manager doesn't see this statement, so result cache is notified directly
+            SQLQueryResultCache.getInstance().handleUnloggedQuery(connection, getQueryString());
+        }
+        if (this.executeEvent != null) {
+            this.executeEvent.setDataSource(connection.getDataSource());
+            this.executeEvent.setQuery(getQueryString());
+            this.executeEvent.rows = Math.max(this.updateCount, 0);
+            this.executeEvent.failed = this.executeError != null;
+            this.executeEvent.finish();
+            this.executeEvent = null;
         }
     }
 
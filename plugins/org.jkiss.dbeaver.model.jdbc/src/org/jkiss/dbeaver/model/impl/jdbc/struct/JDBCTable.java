@@ -45,6 +45,7 @@ import org.jkiss.dbeaver.model.sql.SQLExpressionFormatter;
 import org.jkiss.dbeaver.model.sql.SQLQueryGeneratorUpdate;
 import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.*;
+import org.jkiss.dbeaver.model.virtual.DBVDictionaryCache;
 import org.jkiss.dbeaver.model.virtual.DBVEntity;
 import org.jkiss.dbeaver.model.virtual.DBVUtils;
 import org.jkiss.utils.ArrayUtils;
@@ -52,6 +53,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.Collator;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -563,18 +565,30 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         int offset,
         int maxResults
     ) throws DBException {
-        return readKeyEnumeration(
-            monitor,
-            keyColumn,
-            keyPattern,
-            searchText,
-            preceedingKeys,
-            sortByValue,
-            sortAsc,
-            caseInsensitiveSearch,
-            maxResults,
-            offset
-        );
+        StringBuilder lookupId = new StringBuilder();
+        lookupId.append(keyColumn.getName())
+            .append('|').append(keyPattern == null ? null : DBVDictionaryCache.makeKey(new Object[] { keyPattern }))
+            .append('|').append(searchText)
+            .append('|').append(caseInsensitiveSearch).append('|').append(sortAsc).append('|').append(sortByValue)
+            .append('|').append(offset).append('|').append(maxResults);
+        if (preceedingKeys != null) {
+            appendPreceedingKeys(lookupId, Collections.singletonList(preceedingKeys.toArray(new DBDAttributeValue[0])));
+        }
+        return DBVDictionaryCache.getCache(getDataSource()).readEnumeration(
+            this,
+            lookupId.toString(),
+            () -> readKeyEnumeration(
+                monitor,
+                keyColumn,
+                keyPattern,
+                searchText,
+                preceedingKeys,
+                sortByValue,
+                sortAsc,
+                caseInsensitiveSearch,
+                maxResults,
+                offset
+            ));
     }
 
     @NotNull
@@ -596,6 +610,50 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             return Collections.emptyList();
         }
 
+        // Values are shared between all editors. Only values missing in cache are read from the database.
+        StringBuilder lookupId = new StringBuilder();
+        for (DBSEntityAttribute keyColumn : keyColumns) {
+            lookupId.append(keyColumn.getName()).append(',');
+        }
+        lookupId.append('|').append(descColumns);
+        appendPreceedingKeys(lookupId, preceedingKeys);
+        // Values read from the database are sorted by the query. Cached values are merged into them
+        // in the same order, labels are compared case-insensitively like most database collations do.
+        Collator labelCollator = Collator.getInstance();
+        labelCollator.setStrength(Collator.SECONDARY);
+        Comparator<DBDLabelValuePair> comparator = sortByValue ?
+            DBDLabelValuePair::compareTo :
+            Comparator.comparing(DBDLabelValuePair::getLabel, Comparator.nullsFirst(labelCollator));
+        return DBVDictionaryCache.getCache(getDataSource()).readValues(
+            this,
+            lookupId.toString(),
+            keyValues,
+            sortAsc ? comparator : comparator.reversed(),
+            missingKeys -> readDictionaryValues(monitor, keyColumns, missingKeys, preceedingKeys, descColumns, sortByValue, sortAsc));
+    }
+
+    private static void appendPreceedingKeys(@NotNull StringBuilder lookupId, @Nullable List<DBDAttributeValue[]> preceedingKeys) {
+        if (preceedingKeys == null) {
+            return;
+        }
+        for (DBDAttributeValue[] pk : preceedingKeys) {
+            for (DBDAttributeValue pkColumn : pk) {
+                lookupId.append('|').append(pkColumn.getAttribute().getName())
+                    .append('=').append(DBVDictionaryCache.makeKey(new Object[] { pkColumn.getValue() }));
+            }
+        }
+    }
+
+    @NotNull
+    private List<DBDLabelValuePair> readDictionaryValues(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull List<DBSEntityAttribute> keyColumns,
+        @NotNull List<Object[]> keyValues,
+        @Nullable List<DBDAttributeValue[]> preceedingKeys,
+        @Nullable String descColumns,
+        boolean sortByValue,
+        boolean sortAsc
+    ) throws DBException {
         List<DBDValueHandler> keyValueHandler = keyColumns.stream()
             .map(c -> DBUtils.findValueHandler(c.getDataSource(), c)).toList();
 
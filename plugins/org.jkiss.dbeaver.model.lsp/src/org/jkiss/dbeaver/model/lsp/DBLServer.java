@@ -54,7 +54,8 @@ public final class DBLServer implements LanguageServer, LanguageClientAware {
         //https://microsoft.github.io/language-server-protocol/specifications/specification-current/#textDocument_synchronization
         TextDocumentSyncOptions textDocumentSyncOptions = new TextDocumentSyncOptions();
         textDocumentSyncOptions.setOpenClose(true);
-        textDocumentSyncOptions.setChange(TextDocumentSyncKind.Full);
+        // Clients send changed ranges only, documents are edited in place
+        textDocumentSyncOptions.setChange(TextDocumentSyncKind.Incremental);
         textDocumentSyncOptions.setWillSave(false);
         textDocumentSyncOptions.setWillSaveWaitUntil(false);
         textDocumentSyncOptions.setSave(false);
@@ -80,7 +81,12 @@ public final class DBLServer implements LanguageServer, LanguageClientAware {
         List<String> supportedTokens = DBLTextDocumentService.SUPPORTED_TOKEN_TYPES.values().stream().map(Pair::getSecond).toList();
         List<String> supportedModifiers = DBLTextDocumentService.SUPPORTED_TOKEN_MODIFIERS;
         SemanticTokensLegend legend = new SemanticTokensLegend(supportedTokens, supportedModifiers);
-        SemanticTokensWithRegistrationOptions tokenProvider = new SemanticTokensWithRegistrationOptions(legend);
+        // Tokens are cached per line, so deltas and ranges are cheap
+        SemanticTokensWithRegistrationOptions tokenProvider = new SemanticTokensWithRegistrationOptions(
+            legend,
+            new SemanticTokensServerFull(true),
+            true
+        );
         serverCapabilities.setSemanticTokensProvider(tokenProvider);
 
         return serverCapabilities;
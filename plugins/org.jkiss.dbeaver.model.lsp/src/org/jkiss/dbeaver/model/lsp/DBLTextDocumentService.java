@@ -16,8 +16,7 @@
  */
 package org.jkiss.dbeaver.model.lsp;
 
-import org.eclipse.jface.text.Document;
-import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.lsp4j.*;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
@@ -53,9 +52,9 @@ import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.utils.Pair;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -76,6 +75,9 @@ public class DBLTextDocumentService implements TextDocumentService, LanguageClie
     );
 
     private final Map<String, ContextAwareDocument> documentCache = new ConcurrentHashMap<>();
+    // The last completion and semantic tokens request of each document. Older requests are cancelled.
+    private final Map<String, CompletableFuture<?>> pendingCompletions = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<?>> pendingSemanticTokens = new ConcurrentHashMap<>();
 
     @Nullable
     private final DBLServerSessionProvider sessionProvider;
@@ -108,18 +110,18 @@ public class DBLTextDocumentService implements TextDocumentService, LanguageClie
         log.debug("didChange with params: " + params);
 
         VersionedTextDocumentIdentifier document = params.getTextDocument();
-        List<TextDocumentContentChangeEvent> contentChanges = params.getContentChanges();
-        if (contentChanges.size() != 1) {
-            // There should be exactly one change since we use TextDocumentSyncKind.Full
-            throw new IllegalArgumentException("Unexpected number of document changes: " + contentChanges.size());
-        }
+        // Results of the previous version are useless for the client
+        cancelPendingRequests(document.getUri());
 
         ContextAwareDocument existingDocument = documentCache.get(document.getUri());
         if (existingDocument == null) {
             log.warn(String.format("Change registered for an unknown document %s, Skipping", document.getUri()));
         } else {
-            existingDocument.setText(contentChanges.getFirst().getText());
-            existingDocument.setVersion(document.getVersion());
+            try {
+                existingDocument.applyChanges(params.getContentChanges(), document.getVersion());
+            } catch (BadLocationException e) {
+                throw new IllegalArgumentException("Invalid change of document " + document.getUri(), e);
+            }
         }
     }
 
@@ -127,6 +129,7 @@ public class DBLTextDocumentService implements TextDocumentService, LanguageClie
     public void didClose(@NotNull DidCloseTextDocumentParams params) {
         log.debug("\"didClose with params: \"" + params);
 
+        cancelPendingRequests(params.getTextDocument().getUri());
         documentCache.remove(params.getTextDocument().getUri());
     }
 
@@ -174,21 +177,23 @@ public class DBLTextDocumentService implements TextDocumentService, LanguageClie
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(@NotNull CompletionParams params) {
         log.debug("\"completion with params: \"" + params);
 
-        return CompletableFutures.computeAsync(cancelChecker -> {
+        return trackRequest(pendingCompletions, params.getTextDocument().getUri(), CompletableFutures.computeAsync(cancelChecker -> {
             try {
                 return completion(params, cancelChecker);
+            } catch (CancellationException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("Error when getting completion items: ", e);
                 return Either.forRight(new CompletionList());
             }
-        });
+        }));
     }
 
     @NotNull
     private Either<List<CompletionItem>, CompletionList> completion(
         @NotNull CompletionParams params,
         @NotNull CancelChecker cancelChecker
-    ) throws InterruptedException, InvocationTargetException, DBException {
+    ) throws InterruptedException, InvocationTargetException, DBException, BadLocationException {
         cancelChecker.checkCanceled();
 
         String documentUri = params.getTextDocument().getUri();
@@ -201,78 +206,137 @@ public class DBLTextDocumentService implements TextDocumentService, LanguageClie
             return Either.forRight(new CompletionList());
         }
 
-        int offset = LSPUtils.positionToOffset(document.getText(), params.getPosition());
+        int version = document.getVersion();
+        int offset = document.getOffset(params.getPosition());
         SQLCompletionContext completionContext = new LspSQLCompletionContext(
             document.getDataSource(),
             document.getExecutionContext(),
             document.getSyntaxManager(),
             document.getRuleManager()
         );
-        return Either.forRight(new CompletionList(
-            LspSQLCompletionContextParser.createCompletionsList(document, offset, completionContext)
-        ));
+        List<CompletionItem> items = LspSQLCompletionContextParser.createCompletionsList(document, offset, completionContext);
+        cancelChecker.checkCanceled();
+        if (document.getVersion() != version) {
+            // Document was changed during the completion, proposals are computed for the old text
+            throw new CancellationException();
+        }
+        return Either.forRight(new CompletionList(items));
     }
 
-    // TODO: think about implementing semanticTokensFullDelta and/or semanticTokensRange
     @Override
     public CompletableFuture<SemanticTokens> semanticTokensFull(@NotNull SemanticTokensParams params) {
         log.debug("\"semanticTokensFull with params: \"" + params);
 
-        return CompletableFutures.computeAsync(cancelChecker -> semanticTokensFull(params, cancelChecker));
+        String documentUri = params.getTextDocument().getUri();
+        return trackRequest(pendingSemanticTokens, documentUri, CompletableFutures.computeAsync(cancelChecker -> {
+            ContextAwareDocument document = getTokensDocument(documentUri, cancelChecker);
+            if (document == null) {
+                return new SemanticTokens(List.of());
+            }
+            try {
+                return document.getSemanticTokens(DBLTextDocumentService::getTokenType, cancelChecker);
+            } catch (BadLocationException e) {
+                log.error("Error reading semantic tokens of " + documentUri, e);
+                return new SemanticTokens(List.of());
+            }
+        }));
     }
 
-    private SemanticTokens semanticTokensFull(
-        @NotNull SemanticTokensParams params,
-        @NotNull CancelChecker cancelChecker
+    @Override
+    public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+        @NotNull SemanticTokensDeltaParams params
     ) {
-        cancelChecker.checkCanceled();
+        log.debug("\"semanticTokensFullDelta with params: \"" + params);
 
         String documentUri = params.getTextDocument().getUri();
+        return trackRequest(pendingSemanticTokens, documentUri, CompletableFutures.computeAsync(cancelChecker -> {
+            ContextAwareDocument document = getTokensDocument(documentUri, cancelChecker);
+            if (document == null) {
+                return Either.forLeft(new SemanticTokens(List.of()));
+            }
+            try {
+                return document.getSemanticTokensDelta(
+                    params.getPreviousResultId(),
+                    DBLTextDocumentService::getTokenType,
+                    cancelChecker
+                );
+            } catch (BadLocationException e) {
+                log.error("Error reading semantic tokens of " + documentUri, e);
+                return Either.forLeft(new SemanticTokens(List.of()));
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<SemanticTokens> semanticTokensRange(@NotNull SemanticTokensRangeParams params) {
+        log.debug("\"semanticTokensRange with params: \"" + params);
+
+        // Range requests are sent for the visible part while full tokens are computed, so they don't cancel each other
+        String documentUri = params.getTextDocument().getUri();
+        return CompletableFutures.computeAsync(cancelChecker -> {
+            ContextAwareDocument document = getTokensDocument(documentUri, cancelChecker);
+            if (document == null) {
+                return new SemanticTokens(List.of());
+            }
+            try {
+                return document.getSemanticTokens(params.getRange(), DBLTextDocumentService::getTokenType, cancelChecker);
+            } catch (BadLocationException e) {
+                log.error("Error reading semantic tokens of " + documentUri, e);
+                return new SemanticTokens(List.of());
+            }
+        });
+    }
+
+    @Nullable
+    private ContextAwareDocument getTokensDocument(@NotNull String documentUri, @NotNull CancelChecker cancelChecker) {
+        cancelChecker.checkCanceled();
+
         ContextAwareDocument document = documentCache.get(documentUri);
         if (document == null) {
             log.error("Semantic tokens requested for an unknown document " + documentUri);
-            return new SemanticTokens();
         }
+        return document;
+    }
 
-        LspSQLIndentifierDetector detector = new LspSQLIndentifierDetector(document.getSyntaxManager().getDialect());
-        List<Pair<TPToken, Region>> tokens = detector.extractAllTokens(
-            new Document(document.getText()),
-            document.getRuleManager()
-        );
-
-        List<Integer> data = new ArrayList<>();
-        int lineOffset = 0;
-        int charOffset = 0;
-        for (Pair<TPToken, Region> pair : tokens) {
-            SQLTokenType sqlTokenType;
-            Region region = pair.getSecond();
-            TPToken tpToken = pair.getFirst();
-            if (tpToken.isNewline()) {
-                lineOffset++;
-                charOffset = 0;
-                continue;
-            } else if (tpToken instanceof TPTokenDefault tpTokenDefault) {
-                sqlTokenType = (SQLTokenType) tpTokenDefault.getData();
-            } else {
-                sqlTokenType = SQLTokenType.T_OTHER;
-            }
+    /**
+     * Returns index of the token type in the legend or -1 if the token is not reported
+     */
+    private static int getTokenType(@NotNull TPToken token) {
+        if (token instanceof TPTokenDefault tokenDefault && tokenDefault.getData() instanceof SQLTokenType sqlTokenType) {
             Pair<Integer, String> tokenDefinition = SUPPORTED_TOKEN_TYPES.get(sqlTokenType);
-            if (tokenDefinition == null || tokenDefinition.getFirst() == null) {
-                charOffset += region.getLength();
-                continue;
+            if (tokenDefinition != null && tokenDefinition.getFirst() != null) {
+                return tokenDefinition.getFirst();
             }
+        }
+        return -1;
+    }
 
-            // This is a chunk of token data describing one token
-            data.add(lineOffset);
-            data.add(charOffset);
-            data.add(region.getLength());
-            data.add(tokenDefinition.getFirst());
-            data.add(0); // Only "declaration" modifier is supported now. Update if more modifiers are added.
-
-            charOffset += region.getLength();
+    /**
+     * Remembers the request as the last one of its kind for the document and cancels the previous one
+     */
+    @NotNull
+    private static <T> CompletableFuture<T> trackRequest(
+        @NotNull Map<String, CompletableFuture<?>> pendingRequests,
+        @NotNull String documentUri,
+        @NotNull CompletableFuture<T> request
+    ) {
+        CompletableFuture<?> previousRequest = pendingRequests.put(documentUri, request);
+        if (previousRequest != null) {
+            previousRequest.cancel(true);
         }
+        request.whenComplete((result, error) -> pendingRequests.remove(documentUri, request));
+        return request;
+    }
 
-        return new SemanticTokens(data);
+    private void cancelPendingRequests(@NotNull String documentUri) {
+        CompletableFuture<?> completion = pendingCompletions.remove(documentUri);
+        if (completion != null) {
+            completion.cancel(true);
+        }
+        CompletableFuture<?> semanticTokens = pendingSemanticTokens.remove(documentUri);
+        if (semanticTokens != null) {
+            semanticTokens.cancel(true);
+        }
     }
 
     private void initContext(@NotNull DocumentURI documentUri) {
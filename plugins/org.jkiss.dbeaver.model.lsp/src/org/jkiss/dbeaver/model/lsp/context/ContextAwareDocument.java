@@ -16,7 +16,10 @@
  */
 package org.jkiss.dbeaver.model.lsp.context;
 
-import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.lsp4j.*;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.DBPDataSource;
@@ -24,9 +27,21 @@ import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
 import org.jkiss.dbeaver.model.sql.SQLSyntaxManager;
 import org.jkiss.dbeaver.model.sql.parser.SQLRuleManager;
+import org.jkiss.dbeaver.model.text.parser.TPToken;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Opened text document. Text is changed incrementally, semantic tokens are cached per line.
+ * Document is accessed from the message thread (changes) and from request threads, so all text access is synchronized.
+ */
 public class ContextAwareDocument extends TextDocumentItem {
+    @NotNull
+    private final LspTextDocument document;
+    @NotNull
+    private final LspSemanticTokensCache semanticTokens;
     @Nullable
     private DBCExecutionContext executionContext;
     @NotNull
@@ -40,17 +55,95 @@ public class ContextAwareDocument extends TextDocumentItem {
         final int version,
         @NotNull final String text
     ) {
-        super(uri, languageId, version, text);
+        // Text is kept in the document only
+        super(uri, languageId, version, "");
+        this.document = new LspTextDocument(text);
+        this.semanticTokens = new LspSemanticTokensCache(document);
         initBasicSyntax();
     }
 
+    @Override
+    public synchronized String getText() {
+        return document.get();
+    }
+
+    @Override
+    public synchronized void setText(@NotNull String text) {
+        document.set(text);
+    }
+
+    @Override
+    public synchronized int getVersion() {
+        return super.getVersion();
+    }
+
+    @Override
+    public synchronized void setVersion(int version) {
+        super.setVersion(version);
+    }
+
+    /**
+     * Applies changes in the given order. Change without range replaces the whole text.
+     */
+    public synchronized void applyChanges(
+        @NotNull List<TextDocumentContentChangeEvent> changes,
+        int version
+    ) throws BadLocationException {
+        for (TextDocumentContentChangeEvent change : changes) {
+            Range range = change.getRange();
+            if (range == null) {
+                document.set(change.getText());
+            } else {
+                int startOffset = document.getOffset(range.getStart());
+                int endOffset = document.getOffset(range.getEnd());
+                document.replace(startOffset, endOffset - startOffset, change.getText());
+            }
+        }
+        setVersion(version);
+    }
+
+    /**
+     * Converts LSP position to the text offset
+     */
+    public synchronized int getOffset(@NotNull Position position) throws BadLocationException {
+        return document.getOffset(position);
+    }
+
+    @NotNull
+    public synchronized SemanticTokens getSemanticTokens(
+        @NotNull ToIntFunction<TPToken> tokenTypes,
+        @NotNull CancelChecker cancelChecker
+    ) throws BadLocationException {
+        return semanticTokens.getTokens(ruleManager, tokenTypes, cancelChecker);
+    }
+
+    @NotNull
+    public synchronized Either<SemanticTokens, SemanticTokensDelta> getSemanticTokensDelta(
+        @Nullable String previousResultId,
+        @NotNull ToIntFunction<TPToken> tokenTypes,
+        @NotNull CancelChecker cancelChecker
+    ) throws BadLocationException {
+        return semanticTokens.getTokensDelta(previousResultId, ruleManager, tokenTypes, cancelChecker);
+    }
+
+    @NotNull
+    public synchronized SemanticTokens getSemanticTokens(
+        @NotNull Range range,
+        @NotNull ToIntFunction<TPToken> tokenTypes,
+        @NotNull CancelChecker cancelChecker
+    ) throws BadLocationException {
+        return semanticTokens.getTokens(range.getStart().getLine(), range.getEnd().getLine(), ruleManager, tokenTypes, cancelChecker);
+    }
+
     @NotNull
     public SQLRuleManager getRuleManager() {
         return ruleManager;
     }
 
-    public void setRuleManager(@NotNull LspSQLRuleManager ruleManager) {
+    public synchronized void setRuleManager(@NotNull LspSQLRuleManager ruleManager) {
         this.ruleManager = ruleManager;
+        // Tokens depend on the rules
+        semanticTokens.reset();
     }
 
     @NotNull
@@ -0,0 +1,366 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsp.context;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.sql.parser.SQLRuleManager;
+import org.jkiss.dbeaver.model.text.parser.TPRuleBasedScanner;
+import org.jkiss.dbeaver.model.text.parser.TPToken;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Semantic tokens of the document kept per line.
+ * Document changes invalidate changed lines only. Tokens are rescanned from the nearest line which doesn't start
+ * inside a multi-line token (comment or string) up to the first line where the scan state matches the cached one.
+ */
+public class LspSemanticTokensCache implements IDocumentListener {
+
+    private static final int[] NO_TOKENS = new int[0];
+
+    /**
+     * Tokens of one line
+     *
+     * @param clean  line start is a token boundary, scan may start here
+     * @param tokens start character, length and type of each token
+     */
+    private record LineTokens(boolean clean, int[] tokens) {
+    }
+
+    @NotNull
+    private final IDocument document;
+    // null element means the line was changed
+    @NotNull
+    private final List<LineTokens> lines = new ArrayList<>();
+    private int changeStartLine;
+    private int changeEndLine;
+
+    private long resultCounter;
+    @Nullable
+    private String resultId;
+    @NotNull
+    private int[] resultData = NO_TOKENS;
+
+    public LspSemanticTokensCache(@NotNull IDocument document) {
+        this.document = document;
+        document.addDocumentListener(this);
+    }
+
+    /**
+     * Drops all tokens, e.g. after the rules change
+     */
+    public void reset() {
+        lines.clear();
+    }
+
+    @Override
+    public void documentAboutToBeChanged(@NotNull DocumentEvent event) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            changeStartLine = document.getLineOfOffset(event.getOffset());
+            changeEndLine = document.getLineOfOffset(event.getOffset() + event.getLength());
+        } catch (BadLocationException e) {
+            lines.clear();
+        }
+    }
+
+    @Override
+    public void documentChanged(@NotNull DocumentEvent event) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        try {
+            String text = event.getText();
+            int newEndLine = document.getLineOfOffset(event.getOffset() + (text == null ? 0 : text.length()));
+            lines.subList(changeStartLine, Math.min(changeEndLine + 1, lines.size())).clear();
+            lines.addAll(changeStartLine, Collections.nCopies(newEndLine - changeStartLine + 1, null));
+        } catch (BadLocationException | IndexOutOfBoundsException e) {
+            lines.clear();
+        }
+    }
+
+    /**
+     * Returns tokens of the whole document
+     */
+    @NotNull
+    public SemanticTokens getTokens(
+        @NotNull SQLRuleManager ruleManager,
+        @NotNull ToIntFunction<TPToken> tokenTypes,
+        @NotNull CancelChecker cancelChecker
+    ) throws BadLocationException {
+        update(ruleManager, tokenTypes, cancelChecker);
+        resultData = encode(0, lines.size() - 1);
+        resultId = String.valueOf(++resultCounter);
+        return new SemanticTokens(resultId, toList(resultData, 0, resultData.length));
+    }
+
+    /**
+     * Returns changes since the previous result. Returns all tokens if the previous result is unknown.
+     */
+    @NotNull
+    public Either<SemanticTokens, SemanticTokensDelta> getTokensDelta(
+        @Nullable String previousResultId,
+        @NotNull SQLRuleManager ruleManager,
+        @NotNull ToIntFunction<TPToken> tokenTypes,
+        @NotNull CancelChecker cancelChecker
+    ) throws BadLocationException {
+        if (previousResultId == null || !previousResultId.equals(resultId)) {
+            return Either.forLeft(getTokens(ruleManager, tokenTypes, cancelChecker));
+        }
+        update(ruleManager, tokenTypes, cancelChecker);
+        int[] prevData = resultData;
+        int[] newData = encode(0, lines.size() - 1);
+
+        int prefix = 0;
+        int maxPrefix = Math.min(prevData.length, newData.length);
+        while (prefix < maxPrefix && prevData[prefix] == newData[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && prevData[prevData.length - 1 - suffix] == newData[newData.length - 1 - suffix]) {
+            suffix++;
+        }
+        List<SemanticTokensEdit> edits = new ArrayList<>();
+        if (prefix != prevData.length || prefix != newData.length) {
+            edits.add(new SemanticTokensEdit(
+                prefix,
+                prevData.length - prefix - suffix,
+                toList(newData, prefix, newData.length - suffix)
+            ));
+        }
+
+        resultData = newData;
+        resultId = String.valueOf(++resultCounter);
+        return Either.forRight(new SemanticTokensDelta(edits, resultId));
+    }
+
+    /**
+     * Returns tokens of lines from startLine to endLine inclusive. Doesn't change the last full result.
+     */
+    @NotNull
+    public SemanticTokens getTokens(
+        int startLine,
+        int endLine,
+        @NotNull SQLRuleManager ruleManager,
+        @NotNull ToIntFunction<TPToken> tokenTypes,
+        @NotNull CancelChecker cancelChecker
+    ) throws BadLocationException {
+        update(ruleManager, tokenTypes, cancelChecker);
+        int[] data = encode(Math.max(startLine, 0), Math.min(endLine, lines.size() - 1));
+        return new SemanticTokens(toList(data, 0, data.length));
+    }
+
+    private void update(
+        @NotNull SQLRuleManager ruleManager,
+        @NotNull ToIntFunction<TPToken> tokenTypes,
+        @NotNull CancelChecker cancelChecker
+    ) throws BadLocationException {
+        int lineCount = document.getNumberOfLines();
+        if (lines.size() != lineCount) {
+            lines.clear();
+            lines.addAll(Collections.nCopies(lineCount, null));
+        }
+        TPRuleBasedScanner scanner = null;
+        int line = nextChangedLine(0);
+        while (line >= 0) {
+            cancelChecker.checkCanceled();
+            int startLine = line;
+            while (startLine > 0 && (lines.get(startLine) == null || !lines.get(startLine).clean())) {
+                startLine--;
+            }
+            if (scanner == null) {
+                scanner = new TPRuleBasedScanner();
+                scanner.setRules(ruleManager.getAllRules());
+            }
+            line = nextChangedLine(scan(scanner, startLine, tokenTypes, cancelChecker));
+        }
+    }
+
+    /**
+     * Scans lines starting from startLine.
+     *
+     * @return line where the scan joined the cached tokens
+     */
+    private int scan(
+        @NotNull TPRuleBasedScanner scanner,
+        int startLine,
+        @NotNull ToIntFunction<TPToken> tokenTypes,
+        @NotNull CancelChecker cancelChecker
+    ) throws BadLocationException {
+        int lineCount = lines.size();
+        int startOffset = document.getLineOffset(startLine);
+        scanner.setRange(document, startOffset, document.getLength() - startOffset);
+
+        LineScanner lineScanner = new LineScanner(startLine, true);
+        try {
+            for (TPToken token = scanner.nextToken(); !token.isEOF(); token = scanner.nextToken()) {
+                int offset = scanner.getTokenOffset();
+                int end = offset + scanner.getTokenLength();
+                while (offset >= lineScanner.nextLineOffset) {
+                    if (!lineScanner.nextLine(offset == lineScanner.nextLineOffset)) {
+                        return lineScanner.line;
+                    }
+                    if (lineScanner.line % 1000 == 0) {
+                        cancelChecker.checkCanceled();
+                    }
+                }
+                int type = tokenTypes.applyAsInt(token);
+                while (true) {
+                    int segmentEnd = Math.min(end, lineScanner.lineEnd);
+                    if (type >= 0 && segmentEnd > offset) {
+                        lineScanner.addToken(offset, segmentEnd - offset, type);
+                    }
+                    if (end <= lineScanner.nextLineOffset) {
+                        break;
+                    }
+                    // Multi-line token, the next line starts inside of it
+                    lineScanner.nextLine(false);
+                    offset = lineScanner.lineOffset;
+                }
+            }
+        } catch (RuntimeException | BadLocationException e) {
+            // Scan was interrupted (e.g. canceled). The current line and the next ones still have the old tokens,
+            // so the next update must rescan them.
+            lines.set(lineScanner.line, null);
+            throw e;
+        }
+        lineScanner.finishLine();
+        for (int i = lineScanner.line + 1; i < lineCount; i++) {
+            lines.set(i, new LineTokens(true, NO_TOKENS));
+        }
+        return lineCount;
+    }
+
+    private class LineScanner {
+        private int line;
+        private boolean clean;
+        private int lineOffset;
+        private int lineEnd;
+        private int nextLineOffset;
+        private int[] tokens = new int[16];
+        private int tokenCount;
+
+        LineScanner(int line, boolean clean) throws BadLocationException {
+            startLine(line, clean);
+        }
+
+        /**
+         * Moves to the next line.
+         *
+         * @return false if the next line has the same cached scan state, so the scan may stop
+         */
+        boolean nextLine(boolean clean) throws BadLocationException {
+            finishLine();
+            LineTokens cached = line + 1 < lines.size() ? lines.get(line + 1) : null;
+            if (clean && cached != null && cached.clean()) {
+                line++;
+                return false;
+            }
+            startLine(line + 1, clean);
+            return true;
+        }
+
+        void addToken(int offset, int length, int type) {
+            if ((tokenCount + 1) * 3 > tokens.length) {
+                tokens = Arrays.copyOf(tokens, tokens.length * 2);
+            }
+            int pos = tokenCount * 3;
+            tokens[pos] = offset - lineOffset;
+            tokens[pos + 1] = length;
+            tokens[pos + 2] = type;
+            tokenCount++;
+        }
+
+        void finishLine() {
+            lines.set(line, new LineTokens(clean, tokenCount == 0 ? NO_TOKENS : Arrays.copyOf(tokens, tokenCount * 3)));
+        }
+
+        private void startLine(int line, boolean clean) throws BadLocationException {
+            IRegion lineInfo = document.getLineInformation(line);
+            this.line = line;
+            this.clean = clean;
+            this.lineOffset = lineInfo.getOffset();
+            this.lineEnd = lineInfo.getOffset() + lineInfo.getLength();
+            this.nextLineOffset = line + 1 < lines.size() ? document.getLineOffset(line + 1) : Integer.MAX_VALUE;
+            this.tokenCount = 0;
+        }
+    }
+
+    private int nextChangedLine(int fromLine) {
+        for (int i = fromLine; i < lines.size(); i++) {
+            if (lines.get(i) == null) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Encodes tokens in LSP format: line delta, start delta, length, type and modifiers of each token.
+     */
+    @NotNull
+    private int[] encode(int startLine, int endLine) {
+        int size = 0;
+        for (int i = startLine; i <= endLine; i++) {
+            size += lines.get(i).tokens().length / 3 * 5;
+        }
+        int[] data = new int[size];
+        int pos = 0;
+        int prevLine = 0;
+        int prevChar = 0;
+        for (int i = startLine; i <= endLine; i++) {
+            int[] tokens = lines.get(i).tokens();
+            for (int k = 0; k < tokens.length; k += 3) {
+                data[pos++] = i - prevLine;
+                data[pos++] = i == prevLine ? tokens[k] - prevChar : tokens[k];
+                data[pos++] = tokens[k + 1];
+                data[pos++] = tokens[k + 2];
+                data[pos++] = 0; // No modifiers are reported now
+                prevLine = i;
+                prevChar = tokens[k];
+            }
+        }
+        return data;
+    }
+
+    @NotNull
+    private static List<Integer> toList(@NotNull int[] data, int from, int to) {
+        List<Integer> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(data[i]);
+        }
+        return result;
+    }
+}
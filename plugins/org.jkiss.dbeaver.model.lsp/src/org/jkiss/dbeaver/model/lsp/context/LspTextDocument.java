@@ -0,0 +1,53 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsp.context;
+
+import org.eclipse.jface.text.AbstractDocument;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DefaultLineTracker;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.lsp4j.Position;
+import org.jkiss.code.NotNull;
+
+/**
+ * Document edited with incremental LSP changes. Text is kept in a piece table, lines are tracked incrementally.
+ */
+public class LspTextDocument extends AbstractDocument {
+
+    public LspTextDocument(@NotNull String text) {
+        setTextStore(new PieceTableTextStore());
+        setLineTracker(new DefaultLineTracker());
+        completeInitialization();
+        set(text);
+    }
+
+    /**
+     * Converts LSP position to the document offset.
+     * Position character is in UTF-16 code units, the same as Java string index.
+     * Character after the line end means the line end, as the specification requires.
+     */
+    public int getOffset(@NotNull Position position) throws BadLocationException {
+        if (position.getLine() < 0 || position.getCharacter() < 0) {
+            throw new BadLocationException("Invalid position " + position);
+        }
+        if (position.getLine() >= getNumberOfLines()) {
+            return getLength();
+        }
+        IRegion line = getLineInformation(position.getLine());
+        return line.getOffset() + Math.min(position.getCharacter(), line.getLength());
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsp.context;
+
+import org.eclipse.jface.text.ITextStore;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Piece table text store.
+ * Edits don't copy the document text: the text is a list of pieces of the original text and of the append-only buffer.
+ * Sequential reads (e.g. scanner) are served by the cursor which remembers the last accessed piece.
+ */
+public class PieceTableTextStore implements ITextStore {
+
+    // Pieces are merged into a new original text when there are too many of them
+    static final int MAX_PIECES = 2048;
+
+    private record Piece(boolean added, int start, int length) {
+    }
+
+    @NotNull
+    private String original = "";
+    @NotNull
+    private final StringBuilder added = new StringBuilder();
+    @NotNull
+    private final List<Piece> pieces = new ArrayList<>();
+    private int length;
+
+    // Materialized text, reset on change
+    @Nullable
+    private String text;
+
+    // Last accessed piece
+    private int cursorPiece;
+    private int cursorOffset;
+
+    @Override
+    public char get(int offset) {
+        if (text != null) {
+            return text.charAt(offset);
+        }
+        int index = findPiece(offset);
+        if (index >= pieces.size()) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " is out of text bounds " + length);
+        }
+        Piece piece = pieces.get(index);
+        int bufferOffset = piece.start() + offset - cursorOffset;
+        return piece.added() ? added.charAt(bufferOffset) : original.charAt(bufferOffset);
+    }
+
+    @Override
+    public String get(int offset, int length) {
+        if (text != null) {
+            return text.substring(offset, offset + length);
+        }
+        if (offset < 0 || length < 0 || offset + length > this.length) {
+            throw new IndexOutOfBoundsException("Range " + offset + ":" + length + " is out of text bounds " + this.length);
+        }
+        StringBuilder result = new StringBuilder(length);
+        int index = findPiece(offset);
+        int pieceOffset = cursorOffset;
+        int end = offset + length;
+        while (result.length() < length) {
+            Piece piece = pieces.get(index);
+            int from = Math.max(offset, pieceOffset) - pieceOffset;
+            int to = Math.min(end, pieceOffset + piece.length()) - pieceOffset;
+            CharSequence buffer = piece.added() ? added : original;
+            result.append(buffer, piece.start() + from, piece.start() + to);
+            pieceOffset += piece.length();
+            index++;
+        }
+        String value = result.toString();
+        if (offset == 0 && length == this.length) {
+            text = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public void replace(int offset, int length, String text) {
+        if (offset < 0 || length < 0 || offset + length > this.length) {
+            throw new IndexOutOfBoundsException("Range " + offset + ":" + length + " is out of text bounds " + this.length);
+        }
+        int from = splitAt(offset);
+        int to = splitAt(offset + length);
+        pieces.subList(from, to).clear();
+        if (text != null && !text.isEmpty()) {
+            int start = added.length();
+            added.append(text);
+            Piece prev = from > 0 ? pieces.get(from - 1) : null;
+            if (prev != null && prev.added() && prev.start() + prev.length() == start) {
+                // Typing continues the last inserted piece
+                pieces.set(from - 1, new Piece(true, prev.start(), prev.length() + text.length()));
+            } else {
+                pieces.add(from, new Piece(true, start, text.length()));
+            }
+        }
+        this.length += (text == null ? 0 : text.length()) - length;
+        this.text = null;
+        resetCursor();
+
+        if (pieces.size() > MAX_PIECES) {
+            set(get(0, this.length));
+        }
+    }
+
+    @Override
+    public void set(String text) {
+        original = text == null ? "" : text;
+        added.setLength(0);
+        pieces.clear();
+        if (!original.isEmpty()) {
+            pieces.add(new Piece(false, 0, original.length()));
+        }
+        length = original.length();
+        this.text = original;
+        resetCursor();
+    }
+
+    /**
+     * Splits the piece which contains offset.
+     *
+     * @return index of the piece which starts at offset
+     */
+    private int splitAt(int offset) {
+        int index = findPiece(offset);
+        if (index >= pieces.size() || cursorOffset == offset) {
+            return index;
+        }
+        Piece piece = pieces.get(index);
+        int headLength = offset - cursorOffset;
+        pieces.set(index, new Piece(piece.added(), piece.start(), headLength));
+        pieces.add(index + 1, new Piece(piece.added(), piece.start() + headLength, piece.length() - headLength));
+        cursorPiece = index + 1;
+        cursorOffset = offset;
+        return index + 1;
+    }
+
+    /**
+     * Finds the piece which contains offset and moves cursor to it.
+     * Returns number of pieces if offset is the end of the text.
+     */
+    private int findPiece(int offset) {
+        while (offset < cursorOffset) {
+            cursorPiece--;
+            cursorOffset -= pieces.get(cursorPiece).length();
+        }
+        while (cursorPiece < pieces.size()) {
+            int pieceLength = pieces.get(cursorPiece).length();
+            if (offset < cursorOffset + pieceLength) {
+                break;
+            }
+            cursorOffset += pieceLength;
+            cursorPiece++;
+        }
+        return cursorPiece;
+    }
+
+    int getPieceCount() {
+        return pieces.size();
+    }
+
+    private void resetCursor() {
+        cursorPiece = 0;
+        cursorOffset = 0;
+    }
+}
@@ -28,10 +28,12 @@ import org.jkiss.dbeaver.model.qm.QMUtils;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
+import org.jkiss.dbeaver.model.sql.parser.SQLScriptStreamParser;
 import org.jkiss.dbeaver.utils.DurationFormat;
 import org.jkiss.dbeaver.utils.DurationFormatter;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
 
@@ -43,11 +45,17 @@ public class SQLScriptProcessor {
 
     private final DBCExecutionContext executionContext;
     private final List<SQLScriptElement> queries;
+    private final SQLScriptStreamParser scriptParser;
+    private final long scriptSize;
     private final SQLScriptContext scriptContext;
     private final DBDDataReceiver dataReceiver;
     private final Log log;
 
     private Throwable lastError = null;
+    private long executedOffset;
+    // Offset of the last executed element whose changes are committed
+    private long committedOffset;
+    private boolean autoCommitStatements;
 
     private DBCStatistics statistics;
     private final DBCStatistics totalStatistics = new DBCStatistics();
@@ -67,11 +75,36 @@ public class SQLScriptProcessor {
         @NotNull Log log) {
         this.executionContext = executionContext;
         this.queries = queries;
+        this.scriptParser = null;
+        this.scriptSize = 0;
         this.scriptContext = scriptContext;
         this.dataReceiver = dataReceiver;
         this.log = log;
     }
 
+    /**
+     * Creates processor which executes script elements as soon as they are read by the stream parser.
+     *
+     * @param scriptSize script size in bytes (including already processed part), used for progress reporting
+     */
+    public SQLScriptProcessor(
+        @NotNull DBCExecutionContext executionContext,
+        @NotNull SQLScriptStreamParser scriptParser,
+        long scriptSize,
+        @NotNull SQLScriptContext scriptContext,
+        @NotNull DBDDataReceiver dataReceiver,
+        @NotNull Log log) {
+        this.executionContext = executionContext;
+        this.queries = null;
+        this.scriptParser = scriptParser;
+        this.scriptSize = scriptSize;
+        this.scriptContext = scriptContext;
+        this.dataReceiver = dataReceiver;
+        this.log = log;
+        this.executedOffset = scriptParser.getProcessedBytes();
+        this.committedOffset = executedOffset;
+    }
+
     public void setFetchSize(int fetchSize) {
         this.fetchSize = fetchSize;
     }
@@ -120,10 +153,15 @@ public class SQLScriptProcessor {
                 if (txnManager != null && txnManager.isSupportsTransactions() && oldAutoCommit != newAutoCommit) {
                     txnManager.setAutoCommit(monitor, newAutoCommit);
                 }
+                autoCommitStatements = txnManager == null || !txnManager.isSupportsTransactions() || newAutoCommit;
 
-                monitor.beginTask("Execute queries (" + queries.size() + ")", queries.size());
-                executeScript(session, queries, true);
-                monitor.done();
+                if (scriptParser != null) {
+                    executeScriptStream(session, scriptParser);
+                } else {
+                    monitor.beginTask("Execute queries (" + queries.size() + ")", queries.size());
+                    executeScript(session, queries, true);
+                    monitor.done();
+                }
 
                 // Commit data
                 if (txnManager != null && txnManager.isSupportsTransactions() && !oldAutoCommit && commitType != SQLScriptCommitType.AUTOCOMMIT) {
@@ -132,6 +170,7 @@ public class SQLScriptProcessor {
                         if (commitType != SQLScriptCommitType.NO_COMMIT) {
                             monitor.subTask("Commit");
                             txnManager.commit(session);
+                            committedOffset = executedOffset;
                         }
                     } else if (errorHandling == SQLScriptErrorHandling.STOP_ROLLBACK) {
                         monitor.subTask("Rollback");
@@ -146,6 +185,10 @@ public class SQLScriptProcessor {
                 // Restore transactions settings
                 if (txnManager != null && txnManager.isSupportsTransactions() && oldAutoCommit != newAutoCommit) {
                     txnManager.setAutoCommit(monitor, oldAutoCommit);
+                    if (oldAutoCommit) {
+                        // Switch to auto-commit commits the current transaction
+                        committedOffset = executedOffset;
+                    }
                 }
                 if (session.isLoggingEnabled()) {
                     QMUtils.getDefaultHandler().handleScriptEnd(session);
@@ -170,23 +213,66 @@ public class SQLScriptProcessor {
                 break;
             }
             // Execute query
-            boolean runNext = executeSingleQuery(session, query);
-            if (!runNext) {
-                if (lastError == null) {
-                    // Execution cancel
+            if (!executeScriptElement(session, query)) {
+                break;
+            }
+            if (trackMonitor) {
+                session.getProgressMonitor().worked(1);
+            }
+        }
+    }
+
+    private void executeScriptStream(@NotNull DBCSession session, @NotNull SQLScriptStreamParser parser) {
+        DBRProgressMonitor monitor = session.getProgressMonitor();
+        // Progress is tracked in kilobytes of script text
+        long reportedKb = executedOffset / 1024;
+        monitor.beginTask("Execute script", (int) Math.min(Math.max(scriptSize / 1024 - reportedKb, 0), Integer.MAX_VALUE));
+        try {
+            while (!monitor.isCanceled()) {
+                SQLScriptElement query;
+                try {
+                    query = parser.nextElement();
+                } catch (IOException e) {
+                    lastError = e;
+                    log.error("Error reading SQL script", e);
                     break;
                 }
-                if (errorHandling != SQLScriptErrorHandling.IGNORE) {
-                    log.error(lastError);
+                if (query == null) {
+                    break;
+                }
+                if (!executeScriptElement(session, query)) {
                     break;
-                } else {
-                    log.warn("Query failed: " + lastError.getMessage());
+                }
+                executedOffset = parser.getProcessedBytes();
+                if (autoCommitStatements) {
+                    committedOffset = executedOffset;
+                }
+                long executedKb = executedOffset / 1024;
+                if (executedKb > reportedKb) {
+                    monitor.worked((int) (executedKb - reportedKb));
+                    reportedKb = executedKb;
                 }
             }
-            if (trackMonitor) {
-                session.getProgressMonitor().worked(1);
+        } finally {
+            monitor.done();
+        }
+    }
+
+    private boolean executeScriptElement(@NotNull DBCSession session, @NotNull SQLScriptElement query) {
+        boolean runNext = executeSingleQuery(session, query);
+        if (!runNext) {
+            if (lastError == null) {
+                // Execution cancel
+                return false;
+            }
+            if (errorHandling != SQLScriptErrorHandling.IGNORE) {
+                log.error(lastError);
+                return false;
+            } else {
+                log.warn("Query failed: " + lastError.getMessage());
             }
         }
+        return true;
     }
 
     private boolean executeSingleQuery(@NotNull DBCSession session, @NotNull SQLScriptElement element) {
@@ -368,4 +454,21 @@ public class SQLScriptProcessor {
         return totalStatistics;
     }
 
+    /**
+     * Byte offset of the end of the last successfully executed script element.
+     * Makes sense only for stream processing. Changes of executed elements may be not committed
+     * (or rolled back), see {@link #getCommittedOffset()}.
+     */
+    public long getExecutedOffset() {
+        return executedOffset;
+    }
+
+    /**
+     * Byte offset of the end of the last executed script element whose changes are committed.
+     * Makes sense only for stream processing, script execution may be resumed from this offset.
+     */
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
 }
@@ -1031,7 +1031,7 @@ public class SQLScriptParser {
         return queryList;
     }
 
-    private static void expandQueries(@NotNull SQLParserContext parserContext, @NotNull List<SQLScriptElement> queryList) {
+    static void expandQueries(@NotNull SQLParserContext parserContext, @NotNull List<SQLScriptElement> queryList) {
         var continuationDetector = new ScriptElementContinuationDetector(parserContext);
         var it = queryList.listIterator();
         while (it.hasNext()) {
@@ -1072,6 +1072,15 @@ public class SQLScriptParser {
         }
     }
 
+    /**
+     * Parses the next script element without starting or finishing script evaluation.
+     * Caller is responsible for evaluation mode, so delimiter redefinitions are kept between calls.
+     */
+    @Nullable
+    static SQLScriptElement parseNextScriptElement(@NotNull SQLParserContext parserContext, int startOffset, int endOffset) {
+        return parseQueryImpl(parserContext, startOffset, endOffset, startOffset, true, false, false);
+    }
+
     public static List<SQLScriptElement> parseScript(DBPDataSource dataSource, String sqlScriptContent) {
         SQLSyntaxManager syntaxManager = new SQLSyntaxManager();
         syntaxManager.init(dataSource.getSQLDialect(), dataSource.getContainer().getPreferenceStore());
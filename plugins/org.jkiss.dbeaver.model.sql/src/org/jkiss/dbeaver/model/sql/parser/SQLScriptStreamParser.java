@@ -0,0 +1,239 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2024 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.parser;
+
+import org.eclipse.jface.text.Document;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.jkiss.dbeaver.model.sql.SQLScriptElement;
+import org.jkiss.dbeaver.model.sql.SQLSyntaxManager;
+import org.jkiss.dbeaver.model.sql.parser.rules.SQLDelimiterRule;
+import org.jkiss.dbeaver.model.text.parser.TPRule;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Incremental script parser.
+ * Reads script text through a bounded window and splits it into elements with the same rules as
+ * {@link SQLScriptParser#parseScript(DBPDataSource, String)}, so scripts of any size may be executed
+ * without loading them into memory.
+ * <p>
+ * The last element of each window may be incomplete, so it is re-parsed together with the next window.
+ * Statement delimiter redefined by script commands is kept between windows.
+ */
+public class SQLScriptStreamParser {
+
+    public static final int DEFAULT_WINDOW_SIZE = 1024 * 1024;
+    // Single statement can't be larger than this (in characters)
+    private static final int MAX_WINDOW_SIZE = 256 * 1024 * 1024;
+
+    private final DBPDataSource dataSource;
+    private final SQLSyntaxManager syntaxManager;
+    private final SQLRuleManager ruleManager;
+    private final SQLDelimiterRule delimiterRule;
+    private final Reader reader;
+    private final Charset charset;
+
+    private final StringBuilder window = new StringBuilder();
+    private final char[] readBuffer = new char[64 * 1024];
+    private final Deque<ParsedElement> parsedElements = new ArrayDeque<>();
+    private int windowSize;
+    private long windowByteOffset;
+    private long processedBytes;
+    private char[][] windowDelimiters;
+    private boolean eof;
+
+    /**
+     * @param reader     script reader. Not closed by parser.
+     * @param charset    script encoding. Used to calculate byte offsets of parsed elements.
+     * @param startOffset byte offset of the first character of the reader in the script file
+     */
+    public SQLScriptStreamParser(
+        @NotNull DBPDataSource dataSource,
+        @NotNull Reader reader,
+        @NotNull Charset charset,
+        long startOffset
+    ) {
+        this.dataSource = dataSource;
+        this.reader = reader;
+        this.charset = charset;
+        this.windowSize = DEFAULT_WINDOW_SIZE;
+        this.windowByteOffset = startOffset;
+        this.processedBytes = startOffset;
+
+        this.syntaxManager = new SQLSyntaxManager();
+        this.syntaxManager.init(dataSource.getSQLDialect(), dataSource.getContainer().getPreferenceStore());
+        this.ruleManager = new SQLRuleManager(syntaxManager);
+        this.ruleManager.loadRules(dataSource, false);
+
+        SQLDelimiterRule delimRule = null;
+        for (TPRule rule : ruleManager.getAllRules()) {
+            if (rule instanceof SQLDelimiterRule dr) {
+                delimRule = dr;
+                break;
+            }
+        }
+        this.delimiterRule = delimRule;
+        this.windowDelimiters = delimRule == null ? null : delimRule.getDelimiters();
+    }
+
+    /**
+     * Sets initial window size (in characters). Window grows automatically if a single statement doesn't fit in it.
+     */
+    public void setWindowSize(int windowSize) {
+        this.windowSize = Math.max(windowSize, readBuffer.length);
+    }
+
+    /**
+     * Returns next script element or null if end of script was reached.
+     */
+    @Nullable
+    public SQLScriptElement nextElement() throws IOException {
+        if (parsedElements.isEmpty()) {
+            parseNextWindow();
+        }
+        ParsedElement element = parsedElements.poll();
+        if (element == null) {
+            return null;
+        }
+        processedBytes = element.endOffset;
+        return element.element;
+    }
+
+    /**
+     * Byte offset of the end of the last element returned by {@link #nextElement()}.
+     * Script execution may be resumed from this offset.
+     */
+    public long getProcessedBytes() {
+        return processedBytes;
+    }
+
+    private void parseNextWindow() throws IOException {
+        while (true) {
+            fillWindow();
+            if (window.isEmpty()) {
+                return;
+            }
+            Document document = new Document(window.toString());
+            SQLParserContext parserContext = new SQLParserContext(dataSource, syntaxManager, ruleManager, document);
+
+            // LinkedList is required by expandQueries
+            List<SQLScriptElement> elements = new LinkedList<>();
+            Map<Integer, char[][]> delimitersByOffset = new HashMap<>();
+            parserContext.startScriptEvaluation();
+            try {
+                if (delimiterRule != null) {
+                    delimiterRule.restoreDelimiters(windowDelimiters);
+                }
+                for (int offset = 0; ; ) {
+                    SQLScriptElement element = SQLScriptParser.parseNextScriptElement(parserContext, offset, document.getLength());
+                    if (element == null) {
+                        break;
+                    }
+                    elements.add(element);
+                    offset = element.getOffset() + element.getLength();
+                    if (delimiterRule != null) {
+                        delimitersByOffset.put(offset, delimiterRule.getDelimiters());
+                    }
+                }
+            } finally {
+                parserContext.endScriptEvaluation();
+            }
+            if (syntaxManager.getStatementDelimiterMode().useSmart) {
+                SQLScriptParser.expandQueries(parserContext, elements);
+            }
+
+            // The last element may continue in the next window
+            int completeCount = eof ? elements.size() : elements.size() - 1;
+            if (completeCount <= 0 && !eof) {
+                if (windowSize >= MAX_WINDOW_SIZE) {
+                    throw new IOException("Script statement at offset " + windowByteOffset + " is too large (more than " + MAX_WINDOW_SIZE + " characters)");
+                }
+                windowSize = Math.min(windowSize * 2, MAX_WINDOW_SIZE);
+                continue;
+            }
+
+            int consumedChars = 0;
+            long consumedBytes = 0;
+            Iterator<SQLScriptElement> iterator = elements.iterator();
+            for (int i = 0; i < completeCount; i++) {
+                SQLScriptElement element = iterator.next();
+                if (element instanceof SQLQuery query) {
+                    query.setParameters(SQLScriptParser.parseParametersAndVariables(parserContext, query.getOffset(), query.getLength()));
+                }
+                int endOffset = element.getOffset() + element.getLength();
+                consumedBytes += getByteLength(consumedChars, endOffset);
+                consumedChars = endOffset;
+                parsedElements.add(new ParsedElement(element, windowByteOffset + consumedBytes));
+            }
+            char[][] delimiters = delimitersByOffset.get(consumedChars);
+            if (delimiters != null) {
+                windowDelimiters = delimiters;
+            }
+            if (eof) {
+                window.setLength(0);
+            } else {
+                window.delete(0, consumedChars);
+                windowByteOffset += consumedBytes;
+            }
+            return;
+        }
+    }
+
+    private void fillWindow() throws IOException {
+        while (!eof && window.length() < windowSize) {
+            int count = reader.read(readBuffer, 0, Math.min(readBuffer.length, windowSize - window.length()));
+            if (count < 0) {
+                eof = true;
+            } else {
+                window.append(readBuffer, 0, count);
+            }
+        }
+    }
+
+    private long getByteLength(int start, int end) {
+        if (charset == StandardCharsets.UTF_8) {
+            long length = 0;
+            for (int i = start; i < end; i++) {
+                char c = window.charAt(i);
+                if (c < 0x80) {
+                    length++;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(window.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+        return charset.encode(CharBuffer.wrap(window, start, end)).remaining();
+    }
+
+    private record ParsedElement(@NotNull SQLScriptElement element, long endOffset) {
+    }
+
+}
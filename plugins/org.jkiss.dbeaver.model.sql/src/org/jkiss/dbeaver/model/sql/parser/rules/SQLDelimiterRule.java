@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.model.sql.parser.rules;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.model.text.parser.TPCharacterScanner;
 import org.jkiss.dbeaver.model.text.parser.TPRule;
 import org.jkiss.dbeaver.model.text.parser.TPToken;
@@ -51,6 +52,23 @@ public class SQLDelimiterRule implements TPRule {
         return delimiters;
     }
 
+    /**
+     * Restores delimiters previously obtained with {@link #getDelimiters()}.
+     * Used to continue parsing of a script which was split into several documents.
+     */
+    public void restoreDelimiters(@NotNull char[][] delimiters) {
+        if (delimiters == origDelimiters) {
+            changeDelimiter(null);
+            return;
+        }
+        int maxLength = 0;
+        for (char[] delim : delimiters) {
+            maxLength = Math.max(maxLength, delim.length);
+        }
+        this.delimiters = delimiters;
+        this.buffer = new char[maxLength];
+    }
+
     @Override
     public TPToken evaluate(TPCharacterScanner scanner) {
         for (int i = 0; ; i++) {
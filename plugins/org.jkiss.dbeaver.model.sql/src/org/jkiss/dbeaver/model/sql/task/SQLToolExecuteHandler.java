@@ -17,16 +17,15 @@
 package org.jkiss.dbeaver.model.sql.task;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
-import org.jkiss.dbeaver.model.DBPEvaluationContext;
-import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.edit.SQLDatabasePersistActionComment;
-import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
-import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
-import org.jkiss.dbeaver.model.runtime.PrintStreamProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.*;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.model.task.DBTTaskExecutionListener;
@@ -38,10 +37,9 @@ import org.jkiss.utils.CommonUtils;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Locale;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -99,122 +97,298 @@ public abstract class SQLToolExecuteHandler<OBJECT_TYPE extends DBSObject, SETTI
                 Throwable throwable = warnings.get(0);
                 throw new DBCException("Tool execution error: " + throwable.getMessage(), throwable);
             }
-            for (OBJECT_TYPE object : objectList) {
-                monitor.subTask("Process [" + DBUtils.getObjectFullName(object, DBPEvaluationContext.UI) + "]");
-                try (DBCSession session = DBUtils.openUtilSession(monitor, object, "Execute " + task.getType().getName())) {
-                    List<DBEPersistAction> queries = new ArrayList<>();
-                    generateObjectQueries(session, settings, queries, object);
+            int parallelism = Math.min(settings.getParallelism(), objectList.size());
+            if (parallelism > 1) {
+                lastError = executeParallel(monitor, task, settings, log, outLog, listener, parallelism);
+            } else {
+                for (OBJECT_TYPE object : objectList) {
+                    if (monitor.isCanceled()) {
+                        break;
+                    }
+                    monitor.subTask("Process [" + DBUtils.getObjectFullName(object, DBPEvaluationContext.UI) + "]");
+                    try (DBCSession session = DBUtils.openUtilSession(monitor, object, "Execute " + task.getType().getName())) {
+                        Exception error = executeObjectQueries(monitor, session, settings, log, outLog, listener, object);
+                        if (error != null) {
+                            lastError = error;
+                        }
+                    }
+                    monitor.worked(1);
+                }
+            }
+        } catch (Exception e) {
+            lastError = e;
+            log.debug(e);
+            outLog.println("Process error\n" + e.getMessage());
+        } finally {
+            monitor.done();
+        }
+        listener.taskFinished(task, null, lastError, settings);
+
+        outLog.println("Tool execution finished");
+        outLog.flush();
+    }
 
-                    DBCExecutionContext context = session.getExecutionContext();
-                    DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
-                    boolean isAutoCommitModeSwitchedOn = true;
+    /**
+     * Processes objects in several threads. Each worker uses its own isolated execution context per database instance.
+     * Worker contexts work in auto-commit mode.
+     * Largest objects are processed first. Failure of one object doesn't stop other workers.
+     *
+     * @return last error
+     */
+    private Exception executeParallel(
+        DBRProgressMonitor monitor,
+        DBTTask task,
+        SETTINGS settings,
+        Log log,
+        PrintStream outLog,
+        DBTTaskExecutionListener listener,
+        int parallelism
+    ) {
+        Queue<OBJECT_TYPE> objectQueue = new ConcurrentLinkedQueue<>(sortBySize(monitor, log, settings.getObjectList()));
+        AtomicReference<Exception> lastError = new AtomicReference<>();
+        List<WorkerMonitor> workerMonitors = new ArrayList<>();
 
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "SQL tool worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                WorkerMonitor workerMonitor = new WorkerMonitor(monitor);
+                workerMonitors.add(workerMonitor);
+                workers.add(executor.submit(() -> {
+                    Map<DBSInstance, DBCExecutionContext> contexts = new HashMap<>();
                     try {
-                        if(isRunInAutoCommit() && txnManager != null && !txnManager.isAutoCommit()){
-                            isAutoCommitModeSwitchedOn = false;
-                            txnManager.setAutoCommit(monitor, true);
+                        for (OBJECT_TYPE object = objectQueue.poll(); object != null && !workerMonitor.isCanceled(); object = objectQueue.poll()) {
+                            String objectName = DBUtils.getObjectFullName(object, DBPEvaluationContext.UI);
+                            workerMonitor.subTask("Process [" + objectName + "]");
+                            try (DBCSession session = openWorkerSession(workerMonitor, object, contexts, "Execute " + task.getType().getName())) {
+                                Exception error = executeObjectQueries(workerMonitor, session, settings, log, outLog, listener, object);
+                                if (error != null) {
+                                    lastError.set(error);
+                                }
+                            } catch (Exception e) {
+                                lastError.set(e);
+                                log.debug("Error processing " + objectName, e);
+                                outLog.println("Error processing [" + objectName + "]\n" + e.getMessage());
+                            } finally {
+                                workerMonitor.worked(1);
+                            }
                         }
+                    } finally {
+                        for (DBCExecutionContext context : contexts.values()) {
+                            context.close();
+                        }
+                    }
+                }));
+            }
 
-                        for (DBEPersistAction action : queries) {
-                            if (monitor.isCanceled()) {
-                                break;
-                            }
-                            if (!CommonUtils.isEmpty(action.getTitle())) {
-                                monitor.subTask(action.getTitle());
-                            }
-                            try {
-                                if (action instanceof SQLDatabasePersistActionComment) {
-                                    continue;
-                                }
-                                String script = action.getScript();
-                                if (!CommonUtils.isEmpty(script)) {
-                                    try (final DBCStatement statement = session.prepareStatement(
-                                        DBCStatementType.SCRIPT,
-                                        script,
-                                        false,
-                                        false,
-                                        false
-                                    )) {
-                                        long startTime = System.currentTimeMillis();
-                                        statement.executeStatement();
-                                        long execTime = System.currentTimeMillis() - startTime;
-                                        if (listener instanceof SQLToolRunListener) {
-                                            if (action.getType() != DBEPersistAction.ActionType.INITIALIZER && action.getType() != DBEPersistAction.ActionType.FINALIZER) {
-                                                SQLToolStatisticsSimple statisticsSimple = new SQLToolStatisticsSimple(object, false);
-                                                if (SQLToolExecuteHandler.this instanceof SQLToolRunStatisticsGenerator) {
-                                                    List<? extends SQLToolStatistics> executeStatistics =
-                                                            ((SQLToolRunStatisticsGenerator) SQLToolExecuteHandler.this).getExecuteStatistics(
-                                                                    object,
-                                                                    settings,
-                                                                    action,
-                                                                    session,
-                                                                    statement);
-                                                    monitor.subTask("\tFinished in " + RuntimeUtils.formatExecutionTime(execTime));
-                                                    if (!CommonUtils.isEmpty(executeStatistics)) {
-                                                        for (SQLToolStatistics stat : executeStatistics) {
-                                                            stat.setExecutionTime(execTime);
-                                                        }
-                                                        ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, executeStatistics);
-                                                    } else {
-                                                        ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, Collections.singletonList(statisticsSimple));
-                                                    }
-                                                } else {
-                                                    ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, Collections.singletonList(statisticsSimple));
-                                                }
-                                            }
-                                        }
+            while (!workers.stream().allMatch(Future::isDone)) {
+                if (monitor.isCanceled()) {
+                    objectQueue.clear();
+                    for (WorkerMonitor workerMonitor : workerMonitors) {
+                        workerMonitor.cancel(log);
+                    }
+                }
+                RuntimeUtils.pause(100);
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    log.error("SQL tool worker failed", e.getCause());
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return lastError.get();
+    }
 
-                                        statistics.addStatementsCount();
-                                        statistics.addExecuteTime(execTime);
-                                        try {
-                                            long updateCount = statement.getUpdateRowCount();
-                                            if (updateCount >= 0) {
-                                                statistics.addRowsUpdated(updateCount);
+    /**
+     * Sorts objects by size, largest first. Objects without statistics go last.
+     */
+    private List<OBJECT_TYPE> sortBySize(DBRProgressMonitor monitor, Log log, List<OBJECT_TYPE> objectList) {
+        Set<DBSObject> collectors = new HashSet<>();
+        Map<OBJECT_TYPE, Long> sizes = new HashMap<>();
+        for (OBJECT_TYPE object : objectList) {
+            DBSObject parent = object.getParentObject();
+            if (parent instanceof DBPObjectStatisticsCollector collector && !collector.isStatisticsCollected() && collectors.add(parent)) {
+                try {
+                    collector.collectObjectStatistics(monitor, false, false);
+                } catch (DBException e) {
+                    log.debug("Can't read statistics of " + DBUtils.getObjectFullName(parent, DBPEvaluationContext.UI), e);
+                }
+            }
+            sizes.put(object, object instanceof DBPObjectStatistics statistics && statistics.hasStatistics() ?
+                statistics.getStatObjectSize() : -1L);
+        }
+        List<OBJECT_TYPE> sortedList = new ArrayList<>(objectList);
+        sortedList.sort(Comparator.comparingLong((OBJECT_TYPE object) -> sizes.get(object)).reversed());
+        return sortedList;
+    }
+
+    @NotNull
+    private DBCSession openWorkerSession(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull OBJECT_TYPE object,
+        @NotNull Map<DBSInstance, DBCExecutionContext> contexts,
+        @NotNull String task
+    ) throws DBException {
+        DBPDataSource dataSource = object.getDataSource();
+        if (dataSource != null && !dataSource.getContainer().getDriver().isEmbedded()) {
+            DBSInstance instance = DBUtils.getObjectOwnerInstance(object);
+            DBCExecutionContext context = contexts.get(instance);
+            if (context == null) {
+                context = instance.openIsolatedContext(monitor, "SQL tool worker", null);
+                contexts.put(instance, context);
+                // Worker context is closed without commit, so each statement must be committed right away
+                DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+                if (txnManager != null && txnManager.isSupportsTransactions() && !txnManager.isAutoCommit()) {
+                    txnManager.setAutoCommit(monitor, true);
+                }
+            }
+            return context.openSession(monitor, DBCExecutionPurpose.UTIL, task);
+        }
+        return DBUtils.openUtilSession(monitor, object, task);
+    }
+
+    /**
+     * Generates and executes queries of a single object.
+     *
+     * @return last query error
+     */
+    private Exception executeObjectQueries(
+        DBRProgressMonitor monitor,
+        DBCSession session,
+        SETTINGS settings,
+        Log log,
+        PrintStream outLog,
+        DBTTaskExecutionListener listener,
+        OBJECT_TYPE object
+    ) throws DBException {
+        Exception lastError = null;
+        List<DBEPersistAction> queries = new ArrayList<>();
+        generateObjectQueries(session, settings, queries, object);
+
+        DBCExecutionContext context = session.getExecutionContext();
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+        boolean isAutoCommitModeSwitchedOn = true;
+
+        try {
+            if(isRunInAutoCommit() && txnManager != null && !txnManager.isAutoCommit()){
+                isAutoCommitModeSwitchedOn = false;
+                txnManager.setAutoCommit(monitor, true);
+            }
+
+            for (DBEPersistAction action : queries) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                if (!CommonUtils.isEmpty(action.getTitle())) {
+                    monitor.subTask(action.getTitle());
+                }
+                try {
+                    if (action instanceof SQLDatabasePersistActionComment) {
+                        continue;
+                    }
+                    String script = action.getScript();
+                    if (!CommonUtils.isEmpty(script)) {
+                        try (final DBCStatement statement = session.prepareStatement(
+                            DBCStatementType.SCRIPT,
+                            script,
+                            false,
+                            false,
+                            false
+                        )) {
+                            long startTime = System.currentTimeMillis();
+                            statement.executeStatement();
+                            long execTime = System.currentTimeMillis() - startTime;
+                            if (listener instanceof SQLToolRunListener) {
+                                if (action.getType() != DBEPersistAction.ActionType.INITIALIZER && action.getType() != DBEPersistAction.ActionType.FINALIZER) {
+                                    SQLToolStatisticsSimple statisticsSimple = new SQLToolStatisticsSimple(object, false);
+                                    if (SQLToolExecuteHandler.this instanceof SQLToolRunStatisticsGenerator) {
+                                        List<? extends SQLToolStatistics> executeStatistics =
+                                                ((SQLToolRunStatisticsGenerator) SQLToolExecuteHandler.this).getExecuteStatistics(
+                                                        object,
+                                                        settings,
+                                                        action,
+                                                        session,
+                                                        statement);
+                                        monitor.subTask("\tFinished in " + RuntimeUtils.formatExecutionTime(execTime));
+                                        if (!CommonUtils.isEmpty(executeStatistics)) {
+                                            for (SQLToolStatistics stat : executeStatistics) {
+                                                stat.setExecutionTime(execTime);
                                             }
-                                        } catch (DBCException e) {
-                                            // In some cases we can't read update count
-                                            // This is bad but we can live with it
-                                            // Just print a warning
-                                            log.warn("Can't obtain update count", e);
+                                            handleActionStatistics(listener, object, action, session, executeStatistics);
+                                        } else {
+                                            handleActionStatistics(listener, object, action, session, Collections.singletonList(statisticsSimple));
                                         }
+                                    } else {
+                                        handleActionStatistics(listener, object, action, session, Collections.singletonList(statisticsSimple));
                                     }
                                 }
-                            } catch (Exception e) {
-                                lastError = e;
-                                log.debug("Error executing query", e);
-                                outLog.println("Error executing query\n" + e.getMessage());
-                                if(listener instanceof SQLToolRunListener) {
-                                    SQLToolStatisticsSimple errorStat = new SQLToolStatisticsSimple(object, true);
-                                    errorStat.setStatusMessage(e.getMessage());
-                                    ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, Collections.singletonList(errorStat));
-                                }
-                            } finally {
-                                monitor.worked(1);
                             }
-                        }
-                    } finally {
-                        if (!isAutoCommitModeSwitchedOn) {
+
+                            synchronized (statistics) {
+                                statistics.addStatementsCount();
+                                statistics.addExecuteTime(execTime);
+                            }
                             try {
-                                txnManager.setAutoCommit(monitor, false);
+                                long updateCount = statement.getUpdateRowCount();
+                                if (updateCount >= 0) {
+                                    synchronized (statistics) {
+                                        statistics.addRowsUpdated(updateCount);
+                                    }
+                                }
                             } catch (DBCException e) {
-                                log.debug("Cannot set auto-commit status", e);
+                                // In some cases we can't read update count
+                                // This is bad but we can live with it
+                                // Just print a warning
+                                log.warn("Can't obtain update count", e);
                             }
                         }
                     }
+                } catch (Exception e) {
+                    lastError = e;
+                    log.debug("Error executing query", e);
+                    outLog.println("Error executing query\n" + e.getMessage());
+                    if(listener instanceof SQLToolRunListener) {
+                        SQLToolStatisticsSimple errorStat = new SQLToolStatisticsSimple(object, true);
+                        errorStat.setStatusMessage(e.getMessage());
+                        handleActionStatistics(listener, object, action, session, Collections.singletonList(errorStat));
+                    }
+                } finally {
+                    monitor.worked(1);
                 }
-                monitor.worked(1);
             }
-        } catch (Exception e) {
-            lastError = e;
-            log.debug(e);
-            outLog.println("Process error\n" + e.getMessage());
         } finally {
-            monitor.done();
+            if (!isAutoCommitModeSwitchedOn) {
+                try {
+                    txnManager.setAutoCommit(monitor, false);
+                } catch (DBCException e) {
+                    log.debug("Cannot set auto-commit status", e);
+                }
+            }
         }
-        listener.taskFinished(task, null, lastError, settings);
+        return lastError;
+    }
 
-        outLog.println("Tool execution finished");
-        outLog.flush();
+    private void handleActionStatistics(
+        DBTTaskExecutionListener listener,
+        OBJECT_TYPE object,
+        DBEPersistAction action,
+        DBCSession session,
+        List<? extends SQLToolStatistics> executeStatistics
+    ) {
+        // Statistics of parallel workers are delivered one by one
+        synchronized (listener) {
+            ((SQLToolRunListener) listener).handleActionStatistics(object, action, session, executeStatistics);
+        }
     }
 
     public String generateScript(DBRProgressMonitor monitor, SETTINGS settings) throws DBException {
@@ -261,4 +435,73 @@ public abstract class SQLToolExecuteHandler<OBJECT_TYPE extends DBSObject, SETTI
         return false;
     }
 
+    /**
+     * Progress monitor of a parallel worker.
+     * Keeps its own blocks, so statements of the worker may be canceled separately.
+     */
+    private static class WorkerMonitor extends ProxyProgressMonitor {
+
+        private final List<DBRBlockingObject> activeBlocks = new ArrayList<>();
+        private volatile boolean canceled;
+
+        WorkerMonitor(DBRProgressMonitor monitor) {
+            super(monitor);
+        }
+
+        @Override
+        public void subTask(@NotNull String name) {
+            synchronized (original) {
+                original.subTask(name);
+            }
+        }
+
+        @Override
+        public void worked(int work) {
+            synchronized (original) {
+                original.worked(work);
+            }
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled || original.isCanceled();
+        }
+
+        @Override
+        public synchronized void startBlock(@NotNull DBRBlockingObject object, @Nullable String taskName) {
+            activeBlocks.add(object);
+        }
+
+        @Override
+        public synchronized void endBlock() {
+            if (!activeBlocks.isEmpty()) {
+                activeBlocks.remove(activeBlocks.size() - 1);
+            }
+        }
+
+        @Nullable
+        @Override
+        public synchronized List<DBRBlockingObject> getActiveBlocks() {
+            return new ArrayList<>(activeBlocks);
+        }
+
+        void cancel(Log log) {
+            if (canceled) {
+                return;
+            }
+            canceled = true;
+            List<DBRBlockingObject> blocks;
+            synchronized (this) {
+                blocks = new ArrayList<>(activeBlocks);
+            }
+            for (DBRBlockingObject block : blocks) {
+                try {
+                    block.cancelBlock(this, null);
+                } catch (Exception e) {
+                    log.debug("Can't cancel tool statement", e);
+                }
+            }
+        }
+    }
+
 }
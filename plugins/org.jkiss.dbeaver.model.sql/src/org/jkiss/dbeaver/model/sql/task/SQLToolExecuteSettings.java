@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.app.DBPProject;
 import org.jkiss.dbeaver.model.data.json.JSONUtils;
+import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.task.DBTTaskSettingsInput;
@@ -40,8 +41,11 @@ public class SQLToolExecuteSettings<OBJECT_TYPE extends DBSObject> implements DB
 
     private static final Log log = Log.getLog(SQLToolExecuteSettings.class);
 
+    public static final int MAX_PARALLELISM = 32;
+
     private List<OBJECT_TYPE> objectList = new ArrayList<>();
     private final List<Throwable> warnings = new ArrayList<>();
+    private int parallelism = 1;
 
     protected SQLToolExecuteSettings() {
     }
@@ -58,6 +62,18 @@ public class SQLToolExecuteSettings<OBJECT_TYPE extends DBSObject> implements DB
         return warnings;
     }
 
+    /**
+     * Number of objects processed simultaneously. Each parallel worker uses a separate connection.
+     */
+    @Property(viewable = true, editable = true, updatable = true, order = 100)
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, Math.min(parallelism, MAX_PARALLELISM));
+    }
+
         @Override
     public void loadSettingsFromInput(@NotNull List<OBJECT_TYPE> inputObjects, @NotNull Map<String, Object> options) {
         objectList.addAll(inputObjects);
@@ -86,6 +102,7 @@ public class SQLToolExecuteSettings<OBJECT_TYPE extends DBSObject> implements DB
         } catch (InterruptedException e) {
             // ignore
         }
+        setParallelism(JSONUtils.getInteger(config, "parallelism", 1));
     }
 
     public void saveConfiguration(Map<String, Object> config) {
@@ -97,6 +114,9 @@ public class SQLToolExecuteSettings<OBJECT_TYPE extends DBSObject> implements DB
             objectInfo.put("objectId", DBUtils.getObjectFullId(obj));
             objectsConfig.add(objectInfo);
         }
+        if (parallelism > 1) {
+            config.put("parallelism", parallelism);
+        }
     }
 
 }
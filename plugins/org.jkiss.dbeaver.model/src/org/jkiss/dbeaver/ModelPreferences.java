@@ -234,6 +234,9 @@ public final class ModelPreferences
 
     public static final String RESULT_SET_REREAD_ON_SCROLLING = "resultset.reread.on.scroll"; //$NON-NLS-1$
     public static final String RESULT_SET_MAX_ROWS = "resultset.maxrows"; //$NON-NLS-1$
+    public static final String RESULT_SET_CACHE_ENABLED = "resultset.cache.enabled"; //$NON-NLS-1$
+    public static final String RESULT_SET_CACHE_TTL = "resultset.cache.ttl"; //$NON-NLS-1$
+    public static final String RESULT_SET_CACHE_MAX_SIZE = "resultset.cache.maxSize"; //$NON-NLS-1$
 
 
     public static final String SQL_PARAMETERS_ENABLED = "sql.parameter.enabled"; //$NON-NLS-1$
@@ -349,6 +352,9 @@ public final class ModelPreferences
 
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_REREAD_ON_SCROLLING, true);
         PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_MAX_ROWS, 200);
+        PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_CACHE_ENABLED, false);
+        PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_CACHE_TTL, 60);
+        PrefUtils.setDefaultPreferenceValue(store, RESULT_SET_CACHE_MAX_SIZE, 16);
 
         PrefUtils.setDefaultPreferenceValue(store, CONTENT_HEX_ENCODING, GeneralUtils.getDefaultFileEncoding());
         PrefUtils.setDefaultPreferenceValue(store, CONTENT_CACHE_CLOB, true);
@@ -0,0 +1,36 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.model;
+
+import org.jkiss.code.NotNull;
+
+import java.util.List;
+
+/**
+ * Event listener which receives all pending events at once.
+ * Plain updates of child objects are removed from the batch if their parent object is refreshed in the same batch.
+ */
+public interface DBPEventBatchListener extends DBPEventListener {
+
+    void handleDataSourceEvents(@NotNull List<DBPEvent> events);
+
+    @Override
+    default void handleDataSourceEvent(@NotNull DBPEvent event) {
+        handleDataSourceEvents(List.of(event));
+    }
+}
@@ -2519,6 +2519,31 @@ public final class DBUtils {
         return result[0];
     }
 
+    /**
+     * Reads row count estimate from the database statistics.
+     * Returns null if the container doesn't support estimates, the filter has conditions or statistics is missing.
+     */
+    @Nullable
+    public static DBSRowCountEstimator.Estimate estimateRowCount(
+        @NotNull DBRProgressMonitor monitor,
+        @Nullable DBSDataContainer dataContainer,
+        @Nullable DBDDataFilter dataFilter
+    ) {
+        if (dataFilter != null && dataFilter.hasConditions()) {
+            return null;
+        }
+        DBSRowCountEstimator estimator = getAdapter(DBSRowCountEstimator.class, dataContainer);
+        if (estimator == null) {
+            return null;
+        }
+        try {
+            return estimator.estimateRowCount(monitor);
+        } catch (DBException e) {
+            log.debug("Can't estimate row count of '" + dataContainer.getName() + "'", e);
+            return null;
+        }
+    }
+
     public static long countDataFromQuery(
         @NotNull DBCExecutionSource source,
         @NotNull DBCSession session,
@@ -0,0 +1,47 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.Nullable;
+
+/**
+ * Server session which provides activity details for session history sampling.
+ * Sessions which don't implement this interface are considered active if they have an active query.
+ */
+public interface DBAServerSessionActivity extends DBAServerSession {
+
+    @Nullable
+    String getSessionUser();
+
+    /**
+     * Event or state the session is waiting for. Null if session is running on CPU or wait info is not available.
+     */
+    @Nullable
+    String getWaitEvent();
+
+    /**
+     * Id of the session which blocks this session. Null if session isn't blocked.
+     */
+    @Nullable
+    String getBlockingSessionId();
+
+    /**
+     * Returns true if session is doing some work (not idle)
+     */
+    boolean isSessionActive();
+
+}
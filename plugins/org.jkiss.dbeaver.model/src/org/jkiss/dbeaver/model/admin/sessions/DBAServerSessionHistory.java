@@ -0,0 +1,480 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Active session history.
+ * Keeps active sessions of the last samples in fixed size ring buffers, so memory usage doesn't depend on
+ * sampling duration. Samples evicted from the buffer may be spilled to a file of limited size.
+ * <p>
+ * Each active session of each sample is a row. Rows are stored by columns, equal strings of different rows
+ * share the same instance. Samples and rows have their own limits, but they are always evicted together:
+ * the oldest sample is evicted with all its rows, so each sample in memory is complete.
+ */
+public class DBAServerSessionHistory implements AutoCloseable {
+
+    private static final Log log = Log.getLog(DBAServerSessionHistory.class);
+
+    public static final int MAX_QUERY_LENGTH = 4000;
+    private static final int MAX_INTERNED_STRINGS = 1000;
+
+    private static final String SPILL_SAMPLE = "S";
+    private static final String SPILL_ROW = "R";
+    private static final String SPILL_NULL = "\\0";
+
+    /**
+     * Aggregated value
+     *
+     * @param name                  query text, wait event, user name or blocking session id
+     * @param samples               number of active session samples with this value
+     * @param averageActiveSessions average number of active sessions with this value over the time window
+     */
+    public record TopItem(@NotNull String name, int samples, double averageActiveSessions) {
+    }
+
+    /**
+     * Session activity over a time window
+     *
+     * @param sampleCount          number of samples in the window
+     * @param activeSessionSamples total number of active sessions in all samples
+     * @param blockedSessionSamples total number of blocked sessions in all samples
+     */
+    public record Summary(
+        long fromTime,
+        long toTime,
+        int sampleCount,
+        int activeSessionSamples,
+        int blockedSessionSamples,
+        @NotNull List<TopItem> topQueries,
+        @NotNull List<TopItem> topWaitEvents,
+        @NotNull List<TopItem> topUsers,
+        @NotNull List<TopItem> topBlockers
+    ) {
+        public double getAverageActiveSessions() {
+            return sampleCount == 0 ? 0 : (double) activeSessionSamples / sampleCount;
+        }
+    }
+
+    private final int capacity;
+    private final int rowCapacity;
+
+    private final long[] sampleTimes;
+    // Number of rows of each sample. Samples may have the same time, so rows are evicted by count.
+    private final int[] sampleRowCounts;
+    private int sampleStart;
+    private int sampleCount;
+
+    private final long[] rowTimes;
+    private final String[] rowSessionIds;
+    private final String[] rowUsers;
+    private final String[] rowQueries;
+    private final String[] rowWaitEvents;
+    private final String[] rowBlockers;
+    private int rowStart;
+    private int rowCount;
+
+    private final Map<String, String> internedStrings = new LinkedHashMap<>(MAX_INTERNED_STRINGS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_INTERNED_STRINGS;
+        }
+    };
+
+    @Nullable
+    private final Path spillFile;
+    private final long maxSpillSize;
+    private BufferedWriter spillWriter;
+    private long spillSize;
+    private boolean spillFailed;
+
+    /**
+     * @param capacity     max number of samples kept in memory
+     * @param rowCapacity  max number of active session rows kept in memory
+     * @param spillFile    file for evicted samples. Null if evicted samples should be discarded.
+     * @param maxSpillSize max size of spill file. Previous spill file is kept when it is exceeded,
+     *                     so up to two sizes are used on disk.
+     */
+    public DBAServerSessionHistory(int capacity, int rowCapacity, @Nullable Path spillFile, long maxSpillSize) {
+        this.capacity = Math.max(1, capacity);
+        this.rowCapacity = Math.max(1, rowCapacity);
+        this.sampleTimes = new long[this.capacity];
+        this.sampleRowCounts = new int[this.capacity];
+        this.rowTimes = new long[this.rowCapacity];
+        this.rowSessionIds = new String[this.rowCapacity];
+        this.rowUsers = new String[this.rowCapacity];
+        this.rowQueries = new String[this.rowCapacity];
+        this.rowWaitEvents = new String[this.rowCapacity];
+        this.rowBlockers = new String[this.rowCapacity];
+        this.spillFile = spillFile;
+        this.maxSpillSize = maxSpillSize;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRowCapacity() {
+        return rowCapacity;
+    }
+
+    public synchronized int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Time of the oldest sample in memory or -1 if history is empty
+     */
+    public synchronized long getOldestSampleTime() {
+        return sampleCount == 0 ? -1 : sampleTimes[sampleStart];
+    }
+
+    /**
+     * Adds sessions read at the specified time. Idle sessions are skipped.
+     */
+    public synchronized void addSample(long time, @NotNull Collection<? extends DBAServerSession> sessions) {
+        List<DBAServerSession> activeSessions = new ArrayList<>();
+        for (DBAServerSession session : sessions) {
+            if (session instanceof DBAServerSessionActivity activity
+                ? activity.isSessionActive()
+                : !CommonUtils.isEmpty(session.getActiveQuery())
+            ) {
+                activeSessions.add(session);
+            }
+        }
+        if (activeSessions.size() > rowCapacity) {
+            log.debug("Too many active sessions (" + activeSessions.size() + "), only " + rowCapacity + " are kept in the history");
+            activeSessions = activeSessions.subList(0, rowCapacity);
+        }
+
+        if (sampleCount == capacity) {
+            evictSample();
+        }
+        while (rowCount + activeSessions.size() > rowCapacity && sampleCount > 0) {
+            evictSample();
+        }
+        int sampleIndex = (sampleStart + sampleCount) % capacity;
+        sampleTimes[sampleIndex] = time;
+        sampleRowCounts[sampleIndex] = activeSessions.size();
+        sampleCount++;
+
+        for (DBAServerSession session : activeSessions) {
+            if (session instanceof DBAServerSessionActivity activity) {
+                addRow(time, session.getSessionId(), activity.getSessionUser(), session.getActiveQuery(),
+                    activity.getWaitEvent(), activity.getBlockingSessionId());
+            } else {
+                addRow(time, session.getSessionId(), null, session.getActiveQuery(), null, null);
+            }
+        }
+        flushSpill();
+    }
+
+    /**
+     * Aggregates session activity over the specified time window.
+     * Spilled samples are read if the window starts before the oldest sample in memory.
+     */
+    @NotNull
+    public synchronized Summary aggregate(long fromTime, long toTime, int topCount) {
+        Aggregator aggregator = new Aggregator(fromTime, toTime);
+        if (spillFile != null && (sampleCount == 0 || fromTime < sampleTimes[sampleStart])) {
+            flushSpill();
+            readSpill(aggregator);
+        }
+        for (int i = 0; i < sampleCount; i++) {
+            aggregator.addSample(sampleTimes[(sampleStart + i) % capacity]);
+        }
+        for (int i = 0; i < rowCount; i++) {
+            int index = (rowStart + i) % rowCapacity;
+            aggregator.addRow(rowTimes[index], rowUsers[index], rowQueries[index], rowWaitEvents[index], rowBlockers[index]);
+        }
+        return aggregator.getSummary(topCount);
+    }
+
+    public synchronized void clear() {
+        sampleStart = sampleCount = 0;
+        rowStart = rowCount = 0;
+        Arrays.fill(rowSessionIds, null);
+        Arrays.fill(rowUsers, null);
+        Arrays.fill(rowQueries, null);
+        Arrays.fill(rowWaitEvents, null);
+        Arrays.fill(rowBlockers, null);
+        internedStrings.clear();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.close();
+            } catch (IOException e) {
+                log.debug("Error closing session history spill file", e);
+            }
+            spillWriter = null;
+        }
+    }
+
+    private void addRow(
+        long time,
+        @Nullable String sessionId,
+        @Nullable String user,
+        @Nullable String query,
+        @Nullable String waitEvent,
+        @Nullable String blocker
+    ) {
+        int index = (rowStart + rowCount) % rowCapacity;
+        rowTimes[index] = time;
+        rowSessionIds[index] = sessionId;
+        rowUsers[index] = intern(user);
+        rowQueries[index] = intern(query == null ? null : CommonUtils.truncateString(query.trim(), MAX_QUERY_LENGTH));
+        rowWaitEvents[index] = intern(waitEvent);
+        rowBlockers[index] = blocker;
+        rowCount++;
+    }
+
+    /**
+     * Evicts the oldest sample with all its rows
+     */
+    private void evictSample() {
+        long time = sampleTimes[sampleStart];
+        int sampleRows = sampleRowCounts[sampleStart];
+        spill(SPILL_SAMPLE, time);
+        sampleStart = (sampleStart + 1) % capacity;
+        sampleCount--;
+        for (int i = 0; i < sampleRows && rowCount > 0; i++) {
+            spillRow(rowStart);
+            rowSessionIds[rowStart] = null;
+            rowUsers[rowStart] = null;
+            rowQueries[rowStart] = null;
+            rowWaitEvents[rowStart] = null;
+            rowBlockers[rowStart] = null;
+            rowStart = (rowStart + 1) % rowCapacity;
+            rowCount--;
+        }
+    }
+
+    @Nullable
+    private String intern(@Nullable String value) {
+        if (CommonUtils.isEmpty(value)) {
+            return null;
+        }
+        String interned = internedStrings.putIfAbsent(value, value);
+        return interned == null ? value : interned;
+    }
+
+    ////////////////////////////////////////////////////
+    // Spill
+
+    private void spillRow(int index) {
+        spill(SPILL_ROW, rowTimes[index], rowSessionIds[index], rowUsers[index], rowQueries[index], rowWaitEvents[index], rowBlockers[index]);
+    }
+
+    private void spill(@NotNull String type, long time, String... values) {
+        if (spillFile == null || spillFailed) {
+            return;
+        }
+        StringBuilder line = new StringBuilder();
+        line.append(type).append('\t').append(time);
+        for (String value : values) {
+            line.append('\t');
+            escape(line, value);
+        }
+        line.append('\n');
+        try {
+            if (spillWriter == null) {
+                spillSize = Files.exists(spillFile) ? Files.size(spillFile) : 0;
+                spillWriter = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            spillWriter.write(line.toString());
+            spillSize += line.length();
+            if (spillSize > maxSpillSize) {
+                spillWriter.close();
+                spillWriter = null;
+                Files.move(spillFile, getPreviousSpillFile(spillFile), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Error writing session history spill file. Evicted samples will be discarded.", e);
+            spillFailed = true;
+            close();
+        }
+    }
+
+    private void flushSpill() {
+        if (spillWriter != null) {
+            try {
+                spillWriter.flush();
+            } catch (IOException e) {
+                log.debug("Error flushing session history spill file", e);
+            }
+        }
+    }
+
+    private void readSpill(@NotNull Aggregator aggregator) {
+        for (Path file : new Path[] { getPreviousSpillFile(spillFile), spillFile }) {
+            if (!Files.exists(file)) {
+                continue;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    String[] fields = line.split("\t", -1);
+                    if (fields.length < 2) {
+                        continue;
+                    }
+                    long time = CommonUtils.toLong(fields[1], -1);
+                    if (SPILL_SAMPLE.equals(fields[0])) {
+                        aggregator.addSample(time);
+                    } else if (SPILL_ROW.equals(fields[0]) && fields.length == 7) {
+                        aggregator.addRow(time, unescape(fields[3]), unescape(fields[4]), unescape(fields[5]), unescape(fields[6]));
+                    }
+                }
+            } catch (IOException e) {
+                log.debug("Error reading session history spill file " + file, e);
+            }
+        }
+    }
+
+    @NotNull
+    private static Path getPreviousSpillFile(@NotNull Path file) {
+        return file.resolveSibling(file.getFileName() + ".1");
+    }
+
+    private static void escape(@NotNull StringBuilder buffer, @Nullable String value) {
+        if (value == null) {
+            buffer.append(SPILL_NULL);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+    }
+
+    @Nullable
+    private static String unescape(@NotNull String value) {
+        if (SPILL_NULL.equals(value)) {
+            return null;
+        }
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't' -> result.append('\t');
+                    case 'n' -> result.append('\n');
+                    case 'r' -> result.append('\r');
+                    default -> result.append(next);
+                }
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    ////////////////////////////////////////////////////
+    // Aggregation
+
+    private static class Aggregator {
+        private final long fromTime;
+        private final long toTime;
+        private int samples;
+        private int activeSessions;
+        private int blockedSessions;
+        private final Map<String, Integer> queries = new HashMap<>();
+        private final Map<String, Integer> waitEvents = new HashMap<>();
+        private final Map<String, Integer> users = new HashMap<>();
+        private final Map<String, Integer> blockers = new HashMap<>();
+
+        Aggregator(long fromTime, long toTime) {
+            this.fromTime = fromTime;
+            this.toTime = toTime;
+        }
+
+        void addSample(long time) {
+            if (time >= fromTime && time <= toTime) {
+                samples++;
+            }
+        }
+
+        void addRow(long time, @Nullable String user, @Nullable String query, @Nullable String waitEvent, @Nullable String blocker) {
+            if (time < fromTime || time > toTime) {
+                return;
+            }
+            activeSessions++;
+            if (query != null) {
+                queries.merge(query, 1, Integer::sum);
+            }
+            if (waitEvent != null) {
+                waitEvents.merge(waitEvent, 1, Integer::sum);
+            }
+            if (user != null) {
+                users.merge(user, 1, Integer::sum);
+            }
+            if (blocker != null) {
+                blockedSessions++;
+                blockers.merge(blocker, 1, Integer::sum);
+            }
+        }
+
+        @NotNull
+        Summary getSummary(int topCount) {
+            return new Summary(
+                fromTime,
+                toTime,
+                samples,
+                activeSessions,
+                blockedSessions,
+                getTopItems(queries, topCount),
+                getTopItems(waitEvents, topCount),
+                getTopItems(users, topCount),
+                getTopItems(blockers, topCount));
+        }
+
+        @NotNull
+        private List<TopItem> getTopItems(@NotNull Map<String, Integer> counts, int topCount) {
+            return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(topCount)
+                .map(e -> new TopItem(e.getKey(), e.getValue(), samples == 0 ? 0 : (double) e.getValue() / samples))
+                .toList();
+        }
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin.sessions;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCExecutionPurpose;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Active session history sampler.
+ * Reads server sessions with the specified interval and adds active ones to the session history.
+ * Sessions are read in a dedicated isolated context, so sampling doesn't interfere with user queries.
+ */
+public class DBAServerSessionSampler<SESSION_TYPE extends DBAServerSession> implements AutoCloseable {
+
+    private static final Log log = Log.getLog(DBAServerSessionSampler.class);
+
+    public static final long DEFAULT_INTERVAL_MS = 1000;
+    public static final long MIN_INTERVAL_MS = 100;
+
+    /**
+     * Session manager option passed by the sampler. Session managers may read additional activity details
+     * (like blocking sessions) when it is set, as they are too expensive for the regular session list.
+     * They should also skip the session which reads sessions, so the sampler's own query isn't counted as activity.
+     */
+    public static final String OPTION_READ_ACTIVITY = "readActivity";
+
+    @NotNull
+    private final DBAServerSessionManager<SESSION_TYPE> sessionManager;
+    @NotNull
+    private final DBAServerSessionHistory history;
+    @NotNull
+    private final Map<String, Object> options;
+    private volatile long interval = DEFAULT_INTERVAL_MS;
+    // Current sampler job. Job which is not current anymore (sampler was stopped) finishes without rescheduling.
+    @Nullable
+    private volatile SamplerJob samplerJob;
+    private volatile int failedSamples;
+
+    /**
+     * @param options session manager options (see {@link DBAServerSessionManager#getSessions}).
+     *                {@link #OPTION_READ_ACTIVITY} is added to them.
+     */
+    public DBAServerSessionSampler(
+        @NotNull DBAServerSessionManager<SESSION_TYPE> sessionManager,
+        @NotNull DBAServerSessionHistory history,
+        @NotNull Map<String, Object> options
+    ) {
+        this.sessionManager = sessionManager;
+        this.history = history;
+        this.options = new HashMap<>(options);
+        this.options.put(OPTION_READ_ACTIVITY, true);
+    }
+
+    @NotNull
+    public DBAServerSessionHistory getHistory() {
+        return history;
+    }
+
+    public long getInterval() {
+        return interval;
+    }
+
+    public void setInterval(long interval) {
+        this.interval = Math.max(interval, MIN_INTERVAL_MS);
+    }
+
+    public boolean isRunning() {
+        return samplerJob != null;
+    }
+
+    /**
+     * Number of failed samples since the last successful one
+     */
+    public int getFailedSamples() {
+        return failedSamples;
+    }
+
+    public synchronized void start() {
+        if (samplerJob != null) {
+            return;
+        }
+        SamplerJob job = new SamplerJob();
+        samplerJob = job;
+        job.schedule();
+    }
+
+    public synchronized void stop() {
+        SamplerJob job = samplerJob;
+        if (job == null) {
+            return;
+        }
+        samplerJob = null;
+        if (job.cancel()) {
+            // Job isn't running, so it won't close context itself
+            job.closeContext();
+        }
+    }
+
+    @Override
+    public void close() {
+        stop();
+        history.close();
+    }
+
+    /**
+     * Checks that the job is still the current one, or clears the current job if the sampler can't continue
+     */
+    private synchronized boolean continueJob(@NotNull SamplerJob job) {
+        if (samplerJob != job) {
+            return false;
+        }
+        if (DBWorkbench.getPlatform().isShuttingDown() || !sessionManager.getDataSource().getContainer().isConnected()) {
+            samplerJob = null;
+            return false;
+        }
+        return true;
+    }
+
+    private class SamplerJob extends AbstractJob {
+
+        // Opened by the job, closed when the job finishes
+        @Nullable
+        private DBCExecutionContext samplerContext;
+
+        SamplerJob() {
+            super("Sample sessions of " + sessionManager.getDataSource().getContainer().getName());
+            setUser(false);
+            setSystem(true);
+        }
+
+        @NotNull
+        @Override
+        protected IStatus run(@NotNull DBRProgressMonitor monitor) {
+            if (!continueJob(this)) {
+                closeContext();
+                return Status.OK_STATUS;
+            }
+            long startTime = System.currentTimeMillis();
+            try {
+                readSample(monitor);
+                failedSamples = 0;
+            } catch (Exception e) {
+                if (failedSamples++ == 0) {
+                    log.debug("Error reading server sessions sample", e);
+                }
+                // Connection may be broken, it will be reopened on the next sample
+                closeContext();
+            }
+            if (samplerJob == this) {
+                schedule(Math.max(0, interval - (System.currentTimeMillis() - startTime)));
+            } else {
+                // Sampler was stopped (and maybe started again with a new job) while the sample was read
+                closeContext();
+            }
+            return Status.OK_STATUS;
+        }
+
+        private void readSample(@NotNull DBRProgressMonitor monitor) throws DBException {
+            long sampleTime = System.currentTimeMillis();
+            DBPDataSource dataSource = sessionManager.getDataSource();
+            DBCExecutionContext context;
+            if (dataSource.getContainer().isForceUseSingleConnection()) {
+                context = DBUtils.getDefaultContext(dataSource, false);
+            } else {
+                if (samplerContext == null) {
+                    samplerContext = dataSource.getDefaultInstance().openIsolatedContext(monitor, "Session history sampler", null);
+                }
+                context = samplerContext;
+            }
+            Collection<SESSION_TYPE> sessions;
+            try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Sample server sessions")) {
+                sessions = sessionManager.getSessions(session, options);
+            }
+            history.addSample(sampleTime, sessions);
+        }
+
+        synchronized void closeContext() {
+            if (samplerContext != null) {
+                samplerContext.close();
+                samplerContext = null;
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return "Session sampler of " + sessionManager.getDataSource().getContainer().getName();
+    }
+}
@@ -25,6 +25,7 @@ import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.edit.SQLDatabasePersistAction;
+import org.jkiss.dbeaver.model.runtime.jfr.BatchFlushEvent;
 import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
 import org.jkiss.dbeaver.model.struct.DBSDataManipulator;
@@ -289,9 +290,25 @@ public abstract class ExecuteBatchImpl implements DBSDataManipulator.ExecuteBatc
     }
 
     void flushBatch(DBCStatistics statistics, DBCStatement statement) throws DBCException {
+        BatchFlushEvent flushEvent = null;
+        if (BatchFlushEvent.isEventEnabled()) {
+            flushEvent = new BatchFlushEvent();
+            flushEvent.begin();
+        }
         long startTime = System.currentTimeMillis();
         long[] updatedRows = statement.executeStatementBatch();
         statistics.addExecuteTime(System.currentTimeMillis() - startTime);
+        if (flushEvent != null) {
+            flushEvent.setDataSource(statement.getSession().getDataSource());
+            flushEvent.setQuery(statement.getQueryString());
+            flushEvent.statements = updatedRows == null ? 0 : updatedRows.length;
+            if (updatedRows != null) {
+                for (long rows : updatedRows) {
+                    flushEvent.rows += Math.max(rows, 0);
+                }
+            }
+            flushEvent.finish();
+        }
         if (!ArrayUtils.isEmpty(updatedRows)) {
             for (long rows : updatedRows) {
                 if (rows < 0) {
@@ -35,7 +35,7 @@ import java.util.*;
 /**
  * DBNProjectDatabases
  */
-public class DBNProjectDatabases extends DBNNode implements DBNContainer, DBPEventListener
+public class DBNProjectDatabases extends DBNNode implements DBNContainer, DBPEventBatchListener
 {
     private DBPDataSourceRegistry dataSourceRegistry;
     private final List<DBNDataSource> dataSources = new ArrayList<>();
@@ -349,6 +349,14 @@ public class DBNProjectDatabases extends DBNNode implements DBNContainer, DBPEve
         }
     }
 
+    @Override
+    public void handleDataSourceEvents(@NotNull List<DBPEvent> events) {
+        // Child updates under refreshed parents are already removed from the batch
+        for (DBPEvent event : events) {
+            handleDataSourceEvent(event);
+        }
+    }
+
     @Override
     public void handleDataSourceEvent(@NotNull DBPEvent event)
     {
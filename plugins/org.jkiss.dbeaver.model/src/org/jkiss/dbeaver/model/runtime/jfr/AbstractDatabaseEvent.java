@@ -0,0 +1,68 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.runtime.jfr;
+
+import jdk.jfr.*;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataSource;
+
+/**
+ * Base class of Java Flight Recorder events.
+ * All events are disabled by default and may be enabled in recording settings, e.g.
+ * {@code jcmd <pid> JFR.start settings=profile +org.jkiss.dbeaver.StatementExecute#enabled=true}.
+ * <p>
+ * Events must be created only if static {@code isEventEnabled()} of the event class returns true,
+ * so disabled events cost a single check. Query text is never recorded, only its hash.
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category("DBeaver")
+public abstract class AbstractDatabaseEvent extends Event {
+
+    @Label("Data Source")
+    @Description("Data source (connection) id")
+    public String dataSourceId;
+
+    @Label("SQL Hash")
+    @Description("Hash code of the query text")
+    public int sqlHash;
+
+    @Label("Rows")
+    public long rows;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    public void setDataSource(@Nullable DBPDataSource dataSource) {
+        this.dataSourceId = dataSource == null ? null : dataSource.getContainer().getId();
+    }
+
+    public void setQuery(@Nullable String query) {
+        this.sqlHash = query == null ? 0 : query.hashCode();
+    }
+
+    /**
+     * Ends event and commits it if it matches recording settings (e.g. duration threshold)
+     */
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.runtime.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Load of metadata objects cache. Rows is the number of loaded objects.
+ */
+@Name("org.jkiss.dbeaver.ObjectCacheLoad")
+@Label("Object Cache Load")
+@Category({"DBeaver", "Metadata"})
+public class ObjectCacheLoadEvent extends AbstractDatabaseEvent {
+
+    // Used to check whether event is enabled without event allocation
+    private static final ObjectCacheLoadEvent PROBE = new ObjectCacheLoadEvent();
+
+    @Label("Cache")
+    public String cacheName;
+
+    @Label("Owner")
+    public String ownerName;
+
+    public static boolean isEventEnabled() {
+        return PROBE.isEnabled();
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.runtime.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Fetch of a block of result set rows. Duration includes processing of fetched rows.
+ */
+@Name("org.jkiss.dbeaver.ResultSetFetch")
+@Label("Result Set Fetch")
+@Category({"DBeaver", "Execution"})
+public class ResultSetFetchEvent extends AbstractDatabaseEvent {
+
+    // Used to check whether event is enabled without event allocation
+    private static final ResultSetFetchEvent PROBE = new ResultSetFetchEvent();
+
+    public static boolean isEventEnabled() {
+        return PROBE.isEnabled();
+    }
+}
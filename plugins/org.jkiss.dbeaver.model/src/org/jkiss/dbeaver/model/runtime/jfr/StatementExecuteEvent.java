@@ -0,0 +1,38 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.runtime.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Statement execution. Rows is the number of updated rows (if known).
+ */
+@Name("org.jkiss.dbeaver.StatementExecute")
+@Label("Statement Execute")
+@Category({"DBeaver", "Execution"})
+public class StatementExecuteEvent extends AbstractDatabaseEvent {
+
+    // Used to check whether event is enabled without event allocation
+    private static final StatementExecuteEvent PROBE = new StatementExecuteEvent();
+
+    @Label("Failed")
+    public boolean failed;
+
+    public static boolean isEventEnabled() {
+        return PROBE.isEnabled();
+    }
+}
@@ -0,0 +1,568 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.AbstractResultSet;
+import org.jkiss.dbeaver.model.impl.local.LocalResultSetMeta;
+import org.jkiss.dbeaver.model.impl.local.LocalStatement;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.qm.QMEventAction;
+import org.jkiss.dbeaver.model.qm.QMMetaEvent;
+import org.jkiss.dbeaver.model.qm.QMMetaListener;
+import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.qm.meta.QMMStatementExecuteInfo;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.parser.SQLScriptDependencyAnalyzer;
+import org.jkiss.dbeaver.model.sql.parser.SQLSemanticProcessor;
+import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
+import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
+import org.jkiss.utils.CommonUtils;
+
+import java.time.temporal.Temporal;
+import java.util.*;
+
+/**
+ * Client-side cache of read-only query results.
+ *
+ * Results are keyed by normalized query text, parameters, default catalog and schema, transaction mode and fetch limits.
+ * Only result sets of scalar columns (strings, numbers, booleans and dates) are cached. Rows are read with value handlers,
+ * so a cached result can be replayed to any data receiver.
+ * Entries are dropped when query manager sees data modification or DDL on the tables they read, when they expire
+ * or when the cache of the data source exceeds its size limit. Statements of sessions with disabled logging aren't seen
+ * by query manager, they are reported by the statements themselves (see {@link #handleUnloggedQuery}).
+ */
+public class SQLQueryResultCache {
+
+    private static final Log log = Log.getLog(SQLQueryResultCache.class);
+
+    private static final SQLQueryResultCache INSTANCE = new SQLQueryResultCache();
+
+    // Approximate memory used by a row array and by a value reference
+    private static final int ROW_OVERHEAD = 16;
+    private static final int VALUE_OVERHEAD = 8;
+
+    private static final Set<DBPDataKind> CACHEABLE_KINDS = EnumSet.of(
+        DBPDataKind.STRING, DBPDataKind.NUMERIC, DBPDataKind.BOOLEAN, DBPDataKind.DATETIME);
+
+    private final Map<String, DataSourceCache> dataSourceCaches = new HashMap<>();
+    private final QMMetaListener invalidateListener = this::handleQueryEvents;
+    private boolean listenerRegistered;
+
+    @NotNull
+    public static SQLQueryResultCache getInstance() {
+        return INSTANCE;
+    }
+
+    public static boolean isEnabled(@NotNull DBPDataSourceContainer container) {
+        return container.getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_CACHE_ENABLED);
+    }
+
+    /**
+     * Returns cached result of the query or null if there is no valid cached result
+     */
+    @Nullable
+    public DBCResultSet getCachedResult(
+        @NotNull DBCSession session,
+        @NotNull String queryText,
+        @Nullable String parameters,
+        long offset,
+        long maxRows
+    ) {
+        DBPDataSourceContainer container = session.getDataSource().getContainer();
+        CacheKey key = makeKey(session, queryText, parameters, offset, maxRows);
+        CacheEntry entry;
+        synchronized (this) {
+            DataSourceCache cache = dataSourceCaches.get(container.getId());
+            if (cache == null) {
+                return null;
+            }
+            entry = cache.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireTime < System.currentTimeMillis()) {
+                cache.remove(key);
+                return null;
+            }
+        }
+        log.debug("Use cached result of '" + CommonUtils.truncateString(queryText, 200) + "'");
+        return new CachedResultSet(session, new LocalStatement(session, queryText), entry.attributes, entry.rows, null);
+    }
+
+    /**
+     * Reads the result set and puts it in the cache.
+     *
+     * @return result set which must be used instead of the original one. If the result is too big for the cache,
+     * rows read so far are replayed and the rest is read from the original result set. The original result set
+     * must be closed by the caller after the returned result set is read.
+     * If result set can't be cached then the original result set is returned.
+     */
+    @NotNull
+    public DBCResultSet cacheResult(
+        @NotNull DBCSession session,
+        @NotNull String queryText,
+        @Nullable String parameters,
+        long offset,
+        long maxRows,
+        @NotNull DBCResultSet resultSet
+    ) throws DBCException {
+        if (!Boolean.TRUE.equals(resultSet.getFeature(DBCResultSet.FEATURE_NAME_JDBC))) {
+            // Other value handlers may read values differently from local result sets
+            return resultSet;
+        }
+        List<DBCAttributeMetaData> attributes = new ArrayList<>(resultSet.getMeta().getAttributes());
+        if (attributes.isEmpty()) {
+            return resultSet;
+        }
+        DBDValueHandler[] valueHandlers = new DBDValueHandler[attributes.size()];
+        for (int i = 0; i < attributes.size(); i++) {
+            DBCAttributeMetaData attribute = attributes.get(i);
+            if (!CACHEABLE_KINDS.contains(attribute.getDataKind())) {
+                return resultSet;
+            }
+            valueHandlers[i] = DBUtils.findValueHandler(session, attribute);
+        }
+
+        DBPPreferenceStore preferences = session.getDataSource().getContainer().getPreferenceStore();
+        long maxSize = preferences.getLong(ModelPreferences.RESULT_SET_CACHE_MAX_SIZE) * 1024 * 1024;
+        List<Object[]> rows = new ArrayList<>();
+        long size = 0;
+        while ((maxRows <= 0 || rows.size() < maxRows) && resultSet.nextRow()) {
+            Object[] row = readRow(session, resultSet, attributes, valueHandlers);
+            rows.add(row);
+            long rowSize = estimateRowSize(row);
+            if (rowSize < 0 || size + rowSize > maxSize) {
+                // Stop buffering, the rest of rows is read from the original result set
+                return new CachedResultSet(
+                    session, resultSet.getSourceStatement(), attributes, rows,
+                    new RowSource(resultSet, valueHandlers, maxRows <= 0 ? -1 : maxRows - rows.size()));
+            }
+            size += rowSize;
+        }
+        long ttl = preferences.getLong(ModelPreferences.RESULT_SET_CACHE_TTL) * 1000;
+        Set<String> tables = getQueryTables(session, queryText);
+        CacheEntry entry = new CacheEntry(attributes, rows, size, System.currentTimeMillis() + ttl, tables);
+        putEntry(session, makeKey(session, queryText, parameters, offset, maxRows), entry, maxSize);
+        return new CachedResultSet(session, resultSet.getSourceStatement(), attributes, rows, null);
+    }
+
+    /**
+     * Drops results invalidated by a statement executed in a session with disabled logging.
+     * Such statements don't reach query manager, so they are reported by the statement implementation.
+     */
+    public void handleUnloggedQuery(@NotNull DBCSession session, @Nullable String queryText) {
+        if (CommonUtils.isEmpty(queryText)) {
+            return;
+        }
+        String containerId = session.getDataSource().getContainer().getId();
+        synchronized (this) {
+            if (!dataSourceCaches.containsKey(containerId)) {
+                return;
+            }
+        }
+        SQLDialect dialect = session.getDataSource().getSQLDialect();
+        if (dialect.isTransactionModifyingQuery(queryText)) {
+            invalidateQuery(containerId, dialect, queryText);
+        }
+    }
+
+    /**
+     * Removes all cached results of the data source
+     */
+    public synchronized void invalidate(@NotNull DBPDataSourceContainer container) {
+        dataSourceCaches.remove(container.getId());
+    }
+
+    private synchronized void putEntry(
+        @NotNull DBCSession session,
+        @NotNull CacheKey key,
+        @NotNull CacheEntry entry,
+        long maxSize
+    ) {
+        if (!listenerRegistered) {
+            QMUtils.registerMetaListener(invalidateListener);
+            listenerRegistered = true;
+        }
+        DataSourceCache cache = dataSourceCaches.computeIfAbsent(
+            session.getDataSource().getContainer().getId(),
+            id -> new DataSourceCache(session.getDataSource().getSQLDialect()));
+        cache.remove(key);
+        cache.entries.put(key, entry);
+        cache.size += entry.size;
+        // Evict least recently used entries
+        Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = cache.entries.entrySet().iterator();
+        while (cache.size > maxSize && iterator.hasNext()) {
+            cache.size -= iterator.next().getValue().size;
+            iterator.remove();
+        }
+    }
+
+    private void handleQueryEvents(@NotNull DBRProgressMonitor monitor, @NotNull List<QMMetaEvent> events) {
+        for (QMMetaEvent event : events) {
+            if (event.getAction() != QMEventAction.END
+                || !(event.getObject() instanceof QMMStatementExecuteInfo execute)
+                || !execute.isTransactional()
+                || execute.getQueryString() == null
+            ) {
+                continue;
+            }
+            String containerId = execute.getStatement().getConnection().getContainerId();
+            SQLDialect dialect;
+            synchronized (this) {
+                DataSourceCache cache = dataSourceCaches.get(containerId);
+                if (cache == null) {
+                    continue;
+                }
+                dialect = cache.dialect;
+            }
+            invalidateQuery(containerId, dialect, execute.getQueryString());
+        }
+    }
+
+    private void invalidateQuery(@NotNull String containerId, @NotNull SQLDialect dialect, @NotNull String queryText) {
+        SQLScriptDependencyAnalyzer.StatementTables tables;
+        try {
+            tables = SQLScriptDependencyAnalyzer.getStatementTables(SQLSemanticProcessor.parseQuery(dialect, queryText));
+        } catch (DBCException e) {
+            tables = SQLScriptDependencyAnalyzer.StatementTables.BARRIER;
+        }
+        if (!tables.barrier() && tables.writes().isEmpty()) {
+            return;
+        }
+        invalidateTables(containerId, tables.barrier() ? null : tables.writes());
+    }
+
+    /**
+     * Removes results which read the specified tables. All results of the data source are removed if tables are not known.
+     */
+    private synchronized void invalidateTables(@NotNull String containerId, @Nullable Set<String> tables) {
+        DataSourceCache cache = dataSourceCaches.get(containerId);
+        if (cache == null) {
+            return;
+        }
+        if (tables == null) {
+            dataSourceCaches.remove(containerId);
+            return;
+        }
+        Iterator<CacheEntry> iterator = cache.entries.values().iterator();
+        while (iterator.hasNext()) {
+            CacheEntry entry = iterator.next();
+            if (entry.tables == null || !Collections.disjoint(entry.tables, tables)) {
+                cache.size -= entry.size;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns tables read by the query or null if query can't be analyzed
+     */
+    @Nullable
+    private static Set<String> getQueryTables(@NotNull DBCSession session, @NotNull String queryText) {
+        try {
+            SQLScriptDependencyAnalyzer.StatementTables tables = SQLScriptDependencyAnalyzer.getStatementTables(
+                SQLSemanticProcessor.parseQuery(session.getDataSource().getSQLDialect(), queryText));
+            return tables.barrier() || tables.reads().isEmpty() ? null : tables.reads();
+        } catch (DBCException e) {
+            return null;
+        }
+    }
+
+    @NotNull
+    private static CacheKey makeKey(
+        @NotNull DBCSession session,
+        @NotNull String queryText,
+        @Nullable String parameters,
+        long offset,
+        long maxRows
+    ) {
+        DBCExecutionContext context = session.getExecutionContext();
+        DBCExecutionContextDefaults<?, ?> contextDefaults = context.getContextDefaults();
+        String catalog = null, schema = null;
+        if (contextDefaults != null) {
+            DBSCatalog defaultCatalog = contextDefaults.getDefaultCatalog();
+            DBSSchema defaultSchema = contextDefaults.getDefaultSchema();
+            catalog = defaultCatalog == null ? null : defaultCatalog.getName();
+            schema = defaultSchema == null ? null : defaultSchema.getName();
+        }
+        DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+        boolean autoCommit = txnManager == null || txnManager.isAutoCommit();
+        return new CacheKey(normalizeQuery(queryText), CommonUtils.notEmpty(parameters), catalog, schema, autoCommit, offset, maxRows);
+    }
+
+    /**
+     * Collapses whitespaces outside of quoted strings and comments and removes trailing delimiter.
+     * Line break after a line comment is kept, as it ends the comment.
+     */
+    @NotNull
+    static String normalizeQuery(@NotNull String queryText) {
+        StringBuilder result = new StringBuilder(queryText.length());
+        char quote = 0;
+        boolean space = false;
+        boolean lineBreak = false;
+        for (int i = 0; i < queryText.length(); i++) {
+            char c = queryText.charAt(i);
+            if (quote != 0) {
+                result.append(c);
+                if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (lineBreak) {
+                result.append('\n');
+            } else if (space && !result.isEmpty()) {
+                result.append(' ');
+            }
+            space = false;
+            lineBreak = false;
+            if (c == '-' && i + 1 < queryText.length() && queryText.charAt(i + 1) == '-') {
+                int end = queryText.indexOf('\n', i);
+                if (end < 0) {
+                    end = queryText.length();
+                } else {
+                    lineBreak = true;
+                }
+                result.append(queryText, i, end);
+                // Remove carriage return of the line break
+                if (result.charAt(result.length() - 1) == '\r') {
+                    result.setLength(result.length() - 1);
+                }
+                i = end;
+                continue;
+            }
+            if (c == '/' && i + 1 < queryText.length() && queryText.charAt(i + 1) == '*') {
+                int end = queryText.indexOf("*/", i + 2);
+                end = end < 0 ? queryText.length() : end + 2;
+                result.append(queryText, i, end);
+                i = end - 1;
+                continue;
+            }
+            if (c == '\'' || c == '"' || c == '`') {
+                quote = c;
+            }
+            result.append(c);
+        }
+        int length = result.length();
+        while (length > 0 && (result.charAt(length - 1) == ';' || result.charAt(length - 1) == ' ')) {
+            length--;
+        }
+        result.setLength(length);
+        return result.toString();
+    }
+
+    @NotNull
+    private static Object[] readRow(
+        @NotNull DBCSession session,
+        @NotNull DBCResultSet resultSet,
+        @NotNull List<DBCAttributeMetaData> attributes,
+        @NotNull DBDValueHandler[] valueHandlers
+    ) throws DBCException {
+        Object[] row = new Object[attributes.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = valueHandlers[i].fetchValueObject(session, resultSet, attributes.get(i), i);
+        }
+        return row;
+    }
+
+    /**
+     * Returns approximate size of row values or -1 if some value can't be measured
+     */
+    private static long estimateRowSize(@NotNull Object[] row) {
+        long size = ROW_OVERHEAD + (long) VALUE_OVERHEAD * row.length;
+        for (Object value : row) {
+            if (value == null || value instanceof Boolean) {
+                continue;
+            }
+            if (value instanceof String str) {
+                size += 40 + str.length() * 2L;
+            } else if (value instanceof Number || value instanceof Character) {
+                size += 24;
+            } else if (value instanceof Date || value instanceof Temporal) {
+                size += 32;
+            } else {
+                return -1;
+            }
+        }
+        return size;
+    }
+
+    private record CacheKey(
+        @NotNull String query,
+        @NotNull String parameters,
+        @Nullable String catalog,
+        @Nullable String schema,
+        boolean autoCommit,
+        long offset,
+        long maxRows
+    ) {
+    }
+
+    private record CacheEntry(
+        @NotNull List<DBCAttributeMetaData> attributes,
+        @NotNull List<Object[]> rows,
+        long size,
+        long expireTime,
+        @Nullable Set<String> tables
+    ) {
+    }
+
+    private static class DataSourceCache {
+        // Access order, so the first entry is the least recently used one
+        private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        // Dialect of the data source, executed queries are parsed with it
+        @NotNull
+        private final SQLDialect dialect;
+        private long size;
+
+        DataSourceCache(@NotNull SQLDialect dialect) {
+            this.dialect = dialect;
+        }
+
+        void remove(@NotNull CacheKey key) {
+            CacheEntry entry = entries.remove(key);
+            if (entry != null) {
+                size -= entry.size;
+            }
+        }
+    }
+
+    /**
+     * Rest of the result set which is too big for the cache
+     *
+     * @param maxRows max number of rows to read, -1 if not limited
+     */
+    private record RowSource(@NotNull DBCResultSet resultSet, @NotNull DBDValueHandler[] valueHandlers, long maxRows) {
+    }
+
+    /**
+     * Read-only result set over cached rows. Rows are shared between all result sets of the same entry,
+     * mutable values are copied when they are read.
+     * Result set of a big result replays buffered rows and then reads the rest from the row source.
+     */
+    private static class CachedResultSet extends AbstractResultSet<DBCSession, DBCStatement> {
+        private final List<DBCAttributeMetaData> attributes;
+        private final List<Object[]> rows;
+        @Nullable
+        private final RowSource rowSource;
+        private int curPosition = -1;
+        // Current row read from the row source
+        private Object[] sourceRow;
+        private long sourceRowCount;
+
+        CachedResultSet(
+            @NotNull DBCSession session,
+            @NotNull DBCStatement statement,
+            @NotNull List<DBCAttributeMetaData> attributes,
+            @NotNull List<Object[]> rows,
+            @Nullable RowSource rowSource
+        ) {
+            super(session, statement);
+            this.attributes = attributes;
+            this.rows = rows;
+            this.rowSource = rowSource;
+        }
+
+        @Override
+        public Object getAttributeValue(int index) throws DBCException {
+            Object[] row;
+            if (curPosition >= 0 && curPosition < rows.size()) {
+                row = rows.get(curPosition);
+            } else if (curPosition == rows.size() && sourceRow != null) {
+                row = sourceRow;
+            } else {
+                throw new DBCException("Result set is not positioned on a row");
+            }
+            if (index < 0 || index >= row.length) {
+                throw new DBCException("Attribute index out of range (" + index + "/" + row.length + ")");
+            }
+            // Dates (and timestamps) are mutable, each read gets its own copy
+            return row[index] instanceof Date date ? date.clone() : row[index];
+        }
+
+        @Nullable
+        @Override
+        public Object getAttributeValue(String name) throws DBCException {
+            for (int i = 0; i < attributes.size(); i++) {
+                DBCAttributeMetaData attribute = attributes.get(i);
+                if (attribute.getLabel().equals(name) || attribute.getName().equals(name)) {
+                    return getAttributeValue(i);
+                }
+            }
+            throw new DBCException("Bad attribute name: " + name);
+        }
+
+        @Override
+        public boolean nextRow() throws DBCException {
+            if (curPosition + 1 < rows.size()) {
+                curPosition++;
+                return true;
+            }
+            if (rowSource == null || (rowSource.maxRows >= 0 && sourceRowCount >= rowSource.maxRows) || !rowSource.resultSet.nextRow()) {
+                sourceRow = null;
+                curPosition = rows.size();
+                return false;
+            }
+            sourceRow = readRow(session, rowSource.resultSet, attributes, rowSource.valueHandlers);
+            sourceRowCount++;
+            curPosition = rows.size();
+            return true;
+        }
+
+        @Override
+        public boolean moveTo(int position) {
+            // Rows of the row source can't be read again
+            if (position < 0 || position >= rows.size() || sourceRowCount > 0) {
+                return false;
+            }
+            curPosition = position;
+            return true;
+        }
+
+        @NotNull
+        @Override
+        public DBCResultSetMetaData getMeta() {
+            return new LocalResultSetMeta(attributes);
+        }
+
+        @Override
+        public Object getFeature(String name) {
+            if (FEATURE_NAME_LOCAL.equals(name)) {
+                return true;
+            }
+            return super.getFeature(name);
+        }
+
+        @Override
+        public void close() {
+            curPosition = -1;
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.parser;
+
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.alter.Alter;
+import net.sf.jsqlparser.statement.alter.AlterExpression;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.table.ColumnDefinition;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.table.ForeignKeyIndex;
+import net.sf.jsqlparser.statement.create.table.Index;
+import net.sf.jsqlparser.statement.create.view.CreateView;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.merge.Merge;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.truncate.Truncate;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+
+import java.util.*;
+
+/**
+ * Finds dependencies between script statements by the tables they read and write.
+ *
+ * Tables are compared by their unqualified names, so tables with the same name in different schemas
+ * are considered the same table. Statements which can't be analyzed are barriers: they depend on all
+ * previous statements and all next statements depend on them.
+ *
+ * Tables linked by foreign keys are dependent: modification of one table is ordered with modifications of the other.
+ * Foreign keys declared in the script are found by the analyzer, foreign keys of existing tables are provided by the caller.
+ *
+ * Dependencies are found by table names only. Views, triggers and routines (including functions called in expressions)
+ * may access other tables, the analyzer doesn't see them. Callers must resolve names with the database metadata
+ * and treat statements which use views or routines as barriers.
+ */
+public class SQLScriptDependencyAnalyzer {
+
+    private static final Log log = Log.getLog(SQLScriptDependencyAnalyzer.class);
+
+    /**
+     * Tables read and written by a statement.
+     * References are tables referenced by foreign keys of the written table declared in this statement.
+     */
+    public record StatementTables(
+        @NotNull Set<String> reads,
+        @NotNull Set<String> writes,
+        @NotNull Set<String> references,
+        boolean barrier
+    ) {
+        public static final StatementTables BARRIER = new StatementTables(Set.of(), Set.of(), Set.of(), true);
+    }
+
+    private SQLScriptDependencyAnalyzer() {
+    }
+
+    /**
+     * Returns tables of the parsed statement
+     */
+    @NotNull
+    public static StatementTables getStatementTables(@Nullable Statement statement) {
+        if (statement == null) {
+            return StatementTables.BARRIER;
+        }
+        Set<String> writes = new HashSet<>();
+        Set<String> references = new HashSet<>();
+        boolean readsTables = true;
+        if (statement instanceof PlainSelect select) {
+            if (select.getIntoTables() != null) {
+                for (Table table : select.getIntoTables()) {
+                    addTable(writes, table);
+                }
+            }
+        } else if (statement instanceof Select) {
+            // Read only
+        } else if (statement instanceof Insert insert) {
+            addTable(writes, insert.getTable());
+        } else if (statement instanceof Update update) {
+            addTable(writes, update.getTable());
+        } else if (statement instanceof Delete delete) {
+            addTable(writes, delete.getTable());
+            if (delete.getTables() != null) {
+                for (Table table : delete.getTables()) {
+                    addTable(writes, table);
+                }
+            }
+        } else if (statement instanceof Merge merge) {
+            addTable(writes, merge.getTable());
+        } else if (statement instanceof CreateTable createTable) {
+            addTable(writes, createTable.getTable());
+            addReferences(references, createTable);
+            readsTables = createTable.getSelect() != null;
+        } else if (statement instanceof CreateView createView) {
+            addTable(writes, createView.getView());
+        } else if (statement instanceof CreateIndex createIndex) {
+            addTable(writes, createIndex.getTable());
+            readsTables = false;
+        } else if (statement instanceof Alter alter) {
+            addTable(writes, alter.getTable());
+            addReferences(references, alter);
+            readsTables = false;
+        } else if (statement instanceof Truncate truncate) {
+            addTable(writes, truncate.getTable());
+            readsTables = false;
+        } else if (statement instanceof Drop drop
+            && ("TABLE".equalsIgnoreCase(drop.getType()) || "VIEW".equalsIgnoreCase(drop.getType()))) {
+            addTable(writes, drop.getName());
+            readsTables = false;
+        } else {
+            // Procedure calls, session settings, transaction control, etc
+            return StatementTables.BARRIER;
+        }
+        Set<String> reads = new HashSet<>();
+        if (readsTables) {
+            try {
+                for (String tableName : new TablesNamesFinder<>().getTables(statement)) {
+                    reads.add(normalizeName(tableName));
+                }
+            } catch (RuntimeException e) {
+                log.debug("Can't find tables of statement: " + e.getMessage());
+                return StatementTables.BARRIER;
+            }
+        }
+        // Referenced table must exist before the foreign key is created
+        reads.addAll(references);
+        reads.removeAll(writes);
+        if (writes.isEmpty() && !(statement instanceof Select)) {
+            return StatementTables.BARRIER;
+        }
+        return new StatementTables(reads, writes, references, false);
+    }
+
+    /**
+     * Builds dependency graph of script statements.
+     * Statement depends on the previous statements which write tables it reads or writes,
+     * and on the previous statements which read tables it writes.
+     *
+     * @return for each statement indexes of the previous statements it depends on.
+     * Only direct dependencies are returned, transitive ones are implied.
+     */
+    @NotNull
+    public static int[][] buildDependencies(@NotNull List<StatementTables> statements) {
+        return buildDependencies(statements, Map.of());
+    }
+
+    /**
+     * Builds dependency graph of script statements.
+     * Statement which writes a table also depends on statements which access tables linked with it by foreign keys.
+     *
+     * @param foreignKeys tables linked by foreign keys of existing tables (in both directions), by normalized name
+     */
+    @NotNull
+    public static int[][] buildDependencies(
+        @NotNull List<StatementTables> statements,
+        @NotNull Map<String, Set<String>> foreignKeys
+    ) {
+        Map<String, Set<String>> relatedTables = new HashMap<>();
+        foreignKeys.forEach((table, related) -> relatedTables.computeIfAbsent(table, t -> new HashSet<>()).addAll(related));
+        for (StatementTables tables : statements) {
+            for (String table : tables.writes()) {
+                for (String reference : tables.references()) {
+                    relatedTables.computeIfAbsent(table, t -> new HashSet<>()).add(reference);
+                    relatedTables.computeIfAbsent(reference, t -> new HashSet<>()).add(table);
+                }
+            }
+        }
+        if (!relatedTables.isEmpty()) {
+            List<StatementTables> linkedStatements = new ArrayList<>(statements.size());
+            for (StatementTables tables : statements) {
+                linkedStatements.add(addRelatedReads(tables, relatedTables));
+            }
+            statements = linkedStatements;
+        }
+
+        int[][] result = new int[statements.size()][];
+        Map<String, Integer> lastWriters = new HashMap<>();
+        Map<String, List<Integer>> readersAfterWrite = new HashMap<>();
+        List<Integer> sinceBarrier = new ArrayList<>();
+        int lastBarrier = -1;
+        for (int i = 0; i < statements.size(); i++) {
+            StatementTables tables = statements.get(i);
+            Set<Integer> dependencies = new TreeSet<>();
+            if (lastBarrier >= 0) {
+                dependencies.add(lastBarrier);
+            }
+            if (tables.barrier()) {
+                dependencies.addAll(sinceBarrier);
+                lastBarrier = i;
+                sinceBarrier.clear();
+                lastWriters.clear();
+                readersAfterWrite.clear();
+            } else {
+                for (String table : tables.reads()) {
+                    Integer writer = lastWriters.get(table);
+                    if (writer != null) {
+                        dependencies.add(writer);
+                    }
+                }
+                for (String table : tables.writes()) {
+                    Integer writer = lastWriters.get(table);
+                    if (writer != null) {
+                        dependencies.add(writer);
+                    }
+                    List<Integer> readers = readersAfterWrite.get(table);
+                    if (readers != null) {
+                        dependencies.addAll(readers);
+                    }
+                }
+                for (String table : tables.reads()) {
+                    readersAfterWrite.computeIfAbsent(table, t -> new ArrayList<>()).add(i);
+                }
+                for (String table : tables.writes()) {
+                    lastWriters.put(table, i);
+                    readersAfterWrite.remove(table);
+                }
+                sinceBarrier.add(i);
+            }
+            result[i] = dependencies.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    @NotNull
+    private static StatementTables addRelatedReads(@NotNull StatementTables tables, @NotNull Map<String, Set<String>> relatedTables) {
+        if (tables.barrier()) {
+            return tables;
+        }
+        Set<String> reads = null;
+        for (String table : tables.writes()) {
+            Set<String> related = relatedTables.get(table);
+            if (related != null) {
+                if (reads == null) {
+                    reads = new HashSet<>(tables.reads());
+                }
+                reads.addAll(related);
+            }
+        }
+        if (reads == null) {
+            return tables;
+        }
+        reads.removeAll(tables.writes());
+        return new StatementTables(reads, tables.writes(), tables.references(), false);
+    }
+
+    private static void addReferences(@NotNull Set<String> references, @NotNull CreateTable createTable) {
+        if (createTable.getIndexes() != null) {
+            for (Index index : createTable.getIndexes()) {
+                if (index instanceof ForeignKeyIndex fk) {
+                    addTable(references, fk.getTable());
+                }
+            }
+        }
+        if (createTable.getColumnDefinitions() != null) {
+            for (ColumnDefinition column : createTable.getColumnDefinitions()) {
+                addColumnReferences(references, column.getColumnSpecs());
+            }
+        }
+    }
+
+    private static void addReferences(@NotNull Set<String> references, @NotNull Alter alter) {
+        if (alter.getAlterExpressions() == null) {
+            return;
+        }
+        for (AlterExpression expression : alter.getAlterExpressions()) {
+            if (expression.getIndex() instanceof ForeignKeyIndex fk) {
+                addTable(references, fk.getTable());
+            }
+            if (expression.getFkSourceTable() != null) {
+                references.add(normalizeName(expression.getFkSourceTable()));
+            }
+            if (expression.getColDataTypeList() != null) {
+                for (AlterExpression.ColumnDataType column : expression.getColDataTypeList()) {
+                    addColumnReferences(references, column.getColumnSpecs());
+                }
+            }
+        }
+    }
+
+    /**
+     * Column specs of inline foreign key: REFERENCES table [(column)]
+     */
+    private static void addColumnReferences(@NotNull Set<String> references, @Nullable List<String> columnSpecs) {
+        if (columnSpecs == null) {
+            return;
+        }
+        for (int i = 0; i < columnSpecs.size() - 1; i++) {
+            if ("REFERENCES".equalsIgnoreCase(columnSpecs.get(i))) {
+                String tableName = columnSpecs.get(i + 1);
+                int bracketPos = tableName.indexOf('(');
+                if (bracketPos >= 0) {
+                    tableName = tableName.substring(0, bracketPos);
+                }
+                if (!tableName.isBlank()) {
+                    references.add(normalizeName(tableName.trim()));
+                }
+            }
+        }
+    }
+
+    private static void addTable(@NotNull Set<String> tables, @Nullable Table table) {
+        if (table != null && table.getName() != null) {
+            tables.add(normalizeName(table.getName()));
+        }
+    }
+
+    /**
+     * Returns table name as it is compared by the analyzer
+     */
+    @NotNull
+    public static String normalizeName(@NotNull String name) {
+        int divPos = name.lastIndexOf('.');
+        if (divPos >= 0) {
+            name = name.substring(divPos + 1);
+        }
+        StringBuilder result = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != '"' && c != '`' && c != '[' && c != ']') {
+                result.append(c);
+            }
+        }
+        return result.toString().toLowerCase(Locale.ENGLISH);
+    }
+}
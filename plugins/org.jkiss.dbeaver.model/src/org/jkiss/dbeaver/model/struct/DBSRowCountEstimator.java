@@ -0,0 +1,58 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.model.struct;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+/**
+ * Data container which can estimate its row count from the database statistics.
+ * Estimation reads catalog statistics and doesn't scan the data, unlike {@link DBSDataContainer#countData}.
+ */
+public interface DBSRowCountEstimator {
+
+    /**
+     * Row count estimate
+     *
+     * @param rowCount number of rows
+     * @param exact    the count is exact, e.g. storage engine keeps the number of rows
+     */
+    record Estimate(long rowCount, boolean exact) {
+    }
+
+    /**
+     * Reads row count estimate of the whole container.
+     *
+     * @return estimate or null if the database has no statistics for the container
+     */
+    @Nullable
+    Estimate estimateRowCount(@NotNull DBRProgressMonitor monitor) throws DBException;
+
+    /**
+     * Returns estimate read with the object metadata. Doesn't access the database.
+     *
+     * @return estimate or null if statistics wasn't read
+     */
+    @Nullable
+    default Estimate getCachedRowCountEstimate() {
+        return null;
+    }
+
+}
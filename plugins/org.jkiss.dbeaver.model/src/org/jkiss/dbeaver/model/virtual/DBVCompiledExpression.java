@@ -0,0 +1,217 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.virtual;
+
+import org.apache.commons.jexl3.JexlExpression;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Expression bound to the attributes of a row.
+ *
+ * Variable names are resolved to value readers once, so evaluation doesn't search attributes by name.
+ * Top-level attributes are read directly from their row positions.
+ * Expressions which are just a variable name are evaluated without the expression engine.
+ * Evaluation context is reused by each thread, so compiled expression may be shared between threads.
+ */
+public class DBVCompiledExpression {
+
+    /**
+     * Reads variable value from the row
+     */
+    @FunctionalInterface
+    public interface ValueReader {
+        @Nullable
+        Object read(@NotNull Object[] row);
+    }
+
+    private static final ValueReader NULL_READER = row -> null;
+
+    @NotNull
+    private final JexlExpression expression;
+    @NotNull
+    private final DBDAttributeBinding[] attributes;
+    @NotNull
+    private final Map<String, ValueReader> variables;
+    private final boolean nullIsUndefined;
+    @Nullable
+    private final ValueReader variableReader;
+    private final ThreadLocal<RowContext> contexts = ThreadLocal.withInitial(RowContext::new);
+
+    private DBVCompiledExpression(
+        @NotNull JexlExpression expression,
+        @NotNull DBDAttributeBinding[] attributes,
+        @NotNull Map<String, ValueReader> variables,
+        boolean nullIsUndefined
+    ) {
+        this.expression = expression;
+        this.attributes = attributes;
+        this.variables = variables;
+        this.nullIsUndefined = nullIsUndefined;
+        String sourceText = expression.getSourceText();
+        this.variableReader = sourceText == null ? null : variables.get(sourceText.trim());
+    }
+
+    /**
+     * Compiles data expression of virtual attribute. Variables are the same as in {@link DBVDataContext}:
+     * expression namespaces, attributes by label, {@code row} and {@code table}.
+     *
+     * @param excludeName name of the attribute which owns the expression. It can't reference itself.
+     */
+    @NotNull
+    public static DBVCompiledExpression compileDataExpression(
+        @NotNull JexlExpression expression,
+        @NotNull DBSObject dataContainer,
+        @NotNull DBDAttributeBinding[] attributes,
+        @Nullable String excludeName
+    ) {
+        Map<String, ValueReader> columns = makeAttributeReaders(attributes, DBDAttributeBinding::getLabel);
+        Map<String, ValueReader> variables = new HashMap<>(columns);
+        variables.put(DBVDataContext.VAR_ROW, row -> new RowInfo(columns, row));
+        TableInfo tableInfo = new TableInfo(dataContainer);
+        variables.put(DBVDataContext.VAR_TABLE, row -> tableInfo);
+        if (excludeName != null) {
+            variables.put(excludeName, NULL_READER);
+        }
+        for (Map.Entry<String, Object> ns : DBVUtils.getExpressionNamespaces().entrySet()) {
+            Object nsValue = ns.getValue();
+            variables.put(ns.getKey(), row -> nsValue);
+        }
+        return new DBVCompiledExpression(expression, attributes, variables, true);
+    }
+
+    /**
+     * Compiles expression which references attributes by their names
+     */
+    @NotNull
+    public static DBVCompiledExpression compileAttributesExpression(
+        @NotNull JexlExpression expression,
+        @NotNull DBDAttributeBinding[] attributes
+    ) {
+        return new DBVCompiledExpression(
+            expression,
+            attributes,
+            makeAttributeReaders(attributes, DBDAttributeBinding::getName),
+            false);
+    }
+
+    /**
+     * Checks whether expression was compiled for these attributes.
+     * Result set keeps the same attributes array for all rows, so the check is by identity.
+     */
+    public boolean isBoundTo(@NotNull JexlExpression expression, @NotNull DBDAttributeBinding[] attributes) {
+        return this.expression == expression && this.attributes == attributes;
+    }
+
+    @Nullable
+    public Object evaluate(@NotNull Object[] row) {
+        if (variableReader != null) {
+            Object value = variableReader.read(row);
+            if (value != null || !nullIsUndefined) {
+                return value;
+            }
+        }
+        RowContext context = contexts.get();
+        if (context.row != null) {
+            // Nested evaluation of the same expression
+            context = new RowContext();
+        }
+        context.row = row;
+        try {
+            return expression.evaluate(context);
+        } finally {
+            context.row = null;
+        }
+    }
+
+    @NotNull
+    private static Map<String, ValueReader> makeAttributeReaders(
+        @NotNull DBDAttributeBinding[] attributes,
+        @NotNull Function<DBDAttributeBinding, String> nameProvider
+    ) {
+        Map<String, ValueReader> readers = new HashMap<>();
+        for (DBDAttributeBinding attr : attributes) {
+            String name = nameProvider.apply(attr);
+            if (CommonUtils.isEmpty(name) || readers.containsKey(name)) {
+                continue;
+            }
+            if (!attr.isCustom() && attr.getLevel() == 0 && attr.getTopParent() == attr) {
+                int index = attr.getOrdinalPosition();
+                readers.put(name, row -> index < row.length ? row[index] : null);
+            } else {
+                readers.put(name, row -> DBUtils.getAttributeValue(attr, attributes, row));
+            }
+        }
+        return readers;
+    }
+
+    private class RowContext extends DBVAbstractContext {
+        private Object[] row;
+
+        @Override
+        public Object get(String s) {
+            ValueReader reader = variables.get(s);
+            return reader == null ? null : reader.read(row);
+        }
+
+        @Override
+        public boolean has(String s) {
+            return nullIsUndefined ? super.has(s) : variables.containsKey(s);
+        }
+    }
+
+    private static class RowInfo extends DBVAbstractContext {
+        private final Map<String, ValueReader> columns;
+        private final Object[] row;
+
+        RowInfo(@NotNull Map<String, ValueReader> columns, @NotNull Object[] row) {
+            this.columns = columns;
+            this.row = row;
+        }
+
+        @Override
+        public Object get(String s) {
+            ValueReader reader = columns.get(s);
+            return reader == null ? null : reader.read(row);
+        }
+    }
+
+    private static class TableInfo extends DBVAbstractContext {
+        private final DBSObject dataContainer;
+
+        TableInfo(@NotNull DBSObject dataContainer) {
+            this.dataContainer = dataContainer;
+        }
+
+        @Override
+        public Object get(String s) {
+            return switch (s) {
+                case "name" -> dataContainer.getName();
+                case "schema", "container" -> dataContainer.getParentObject();
+                default -> null;
+            };
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2025 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.virtual;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDLabelValuePair;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Dictionary lookup cache.
+ * One cache instance is shared by all editors of a data source, so the same dictionary values
+ * are not read again by each viewer. Entries expire after a fixed time and least recently used
+ * entries are evicted when the cache is full.
+ * Cache lives as long as the data source object, i.e. it is dropped on reconnect.
+ */
+public class DBVDictionaryCache {
+
+    private static final Log log = Log.getLog(DBVDictionaryCache.class);
+
+    private static final String CACHE_ATTRIBUTE = "dictionary.cache"; //$NON-NLS-1$
+
+    private static final long ENTRY_TTL_MS = 60 * 1000;
+    private static final int MAX_VALUES = 20000;
+    private static final int MAX_ENUMERATIONS = 200;
+
+    @FunctionalInterface
+    public interface ValuesReader {
+        @NotNull
+        List<DBDLabelValuePair> readValues(@NotNull List<Object[]> keyValues) throws DBException;
+    }
+
+    @FunctionalInterface
+    public interface EnumerationReader {
+        @NotNull
+        List<DBDLabelValuePair> readEnumeration() throws DBException;
+    }
+
+    private record ValueKey(@NotNull DBSEntity dictionary, @NotNull String lookupId, @NotNull List<String> key) {
+    }
+
+    private record EnumerationKey(@NotNull DBSEntity dictionary, @NotNull String lookupId) {
+    }
+
+    private record CacheEntry<T>(@Nullable T value, long created) {
+        boolean isExpired(long currentTime) {
+            return currentTime - created > ENTRY_TTL_MS;
+        }
+    }
+
+    private final Map<ValueKey, CacheEntry<DBDLabelValuePair>> values = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ValueKey, CacheEntry<DBDLabelValuePair>> eldest) {
+            return size() > MAX_VALUES;
+        }
+    };
+    private final Map<EnumerationKey, CacheEntry<List<DBDLabelValuePair>>> enumerations = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EnumerationKey, CacheEntry<List<DBDLabelValuePair>>> eldest) {
+            return size() > MAX_ENUMERATIONS;
+        }
+    };
+
+    private DBVDictionaryCache() {
+    }
+
+    @NotNull
+    public static DBVDictionaryCache getCache(@NotNull DBPDataSource dataSource) {
+        synchronized (dataSource) {
+            DBVDictionaryCache cache = dataSource.getContextAttribute(CACHE_ATTRIBUTE);
+            if (cache == null) {
+                cache = new DBVDictionaryCache();
+                dataSource.setContextAttribute(CACHE_ATTRIBUTE, cache);
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * Drops all cached values of the specified entity. Called after entity data modification.
+     */
+    public static void invalidateEntity(@NotNull DBRProgressMonitor monitor, @NotNull DBSEntity entity) {
+        DBPDataSource dataSource = entity.getDataSource();
+        if (dataSource == null) {
+            return;
+        }
+        DBVDictionaryCache cache = dataSource.getContextAttribute(CACHE_ATTRIBUTE);
+        if (cache == null) {
+            return;
+        }
+        if (entity instanceof DBVEntity virtualEntity) {
+            try {
+                DBSEntity realEntity = virtualEntity.getRealEntity(monitor);
+                if (realEntity != null) {
+                    entity = realEntity;
+                }
+            } catch (DBException e) {
+                log.debug("Can't resolve real entity of " + entity.getName(), e);
+                cache.clear();
+                return;
+            }
+        }
+        cache.invalidate(entity);
+    }
+
+    /**
+     * Returns dictionary values for the specified keys.
+     * Only keys missing in cache are passed to the reader, so all of them are resolved with a single query.
+     * Values read from the database keep the reader order. Cached values are sorted with the given comparator
+     * and merged into it.
+     *
+     * @param lookupId   identifies lookup parameters other than key values (key columns, description columns, etc)
+     * @param mergeOrder order of values returned by the reader
+     */
+    @NotNull
+    public List<DBDLabelValuePair> readValues(
+        @NotNull DBSEntity dictionary,
+        @NotNull String lookupId,
+        @NotNull List<Object[]> keyValues,
+        @NotNull Comparator<DBDLabelValuePair> mergeOrder,
+        @NotNull ValuesReader reader
+    ) throws DBException {
+        long currentTime = System.currentTimeMillis();
+        Map<ValueKey, DBDLabelValuePair> cachedByKey = new LinkedHashMap<>();
+        List<Object[]> missingValues = new ArrayList<>();
+        Set<ValueKey> missingKeys = new LinkedHashSet<>();
+        List<DBDLabelValuePair> unmatchedValues = new ArrayList<>();
+        synchronized (this) {
+            for (Object[] keyValue : keyValues) {
+                ValueKey key = new ValueKey(dictionary, lookupId, makeKey(keyValue));
+                CacheEntry<DBDLabelValuePair> entry = values.get(key);
+                if (entry != null && !entry.isExpired(currentTime)) {
+                    if (entry.value() != null) {
+                        cachedByKey.put(key, entry.value());
+                    }
+                } else if (missingKeys.add(key)) {
+                    missingValues.add(keyValue);
+                }
+            }
+        }
+        List<DBDLabelValuePair> cachedValues = new ArrayList<>(cachedByKey.values());
+        cachedValues.sort(mergeOrder);
+        List<DBDLabelValuePair> loadedValues = new ArrayList<>();
+        if (!missingValues.isEmpty()) {
+            List<DBDLabelValuePair> loaded = reader.readValues(missingValues);
+            Map<List<String>, DBDLabelValuePair> loadedByKey = new HashMap<>();
+            for (DBDLabelValuePair pair : loaded) {
+                Object value = pair.getValue();
+                loadedByKey.put(makeKey(value instanceof Object[] array ? array : new Object[] { value }), pair);
+            }
+            // Missing keys are cached as well, unless some rows can't be matched with requested keys
+            // (e.g. because of value formatting). In this case absent keys can't be distinguished.
+            Set<List<String>> requestedKeys = new HashSet<>();
+            for (ValueKey key : missingKeys) {
+                requestedKeys.add(key.key());
+            }
+            for (Map.Entry<List<String>, DBDLabelValuePair> entry : loadedByKey.entrySet()) {
+                if (!requestedKeys.contains(entry.getKey())) {
+                    unmatchedValues.add(entry.getValue());
+                }
+            }
+            boolean cacheMisses = unmatchedValues.isEmpty() && loadedByKey.size() == loaded.size();
+            synchronized (this) {
+                for (ValueKey key : missingKeys) {
+                    DBDLabelValuePair pair = loadedByKey.get(key.key());
+                    if (pair != null) {
+                        values.put(key, new CacheEntry<>(pair, currentTime));
+                    } else if (cacheMisses) {
+                        values.put(key, new CacheEntry<>(null, currentTime));
+                    }
+                }
+            }
+            // One value per key, in the reader order
+            Set<DBDLabelValuePair> keptValues = Collections.newSetFromMap(new IdentityHashMap<>());
+            keptValues.addAll(loadedByKey.values());
+            for (DBDLabelValuePair pair : loaded) {
+                if (keptValues.remove(pair)) {
+                    loadedValues.add(pair);
+                }
+            }
+        }
+        if (cachedValues.isEmpty()) {
+            return loadedValues;
+        }
+        List<DBDLabelValuePair> mergedResult = new ArrayList<>(cachedValues.size() + loadedValues.size());
+        int cachedIndex = 0;
+        for (DBDLabelValuePair pair : loadedValues) {
+            while (cachedIndex < cachedValues.size() && mergeOrder.compare(cachedValues.get(cachedIndex), pair) < 0) {
+                mergedResult.add(cachedValues.get(cachedIndex++));
+            }
+            mergedResult.add(pair);
+        }
+        mergedResult.addAll(cachedValues.subList(cachedIndex, cachedValues.size()));
+        return mergedResult;
+    }
+
+    /**
+     * Returns cached dictionary enumeration or reads it if it is missing or expired.
+     *
+     * @param lookupId identifies all enumeration parameters
+     */
+    @NotNull
+    public List<DBDLabelValuePair> readEnumeration(
+        @NotNull DBSEntity dictionary,
+        @NotNull String lookupId,
+        @NotNull EnumerationReader reader
+    ) throws DBException {
+        long currentTime = System.currentTimeMillis();
+        EnumerationKey key = new EnumerationKey(dictionary, lookupId);
+        synchronized (this) {
+            CacheEntry<List<DBDLabelValuePair>> entry = enumerations.get(key);
+            if (entry != null && !entry.isExpired(currentTime)) {
+                return new ArrayList<>(entry.value());
+            }
+        }
+        List<DBDLabelValuePair> enumeration = reader.readEnumeration();
+        synchronized (this) {
+            enumerations.put(key, new CacheEntry<>(List.copyOf(enumeration), currentTime));
+        }
+        return enumeration;
+    }
+
+    public synchronized void invalidate(@NotNull DBSEntity dictionary) {
+        values.keySet().removeIf(key -> key.dictionary() == dictionary);
+        enumerations.keySet().removeIf(key -> key.dictionary() == dictionary);
+    }
+
+    public synchronized void clear() {
+        values.clear();
+        enumerations.clear();
+    }
+
+    /**
+     * Makes key representation which doesn't depend on the exact value class
+     * (e.g. Integer key value and Long value read from the result set).
+     */
+    @NotNull
+    public static List<String> makeKey(@NotNull Object[] keyValue) {
+        List<String> key = new ArrayList<>(keyValue.length);
+        for (Object value : keyValue) {
+            if (DBUtils.isNullValue(value)) {
+                key.add(null);
+            } else if (value instanceof Number) {
+                String strValue = value.toString();
+                try {
+                    key.add(new BigDecimal(strValue).stripTrailingZeros().toPlainString());
+                } catch (NumberFormatException e) {
+                    key.add(strValue);
+                }
+            } else if (value instanceof byte[] bytes) {
+                key.add(Arrays.toString(bytes));
+            } else {
+                key.add(value.toString());
+            }
+        }
+        return key;
+    }
+}
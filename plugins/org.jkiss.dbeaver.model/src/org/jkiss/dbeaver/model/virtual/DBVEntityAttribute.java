@@ -53,6 +53,7 @@ public class DBVEntityAttribute implements DBSEntityAttribute, DBPNamedObject2,
     private DBVTransformSettings transformSettings;
     private Map<String, Object> properties;
     private JexlExpression parsedExpression;
+    private volatile DBVCompiledExpression compiledExpression;
 
     public DBVEntityAttribute(DBVEntity entity, DBVEntityAttribute parent, String name) {
         this.entity = entity;
@@ -276,6 +277,7 @@ public class DBVEntityAttribute implements DBSEntityAttribute, DBPNamedObject2,
     public void setExpression(String expression) {
         this.expression = expression;
         this.parsedExpression = null;
+        this.compiledExpression = null;
     }
 
     public List<DBVEntityAttribute> getChildren() {
@@ -345,6 +347,15 @@ public class DBVEntityAttribute implements DBSEntityAttribute, DBPNamedObject2,
         return parsedExpression;
     }
 
+    @Nullable
+    DBVCompiledExpression getCompiledExpression() {
+        return compiledExpression;
+    }
+
+    void setCompiledExpression(@Nullable DBVCompiledExpression compiledExpression) {
+        this.compiledExpression = compiledExpression;
+    }
+
     @Override
     public String toString() {
         return name;
@@ -435,18 +435,29 @@ public abstract class DBVUtils {
             return null;
         }
 
-        DBVEntity entity = attribute.getEntity();
-        DBSObject dataContainer = null;
-        try {
-            dataContainer = entity.getRealEntity(new VoidProgressMonitor());
-        } catch (DBException e) {
-            log.debug(e);
-        }
-        if (dataContainer == null) {
-            dataContainer = entity;
+        // Expression is compiled once for the attributes of a result set
+        DBVCompiledExpression compiledExpression = attribute.getCompiledExpression();
+        if (compiledExpression == null || !compiledExpression.isBoundTo(expression, allAttributes)) {
+            DBVEntity entity = attribute.getEntity();
+            DBSObject dataContainer = null;
+            try {
+                dataContainer = entity.getRealEntity(new VoidProgressMonitor());
+            } catch (DBException e) {
+                log.debug(e);
+            }
+            if (dataContainer == null) {
+                dataContainer = entity;
+            }
+            compiledExpression = DBVCompiledExpression.compileDataExpression(
+                expression, dataContainer, allAttributes, attribute.getName());
+            attribute.setCompiledExpression(compiledExpression);
         }
 
-        return evaluateDataExpression(dataContainer, allAttributes, row, expression, attribute.getName());
+        try {
+            return compiledExpression.evaluate(row);
+        } catch (Exception e) {
+            return GeneralUtils.getExpressionParseMessage(e);
+        }
     }
 
     public static Object evaluateDataExpression(
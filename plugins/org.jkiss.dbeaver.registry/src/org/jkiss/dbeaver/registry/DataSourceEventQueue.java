@@ -0,0 +1,199 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBPEvent;
+import org.jkiss.dbeaver.model.DBPEventBatchListener;
+import org.jkiss.dbeaver.model.DBPEventListener;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+
+import java.util.*;
+
+/**
+ * Pending data source events.
+ * Duplicate events are coalesced while they wait for dispatch: an update or select event is dropped
+ * if the last pending event of the same object is the same.
+ * Batch listeners additionally don't receive plain updates of objects whose parent is refreshed in the same batch.
+ */
+class DataSourceEventQueue {
+
+    private static final Log log = Log.getLog(DataSourceEventQueue.class);
+
+    private static final int LARGE_BATCH_SIZE = 1000;
+
+    private final List<DBPEvent> events = new ArrayList<>();
+    // Last pending event of each object
+    private final Map<DBSObject, DBPEvent> lastObjectEvents = new IdentityHashMap<>();
+
+    private long receivedCount;
+    private long coalescedCount;
+    private long dispatchedCount;
+    private int peakDepth;
+
+    /**
+     * Adds event in queue.
+     *
+     * @return false if event was coalesced with a pending one
+     */
+    synchronized boolean add(@NotNull DBPEvent event) {
+        receivedCount++;
+        DBSObject object = event.getObject();
+        if (object != null) {
+            DBPEvent lastEvent = lastObjectEvents.get(object);
+            if (lastEvent != null && isDuplicate(lastEvent, event)) {
+                coalescedCount++;
+                return false;
+            }
+            lastObjectEvents.put(object, event);
+        }
+        events.add(event);
+        peakDepth = Math.max(peakDepth, events.size());
+        return true;
+    }
+
+    /**
+     * Removes all pending events from queue and delivers them to listeners.
+     */
+    void dispatch(@NotNull DBPEventListener[] listeners) {
+        final List<DBPEvent> batch;
+        synchronized (this) {
+            if (events.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(events);
+            events.clear();
+            lastObjectEvents.clear();
+            dispatchedCount += batch.size();
+        }
+        if (listeners.length == 0) {
+            return;
+        }
+
+        List<DBPEvent> collapsedBatch = null;
+        for (DBPEventListener listener : listeners) {
+            if (listener instanceof DBPEventBatchListener batchListener) {
+                if (collapsedBatch == null) {
+                    collapsedBatch = collapseChildUpdates(batch);
+                }
+                batchListener.handleDataSourceEvents(collapsedBatch);
+            }
+        }
+        for (DBPEvent event : batch) {
+            for (DBPEventListener listener : listeners) {
+                if (!(listener instanceof DBPEventBatchListener)) {
+                    listener.handleDataSourceEvent(event);
+                }
+            }
+        }
+        if (batch.size() >= LARGE_BATCH_SIZE) {
+            log.debug("Dispatched " + batch.size() + " data source events" +
+                (collapsedBatch == null ? "" : " (" + collapsedBatch.size() + " in batch)") + ". " + getStatistics());
+        }
+    }
+
+    @NotNull
+    synchronized Statistics getStatistics() {
+        return new Statistics(events.size(), peakDepth, receivedCount, coalescedCount, dispatchedCount);
+    }
+
+    private static boolean isDuplicate(@NotNull DBPEvent event1, @NotNull DBPEvent event2) {
+        DBPEvent.Action action = event1.getAction();
+        if (action != event2.getAction() || (action != DBPEvent.Action.OBJECT_UPDATE && action != DBPEvent.Action.OBJECT_SELECT)) {
+            return false;
+        }
+        return event1.getObject() == event2.getObject() &&
+            Objects.equals(event1.getEnabled(), event2.getEnabled()) &&
+            event1.getData() == event2.getData() &&
+            event1.getOptions().isEmpty() && event2.getOptions().isEmpty();
+    }
+
+    /**
+     * Removes plain updates of objects which have a refreshed parent in the same batch.
+     */
+    @NotNull
+    private static List<DBPEvent> collapseChildUpdates(@NotNull List<DBPEvent> batch) {
+        Set<DBSObject> refreshedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DBPEvent event : batch) {
+            if (isRefresh(event)) {
+                refreshedObjects.add(event.getObject());
+            }
+        }
+        if (refreshedObjects.isEmpty()) {
+            return batch;
+        }
+        List<DBPEvent> result = new ArrayList<>(batch.size());
+        for (DBPEvent event : batch) {
+            if (isPlainUpdate(event) && hasRefreshedParent(event.getObject(), refreshedObjects)) {
+                continue;
+            }
+            result.add(event);
+        }
+        return result;
+    }
+
+    private static boolean hasRefreshedParent(@NotNull DBSObject object, @NotNull Set<DBSObject> refreshedObjects) {
+        for (DBSObject parent = object.getParentObject(); parent != null; parent = parent.getParentObject()) {
+            if (refreshedObjects.contains(parent)) {
+                return true;
+            }
+            if (parent instanceof DBPDataSourceContainer) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRefresh(@NotNull DBPEvent event) {
+        if (event.getObject() instanceof DBPDataSourceContainer) {
+            // Container updates are about connection settings and state
+            return false;
+        }
+        // Select with true parameter is the same as refresh
+        return isPlainUpdate(event) ||
+            (event.getAction() == DBPEvent.Action.OBJECT_SELECT && event.getObject() != null &&
+                Boolean.TRUE.equals(event.getEnabled()) && event.getData() == null);
+    }
+
+    private static boolean isPlainUpdate(@NotNull DBPEvent event) {
+        return event.getAction() == DBPEvent.Action.OBJECT_UPDATE &&
+            event.getObject() != null &&
+            event.getEnabled() == null &&
+            event.getData() == null &&
+            event.getOptions().isEmpty();
+    }
+
+    /**
+     * Event queue metrics
+     *
+     * @param depth           number of pending events
+     * @param peakDepth       max number of pending events
+     * @param receivedCount   total number of received events
+     * @param coalescedCount  number of events dropped as duplicates
+     * @param dispatchedCount number of events delivered to listeners
+     */
+    record Statistics(int depth, int peakDepth, long receivedCount, long coalescedCount, long dispatchedCount) {
+        @NotNull
+        @Override
+        public String toString() {
+            return "Queue depth: " + depth + " (peak " + peakDepth + "), received: " + receivedCount +
+                ", coalesced: " + coalescedCount + ", dispatched: " + dispatchedCount;
+        }
+    }
+}
@@ -64,6 +64,7 @@ public class DataSourceRegistry<T extends DataSourceDescriptor> implements DBPDa
     private static final Log log = Log.getLog(DataSourceRegistry.class);
 
     private static final long DISCONNECT_ALL_TIMEOUT = 5000;
+    private static final long EVENTS_DISPATCH_DELAY = 20;
 
     private final DBPProject project;
     private final DataSourceConfigurationManager configurationManager;
@@ -78,7 +79,7 @@ public class DataSourceRegistry<T extends DataSourceDescriptor> implements DBPDa
     private final Map<String, DBAAuthProfile> authProfiles = new LinkedHashMap<>();
 
     private final List<DBPEventListener> dataSourceListeners = new ArrayList<>();
-    private final List<DBPEvent> dataSourceEvents = new ArrayList<>();
+    private final DataSourceEventQueue dataSourceEvents = new DataSourceEventQueue();
     private final EventProcessJob eventsJob = new EventProcessJob();
     private volatile boolean saveInProgress = false;
 
@@ -728,14 +729,16 @@ public class DataSourceRegistry<T extends DataSourceDescriptor> implements DBPDa
     }
 
     public void notifyDataSourceListeners(@NotNull final DBPEvent event) {
-        synchronized (dataSourceListeners) {
-            dataSourceEvents.add(event);
+        if (!dataSourceEvents.add(event)) {
+            // Same event is already pending
+            return;
         }
         if (DBWorkbench.getPlatform().getApplication().isHeadlessMode()) {
             // In headless mode we process events immediately
             eventsJob.run(new NullProgressMonitor());
         } else {
-            eventsJob.schedule(20);
+            // Events fired during the delay are dispatched together
+            eventsJob.schedule(EVENTS_DISPATCH_DELAY);
         }
     }
 
@@ -744,22 +747,18 @@ public class DataSourceRegistry<T extends DataSourceDescriptor> implements DBPDa
      */
     public void flushDataSourceEvents() {
         final DBPEventListener[] listeners;
-        final DBPEvent[] events;
         synchronized (dataSourceListeners) {
-            events = dataSourceEvents.toArray(new DBPEvent[0]);
-            dataSourceEvents.clear();
-
-            if (dataSourceListeners.isEmpty()) {
-                return;
-            }
             listeners = dataSourceListeners.toArray(new DBPEventListener[0]);
         }
+        dataSourceEvents.dispatch(listeners);
+    }
 
-        for (DBPEvent event : events) {
-            for (DBPEventListener listener : listeners) {
-                listener.handleDataSourceEvent(event);
-            }
-        }
+    /**
+     * Returns pending data source events queue metrics
+     */
+    @NotNull
+    public String getEventQueueStatistics() {
+        return dataSourceEvents.getStatistics().toString();
     }
 
     @Nullable
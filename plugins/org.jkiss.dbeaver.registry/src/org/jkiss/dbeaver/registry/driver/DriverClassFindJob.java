@@ -27,14 +27,14 @@ import org.objectweb.asm.Opcodes;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -44,6 +44,9 @@ public class DriverClassFindJob implements DBRRunnableWithProgress {
 
     public static final String OBJECT_CLASS_NAME = "java/lang/Object";
     public static final String CLASS_FILE_EXT = ".class";
+    // Classes found in jar files. Key is jar file path, size, modification time and searched class
+    private static final Map<String, List<String>> foundClassesCache = new ConcurrentHashMap<>();
+
     private List<String> driverClassNames = new ArrayList<>();
 
     private final DriverDescriptor driver;
@@ -67,34 +70,37 @@ public class DriverClassFindJob implements DBRRunnableWithProgress {
 
     private void findDriverClasses(DBRProgressMonitor monitor) {
         java.util.List<Path> libFiles = driver.getDefaultDriverLoader().getAllLibraryFiles(monitor);
-        java.util.List<URL> libURLs = new ArrayList<>();
-        for (Path libFile : libFiles) {
-            if (libFile != null && Files.exists(libFile) && !Files.isDirectory(libFile)) {
-                try {
-                    libURLs.add(libFile.toUri().toURL());
-                } catch (MalformedURLException e) {
-                    log.debug(e);
-                }
-            }
-        }
-        ClassLoader findCL = new URLClassLoader(libURLs.toArray(new URL[0]));
-
         for (Path libFile : libFiles) {
             if (monitor.isCanceled()) {
                 break;
             }
-            if (!Files.isDirectory(libFile)) {
-                findDriverClasses(monitor, findCL, libFile);
+            if (libFile != null && Files.exists(libFile) && !Files.isDirectory(libFile)) {
+                findDriverClasses(monitor, libFile);
             }
         }
     }
 
-    private void findDriverClasses(DBRProgressMonitor monitor, ClassLoader findCL, Path libFile) {
+    private void findDriverClasses(DBRProgressMonitor monitor, Path libFile) {
         String jarName = libFile.getFileName().toString();
         if (!jarName.endsWith(".jar") && !jarName.endsWith(".zip")) {
             // Dummy file type validation
             return;
         }
+        String cacheKey;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(libFile, BasicFileAttributes.class);
+            cacheKey = libFile.toAbsolutePath() + "|" + attributes.size() + "|" + attributes.lastModifiedTime().toMillis() +
+                "|" + interfaceName + "|" + isInterface;
+        } catch (IOException e) {
+            log.debug(e);
+            return;
+        }
+        List<String> cachedClasses = foundClassesCache.get(cacheKey);
+        if (cachedClasses != null) {
+            driverClassNames.addAll(cachedClasses);
+            return;
+        }
+        List<String> jarClasses = new ArrayList<>();
         try (JarFile currentFile = new JarFile(libFile.toFile(), false)) {
             monitor.beginTask(jarName, currentFile.size());
 
@@ -110,7 +116,7 @@ public class DriverClassFindJob implements DBRRunnableWithProgress {
                         monitor.subTask(className);
                         try {
                             if (implementsInterface(currentFile, current, 0)) {
-                                driverClassNames.add(className);
+                                jarClasses.add(className);
                             }
                         } catch (Throwable e1) {
                             // do nothing
@@ -122,6 +128,11 @@ public class DriverClassFindJob implements DBRRunnableWithProgress {
             monitor.done();
         } catch (IOException e) {
             log.debug(e);
+            return;
+        }
+        driverClassNames.addAll(jarClasses);
+        if (!monitor.isCanceled()) {
+            foundClassesCache.put(cacheKey, List.copyOf(jarClasses));
         }
     }
 
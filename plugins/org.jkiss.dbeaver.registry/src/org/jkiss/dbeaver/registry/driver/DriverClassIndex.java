@@ -0,0 +1,240 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.driver;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+/**
+ * Index of packages of driver jar files.
+ * Maps each package (resource folder) to jars which contain it, so the class loader opens only the right jars.
+ * Index is stored in the drivers folder and is rebuilt for the jars whose size, modification time or CRC changed.
+ * Jars referenced by manifest Class-Path are not indexed, the class loader looks them up itself.
+ */
+public class DriverClassIndex {
+
+    private static final Log log = Log.getLog(DriverClassIndex.class);
+
+    private static final String INDEX_HEADER = "# Driver class index v2";
+    private static final String VERSIONS_FOLDER = "META-INF/versions/";
+    private static final int[] NO_JARS = new int[0];
+
+    private final List<JarInfo> jars;
+    private final Map<String, int[]> packageJars = new HashMap<>();
+    private final boolean hasManifestClassPath;
+
+    private DriverClassIndex(@NotNull List<JarInfo> jars) {
+        this.jars = jars;
+        this.hasManifestClassPath = jars.stream().anyMatch(JarInfo::manifestClassPath);
+        Map<String, List<Integer>> packageLists = new HashMap<>();
+        for (int i = 0; i < jars.size(); i++) {
+            for (String packageName : jars.get(i).packages) {
+                packageLists.computeIfAbsent(packageName, k -> new ArrayList<>(1)).add(i);
+            }
+        }
+        for (Map.Entry<String, List<Integer>> entry : packageLists.entrySet()) {
+            packageJars.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * Loads index of the specified jars. Jars missing in the stored index or changed since it was saved are scanned.
+     *
+     * @param indexFile stored index, it is updated if some jar was scanned
+     * @param files     class path in class loader order
+     * @param fileCRCs  known CRCs of library files
+     * @return null if some class path entry is not a jar
+     */
+    @Nullable
+    public static DriverClassIndex loadIndex(@Nullable Path indexFile, @NotNull List<Path> files, @NotNull Map<Path, Long> fileCRCs) {
+        Map<String, JarInfo> storedJars = indexFile == null ? Collections.emptyMap() : readIndex(indexFile);
+        List<JarInfo> jars = new ArrayList<>(files.size());
+        boolean changed = storedJars.size() != files.size();
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            if (!fileName.endsWith(".jar") && !fileName.endsWith(".zip")) {
+                return null;
+            }
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (IOException e) {
+                log.debug("Can't read attributes of '" + file + "'", e);
+                return null;
+            }
+            if (attributes.isDirectory()) {
+                return null;
+            }
+            long size = attributes.size();
+            long modified = attributes.lastModifiedTime().toMillis();
+            long crc = fileCRCs.getOrDefault(file, 0L);
+            String path = file.toAbsolutePath().toString();
+            JarInfo jarInfo = storedJars.get(path);
+            if (jarInfo == null || jarInfo.size != size || jarInfo.modified != modified || jarInfo.crc != crc) {
+                try (JarFile jarFile = new JarFile(file.toFile(), false)) {
+                    jarInfo = new JarInfo(file, path, size, modified, crc, hasManifestClassPath(jarFile), scanPackages(jarFile));
+                } catch (IOException e) {
+                    log.debug("Can't index jar '" + file + "'", e);
+                    return null;
+                }
+                changed = true;
+            } else {
+                jarInfo = new JarInfo(file, path, size, modified, crc, jarInfo.manifestClassPath, jarInfo.packages);
+            }
+            jars.add(jarInfo);
+        }
+        if (changed && indexFile != null) {
+            saveIndex(indexFile, jars);
+        }
+        return new DriverClassIndex(jars);
+    }
+
+    public int getJarCount() {
+        return jars.size();
+    }
+
+    @NotNull
+    public Path getJarFile(int index) {
+        return jars.get(index).file;
+    }
+
+    /**
+     * Some jar references other jars in its manifest Class-Path. Resources missing in the index may be found there.
+     */
+    public boolean hasManifestClassPath() {
+        return hasManifestClassPath;
+    }
+
+    /**
+     * Returns indexes of jars which contain the specified resource, in class path order
+     */
+    @NotNull
+    public int[] getResourceJars(@NotNull String resourceName) {
+        int divPos = resourceName.lastIndexOf('/');
+        int[] result = packageJars.get(divPos < 0 ? "" : resourceName.substring(0, divPos));
+        return result == null ? NO_JARS : result;
+    }
+
+    private static boolean hasManifestClassPath(@NotNull JarFile jarFile) throws IOException {
+        Manifest manifest = jarFile.getManifest();
+        return manifest != null && !CommonUtils.isEmptyTrimmed(manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH));
+    }
+
+    @NotNull
+    private static Set<String> scanPackages(@NotNull JarFile jarFile) {
+        Set<String> packages = new HashSet<>();
+        int runtimeVersion = Runtime.version().feature();
+        for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements(); ) {
+            String name = entries.nextElement().getName();
+            addPackage(packages, name);
+            if (name.startsWith(VERSIONS_FOLDER)) {
+                // Multi-release jar: versioned classes are read as if they were in the base folder
+                int versionEnd = name.indexOf('/', VERSIONS_FOLDER.length());
+                if (versionEnd > 0) {
+                    try {
+                        if (Integer.parseInt(name.substring(VERSIONS_FOLDER.length(), versionEnd)) <= runtimeVersion) {
+                            addPackage(packages, name.substring(versionEnd + 1));
+                        }
+                    } catch (NumberFormatException e) {
+                        // Not a version folder
+                    }
+                }
+            }
+        }
+        return packages;
+    }
+
+    private static void addPackage(@NotNull Set<String> packages, @NotNull String entryName) {
+        int divPos = entryName.lastIndexOf('/');
+        packages.add(divPos < 0 ? "" : entryName.substring(0, divPos));
+    }
+
+    @NotNull
+    private static Map<String, JarInfo> readIndex(@NotNull Path indexFile) {
+        if (!Files.exists(indexFile)) {
+            return Collections.emptyMap();
+        }
+        Map<String, JarInfo> result = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            if (!INDEX_HEADER.equals(reader.readLine())) {
+                return Collections.emptyMap();
+            }
+            Set<String> packages = null;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.startsWith("J\t")) {
+                    String[] fields = line.split("\t", 6);
+                    if (fields.length != 6) {
+                        return Collections.emptyMap();
+                    }
+                    packages = new HashSet<>();
+                    result.put(fields[5], new JarInfo(
+                        null, fields[5], Long.parseLong(fields[1]), Long.parseLong(fields[2]), Long.parseLong(fields[3]),
+                        "1".equals(fields[4]), packages));
+                } else if (line.startsWith("P\t") && packages != null) {
+                    packages.add(line.substring(2));
+                }
+            }
+        } catch (Exception e) {
+            log.debug("Error reading driver class index '" + indexFile + "'", e);
+            return Collections.emptyMap();
+        }
+        return result;
+    }
+
+    private static void saveIndex(@NotNull Path indexFile, @NotNull List<JarInfo> jars) {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writer.write(INDEX_HEADER);
+                writer.newLine();
+                for (JarInfo jar : jars) {
+                    writer.write("J\t" + jar.size + "\t" + jar.modified + "\t" + jar.crc + "\t" + (jar.manifestClassPath ? "1" : "0") + "\t" + jar.path);
+                    writer.newLine();
+                    for (String packageName : jar.packages) {
+                        writer.write("P\t");
+                        writer.write(packageName);
+                        writer.newLine();
+                    }
+                }
+            }
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.debug("Error saving driver class index '" + indexFile + "'", e);
+        }
+    }
+
+    private record JarInfo(Path file, String path, long size, long modified, long crc, boolean manifestClassPath, Set<String> packages) {
+    }
+
+}
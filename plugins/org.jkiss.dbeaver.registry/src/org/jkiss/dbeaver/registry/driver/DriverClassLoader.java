@@ -17,26 +17,176 @@
 
 package org.jkiss.dbeaver.registry.driver;
 
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.connection.DBPDriverLibrary;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
+import java.security.CodeSource;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipFile;
 
 /**
- * DriverClassLoader
+ * DriverClassLoader.
+ * If class index is available then classes and resources are looked up only in jars which contain their package.
+ * Jars referenced by manifest Class-Path aren't indexed, so index misses are looked up in the full class path then.
  */
 public class DriverClassLoader extends URLClassLoader
 {
+    private static final Log log = Log.getLog(DriverClassLoader.class);
+
     private final DriverLoaderDescriptor driverLoader;
+    @Nullable
+    private final DriverClassIndex classIndex;
+    private final JarFile[] openJars;
+    private final URL[] jarURLs;
 
     public DriverClassLoader(DriverLoaderDescriptor driverLoader, URL[] urls, ClassLoader parent)
+    {
+        this(driverLoader, urls, parent, null);
+    }
+
+    public DriverClassLoader(DriverLoaderDescriptor driverLoader, URL[] urls, ClassLoader parent, @Nullable DriverClassIndex classIndex)
     {
         super(urls, parent);
         this.driverLoader = driverLoader;
+        this.classIndex = classIndex != null && classIndex.getJarCount() == urls.length ? classIndex : null;
+        this.openJars = new JarFile[this.classIndex == null ? 0 : urls.length];
+        this.jarURLs = urls;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        if (classIndex == null) {
+            return super.findClass(name);
+        }
+        String entryName = name.replace('.', '/') + ".class";
+        for (int jarIndex : classIndex.getResourceJars(entryName)) {
+            JarFile jarFile = getJarFile(jarIndex);
+            JarEntry entry = jarFile == null ? null : jarFile.getJarEntry(entryName);
+            if (entry != null) {
+                try {
+                    return defineIndexedClass(name, jarIndex, jarFile, entry);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+        if (classIndex.hasManifestClassPath()) {
+            return super.findClass(name);
+        }
+        throw new ClassNotFoundException(name);
+    }
+
+    @Override
+    public URL findResource(String name) {
+        if (classIndex == null) {
+            return super.findResource(name);
+        }
+        for (int jarIndex : classIndex.getResourceJars(name)) {
+            JarFile jarFile = getJarFile(jarIndex);
+            if (jarFile != null && jarFile.getJarEntry(name) != null) {
+                URL url = makeResourceURL(jarIndex, name);
+                if (url != null) {
+                    return url;
+                }
+            }
+        }
+        return classIndex.hasManifestClassPath() ? super.findResource(name) : null;
+    }
+
+    @Override
+    public Enumeration<URL> findResources(String name) throws IOException {
+        if (classIndex == null || classIndex.hasManifestClassPath()) {
+            return super.findResources(name);
+        }
+        List<URL> result = new ArrayList<>();
+        for (int jarIndex : classIndex.getResourceJars(name)) {
+            JarFile jarFile = getJarFile(jarIndex);
+            if (jarFile != null && jarFile.getJarEntry(name) != null) {
+                URL url = makeResourceURL(jarIndex, name);
+                if (url != null) {
+                    result.add(url);
+                }
+            }
+        }
+        return Collections.enumeration(result);
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        synchronized (openJars) {
+            for (int i = 0; i < openJars.length; i++) {
+                if (openJars[i] != null) {
+                    openJars[i].close();
+                    openJars[i] = null;
+                }
+            }
+        }
+    }
+
+    @NotNull
+    private Class<?> defineIndexedClass(@NotNull String name, int jarIndex, @NotNull JarFile jarFile, @NotNull JarEntry entry) throws IOException {
+        byte[] classBytes;
+        try (InputStream classStream = jarFile.getInputStream(entry)) {
+            classBytes = classStream.readAllBytes();
+        }
+        URL jarURL = jarURLs[jarIndex];
+        int divPos = name.lastIndexOf('.');
+        if (divPos > 0) {
+            String packageName = name.substring(0, divPos);
+            if (getDefinedPackage(packageName) == null) {
+                Manifest manifest = jarFile.getManifest();
+                if (manifest != null) {
+                    definePackage(packageName, manifest, jarURL);
+                } else {
+                    definePackage(packageName, null, null, null, null, null, null, null);
+                }
+            }
+        }
+        // Code signers are available after the entry was read
+        return defineClass(name, classBytes, 0, classBytes.length, new CodeSource(jarURL, entry.getCodeSigners()));
+    }
+
+    @Nullable
+    private JarFile getJarFile(int jarIndex) {
+        synchronized (openJars) {
+            JarFile jarFile = openJars[jarIndex];
+            if (jarFile == null) {
+                Path file = classIndex.getJarFile(jarIndex);
+                try {
+                    jarFile = new JarFile(file.toFile(), true, ZipFile.OPEN_READ, Runtime.version());
+                } catch (IOException e) {
+                    log.debug("Can't open driver jar '" + file + "'", e);
+                    return null;
+                }
+                openJars[jarIndex] = jarFile;
+            }
+            return jarFile;
+        }
+    }
+
+    @Nullable
+    private URL makeResourceURL(int jarIndex, @NotNull String name) {
+        try {
+            return URI.create("jar:" + jarURLs[jarIndex] + "!/" + name).toURL();
+        } catch (IllegalArgumentException | MalformedURLException e) {
+            log.debug("Bad resource name '" + name + "'", e);
+            return null;
+        }
     }
 
     @Override
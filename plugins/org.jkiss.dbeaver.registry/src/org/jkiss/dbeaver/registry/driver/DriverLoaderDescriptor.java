@@ -56,6 +56,7 @@ import java.util.stream.Stream;
 public class DriverLoaderDescriptor implements DBPDriverLoader {
 
     public static final String DEFAULT_LOADER_ID = "default";
+    private static final String DRIVER_CLASS_INDEX_FOLDER = ".index";
 
     private static final Log log = Log.getLog(DriverLoaderDescriptor.class);
 
@@ -195,6 +196,7 @@ public class DriverLoaderDescriptor implements DBPDriverLoader {
         List<Path> allLibraryFiles = validateFilesPresence(monitor);
 
         Set<URL> libraryURLs = new LinkedHashSet<>();
+        List<Path> classPath = new ArrayList<>();
         // Load libraries
         for (Path file : allLibraryFiles) {
             URL url;
@@ -204,7 +206,9 @@ public class DriverLoaderDescriptor implements DBPDriverLoader {
                 log.error(e);
                 continue;
             }
-            libraryURLs.add(url);
+            if (libraryURLs.add(url)) {
+                classPath.add(file);
+            }
         }
         // Make class loader
         ClassLoader baseClassLoader = rootClassLoader;
@@ -221,7 +225,39 @@ public class DriverLoaderDescriptor implements DBPDriverLoader {
         this.classLoader = new DriverClassLoader(
             this,
             libraryURLs.toArray(new URL[0]),
-            baseClassLoader);
+            baseClassLoader,
+            DriverClassIndex.loadIndex(getClassIndexFile(), classPath, getLibraryFileCRCs()));
+    }
+
+    @Nullable
+    private Path getClassIndexFile() {
+        try {
+            String indexName = driver.getProviderId() + "-" + driver.getId() + "-" + loaderId;
+            return DriverDescriptor.getCustomDriversHome()
+                .resolve(DRIVER_CLASS_INDEX_FOLDER)
+                .resolve(indexName.replaceAll("[^\\w.-]", "_") + ".txt");
+        } catch (Exception e) {
+            log.debug("Can't determine driver class index location", e);
+            return null;
+        }
+    }
+
+    @NotNull
+    private Map<Path, Long> getLibraryFileCRCs() {
+        Map<Path, Long> result = new HashMap<>();
+        for (DBPDriverLibrary library : getAllLibraries()) {
+            if (library.getLocalFile() != null && library.getFileCRC() != 0) {
+                result.put(library.getLocalFile(), library.getFileCRC());
+            }
+        }
+        for (List<DriverFileInfo> files : resolvedFiles.values()) {
+            for (DriverFileInfo file : files) {
+                if (file.getFile() != null && file.getFileCRC() != 0) {
+                    result.put(file.getFile(), file.getFileCRC());
+                }
+            }
+        }
+        return result;
     }
 
     private static synchronized void loadGlobalLibraries() {
@@ -35,6 +35,7 @@ import org.jkiss.dbeaver.model.impl.auth.AuthModelDatabaseNative;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.task.DBTTask;
 import org.jkiss.dbeaver.model.task.DBTTaskExecutionListener;
@@ -54,10 +55,21 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeToolSettings<BASE_OBJECT>, BASE_OBJECT extends DBSObject, PROCESS_ARG> implements DBTTaskHandler {
 
-    private String taskErrorMessage;
+    // Max time to wait for the process log reader after the process exit
+    private static final long LOG_READER_TIMEOUT_MS = 5000;
+
+    // Error message of the first failed process
+    private volatile String taskErrorMessage;
+    // Log readers of running processes. Each process reports its own error, so parallel processes don't affect each other.
+    private final Map<Process, LogReaderJob> processLogReaders = new ConcurrentHashMap<>();
 
     @Override
     @NotNull
@@ -199,9 +211,11 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
         LogReaderJob logReaderJob = new LogReaderJob(
             task,
             settings,
+            arg,
             processBuilder,
             process,
             isLogInputStream());
+        processLogReaders.put(process, logReaderJob);
         logReaderJob.start();
     }
 
@@ -213,6 +227,7 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
         Log log
     ) throws IOException, InterruptedException {
         monitor.beginTask(task.getType().getName(), 1);
+        Process process = null;
         try {
             monitor.subTask("Start native tool " + getClass().getSimpleName());
             final List<String> commandLine = getCommandLine(settings, arg);
@@ -224,7 +239,7 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
                 processBuilder.redirectErrorStream(true);
             }
             setupProcessParameters(monitor, settings, arg, processBuilder);
-            Process process = processBuilder.start();
+            process = processBuilder.start();
             startProcessHandler(monitor, task, settings, arg, processBuilder, process, log);
 
 
@@ -247,6 +262,16 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
                 break;
             }
             //process.waitFor();
+            String errorMessage = getProcessErrorMessage(process);
+            if (!CommonUtils.isEmpty(errorMessage)) {
+                synchronized (this) {
+                    if (CommonUtils.isEmpty(taskErrorMessage)) {
+                        taskErrorMessage = errorMessage;
+                    }
+                }
+                return false;
+            }
+            return true;
         } catch (IOException e) {
             log.error("IO error: " + e.getMessage());
             throw e;
@@ -254,9 +279,23 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
             log.error("Process error: " + e.getMessage());
             throw new IOException(e);
         } finally {
+            if (process != null) {
+                processLogReaders.remove(process);
+            }
             monitor.done();
         }
-        return CommonUtils.isEmpty(taskErrorMessage);
+    }
+
+    /**
+     * Waits for the log reader of the finished process and returns the error output of this process.
+     */
+    private String getProcessErrorMessage(@NotNull Process process) throws InterruptedException {
+        LogReaderJob logReader = processLogReaders.get(process);
+        if (logReader == null) {
+            return null;
+        }
+        logReader.join(LOG_READER_TIMEOUT_MS);
+        return logReader.errorMessage;
     }
 
     public void validateErrorCode(int exitCode) throws IOException {
@@ -273,17 +312,37 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
         }
     }
 
+    /**
+     * Max number of tool processes which may run at the same time (one process per run info element).
+     */
+    protected int getMaxParallelProcesses(SETTINGS settings) {
+        return 1;
+    }
+
+    /**
+     * Called for each line of the process log output. May be used to track process progress.
+     */
+    protected void handleProcessOutputLine(PROCESS_ARG arg, String line) {
+    }
+
     protected boolean doExecute(DBRProgressMonitor monitor, DBTTask task, SETTINGS settings, Log log) throws DBException, InterruptedException {
         validateClientHome(monitor, settings);
 
         long startTime = System.currentTimeMillis();
 
         boolean isSuccess = true;
+        taskErrorMessage = null;
         try {
-            for (PROCESS_ARG arg : getRunInfo(settings)) {
-                if (monitor.isCanceled()) break;
-                if (!executeProcess(monitor, task, settings, arg, log)) {
-                    isSuccess = false;
+            Collection<PROCESS_ARG> runInfo = getRunInfo(settings);
+            int parallelism = Math.min(getMaxParallelProcesses(settings), runInfo.size());
+            if (parallelism > 1) {
+                isSuccess = executeProcesses(monitor, task, settings, runInfo, parallelism, log);
+            } else {
+                for (PROCESS_ARG arg : runInfo) {
+                    if (monitor.isCanceled()) break;
+                    if (!executeProcess(monitor, task, settings, arg, log)) {
+                        isSuccess = false;
+                    }
                 }
             }
 
@@ -313,6 +372,81 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
         return isSuccess;
     }
 
+    /**
+     * Runs processes concurrently. Failure of one process doesn't stop others.
+     */
+    private boolean executeProcesses(
+        DBRProgressMonitor monitor,
+        DBTTask task,
+        SETTINGS settings,
+        Collection<PROCESS_ARG> runInfo,
+        int parallelism,
+        Log log
+    ) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "Native tool process runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            DBRProgressMonitor processMonitor = new ParallelProcessMonitor(monitor);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (PROCESS_ARG arg : runInfo) {
+                results.add(executor.submit(() ->
+                    !processMonitor.isCanceled() && executeProcess(processMonitor, task, settings, arg, log)));
+            }
+            boolean isSuccess = true;
+            Exception firstError = null;
+            for (Future<Boolean> result : results) {
+                try {
+                    if (!result.get()) {
+                        isSuccess = false;
+                    }
+                } catch (ExecutionException e) {
+                    isSuccess = false;
+                    log.error("Native tool process failed", e.getCause());
+                    if (firstError == null && e.getCause() instanceof Exception cause) {
+                        firstError = cause;
+                    }
+                }
+            }
+            if (firstError != null) {
+                throw firstError;
+            }
+            return isSuccess;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Progress monitor shared by parallel processes. Only the main task reports total progress.
+     */
+    private static class ParallelProcessMonitor extends ProxyProgressMonitor {
+        ParallelProcessMonitor(DBRProgressMonitor monitor) {
+            super(monitor);
+        }
+
+        @Override
+        public void beginTask(@NotNull String name, int totalWork) {
+        }
+
+        @Override
+        public void done() {
+        }
+
+        @Override
+        public void subTask(@NotNull String name) {
+            synchronized (original) {
+                original.subTask(name);
+            }
+        }
+
+        @Override
+        public void worked(int work) {
+        }
+    }
+
     public static abstract class DumpJob extends Thread {
         protected DBRProgressMonitor monitor;
         protected InputStream input;
@@ -478,15 +612,18 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
     private class LogReaderJob extends Thread {
         private final DBTTask task;
         private final SETTINGS settings;
+        private final PROCESS_ARG arg;
         private final PrintStream logWriter;
         private final ProcessBuilder processBuilder;
         private final Process input;
         private final boolean isLogInputStream;
+        private volatile String errorMessage;
 
-        protected LogReaderJob(DBTTask task, SETTINGS settings, ProcessBuilder processBuilder, Process stream, boolean isLogInputStream) {
+        protected LogReaderJob(DBTTask task, SETTINGS settings, PROCESS_ARG arg, ProcessBuilder processBuilder, Process stream, boolean isLogInputStream) {
             super("Log reader for " + task.getName());
             this.task = task;
             this.settings = settings;
+            this.arg = arg;
             this.logWriter = settings.getLogWriter();
             this.processBuilder = processBuilder;
             this.input = stream;
@@ -529,10 +666,7 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
                         }
                     };
                     readInputThread.start();
-                    String errorMessage = readStream(input.getErrorStream());
-                    if (!CommonUtils.isEmpty(errorMessage)) {
-                        taskErrorMessage = errorMessage;
-                    }
+                    errorMessage = readStream(input.getErrorStream());
                     try {
                         readInputThread.join();
                     } catch (InterruptedException ignore) {
@@ -565,6 +699,7 @@ public abstract class AbstractNativeToolHandler<SETTINGS extends AbstractNativeT
                         message.append(buf);
                         logWriter.println(buf);
                         logWriter.flush();
+                        handleProcessOutputLine(arg, buf.toString().trim());
                         buf.setLength(0);
                     }
                     //int avail = input.available();
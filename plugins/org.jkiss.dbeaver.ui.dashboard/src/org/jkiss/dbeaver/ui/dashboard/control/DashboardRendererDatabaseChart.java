@@ -39,6 +39,9 @@ import java.awt.*;
  */
 public abstract class DashboardRendererDatabaseChart extends DashboardRendererAbstract {
 
+    protected static final String DATA_TIME_SERIES = "time_series";
+    protected static final String DATA_LAST_ROW = "last_row";
+
     protected static final Font DEFAULT_LEGEND_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 9);
     protected static final Font DEFAULT_TICK_LABEL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 8);
 
@@ -63,6 +66,9 @@ public abstract class DashboardRendererDatabaseChart extends DashboardRendererAb
         DashboardChartComposite toComp = getChartComposite(toItem);
         DashboardChartComposite fromComp = getChartComposite(fromItem);
         toComp.setChart(fromComp.getChart());
+        // Chart series are built from the history
+        toComp.setData(DATA_TIME_SERIES, fromComp.getData(DATA_TIME_SERIES));
+        toComp.setData(DATA_LAST_ROW, fromComp.getData(DATA_LAST_ROW));
         if (clearOriginal) {
             fromComp.setChart(null);
         }
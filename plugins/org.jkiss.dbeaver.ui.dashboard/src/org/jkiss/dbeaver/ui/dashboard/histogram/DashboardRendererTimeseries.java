@@ -25,9 +25,12 @@ import org.jfree.chart.axis.*;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.DeviationRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
 import org.jfree.chart.ui.RectangleInsets;
 import org.jfree.data.time.*;
+import org.jfree.data.xy.YIntervalSeries;
+import org.jfree.data.xy.YIntervalSeriesCollection;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.dashboard.DBDashboardFetchType;
@@ -35,6 +38,7 @@ import org.jkiss.dbeaver.model.dashboard.DBDashboardInterval;
 import org.jkiss.dbeaver.model.dashboard.DBDashboardValueType;
 import org.jkiss.dbeaver.model.dashboard.data.DashboardDataset;
 import org.jkiss.dbeaver.model.dashboard.data.DashboardDatasetRow;
+import org.jkiss.dbeaver.model.dashboard.data.DashboardTimeSeries;
 import org.jkiss.dbeaver.model.dashboard.registry.DashboardItemConfiguration;
 import org.jkiss.dbeaver.ui.AWTUtils;
 import org.jkiss.dbeaver.ui.UIStyles;
@@ -51,7 +55,7 @@ import java.awt.*;
 import java.text.DateFormat;
 import java.text.NumberFormat;
 import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.*;
 import java.util.List;
 
 /**
@@ -61,6 +65,12 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
 
     private static final Font DEFAULT_TICK_LABEL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 8);
     public static final int MAX_TIMESERIES_RANGE_LABELS = 25;
+    // Maximum points of one chart series, longer history is downsampled
+    private static final int MAX_CHART_POINTS = 300;
+    private static final int MAX_VALUE_RANGE_SECONDS = 200;
+    // Dataset of minimum/maximum bands of downsampled series
+    private static final int BAND_DATASET_INDEX = 1;
+    private static final float BAND_ALPHA = 0.25f;
 
     @Override
     public DashboardChartComposite createDashboard(@NotNull Composite composite, @NotNull DashboardItemContainer container, @NotNull DashboardContainer viewContainer, @NotNull Point preferredSize) {
@@ -169,6 +179,13 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
         BasicStroke stroke = new BasicStroke(2.0f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_ROUND, 10.0f, null, 0.0f);
         plot.getRenderer().setDefaultStroke(stroke);
 
+        // Bands are drawn under the series lines
+        DeviationRenderer bandRenderer = new DeviationRenderer(false, false);
+        bandRenderer.setAlpha(BAND_ALPHA);
+        bandRenderer.setDefaultSeriesVisibleInLegend(false);
+        plot.setDataset(BAND_DATASET_INDEX, new YIntervalSeriesCollection());
+        plot.setRenderer(BAND_DATASET_INDEX, bandRenderer);
+
 
         // Set background
         plot.setBackgroundPaint(histogramChart.getBackgroundPaint());
@@ -201,11 +218,24 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
         JFreeChart chart = chartComposite.getChart();
         XYPlot plot = (XYPlot) chart.getPlot();
         TimeSeriesCollection chartDataset = (TimeSeriesCollection) plot.getDataset();
+        YIntervalSeriesCollection bandDataset = (YIntervalSeriesCollection) plot.getDataset(BAND_DATASET_INDEX);
 
         DashboardItemConfiguration dashboard = container.getItemDescriptor();
+        String[] srcSeries = dataset.getColumnNames();
+
+        // Chart history. Chart series are built from it.
+        DashboardTimeSeries timeSeries = (DashboardTimeSeries) chartComposite.getData(DATA_TIME_SERIES);
+        if (timeSeries == null ||
+            timeSeries.getCapacity() != Math.max(container.getDashboardMaxItems(), 1) ||
+            !Arrays.equals(timeSeries.getColumnNames(), srcSeries)
+        ) {
+            timeSeries = new DashboardTimeSeries(srcSeries, container.getDashboardMaxItems());
+            chartComposite.setData(DATA_TIME_SERIES, timeSeries);
+        }
         if (dashboard.getFetchType() == DBDashboardFetchType.stats) {
             // Clean previous data before stats update
             chartDataset.removeAllSeries();
+            timeSeries.clear();
         }
 
         long currentTime = System.currentTimeMillis();
@@ -214,11 +244,64 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
             secondsPassed = 1;
         }
 
-        DashboardDatasetRow lastRow = (DashboardDatasetRow) chartComposite.getData("last_row");
-
-        List<DashboardDatasetRow> rows = dataset.getRows();
+        DashboardDatasetRow lastRow = (DashboardDatasetRow) chartComposite.getData(DATA_LAST_ROW);
+
+        // History is appended in time order
+        List<DashboardDatasetRow> rows = new ArrayList<>(dataset.getRows());
+        rows.sort(Comparator.comparing(DashboardDatasetRow::getTimestamp));
+
+        double[] rowValues = new double[srcSeries.length];
+        switch (dashboard.getCalcType()) {
+            case value: {
+                long minTime = Long.MIN_VALUE;
+                if (!rows.isEmpty() &&
+                    (dashboard.getInterval() == DBDashboardInterval.second || dashboard.getInterval() == DBDashboardInterval.millisecond)
+                ) {
+                    // Too big difference between start and end points floods chart with too many ticks
+                    minTime = rows.getLast().getTimestamp().getTime() - MAX_VALUE_RANGE_SECONDS * 1000L;
+                }
+                for (DashboardDatasetRow row : rows) {
+                    if (row.getTimestamp().getTime() < minTime) {
+                        continue;
+                    }
+                    for (int i = 0; i < srcSeries.length; i++) {
+                        rowValues[i] = row.getValues()[i] instanceof Number number ? number.doubleValue() : Double.NaN;
+                    }
+                    timeSeries.add(row.getTimestamp().getTime(), rowValues);
+                }
+                break;
+            }
+            case delta: {
+                if (lastUpdateTime == null) {
+                    return;
+                }
+                if (lastRow == null) {
+                    break;
+                }
+                for (DashboardDatasetRow row : rows) {
+                    for (int i = 0; i < srcSeries.length; i++) {
+                        Object prevValue = lastRow.getValues()[i];
+                        Object newValue = row.getValues()[i];
+                        if (newValue instanceof Number && prevValue instanceof Number) {
+                            double deltaValue = ((Number) newValue).doubleValue() - ((Number) prevValue).doubleValue();
+                            deltaValue /= secondsPassed;
+                            if (dashboard.getValueType() != DBDashboardValueType.decimal) {
+                                deltaValue = Math.round(deltaValue);
+                            }
+                            rowValues[i] = deltaValue;
+                        } else {
+                            rowValues[i] = Double.NaN;
+                        }
+                    }
+                    timeSeries.add(row.getTimestamp().getTime(), rowValues);
+                }
+                break;
+            }
+        }
 
-        String[] srcSeries = dataset.getColumnNames();
+        long maxAge = container.getDashboardMaxAge();
+        long fromTime = maxAge > 0 ? currentTime - maxAge : Long.MIN_VALUE;
+        bandDataset.removeAllSeries();
         for (int i = 0; i < srcSeries.length; i++) {
             String seriesName = srcSeries[i];
 
@@ -231,71 +314,42 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
                 plot.getRenderer().setSeriesStroke(chartDataset.getSeriesCount() - 1, plot.getRenderer().getDefaultStroke());
             }
 
-            switch (dashboard.getCalcType()) {
-                case value: {
-                    int maxDP = 200;
-                    Date startTime = null;
-
-                    for (DashboardDatasetRow row : rows) {
-                        if (startTime == null) {
-                            startTime = row.getTimestamp();
-                        } else {
-                            if (dashboard.getInterval() == DBDashboardInterval.second || dashboard.getInterval() == DBDashboardInterval.millisecond) {
-                                long diffSeconds = (row.getTimestamp().getTime() - startTime.getTime()) / 1000;
-                                if (diffSeconds > maxDP) {
-                                    // Too big difference between start and end points. Stop here otherwise we'll flood chart with too many ticks
-                                    break;
-                                }
-                            }
-                        }
-                        Object value = row.getValues()[i];
-                        if (value instanceof Number) {
-                            series.addOrUpdate(makeDataItem(container, row), (Number) value);
-                        }
-                    }
-                    break;
-                }
-                case delta: {
-                    if (lastUpdateTime == null) {
-                        return;
-                    }
-                    //System.out.println("LAST=" + lastUpdateTime + "; CUR=" + new Date());
-                    for (DashboardDatasetRow row : rows) {
-                        if (lastRow != null) {
-                            Object prevValue = lastRow.getValues()[i];
-                            Object newValue = row.getValues()[i];
-                            if (newValue instanceof Number && prevValue instanceof Number) {
-                                double deltaValue = ((Number) newValue).doubleValue() - ((Number) prevValue).doubleValue();
-                                deltaValue /= secondsPassed;
-                                if (dashboard.getValueType() != DBDashboardValueType.decimal) {
-                                    deltaValue = Math.round(deltaValue);
-                                }
-                                series.addOrUpdate(
-                                    makeDataItem(container, row),
-                                    deltaValue);
-                            }
-                        }
-                    }
-                    break;
+            // Long windows are downsampled, chart can't show more points anyway.
+            // The line shows average values, the band around it shows minimum and maximum values.
+            DashboardTimeSeries.Samples samples = timeSeries.getSamples(i, fromTime, MAX_CHART_POINTS);
+            YIntervalSeries band = new YIntervalSeries(seriesName, false, true);
+            series.setNotify(false);
+            try {
+                series.clear();
+                for (int k = 0; k < samples.size(); k++) {
+                    RegularTimePeriod period = makeDataItem(container, new Date(samples.timestamps()[k]));
+                    series.addOrUpdate(period, samples.avg()[k]);
+                    band.add(period.getFirstMillisecond(), samples.avg()[k], samples.min()[k], samples.max()[k]);
                 }
+            } finally {
+                series.setNotify(true);
             }
+            bandDataset.addSeries(band);
+            plot.getRenderer(BAND_DATASET_INDEX).setSeriesFillPaint(
+                bandDataset.getSeriesCount() - 1,
+                plot.getRenderer().lookupSeriesPaint(chartDataset.getSeriesIndex(seriesName)));
         }
 
         if (!rows.isEmpty()) {
-            chartComposite.setData("last_row", rows.get(rows.size() - 1));
+            chartComposite.setData(DATA_LAST_ROW, rows.getLast());
         }
     }
 
-    private RegularTimePeriod makeDataItem(DashboardItemContainer container, DashboardDatasetRow row) {
+    private RegularTimePeriod makeDataItem(DashboardItemContainer container, Date timestamp) {
         return switch (container.getItemDescriptor().getInterval()) {
-            case second -> new FixedMillisecond(row.getTimestamp().getTime());
-            case minute -> new Minute(row.getTimestamp());
-            case hour -> new Hour(row.getTimestamp());
-            case day -> new Day(row.getTimestamp());
-            case week -> new Week(row.getTimestamp());
-            case month -> new Month(row.getTimestamp());
-            case year -> new Year(row.getTimestamp());
-            default -> new FixedMillisecond(row.getTimestamp().getTime());
+            case second -> new FixedMillisecond(timestamp.getTime());
+            case minute -> new Minute(timestamp);
+            case hour -> new Hour(timestamp);
+            case day -> new Day(timestamp);
+            case week -> new Week(timestamp);
+            case month -> new Month(timestamp);
+            case year -> new Year(timestamp);
+            default -> new FixedMillisecond(timestamp.getTime());
         };
     }
 
@@ -305,6 +359,8 @@ public class DashboardRendererTimeseries extends DashboardRendererDatabaseChart
         if (plot != null) {
             TimeSeriesCollection chartDataset = (TimeSeriesCollection) plot.getDataset();
             chartDataset.removeAllSeries();
+            ((YIntervalSeriesCollection) plot.getDataset(BAND_DATASET_INDEX)).removeAllSeries();
+            getChartComposite(container).setData(DATA_TIME_SERIES, null);
         }
     }
 
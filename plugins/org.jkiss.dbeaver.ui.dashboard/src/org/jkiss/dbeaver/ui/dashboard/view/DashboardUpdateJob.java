@@ -38,6 +38,8 @@ public class DashboardUpdateJob extends AbstractJob {
     private static DashboardUpdateJob updateJob;
     
     private final AtomicBoolean isSchedule = new AtomicBoolean(true);
+    // Keeps query statistics between runs
+    private final DashboardUpdater updater = new DashboardUpdater();
 
     private DashboardUpdateJob() {
         super("Dashboard update");
@@ -48,7 +50,7 @@ public class DashboardUpdateJob extends AbstractJob {
     protected IStatus run(@NotNull DBRProgressMonitor monitor) {
 
         try {
-            if (new DashboardUpdater().updateDashboards(monitor)) {
+            if (updater.updateDashboards(monitor)) {
                 pauseDashboardUpdate();
             }
         } catch (Exception e) {
@@ -23,7 +23,6 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
-import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.dashboard.DBDashboardDataType;
 import org.jkiss.dbeaver.model.dashboard.DBDashboardMapQuery;
 import org.jkiss.dbeaver.model.dashboard.DBDashboardQuery;
@@ -46,7 +45,34 @@ import java.util.*;
 public class DashboardUpdater {
 
     private static final Log log = Log.getLog(DashboardUpdater.class);
+
+    // Statistics of queries which weren't executed for this time are removed
+    private static final long QUERY_STATISTICS_TTL = 10 * 60 * 1000L;
+
     private final Map<DBPDataSourceContainer, List<MapQueryInfo>> mapQueries = new HashMap<>();
+    private final Map<QueryKey, QueryStatistics> queryStatistics = new HashMap<>();
+
+    /**
+     * Dashboards with the same query text and connection share one query execution
+     */
+    private record QueryKey(@NotNull DBPDataSourceContainer dataSourceContainer, @NotNull String queryText) {
+    }
+
+    private static class QueryStatistics {
+        private long lastStartTime;
+        private long lastDuration;
+        // Query is skipped until this time
+        private long nextRunTime;
+    }
+
+    /**
+     * Query results read once and then converted into datasets of each dashboard
+     */
+    private static class QueryResult {
+        private final List<String> columnNames = new ArrayList<>();
+        private int timestampColumn = -1;
+        private final List<Object[]> rows = new ArrayList<>();
+    }
 
     private static class MapQueryInfo {
         private final DashboardItemContainer dashboard;
@@ -81,7 +107,7 @@ public class DashboardUpdater {
     }
 
     private void updateDashboards(@NotNull DBRProgressMonitor monitor, @NotNull List<DashboardItemContainer> dashboards) {
-        monitor.beginTask("Update dashboards", dashboards.size());
+        mapQueries.clear();
 
         // Get all map queries used by dashboards
         for (DashboardItemContainer dashboard : dashboards) {
@@ -130,29 +156,38 @@ public class DashboardUpdater {
             }
         }
 
+        // Group identical queries of all dashboards
+        Map<QueryKey, List<DashboardItemContainer>> queryDashboards = new LinkedHashMap<>();
         for (DashboardItemContainer dashboard : dashboards) {
             if (!dashboard.isAutoUpdateEnabled()) {
                 continue;
             }
-            DBPDataSource dataSource = dashboard.getDataSourceContainer().getDataSource();
-            if (dataSource == null) {
+            if (dashboard.getMapQuery() != null) {
+                fetchDashboardMapData(monitor, dashboard);
                 continue;
             }
-            try {
-                DBExecUtils.tryExecuteRecover(dashboards, dataSource, param -> {
-                    try {
-                        updateDashboard(monitor, dashboard);
-                    } catch (Throwable e) {
-                        log.debug("Datasource '" + dashboard.getDataSourceContainer().getName() + "' dashboard query failed. Stopping update of dashboards for this datasource.");
-                        dashboard.disableAutoUpdate();
-                        throw new InvocationTargetException(e);
-                    }
-                });
-            } catch (DBException e) {
-                log.debug("Error reading dashboard '" + dashboard.getItemDescriptor().getId() + "' data: " + CommonUtils.getRootCause(e).getMessage());
+            List<? extends DBDashboardQuery> queries = dashboard.getQueryList();
+            if (queries == null) {
+                continue;
+            }
+            for (DBDashboardQuery query : queries) {
+                queryDashboards.computeIfAbsent(
+                    new QueryKey(dashboard.getDataSourceContainer(), query.getQueryText()),
+                    k -> new ArrayList<>()).add(dashboard);
             }
+        }
+
+        monitor.beginTask("Update dashboards", queryDashboards.size());
+        for (Map.Entry<QueryKey, List<DashboardItemContainer>> entry : queryDashboards.entrySet()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            updateDashboards(monitor, entry.getKey(), entry.getValue());
             monitor.worked(1);
         }
+
+        long currentTime = System.currentTimeMillis();
+        queryStatistics.values().removeIf(stat -> currentTime - stat.lastStartTime > QUERY_STATISTICS_TTL);
         monitor.done();
     }
 
@@ -164,77 +199,115 @@ public class DashboardUpdater {
         try (DBCSession session = executionContext.openSession(
             monitor, DBCExecutionPurpose.UTIL, "Read map query '" + mqInfo.mapQuery.getId() + "' data")) {
             session.enableLogging(false);
-            try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, mqInfo.mapQuery.getQueryText(), false, false, false)) {
-                if (dbStat.executeStatement()) {
-                    try (DBCResultSet dbResults = dbStat.openResultSet()) {
-                        mqInfo.timestamp = new Date();
-                        while (dbResults.nextRow()) {
-                            String mapKey = CommonUtils.toString(dbResults.getAttributeValue(0));
-                            Object mapValue = dbResults.getAttributeValue(1);
-                            mqInfo.mapValue.put(mapKey, mapValue);
-                        }
-                    }
+            executeQuery(session, mqInfo.mapQuery.getQueryText(), dbResults -> {
+                mqInfo.timestamp = new Date();
+                while (dbResults.nextRow()) {
+                    String mapKey = CommonUtils.toString(dbResults.getAttributeValue(0));
+                    Object mapValue = dbResults.getAttributeValue(1);
+                    mqInfo.mapValue.put(mapKey, mapValue);
                 }
-            }
+            });
         } catch (Exception e) {
             throw new DBCException("Error reading map query data", e);
         }
     }
 
-    private void updateDashboard(DBRProgressMonitor monitor, DashboardItemContainer dashboard) throws DBCException {
-        if (!dashboard.getDataSourceContainer().isConnected() || DBWorkbench.getPlatform().isShuttingDown()) {
-            return;
-        }
-
-        if (dashboard.getMapQuery() != null) {
-            fetchDashboardMapData(monitor, dashboard);
+    /**
+     * Executes the query once and updates all dashboards which use it.
+     * Query which takes longer than the update period is skipped for some time.
+     */
+    private void updateDashboards(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull QueryKey queryKey,
+        @NotNull List<DashboardItemContainer> dashboards
+    ) {
+        DBPDataSourceContainer dataSourceContainer = queryKey.dataSourceContainer();
+        DBPDataSource dataSource = dataSourceContainer.getDataSource();
+        if (dataSource == null || !dataSourceContainer.isConnected() || DBWorkbench.getPlatform().isShuttingDown()) {
             return;
         }
-        List<? extends DBDashboardQuery> queries = dashboard.getQueryList();
-        if (queries.isEmpty()) {
+        long startTime = System.currentTimeMillis();
+        QueryStatistics statistics = queryStatistics.computeIfAbsent(queryKey, k -> new QueryStatistics());
+        if (startTime < statistics.nextRunTime) {
             return;
         }
-        DashboardContainer view = dashboard.getGroup().getView();
-        DBCExecutionContext executionContext = view.getExecutionContext();
+        DashboardItemContainer firstDashboard = dashboards.get(0);
+        DBCExecutionContext executionContext = firstDashboard.getGroup().getView().getExecutionContext();
         if (executionContext == null) {
             return;
         }
-        try (DBCSession session = executionContext.openSession(
-            monitor, DBCExecutionPurpose.UTIL, "Read dashboard '" + dashboard.getItemDescriptor().getName() + "' data")) {
-            session.enableLogging(false);
+        int maxRows = 0;
+        long updatePeriod = Long.MAX_VALUE;
+        for (DashboardItemContainer dashboard : dashboards) {
+            maxRows = Math.max(maxRows, dashboard.getDashboardMaxItems());
+            updatePeriod = Math.min(updatePeriod, dashboard.getUpdatePeriod());
+        }
 
-            DBCTransactionManager txnManager = DBUtils.getTransactionManager(session.getExecutionContext());
-            boolean revertTxn = false;
-            if (false) {
-                // FIXME: dashboards must be queued in auto-commit mode?
-                // FIXME: we can't switch to auto-commit because connection may be used by another tasks (e.g. SQL editor)
-                if (txnManager != null && txnManager.isSupportsTransactions() && !txnManager.isAutoCommit()) {
-                    txnManager.setAutoCommit(monitor, true);
-                    revertTxn = true;
+        QueryResult queryResult = new QueryResult();
+        try {
+            int finalMaxRows = maxRows;
+            DBExecUtils.tryExecuteRecover(dashboards, dataSource, param -> {
+                try (DBCSession session = executionContext.openSession(
+                    monitor, DBCExecutionPurpose.UTIL, "Read dashboard '" + firstDashboard.getItemDescriptor().getName() + "' data")) {
+                    session.enableLogging(false);
+                    executeQuery(session, queryKey.queryText(), dbResults -> readQueryResult(dbResults, finalMaxRows, queryResult));
+                } catch (Throwable e) {
+                    log.debug("Datasource '" + dataSourceContainer.getName() + "' dashboard query failed. Stopping update of dashboards for this datasource.");
+                    for (DashboardItemContainer dashboard : dashboards) {
+                        dashboard.disableAutoUpdate();
+                    }
+                    throw new InvocationTargetException(e);
                 }
+            });
+        } catch (DBException e) {
+            log.debug("Error reading dashboard '" + firstDashboard.getItemDescriptor().getId() + "' data: " + CommonUtils.getRootCause(e).getMessage());
+            return;
+        } finally {
+            statistics.lastStartTime = startTime;
+            statistics.lastDuration = System.currentTimeMillis() - startTime;
+            if (statistics.lastDuration > updatePeriod) {
+                // Don't overload the database with a query which can't keep up with its dashboards
+                statistics.nextRunTime = startTime + statistics.lastDuration * 2;
+                log.debug("Dashboard query takes " + statistics.lastDuration + "ms which is longer than its update period " +
+                    updatePeriod + "ms. Query is delayed.");
+            } else {
+                statistics.nextRunTime = 0;
             }
-            try {
-                for (DBDashboardQuery query : queries) {
-                    try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.getQueryText(), false, false, false)) {
-                        if (dbStat.executeStatement()) {
-                            try (DBCResultSet dbResults = dbStat.openResultSet()) {
-                                if (dbResults != null) {
-                                    fetchDashboardData(dashboard, dbResults);
-                                }
-                            }
-                        }
-                    } catch (Exception e) {
-                        throw new DBCException("Error updating dashboard " + dashboard.getItemDescriptor().getId(), e, session.getExecutionContext());
+        }
+
+        if (queryResult.columnNames.isEmpty()) {
+            // Query didn't return results
+            return;
+        }
+        for (DashboardItemContainer dashboard : dashboards) {
+            fetchDashboardData(dashboard, queryResult);
+        }
+    }
+
+    /**
+     * Executes dashboard query and reads its results.
+     * Dashboards always read the current data, so the query result cache isn't used here.
+     */
+    private static void executeQuery(
+        @NotNull DBCSession session,
+        @NotNull String queryText,
+        @NotNull ResultSetReader reader
+    ) throws DBException {
+        try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, queryText, false, false, false)) {
+            if (dbStat.executeStatement()) {
+                try (DBCResultSet dbResults = dbStat.openResultSet()) {
+                    if (dbResults != null) {
+                        reader.readResults(dbResults);
                     }
                 }
-            } finally {
-                if (revertTxn) {
-                    txnManager.setAutoCommit(monitor, false);
-                }
             }
         }
     }
 
+    private interface ResultSetReader {
+        void readResults(@NotNull DBCResultSet resultSet) throws DBException;
+    }
+
     private void fetchDashboardMapData(DBRProgressMonitor monitor, DashboardItemContainer dashboard) {
         MapQueryInfo mqi = getMapQueryData(dashboard);
         if (mqi == null) {
@@ -310,34 +383,56 @@ public class DashboardUpdater {
         }
     }
 
-    private void fetchDashboardData(DashboardItemContainer dashboardContainer, DBCResultSet dbResults) throws DBCException {
+    private static void readQueryResult(
+        @NotNull DBCResultSet dbResults,
+        int maxRows,
+        @NotNull QueryResult queryResult
+    ) throws DBCException {
         DBCResultSetMetaData meta = dbResults.getMeta();
         List<? extends DBCAttributeMetaData> rsAttrs = meta.getAttributes();
-        List<String> colNames = new ArrayList<>();
-        String tsColName = null;
         for (DBCAttributeMetaData rsAttr : rsAttrs) {
             String colName = rsAttr.getLabel();
             if (CommonUtils.isEmpty(colName)) {
                 colName = rsAttr.getName();
             }
             if (DashboardConstants.RS_COL_TIMESTAMP.equalsIgnoreCase(colName)) {
-                tsColName = colName;
-            } else {
-                colNames.add(colName);
+                queryResult.timestampColumn = queryResult.columnNames.size();
             }
+            queryResult.columnNames.add(colName);
         }
-        DashboardDataset dataset = new DashboardDataset(colNames.toArray(new String[0]));
 
         while (dbResults.nextRow()) {
+            Object[] values = new Object[rsAttrs.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = dbResults.getAttributeValue(i);
+            }
+            queryResult.rows.add(values);
+            if (queryResult.rows.size() >= maxRows) {
+                break;
+            }
+        }
+    }
+
+    private void fetchDashboardData(DashboardItemContainer dashboardContainer, QueryResult queryResult) {
+        List<String> colNames = new ArrayList<>(queryResult.columnNames);
+        if (queryResult.timestampColumn >= 0) {
+            colNames.remove(queryResult.timestampColumn);
+        }
+        DashboardDataset dataset = new DashboardDataset(colNames.toArray(new String[0]));
+
+        Date currentTime = new Date();
+        for (Object[] resultRow : queryResult.rows) {
             Object[] values = new Object[colNames.size()];
             Date timestamp;
-            if (tsColName != null) {
-                timestamp = (Date) dbResults.getAttributeValue(tsColName);
+            if (queryResult.timestampColumn >= 0) {
+                timestamp = (Date) resultRow[queryResult.timestampColumn];
             } else {
-                timestamp = new Date();
+                timestamp = currentTime;
             }
-            for (int i = 0; i < colNames.size(); i++) {
-                values[i] = dbResults.getAttributeValue(colNames.get(i));
+            for (int i = 0, k = 0; i < resultRow.length; i++) {
+                if (i != queryResult.timestampColumn) {
+                    values[k++] = resultRow[i];
+                }
             }
             dataset.addRow(new DashboardDatasetRow(timestamp, values));
             if (dataset.getRows().size() >= dashboardContainer.getDashboardMaxItems()) {
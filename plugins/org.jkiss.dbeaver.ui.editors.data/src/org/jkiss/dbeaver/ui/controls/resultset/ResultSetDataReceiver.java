@@ -199,7 +199,7 @@ class ResultSetDataReceiver implements DBDDataReceiver, DBDDataReceiverInteracti
                 resultSetViewer.updateStatusMessage();
 
                 if (resultSetViewer.getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_AUTOMATIC_ROW_COUNT)){
-                    resultSetViewer.updateRowCount(false);
+                    resultSetViewer.updateRowCount(false, false);
                 }
 
             } else {
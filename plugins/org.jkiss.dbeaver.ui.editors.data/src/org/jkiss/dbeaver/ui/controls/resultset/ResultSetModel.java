@@ -64,6 +64,8 @@ public class ResultSetModel implements DBDResultSetModel {
     // Data
     private List<ResultSetRow> curRows = new ArrayList<>();
     private Long totalRowCount = null;
+    // Total row count was taken from the table statistics
+    private boolean totalRowCountEstimate;
     private int changesCount = 0;
     private volatile boolean hasData = false;
     // Flag saying that edited values update is in progress
@@ -402,7 +404,16 @@ public class ResultSetModel implements DBDResultSetModel {
     }
 
     void setTotalRowCount(Long totalRowCount) {
+        setTotalRowCount(totalRowCount, false);
+    }
+
+    public boolean isTotalRowCountEstimate() {
+        return totalRowCountEstimate;
+    }
+
+    void setTotalRowCount(Long totalRowCount, boolean estimate) {
         this.totalRowCount = totalRowCount;
+        this.totalRowCountEstimate = estimate;
     }
 
     @Nullable
@@ -904,6 +915,7 @@ public class ResultSetModel implements DBDResultSetModel {
         // Refresh all rows
         this.curRows = new ArrayList<>();
         this.totalRowCount = null;
+        this.totalRowCountEstimate = false;
         this.singleSourceEntity = null;
 
         this.hasData = false;
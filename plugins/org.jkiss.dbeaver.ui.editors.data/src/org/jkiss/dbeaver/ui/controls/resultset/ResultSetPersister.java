@@ -35,6 +35,7 @@ import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.dbeaver.model.struct.rdb.DBSForeignKeyModifyRule;
 import org.jkiss.dbeaver.model.struct.rdb.DBSManipulationType;
 import org.jkiss.dbeaver.model.struct.rdb.DBSTableForeignKey;
+import org.jkiss.dbeaver.model.virtual.DBVDictionaryCache;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.runtime.jobs.DataSourceJob;
 import org.jkiss.dbeaver.ui.ISmartTransactionManager;
@@ -42,6 +43,7 @@ import org.jkiss.dbeaver.ui.UITask;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.controls.resultset.internal.ResultSetMessages;
 import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
@@ -54,6 +56,11 @@ class ResultSetPersister {
 
     private static final Log log = Log.getLog(ResultSetPersister.class);
 
+    // Max number of rows saved in a single batch
+    private static final int MAX_BATCH_SIZE = 1000;
+    // Max number of keys in refresh query condition
+    private static final int REFRESH_CHUNK_SIZE = 100;
+
     /**
      * Data update listener
      */
@@ -699,6 +706,8 @@ class ResultSetPersister {
         private final ResultSetSaveSettings settings;
         private final DataUpdateListener listener;
         private boolean autocommit;
+        // Auto-commit was disabled to save all statements in one transaction
+        private boolean temporaryTransaction;
         private DBCStatistics updateStats, insertStats, deleteStats;
         private DBCSavepoint savepoint;
         private Throwable error;
@@ -735,6 +744,9 @@ class ResultSetPersister {
             deleteStats = new DBCStatistics();
             try {
                 error = executeStatements(monitor);
+                if (!generateScript) {
+                    invalidateDictionaryCache(monitor);
+                }
             } finally {
                 model.setUpdateInProgress(null);
 
@@ -748,7 +760,7 @@ class ResultSetPersister {
                 // Reflect changes
                 UIUtils.syncExec(() -> {
                     boolean rowsChanged = false;
-                    if (DataUpdaterJob.this.autocommit || error == null) {
+                    if ((DataUpdaterJob.this.autocommit && !DataUpdaterJob.this.temporaryTransaction) || error == null) {
                         rowsChanged = reflectChanges();
                     }
                     if (!viewer.getControl().isDisposed()) {
@@ -781,6 +793,21 @@ class ResultSetPersister {
             return Status.OK_STATUS;
         }
 
+        /**
+         * Modified tables may be used as dictionaries by other editors
+         */
+        private void invalidateDictionaryCache(DBRProgressMonitor monitor) {
+            Set<DBSEntity> modifiedEntities = new LinkedHashSet<>();
+            for (List<DataStatementInfo> statements : List.of(deleteStatements, insertStatements, updateStatements)) {
+                for (DataStatementInfo statement : statements) {
+                    modifiedEntities.add(statement.entity);
+                }
+            }
+            for (DBSEntity entity : modifiedEntities) {
+                DBVDictionaryCache.invalidateEntity(monitor, entity);
+            }
+        }
+
         private Throwable executeStatements(DBRProgressMonitor monitor) {
             monitor.beginTask(
                 ResultSetMessages.controls_resultset_viewer_monitor_aply_changes,
@@ -848,79 +875,43 @@ class ResultSetPersister {
                     }
                 }
             }
+            // In auto-commit mode each statement is committed separately, so we can't batch them:
+            // after a batch failure we won't know which rows were actually saved.
+            // Several statements are saved in a temporary transaction then, like in smart commit mode.
+            if (!generateScript && txnManager != null && this.autocommit && txnManager.isSupportsTransactions() &&
+                deleteStatements.size() + insertStatements.size() + updateStatements.size() > 1
+            ) {
+                try {
+                    monitor.subTask("Disable auto-commit mode");
+                    txnManager.setAutoCommit(monitor, false);
+                    this.temporaryTransaction = true;
+                } catch (DBException e) {
+                    log.debug("Can't start temporary transaction", e);
+                }
+            }
+            boolean useBatches = generateScript || (txnManager != null && (!this.autocommit || this.temporaryTransaction));
             try {
-                for (DataStatementInfo statement : ResultSetPersister.this.deleteStatements) {
-                    if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.deleteData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            new ExecutionSource(dataContainer))) {
-                            Object[] attributes = new Object[statement.keyAttributes.size()];
-                            extractDataAndProcessBatch(session, options, statement, batch, attributes, deleteStats);
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
-                    }
-                    monitor.worked(1);
+                Throwable error = executeStatementGroups(session, options, ResultSetPersister.this.deleteStatements, deleteStats, useBatches);
+                if (error == null) {
+                    error = executeStatementGroups(session, options, ResultSetPersister.this.insertStatements, insertStats, useBatches);
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.insertStatements) {
-                    if (monitor.isCanceled()) break;
-                    try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.insertData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            statement.needKeys() ? new KeyDataReceiver(statement) : null,
-                            new ExecutionSource(dataContainer),
-                            options)) {
-                            batch.add(DBDAttributeValue.getValues(statement.keyAttributes));
-                            if (generateScript) {
-                                batch.generatePersistActions(session, script, options);
-                            } else {
-                                DBCStatistics bs = batch.execute(session, options);
-                                // Notify rsv container about statement execute
-                                this.notifyContainer(bs);
-
-                                insertStats.accumulate(bs);
-                            }
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
-                    }
-                    monitor.worked(1);
+                if (error == null) {
+                    error = executeStatementGroups(session, options, ResultSetPersister.this.updateStatements, updateStats, useBatches);
                 }
-                for (DataStatementInfo statement : ResultSetPersister.this.updateStatements) {
-                    if (monitor.isCanceled()) break;
+                if (error == null && this.temporaryTransaction) {
+                    // On error statements are already rolled back
                     try {
-                        DBSDataManipulator dataContainer = getDataManipulator(statement.entity);
-                        try (DBSDataManipulator.ExecuteBatch batch = dataContainer.updateData(
-                            session,
-                            DBDAttributeValue.getAttributes(statement.updateAttributes),
-                            DBDAttributeValue.getAttributes(statement.keyAttributes),
-                            null,
-                            new ExecutionSource(dataContainer))) {
-                            // Make single array of values
-                            Object[] attributes = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
-                            for (int i = 0; i < statement.updateAttributes.size(); i++) {
-                                attributes[i] = statement.updateAttributes.get(i).getValue();
-                            }
-                            extractDataAndProcessBatch(session, options, statement, batch, attributes, updateStats);
-                        }
-                        processStatementChanges(statement);
-                    } catch (DBException e) {
-                        processStatementError(statement, session);
-                        return e;
+                        monitor.subTask("Commit");
+                        txnManager.commit(session);
+                    } catch (DBCException e) {
+                        List<DataStatementInfo> statements = new ArrayList<>(deleteStatements);
+                        statements.addAll(insertStatements);
+                        statements.addAll(updateStatements);
+                        processStatementError(statements, session);
+                        error = e;
                     }
-                    monitor.worked(1);
                 }
-
-                return null;
+                return error;
             } finally {
                 if (!generateScript && txnManager != null && this.savepoint != null) {
                     try {
@@ -930,42 +921,145 @@ class ResultSetPersister {
                         log.debug("Can't release savepoint", e);
                     }
                 }
+                if (this.temporaryTransaction) {
+                    try {
+                        monitor.subTask("Restore auto-commit mode");
+                        txnManager.setAutoCommit(monitor, true);
+                    } catch (DBException e) {
+                        log.warn("Can't restore auto-commit mode", e);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Executes statements in groups. Consecutive statements of the same shape (entity and attributes)
+         * are added to a single batch, which is executed with one prepared statement.
+         * Statements order is preserved (it matters for cascade deletes).
+         */
+        private Throwable executeStatementGroups(
+            DBCSession session,
+            Map<String, Object> options,
+            List<DataStatementInfo> statements,
+            DBCStatistics stats,
+            boolean useBatches
+        ) {
+            DBRProgressMonitor monitor = session.getProgressMonitor();
+            for (int groupStart = 0; groupStart < statements.size(); ) {
+                if (monitor.isCanceled()) break;
+                int groupEnd = groupStart + 1;
+                if (useBatches) {
+                    DataStatementInfo first = statements.get(groupStart);
+                    while (groupEnd < statements.size() &&
+                        groupEnd - groupStart < MAX_BATCH_SIZE &&
+                        first.hasSameShape(statements.get(groupEnd))) {
+                        groupEnd++;
+                    }
+                }
+                List<DataStatementInfo> group = statements.subList(groupStart, groupEnd);
+                if (statements.size() > 1) {
+                    monitor.subTask(group.get(0).type.getName() + " " + group.get(0).entity.getName() +
+                        " (" + groupEnd + " of " + statements.size() + ")");
+                }
+                try {
+                    executeStatementGroup(session, options, group, stats);
+                    for (DataStatementInfo statement : group) {
+                        processStatementChanges(statement);
+                    }
+                } catch (DBException e) {
+                    processStatementError(group, session);
+                    return e;
+                }
+                monitor.worked(group.size());
+                groupStart = groupEnd;
             }
+            return null;
         }
 
-        private void extractDataAndProcessBatch(
+        private void executeStatementGroup(
             DBCSession session,
             Map<String, Object> options,
-            DataStatementInfo statement,
-            DBSDataManipulator.ExecuteBatch batch,
-            Object[] attributes,
+            List<DataStatementInfo> group,
             DBCStatistics stats
         ) throws DBException {
-            for (int i = 0; i < statement.keyAttributes.size(); i++) {
-                if (DBUtils.isNullValue(statement.keyAttributes.get(i).getValue())) {
-                    attributes[statement.updateAttributes.size() + i] = DBDNull.INSTANCE;
+            DataStatementInfo first = group.get(0);
+            DBSDataManipulator dataContainer = getDataManipulator(first.entity);
+            try (DBSDataManipulator.ExecuteBatch batch = openBatch(session, options, dataContainer, first)) {
+                for (DataStatementInfo statement : group) {
+                    batch.add(getStatementValues(statement));
+                }
+                if (generateScript) {
+                    batch.generatePersistActions(session, script, options);
                 } else {
-                    attributes[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
+                    DBCStatistics bs = batch.execute(session, options);
+                    // Notify rsv container about statement execute
+                    this.notifyContainer(bs);
+
+                    stats.accumulate(bs);
                 }
             }
-            batch.add(attributes);
-            if (generateScript) {
-                batch.generatePersistActions(session, script, options);
+        }
+
+        @NotNull
+        private DBSDataManipulator.ExecuteBatch openBatch(
+            DBCSession session,
+            Map<String, Object> options,
+            DBSDataManipulator dataContainer,
+            DataStatementInfo statement
+        ) throws DBException {
+            if (statement.type == DBSManipulationType.DELETE) {
+                return dataContainer.deleteData(
+                    session,
+                    DBDAttributeValue.getAttributes(statement.keyAttributes),
+                    new ExecutionSource(dataContainer));
+            } else if (statement.type == DBSManipulationType.INSERT) {
+                // Statements which need generated keys are never grouped, so receiver handles a single row
+                return dataContainer.insertData(
+                    session,
+                    DBDAttributeValue.getAttributes(statement.keyAttributes),
+                    statement.needKeys() ? new KeyDataReceiver(statement) : null,
+                    new ExecutionSource(dataContainer),
+                    options);
+            } else if (statement.type == DBSManipulationType.UPDATE) {
+                return dataContainer.updateData(
+                    session,
+                    DBDAttributeValue.getAttributes(statement.updateAttributes),
+                    DBDAttributeValue.getAttributes(statement.keyAttributes),
+                    null,
+                    new ExecutionSource(dataContainer));
             } else {
-                DBCStatistics bs = batch.execute(session, options);
-                // Notify rsv container about statement execute
-                this.notifyContainer(bs);
+                throw new DBCException("Unsupported statement type: " + statement.type);
+            }
+        }
 
-                stats.accumulate(bs);
+        @NotNull
+        private Object[] getStatementValues(DataStatementInfo statement) {
+            if (statement.type == DBSManipulationType.INSERT) {
+                return DBDAttributeValue.getValues(statement.keyAttributes);
+            }
+            // Make single array of values
+            Object[] values = new Object[statement.updateAttributes.size() + statement.keyAttributes.size()];
+            for (int i = 0; i < statement.updateAttributes.size(); i++) {
+                values[i] = statement.updateAttributes.get(i).getValue();
+            }
+            for (int i = 0; i < statement.keyAttributes.size(); i++) {
+                if (DBUtils.isNullValue(statement.keyAttributes.get(i).getValue())) {
+                    values[statement.updateAttributes.size() + i] = DBDNull.INSTANCE;
+                } else {
+                    values[statement.updateAttributes.size() + i] = statement.keyAttributes.get(i).getValue();
+                }
             }
+            return values;
         }
 
         private void processStatementChanges(DataStatementInfo statement) {
             statement.executed = true;
         }
 
-        private void processStatementError(DataStatementInfo statement, DBCSession session) {
-            statement.executed = false;
+        private void processStatementError(List<DataStatementInfo> statements, DBCSession session) {
+            for (DataStatementInfo statement : statements) {
+                statement.executed = false;
+            }
             if (!generateScript) {
                 DBCTransactionManager txnManager = DBUtils.getTransactionManager(getExecutionContext());
                 if (txnManager != null) {
@@ -1084,6 +1178,33 @@ class ResultSetPersister {
             }
             return false;
         }
+
+        /**
+         * Statements of the same shape differ only by values and may be executed in a single batch.
+         */
+        boolean hasSameShape(@NotNull DataStatementInfo statement) {
+            if (type != statement.type || entity != statement.entity) {
+                return false;
+            }
+            if (type == DBSManipulationType.INSERT && (needKeys() || statement.needKeys())) {
+                // Generated keys are read for each row separately
+                return false;
+            }
+            return hasSameAttributes(keyAttributes, statement.keyAttributes) &&
+                hasSameAttributes(updateAttributes, statement.updateAttributes);
+        }
+
+        private static boolean hasSameAttributes(@NotNull List<DBDAttributeValue> values1, @NotNull List<DBDAttributeValue> values2) {
+            if (values1.size() != values2.size()) {
+                return false;
+            }
+            for (int i = 0; i < values1.size(); i++) {
+                if (values1.get(i).getAttribute() != values2.get(i).getAttribute()) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
     private class RowRefreshJob extends ResultSetJobAbstract {
@@ -1120,43 +1241,42 @@ class ResultSetPersister {
                 if (idAttributes.isEmpty()) {
                     return Status.OK_STATUS;
                 }
+                // Top-level key attributes may be matched with fetched values, so rows may be refreshed in chunks
+                int[] keyIndexes = new int[idAttributes.size()];
+                for (int i = 0; i < keyIndexes.length; i++) {
+                    keyIndexes[i] = ArrayUtils.indexOf(curAttributes, idAttributes.get(i));
+                    if (keyIndexes[i] < 0) {
+                        keyIndexes = null;
+                        break;
+                    }
+                }
                 try (DBCSession session = getExecutionContext().openSession(
                     monitor,
                     DBCExecutionPurpose.UTIL,
                     "Refresh row(s) after insert/update"
                 )) {
+                    List<Integer> chunk = new ArrayList<>();
                     for (int i = 0; i < rows.size(); i++) {
-                        ResultSetRow row = rows.get(i);
-                        List<DBDAttributeConstraint> constraints = new ArrayList<>();
-                        boolean hasKey = true;
-                        for (DBDAttributeBinding keyAttr : idAttributes) {
-                            final Object keyValue = viewer.getModel().getCellValue(keyAttr, row);
-                            if (DBUtils.isNullValue(keyValue)) {
-                                hasKey = false;
-                                break;
-                            }
-                            final DBDAttributeConstraint constraint = new DBDAttributeConstraint(keyAttr);
-                            constraint.setOperator(DBCLogicalOperator.EQUALS);
-                            constraint.setValue(keyValue);
-                            constraints.add(constraint);
+                        if (monitor.isCanceled()) {
+                            break;
                         }
-                        if (!hasKey) {
+                        Object[] keyValues = getRowKey(idAttributes, rows.get(i));
+                        if (keyValues == null) {
                             // No key value for this row
                             continue;
                         }
-                        DBDDataFilter filter = new DBDDataFilter(constraints);
-
-                        RowDataReceiver dataReceiver = new RowDataReceiver(curAttributes);
-                        dataContainer.readData(
-                            executionSource,
-                            session,
-                            dataReceiver,
-                            filter,
-                            0,
-                            0,
-                            DBSDataContainer.FLAG_REFRESH,
-                            0);
-                        refreshValues[i] = dataReceiver.getRowValues();
+                        if (keyIndexes == null) {
+                            refreshValues[i] = refreshRow(session, dataContainer, executionSource, curAttributes, idAttributes, keyValues);
+                            continue;
+                        }
+                        chunk.add(i);
+                        if (chunk.size() >= REFRESH_CHUNK_SIZE) {
+                            refreshRows(session, dataContainer, executionSource, curAttributes, idAttributes, keyIndexes, chunk, refreshValues);
+                            chunk.clear();
+                        }
+                    }
+                    if (!chunk.isEmpty() && !monitor.isCanceled()) {
+                        refreshRows(session, dataContainer, executionSource, curAttributes, idAttributes, keyIndexes, chunk, refreshValues);
                     }
                 }
 
@@ -1194,6 +1314,129 @@ class ResultSetPersister {
             }
             return Status.OK_STATUS;
         }
+
+        @Nullable
+        private Object[] getRowKey(@NotNull List<DBDAttributeBinding> idAttributes, @NotNull ResultSetRow row) {
+            Object[] keyValues = new Object[idAttributes.size()];
+            for (int i = 0; i < keyValues.length; i++) {
+                keyValues[i] = viewer.getModel().getCellValue(idAttributes.get(i), row);
+                if (DBUtils.isNullValue(keyValues[i])) {
+                    return null;
+                }
+            }
+            return keyValues;
+        }
+
+        @Nullable
+        private Object[] refreshRow(
+            @NotNull DBCSession session,
+            @NotNull DBSDataContainer dataContainer,
+            @NotNull DBCExecutionSource executionSource,
+            @NotNull DBDAttributeBinding[] curAttributes,
+            @NotNull List<DBDAttributeBinding> idAttributes,
+            @NotNull Object[] keyValues
+        ) throws DBException {
+            List<DBDAttributeConstraint> constraints = new ArrayList<>();
+            for (int i = 0; i < idAttributes.size(); i++) {
+                final DBDAttributeConstraint constraint = new DBDAttributeConstraint(idAttributes.get(i));
+                constraint.setOperator(DBCLogicalOperator.EQUALS);
+                constraint.setValue(keyValues[i]);
+                constraints.add(constraint);
+            }
+            RowDataReceiver dataReceiver = new RowDataReceiver(curAttributes);
+            dataContainer.readData(
+                executionSource,
+                session,
+                dataReceiver,
+                new DBDDataFilter(constraints),
+                0,
+                0,
+                DBSDataContainer.FLAG_REFRESH,
+                0);
+            return dataReceiver.getRowValues();
+        }
+
+        /**
+         * Reads rows with a single query. Condition is a set of IN lists (one per key attribute),
+         * fetched rows are matched with the original rows by key values.
+         * For composite keys query may return extra rows, they are ignored.
+         */
+        private void refreshRows(
+            @NotNull DBCSession session,
+            @NotNull DBSDataContainer dataContainer,
+            @NotNull DBCExecutionSource executionSource,
+            @NotNull DBDAttributeBinding[] curAttributes,
+            @NotNull List<DBDAttributeBinding> idAttributes,
+            @NotNull int[] keyIndexes,
+            @NotNull List<Integer> rowIndexes,
+            @NotNull Object[][] refreshValues
+        ) throws DBException {
+            Map<List<String>, Integer> rowsByKey = new HashMap<>();
+            List<Set<List<String>>> attrKeys = new ArrayList<>();
+            List<List<Object>> attrValues = new ArrayList<>();
+            for (int i = 0; i < idAttributes.size(); i++) {
+                attrKeys.add(new HashSet<>());
+                attrValues.add(new ArrayList<>());
+            }
+            for (int rowIndex : rowIndexes) {
+                Object[] keyValues = getRowKey(idAttributes, rows.get(rowIndex));
+                if (keyValues == null) {
+                    continue;
+                }
+                rowsByKey.put(DBVDictionaryCache.makeKey(keyValues), rowIndex);
+                for (int i = 0; i < keyValues.length; i++) {
+                    // Skip duplicate values of composite key parts
+                    if (attrKeys.get(i).add(DBVDictionaryCache.makeKey(new Object[]{keyValues[i]}))) {
+                        attrValues.get(i).add(keyValues[i]);
+                    }
+                }
+            }
+            List<DBDAttributeConstraint> constraints = new ArrayList<>();
+            for (int i = 0; i < idAttributes.size(); i++) {
+                final DBDAttributeConstraint constraint = new DBDAttributeConstraint(idAttributes.get(i));
+                constraint.setOperator(DBCLogicalOperator.IN);
+                constraint.setValue(attrValues.get(i).toArray());
+                constraints.add(constraint);
+            }
+            MultiRowDataReceiver dataReceiver = new MultiRowDataReceiver(curAttributes);
+            session.getProgressMonitor().subTask("Refresh " + rowIndexes.size() + " row(s)");
+            dataContainer.readData(
+                executionSource,
+                session,
+                dataReceiver,
+                new DBDDataFilter(constraints),
+                0,
+                0,
+                DBSDataContainer.FLAG_REFRESH,
+                0);
+            for (Object[] rowValues : dataReceiver.rows) {
+                Object[] keyValues = new Object[keyIndexes.length];
+                for (int i = 0; i < keyIndexes.length; i++) {
+                    keyValues[i] = rowValues[keyIndexes[i]];
+                }
+                Integer rowIndex = rowsByKey.get(DBVDictionaryCache.makeKey(keyValues));
+                if (rowIndex != null) {
+                    refreshValues[rowIndex] = rowValues;
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects all fetched rows
+     */
+    private static class MultiRowDataReceiver extends RowDataReceiver {
+        private final List<Object[]> rows = new ArrayList<>();
+
+        MultiRowDataReceiver(DBDAttributeBinding[] curAttributes) {
+            super(curAttributes);
+        }
+
+        @Override
+        protected void fetchRowValues(DBCSession session, DBCResultSet resultSet) throws DBCException {
+            super.fetchRowValues(session, resultSet);
+            rows.add(rowValues);
+        }
     }
 
 }
@@ -181,6 +181,8 @@ public class ResultSetViewer extends Viewer
     private Composite statusBar;
     private StatusLabel statusLabel;
     private ActiveStatusMessage rowCountLabel;
+    // Next row count update runs a count query. Automatic updates use table statistics.
+    private volatile boolean exactRowCount = true;
     private Text selectionStatLabel;
     private Text resultSetSize;
 
@@ -2038,10 +2040,19 @@ public class ResultSetViewer extends Viewer
 
                 @Override
                 protected ILoadService<String> createLoadService() {
+                    // Clicks on the label always count rows
+                    boolean exact = exactRowCount;
+                    exactRowCount = true;
                     return new DatabaseLoadService<>("Load row count", getExecutionContext()) {
                         @Override
                         public String evaluate(@NotNull DBRProgressMonitor monitor) throws InvocationTargetException {
                             try {
+                                if (!exact) {
+                                    DBSRowCountEstimator.Estimate estimate = estimateRowCount(monitor);
+                                    if (estimate != null) {
+                                        return (estimate.exact() ? "" : "~") + ROW_COUNT_FORMAT.format(estimate.rowCount());
+                                    }
+                                }
                                 long rowCount = readRowCount(monitor);
                                 return ROW_COUNT_FORMAT.format(rowCount);
                             } catch (DBException e) {
@@ -2396,7 +2407,7 @@ public class ResultSetViewer extends Viewer
                     rcMessage = ROW_COUNT_FORMAT.format(model.getRowCount()) + "+";
                 } else {
                     // We know actual row count
-                    rcMessage = ROW_COUNT_FORMAT.format(model.getTotalRowCount());
+                    rcMessage = (model.isTotalRowCountEstimate() ? "~" : "") + ROW_COUNT_FORMAT.format(model.getTotalRowCount());
                 }
             }
             if (!CommonUtils.equalObjects(rowCountLabel.getMessage(), rcMessage)) {
@@ -4392,7 +4403,17 @@ public class ResultSetViewer extends Viewer
     }
 
     public void updateRowCount(boolean showErrors) {
+        updateRowCount(showErrors, true);
+    }
+
+    /**
+     * Updates total row count
+     *
+     * @param exact count rows with a query. Otherwise the table statistics estimate is used if the database has it.
+     */
+    public void updateRowCount(boolean showErrors, boolean exact) {
         if (rowCountLabel != null) {
+            exactRowCount = exact;
             rowCountLabel.executeAction(showErrors);
         }
     }
@@ -4428,6 +4449,22 @@ public class ResultSetViewer extends Viewer
         return result[0];
     }
 
+    /**
+     * Reads row count estimate from the table statistics
+     */
+    @Nullable
+    private DBSRowCountEstimator.Estimate estimateRowCount(@NotNull DBRProgressMonitor monitor) {
+        DBSDataContainer dataContainer = getDataContainer();
+        if (dataContainer == null) {
+            return null;
+        }
+        DBSRowCountEstimator.Estimate estimate = DBUtils.estimateRowCount(monitor, dataContainer, model.getDataFilter());
+        if (estimate != null) {
+            model.setTotalRowCount(estimate.rowCount(), !estimate.exact());
+        }
+        return estimate;
+    }
+
     public int getSegmentMaxRows()
     {
         if (getDataContainer() == null) {
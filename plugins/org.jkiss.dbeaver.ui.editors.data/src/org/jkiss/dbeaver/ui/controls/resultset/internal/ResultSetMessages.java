@@ -358,6 +358,10 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_database_resultsets_label_read_metadata_tip;
     public static String pref_page_database_resultsets_label_read_references_tip;
     public static String pref_page_database_resultsets_label_fetch_size_tip;
+    public static String pref_page_database_resultsets_checkbox_result_cache;
+    public static String pref_page_database_resultsets_checkbox_result_cache_tip;
+    public static String pref_page_database_resultsets_label_result_cache_ttl;
+    public static String pref_page_database_resultsets_label_result_cache_max_size;
 
     public static String pref_page_content_cache_clob;
     public static String pref_page_content_cache_blob;
@@ -30,6 +30,9 @@ import org.jkiss.dbeaver.ui.controls.resultset.ResultSetPreferences;
 import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.List;
 
 public class PlainTextFormatter {
@@ -80,134 +83,261 @@ public class PlainTextFormatter {
         return startOffset;
     }
 
+    boolean isDelimTop() {
+        return delimTop;
+    }
+
+    boolean isDelimBottom() {
+        return delimBottom;
+    }
+
     // returns number of rows
     public int printGrid(StringBuilder grid, ResultSetModel model) {
+        StringWriter writer = new StringWriter(512);
+        int rowCount = printGrid(writer, model);
+        grid.append(writer.getBuffer());
+        return rowCount;
+    }
+
+    /**
+     * Prints grid line by line, so the text of the whole grid is never kept in memory.
+     * Lines are separated by line feeds, there is no line feed after the last line.
+     *
+     * @return number of rows
+     */
+    public int printGrid(@NotNull Writer writer, @NotNull ResultSetModel model) throws IOException {
         List<DBDAttributeBinding> attrs = model.getVisibleAttributes();
         List<ResultSetRow> allRows = model.getAllRows();
-        int extraSpacesNum = extraSpaces ? 2 : 0;
         if (colWidths == null) {
-            // Calculate column widths
-            colWidths = new int[attrs.size()];
-            if (!attrs.isEmpty() && lineNumbers) {
-                startOffset = getStringWidth(String.valueOf(allRows.size() + 1)) + extraSpacesNum + 1;
-            } else {
-                startOffset = 0;
+            calculateColumnWidths(model, attrs, allRows, 0);
+        }
+
+        StringBuilder line = new StringBuilder(getLineWidth());
+        if (delimTop) {
+            // Print divider before header
+            appendSeparator(line, colWidths);
+            writer.append(line).append('\n');
+        }
+        // Print header
+        line.setLength(0);
+        appendHeader(line, attrs);
+        writer.append(line).append('\n');
+
+        // Print divider
+        line.setLength(0);
+        appendSeparator(line, colWidths);
+        writer.append(line);
+
+        // Print rows
+        String[] cells = new String[attrs.size()];
+        for (int i = 0; i < allRows.size(); i++) {
+            fillRowCells(model, attrs, allRows.get(i), cells);
+            line.setLength(0);
+            appendRow(line, attrs, cells, i + 1);
+            writer.append('\n').append(line);
+        }
+        if (delimBottom) {
+            // Print divider after rows
+            line.setLength(0);
+            appendSeparator(line, colWidths);
+            writer.append('\n').append(line);
+        }
+        return allRows.size();
+    }
+
+    /**
+     * Calculates column widths and the line number column width.
+     * Widths never become smaller than the widths calculated by this formatter before.
+     *
+     * @param sampleSize maximum number of rows to scan. Rows are sampled evenly if there are more rows.
+     *                   Zero means all rows.
+     */
+    void calculateColumnWidths(
+        @NotNull ResultSetModel model,
+        @NotNull List<DBDAttributeBinding> attrs,
+        @NotNull List<ResultSetRow> rows,
+        int sampleSize
+    ) {
+        int extraSpacesNum = extraSpaces ? 2 : 0;
+        int[] prevWidths = colWidths;
+        colWidths = new int[attrs.size()];
+        if (!attrs.isEmpty() && lineNumbers) {
+            startOffset = getStringWidth(String.valueOf(rows.size() + 1)) + extraSpacesNum + 1;
+        } else {
+            startOffset = 0;
+        }
+        for (int i = 0; i < attrs.size(); i++) {
+            DBDAttributeBinding attr = attrs.get(i);
+            colWidths[i] = getAttributeName(attr).length() + extraSpacesNum;
+            if (showNulls && !attr.isRequired()) {
+                colWidths[i] = Math.max(colWidths[i], DBConstants.NULL_VALUE_LABEL.length());
             }
-            for (int i = 0; i < attrs.size(); i++) {
-                DBDAttributeBinding attr = attrs.get(i);
-                colWidths[i] = getAttributeName(attr).length() + extraSpacesNum;
-                if (showNulls && !attr.isRequired()) {
-                    colWidths[i] = Math.max(colWidths[i], DBConstants.NULL_VALUE_LABEL.length());
-                }
-                for (ResultSetRow row : allRows) {
-                    String displayString = this.getCellString(model, attr, row, displayFormat);
-                    colWidths[i] = Math.max(colWidths[i], getStringWidth(displayString) + extraSpacesNum);
-                }
+            if (prevWidths != null && prevWidths.length == colWidths.length) {
+                colWidths[i] = Math.max(colWidths[i], prevWidths[i]);
+            }
+        }
+        String[] cells = new String[attrs.size()];
+        if (sampleSize <= 0 || rows.size() <= sampleSize) {
+            for (ResultSetRow row : rows) {
+                fillRowCells(model, attrs, row, cells);
+                widenColumns(colWidths, cells);
+            }
+        } else {
+            // Leading rows are shown first, the rest is sampled evenly
+            int headSize = sampleSize / 2;
+            for (int i = 0; i < headSize; i++) {
+                fillRowCells(model, attrs, rows.get(i), cells);
+                widenColumns(colWidths, cells);
             }
+            double step = (double) (rows.size() - headSize) / (sampleSize - headSize);
+            for (int i = 0; i < sampleSize - headSize; i++) {
+                fillRowCells(model, attrs, rows.get(headSize + (int) (i * step)), cells);
+                widenColumns(colWidths, cells);
+            }
+        }
+        for (int i = 0; i < colWidths.length; i++) {
+            if (colWidths[i] > maxColumnSize) {
+                colWidths[i] = maxColumnSize;
+            }
+        }
+    }
+
+    void setColumnWidths(@NotNull int[] widths) {
+        this.colWidths = widths.clone();
+    }
+
+    /**
+     * Widens column widths to fit the cell values, but not wider than the maximum column size.
+     *
+     * @return true if some column became wider
+     */
+    boolean widenColumns(@NotNull int[] widths, @NotNull String[] cells) {
+        int extraSpacesNum = extraSpaces ? 2 : 0;
+        boolean changed = false;
+        for (int i = 0; i < widths.length && i < cells.length; i++) {
+            int width = Math.min(getStringWidth(cells[i]) + extraSpacesNum, Math.max(maxColumnSize, widths[i]));
+            if (width > widths[i]) {
+                widths[i] = width;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Returns the width of each grid line. All grid lines have the same width.
+     */
+    int getLineWidth() {
+        int width = Math.max(0, startOffset - 1);
+        if (delimLeading) {
+            width++;
+        }
+        if (delimTrailing) {
+            width++;
+        }
+        if (colWidths != null) {
             for (int i = 0; i < colWidths.length; i++) {
-                if (colWidths[i] > maxColumnSize) {
-                    colWidths[i] = maxColumnSize;
+                if (i > 0 || startOffset != 0) {
+                    width++;
                 }
+                width += colWidths[i];
             }
         }
+        return width;
+    }
 
-        if (delimTop) {
-            // Print divider before header
-            this.printSeparator(grid, colWidths);
+    void fillRowCells(
+        @NotNull ResultSetModel model,
+        @NotNull List<DBDAttributeBinding> attrs,
+        @NotNull ResultSetRow row,
+        @NotNull String[] cells
+    ) {
+        for (int i = 0; i < attrs.size(); i++) {
+            cells[i] = getCellString(model, attrs.get(i), row, displayFormat);
         }
-        // Print header
+    }
+
+    void appendHeader(@NotNull StringBuilder line, @NotNull List<DBDAttributeBinding> attrs) {
+        int extraSpacesNum = extraSpaces ? 2 : 0;
         if (delimLeading) {
-            grid.append("|");
+            line.append("|");
         }
-        if (lineNumbers && attrs.size() != 0) {
+        if (startOffset != 0) {
             if (extraSpaces) {
-                grid.append(" ");
+                line.append(" ");
             }
-            grid.append("#");
-            grid.append(" ".repeat(Math.max(0, startOffset - extraSpacesNum - 2)));
+            line.append("#");
+            line.append(" ".repeat(Math.max(0, startOffset - extraSpacesNum - 2)));
             if (extraSpaces) {
-                grid.append(" ");
+                line.append(" ");
             }
         }
         for (int i = 0; i < attrs.size(); i++) {
-            if (i  > 0 || startOffset != 0) {
-                grid.append("|");
+            if (i > 0 || startOffset != 0) {
+                line.append("|");
             }
+            appendCell(line, getAttributeName(attrs.get(i)), colWidths[i], false);
+        }
+        if (delimTrailing) {
+            line.append("|");
+        }
+    }
+
+    /**
+     * Appends row line. Values which don't fit the column are truncated.
+     *
+     * @param rowNumber row number shown in the line number column
+     */
+    void appendRow(@NotNull StringBuilder line, @NotNull List<DBDAttributeBinding> attrs, @NotNull String[] cells, int rowNumber) {
+        int extraSpacesNum = extraSpaces ? 2 : 0;
+        if (delimLeading) {
+            line.append("|");
+        }
+        if (startOffset != 0) {
             if (extraSpaces) {
-                grid.append(" ");
+                line.append(" ");
             }
-            DBDAttributeBinding attr = attrs.get(i);
-            String attrName = getAttributeName(attr);
-            grid.append(attrName).append(" ".repeat(Math.max(0, colWidths[i] - attrName.length() - extraSpacesNum)));
+            String displayNumber = String.valueOf(rowNumber);
+            line.append(displayNumber);
+            int stringWidth = getStringWidth(displayNumber);
+            line.append(" ".repeat(Math.max(0, startOffset - stringWidth - extraSpacesNum - 1)));
             if (extraSpaces) {
-                grid.append(" ");
+                line.append(" ");
+            }
+        }
+        for (int k = 0; k < attrs.size(); k++) {
+            if (k > 0 || startOffset != 0) {
+                line.append("|");
             }
+            DBPDataKind dataKind = attrs.get(k).getDataKind();
+            boolean rightJustify = (dataKind == DBPDataKind.NUMERIC && rightJustifyNumbers)
+                || (dataKind == DBPDataKind.DATETIME && rightJustifyDateTime);
+            appendCell(line, cells[k], colWidths[k], rightJustify);
         }
         if (delimTrailing) {
-            grid.append("|");
+            line.append("|");
         }
-        grid.append("\n");
-
-        // Print divider
-        this.printSeparator(grid, colWidths);
-
-        // Print rows
-        int i = 1;
-        for (ResultSetRow row : allRows) {
-            if (delimLeading) {
-                grid.append("|");
-            }
-            if (lineNumbers) {
-                if (extraSpaces) {
-                    grid.append(" ");
-                }
-                String displayNumber = String.valueOf(i);
-                grid.append(displayNumber);
-                int stringWidth = getStringWidth(displayNumber);
-                grid.append(" ".repeat(Math.max(0, startOffset - stringWidth - extraSpacesNum - 1)));
-                if (extraSpaces) {
-                    grid.append(" ");
-                }
-            }
-            for (int k = 0; k < attrs.size(); k++) {
-                if (k > 0 || startOffset != 0) {
-                    grid.append("|");
-                }
-                DBDAttributeBinding attr = attrs.get(k);
-                String displayString = this.getCellString(model, attr, row, displayFormat);
-                if (displayString.length() >= colWidths[k]) {
-                    displayString = CommonUtils.truncateString(displayString, colWidths[k]);
-                }
-
-                int stringWidth = getStringWidth(displayString);
+    }
 
-                if (extraSpaces) {
-                    grid.append(" ");
-                }
-                DBPDataKind dataKind = attr.getDataKind();
-                if ((dataKind == DBPDataKind.NUMERIC && rightJustifyNumbers)
-                    || (dataKind == DBPDataKind.DATETIME && rightJustifyDateTime)) {
-                    // Right justify value
-                    grid.append(" ".repeat(Math.max(0, colWidths[k] - stringWidth - extraSpacesNum))).append(displayString);
-                } else {
-                    grid.append(displayString).append(" ".repeat(Math.max(0, colWidths[k] - stringWidth - extraSpacesNum)));
-                }
-                if (extraSpaces) {
-                    grid.append(" ");
-                }
-            }
-            if (delimTrailing) {
-                grid.append("|");
-            }
-            grid.append("\n");
-            i++;
+    private void appendCell(@NotNull StringBuilder line, @NotNull String displayString, int columnWidth, boolean rightJustify) {
+        int extraSpacesNum = extraSpaces ? 2 : 0;
+        int valueWidth = Math.max(0, columnWidth - extraSpacesNum);
+        if (displayString.length() > valueWidth) {
+            displayString = CommonUtils.truncateString(displayString, valueWidth);
         }
-        if (delimBottom) {
-            // Print divider after rows
-            this.printSeparator(grid, colWidths);
+        int padding = Math.max(0, valueWidth - getStringWidth(displayString));
+        if (extraSpaces) {
+            line.append(" ");
+        }
+        if (rightJustify) {
+            // Right justify value
+            line.append(" ".repeat(padding)).append(displayString);
+        } else {
+            line.append(displayString).append(" ".repeat(padding));
+        }
+        if (extraSpaces) {
+            line.append(" ");
         }
-        grid.setLength(grid.length() - 1); // cut last line feed
-        return allRows.size();
     }
 
     public String getCellString(ResultSetModel model, DBDAttributeBinding attr, ResultSetRow row, DBDDisplayFormat displayFormat) {
@@ -322,6 +452,11 @@ public class PlainTextFormatter {
     }
 
     public void printSeparator(StringBuilder output, int[] columnWidth) {
+        appendSeparator(output, columnWidth);
+        output.append('\n');
+    }
+
+    void appendSeparator(@NotNull StringBuilder output, @NotNull int[] columnWidth) {
         if (delimLeading) {
             output.append('+');
         }
@@ -335,7 +470,6 @@ public class PlainTextFormatter {
         if (delimTrailing) {
             output.append('+');
         }
-        output.append('\n');
     }
 
     public void printQueryName(StringBuilder sb, String name) {
@@ -0,0 +1,226 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset.plaintext;
+
+import org.eclipse.swt.custom.StyledTextContent;
+import org.eclipse.swt.custom.TextChangeListener;
+import org.eclipse.swt.custom.TextChangedEvent;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetModel;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+
+import java.util.*;
+
+/**
+ * Read-only StyledTextContent of the plain text grid.
+ *
+ * Lines are formatted on demand, so only the visible part of big result sets is formatted.
+ * All lines have the same width, so line offsets are calculated without formatting.
+ * Column widths are estimated by a sample of rows. Wider values found while formatting lines
+ * are collected and applied later with {@link #applyColumnWidths()}, because widths can't change while the widget paints.
+ */
+class PlainTextGridContent implements StyledTextContent {
+
+    private static final Log log = Log.getLog(PlainTextGridContent.class);
+
+    private static final int WIDTH_SAMPLE_SIZE = 1000;
+    private static final int MAX_CACHED_LINES = 1000;
+    private static final String LINE_DELIMITER = "\n"; //$NON-NLS-1$
+
+    private final PlainTextFormatter formatter;
+    private final ResultSetModel model;
+    private final List<DBDAttributeBinding> attrs;
+    private final List<ResultSetRow> rows;
+    private final Runnable widthsChangeHandler;
+    private final Set<TextChangeListener> textListeners = new LinkedHashSet<>();
+    private final Map<Integer, String> lineCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+            return size() > MAX_CACHED_LINES;
+        }
+    };
+    private final String[] cells;
+    private final int headerLines;
+    private final int lineCount;
+    private final int[] pendingWidths;
+
+    private int lineWidth;
+    private boolean widthsChanged;
+
+    /**
+     * @param widthsChangeHandler called when formatted lines need wider columns.
+     *                            It is called once until {@link #applyColumnWidths()}.
+     */
+    PlainTextGridContent(
+        @NotNull PlainTextFormatter formatter,
+        @NotNull ResultSetModel model,
+        @NotNull Runnable widthsChangeHandler
+    ) {
+        this.formatter = formatter;
+        this.model = model;
+        this.attrs = model.getVisibleAttributes();
+        this.rows = new ArrayList<>(model.getAllRows());
+        this.widthsChangeHandler = widthsChangeHandler;
+        this.cells = new String[attrs.size()];
+
+        formatter.calculateColumnWidths(model, attrs, rows, WIDTH_SAMPLE_SIZE);
+        this.pendingWidths = formatter.getColWidths().clone();
+        this.lineWidth = formatter.getLineWidth();
+        this.headerLines = (formatter.isDelimTop() ? 1 : 0) + 2;
+        this.lineCount = headerLines + rows.size() + (formatter.isDelimBottom() ? 1 : 0);
+    }
+
+    @NotNull
+    PlainTextFormatter getFormatter() {
+        return formatter;
+    }
+
+    int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Applies column widths required by the lines formatted so far. All lines change, so listeners get text set event.
+     */
+    void applyColumnWidths() {
+        if (!widthsChanged) {
+            return;
+        }
+        widthsChanged = false;
+        formatter.setColumnWidths(pendingWidths);
+        lineWidth = formatter.getLineWidth();
+        lineCache.clear();
+
+        TextChangedEvent changedEvent = new TextChangedEvent(this);
+        for (TextChangeListener listener : textListeners.toArray(new TextChangeListener[0])) {
+            try {
+                listener.textSet(changedEvent);
+            } catch (Exception e) {
+                log.debug("Error notifying text content listener", e);
+            }
+        }
+    }
+
+    @Override
+    public void addTextChangeListener(TextChangeListener listener) {
+        if (listener == null) throw new IllegalArgumentException("Cannot add a null listener");
+        textListeners.add(listener);
+    }
+
+    @Override
+    public void removeTextChangeListener(TextChangeListener listener) {
+        if (listener == null) throw new IllegalArgumentException("Cannot remove a null listener");
+        textListeners.remove(listener);
+    }
+
+    @Override
+    public int getCharCount() {
+        return lineCount * (lineWidth + LINE_DELIMITER.length()) - LINE_DELIMITER.length();
+    }
+
+    @Override
+    public String getLine(int lineIndex) {
+        String line = lineCache.get(lineIndex);
+        if (line == null) {
+            line = formatLine(lineIndex);
+            lineCache.put(lineIndex, line);
+        }
+        return line;
+    }
+
+    @Override
+    public int getLineAtOffset(int offset) {
+        return Math.max(0, Math.min(offset / (lineWidth + LINE_DELIMITER.length()), lineCount - 1));
+    }
+
+    @Override
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    @Override
+    public String getLineDelimiter() {
+        return LINE_DELIMITER;
+    }
+
+    @Override
+    public int getOffsetAtLine(int lineIndex) {
+        return lineIndex * (lineWidth + LINE_DELIMITER.length());
+    }
+
+    @Override
+    public String getTextRange(int start, int length) {
+        int end = Math.min(start + length, getCharCount());
+        if (start < 0 || start >= end) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder(end - start);
+        for (int lineIndex = getLineAtOffset(start); lineIndex < lineCount; lineIndex++) {
+            int lineOffset = getOffsetAtLine(lineIndex);
+            if (lineOffset >= end) {
+                break;
+            }
+            int from = Math.max(start - lineOffset, 0);
+            int to = Math.min(end - lineOffset, lineWidth);
+            if (from < to) {
+                result.append(getLine(lineIndex), from, to);
+            }
+            int delimiterOffset = lineOffset + lineWidth;
+            if (delimiterOffset >= start && delimiterOffset < end) {
+                result.append(LINE_DELIMITER);
+            }
+        }
+        return result.toString();
+    }
+
+    @Override
+    public void replaceTextRange(int start, int replaceLength, String text) {
+        // Content is read-only
+    }
+
+    @Override
+    public void setText(String text) {
+        // Content is read-only
+    }
+
+    @NotNull
+    private String formatLine(int lineIndex) {
+        StringBuilder line = new StringBuilder(lineWidth);
+        int rowIndex = lineIndex - headerLines;
+        if (rowIndex == -2) {
+            formatter.appendHeader(line, attrs);
+        } else if (rowIndex < 0 || rowIndex >= rows.size()) {
+            formatter.appendSeparator(line, formatter.getColWidths());
+        } else {
+            formatter.fillRowCells(model, attrs, rows.get(rowIndex), cells);
+            formatter.appendRow(line, attrs, cells, rowIndex + 1);
+            if (formatter.widenColumns(pendingWidths, cells) && !widthsChanged) {
+                widthsChanged = true;
+                widthsChangeHandler.run();
+            }
+        }
+        // Offsets rely on the fixed line width
+        if (line.length() > lineWidth) {
+            line.setLength(lineWidth);
+        } else if (line.length() < lineWidth) {
+            line.append(" ".repeat(lineWidth - line.length()));
+        }
+        return line.toString();
+    }
+}
@@ -23,6 +23,7 @@ import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyleRange;
 import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.custom.StyledTextContent;
 import org.eclipse.swt.custom.StyledTextPrintOptions;
 import org.eclipse.swt.dnd.TextTransfer;
 import org.eclipse.swt.dnd.Transfer;
@@ -74,8 +75,8 @@ public class PlainTextPresentation extends AbstractPresentation implements IResu
     public boolean activated;
     private Color curLineColor;
 
-    private int[] colWidths;
-    private int startOffset;
+    private StyledTextContent recordContent;
+    private PlainTextGridContent gridContent;
     private StyleRange curLineRange;
     private int totalRows = 0;
     private String curSelection;
@@ -95,6 +96,7 @@ public class PlainTextPresentation extends AbstractPresentation implements IResu
         text.setTabStops(null);
         text.setFont(UIUtils.getMonospaceFont());
         text.setLayoutData(new GridData(GridData.FILL_BOTH));
+        recordContent = text.getContent();
         text.addCaretListener(event -> onCursorChange(event.caretOffset));
         text.addSelectionListener(new SelectionAdapter() {
             @Override
@@ -161,8 +163,12 @@ public class PlainTextPresentation extends AbstractPresentation implements IResu
                 curAttribute = model.getVisibleAttribute(rowNum);
             }
         } else {
+            if (gridContent == null) {
+                return;
+            }
+            int[] colWidths = gridContent.getFormatter().getColWidths();
             int colNum = 0;
-            int horOffsetBegin = 0, horOffsetEnd = startOffset;
+            int horOffsetBegin = 0, horOffsetEnd = gridContent.getFormatter().getStartOffset();
 
             if (delimLeading) horOffsetEnd++;
             for (int i = 0; i < colWidths.length; i++) {
@@ -219,34 +225,62 @@ public class PlainTextPresentation extends AbstractPresentation implements IResu
     }
 
     private void printGrid(boolean append) {
-        StringBuilder grid = new StringBuilder(512);
-
-        PlainTextFormatter formatter = new PlainTextFormatter(getController().getPreferenceStore());
+        // Appended rows keep the column widths, so columns don't jump
+        PlainTextFormatter formatter = append && gridContent != null ?
+            gridContent.getFormatter() :
+            new PlainTextFormatter(getController().getPreferenceStore());
         ResultSetModel model = controller.getModel();
-        totalRows = formatter.printGrid(grid, model);
-        colWidths = formatter.getColWidths();
-        startOffset = formatter.getStartOffset();
 
         final int topIndex = text.getTopIndex();
         final int horizontalIndex = text.getHorizontalIndex();
         final int caretOffset = text.getCaretOffset();
 
-        text.setText(grid.toString());
+        gridContent = new PlainTextGridContent(formatter, model, this::onGridColumnsWiden);
+        totalRows = gridContent.getRowCount();
+        curLineRange = null;
+        text.setContent(gridContent);
 
         if (append) {
             // Restore scroll and caret position
             text.setTopIndex(topIndex);
             text.setHorizontalIndex(horizontalIndex);
-            text.setCaretOffset(caretOffset);
+            text.setCaretOffset(Math.min(caretOffset, text.getCharCount()));
         }
     }
 
+    /**
+     * Visible rows have values wider than the estimated column widths.
+     * Widths are applied after the current paint, keeping the caret at the same line.
+     */
+    private void onGridColumnsWiden() {
+        final PlainTextGridContent content = gridContent;
+        UIUtils.asyncExec(() -> {
+            if (text.isDisposed() || content != gridContent) {
+                return;
+            }
+            final int topIndex = text.getTopIndex();
+            final int horizontalIndex = text.getHorizontalIndex();
+            final int caretLine = text.getLineAtOffset(text.getCaretOffset());
+
+            content.applyColumnWidths();
+            curLineRange = null;
+
+            text.setTopIndex(topIndex);
+            text.setHorizontalIndex(horizontalIndex);
+            text.setCaretOffset(text.getOffsetAtLine(caretLine));
+        });
+    }
 
     private void printRecord() {
         PlainTextFormatter formatter = new PlainTextFormatter(getController().getPreferenceStore());
         StringBuilder grid = new StringBuilder(512);
         formatter.printRecord(grid, controller.getModel(), controller.getCurrentRow());
 
+        if (gridContent != null) {
+            gridContent = null;
+            curLineRange = null;
+            text.setContent(recordContent);
+        }
         text.setText(grid.toString());
     }
 
@@ -263,7 +297,6 @@ public class PlainTextPresentation extends AbstractPresentation implements IResu
 
     @Override
     public void clearMetaData() {
-        colWidths = null;
         curLineRange = null;
         totalRows = 0;
     }
@@ -0,0 +1,71 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset.spreadsheet;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of cell display strings.
+ * Cells are painted, measured by column packing and copied many times, while formatting of dates and numbers is expensive.
+ * Cached text is valid while the cell holds the same value object, so edited cells are formatted again.
+ * The cache must be cleared when formatter settings change.
+ */
+class SpreadsheetDisplayTextCache {
+
+    private static final int MAX_ENTRIES = 100_000;
+
+    private record CellKey(@NotNull ResultSetRow row, @NotNull DBDAttributeBinding attribute, @NotNull DBDDisplayFormat format) {
+    }
+
+    private record CellText(@Nullable Object value, @NotNull String text) {
+    }
+
+    private final Map<CellKey, CellText> entries = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CellKey, CellText> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    @NotNull
+    String getDisplayString(
+        @NotNull ResultSetRow row,
+        @NotNull DBDAttributeBinding attribute,
+        @Nullable Object value,
+        @NotNull DBDDisplayFormat format
+    ) {
+        CellKey key = new CellKey(row, attribute, format);
+        CellText cached = entries.get(key);
+        if (cached != null && cached.value == value) {
+            return cached.text;
+        }
+        String text = attribute.getValueRenderer().getValueDisplayString(attribute.getAttribute(), value, format);
+        entries.put(key, new CellText(value, text));
+        return text;
+    }
+
+    void clear() {
+        entries.clear();
+    }
+}
@@ -150,6 +150,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
     private boolean colorizeDataTypes = true;
     private final Map<DBPDataKind, Color> dataTypesForegrounds = new IdentityHashMap<>();
     private DBDDisplayFormat gridValueFormat;
+    private final SpreadsheetDisplayTextCache displayTextCache = new SpreadsheetDisplayTextCache();
 
     public Spreadsheet getSpreadsheet() {
         return spreadsheet;
@@ -234,6 +235,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
     public void dispose() {
         closeEditors();
         clearMetaData();
+        displayTextCache.clear();
 
         UIUtils.dispose(this.cellHeaderSelectionBackground);
         super.dispose();
@@ -575,10 +577,10 @@ public class SpreadsheetPresentation extends AbstractPresentation
                     }
                 }
             }
-            String cellText = column.getValueRenderer().getValueDisplayString(
-                column.getAttribute(),
-                value,
-                settings.getFormat());
+            ResultSetRow valueRow = getResultRowFromGrid(cell.col, cell.row);
+            String cellText = valueRow == null ?
+                column.getValueRenderer().getValueDisplayString(column.getAttribute(), value, settings.getFormat()) :
+                displayTextCache.getDisplayString(valueRow, column, value, settings.getFormat());
             if (forceQuotes || (quoteCells && !CommonUtils.isEmpty(cellText))) {
                 if (forceQuotes || cellText.contains(columnDelimiter) || cellText.contains(rowDelimiter)) {
                     cellText = quoteString + cellText + quoteString;
@@ -929,6 +931,10 @@ public class SpreadsheetPresentation extends AbstractPresentation
 
         spreadsheet.setColumnScrolling(!getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_USE_SMOOTH_SCROLLING));
         gridValueFormat = CommonUtils.valueOf(DBDDisplayFormat.class, getPreferenceStore().getString(ResultSetPreferences.RESULT_GRID_VALUE_FORMAT), DBDDisplayFormat.UI);
+        if (!append) {
+            // Value handlers configuration may be changed
+            displayTextCache.clear();
+        }
 
         spreadsheet.setRedraw(false);
         try {
@@ -940,6 +946,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
 
     @Override
     public void formatData(boolean refreshData) {
+        displayTextCache.clear();
         spreadsheet.refreshData(false, true, false);
     }
 
@@ -2451,10 +2458,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
                 return composite.toString();
             }
             try {
-                return attr.getValueRenderer().getValueDisplayString(
-                    attr.getAttribute(),
-                    value,
-                    getValueRenderFormat(attr, value));
+                return displayTextCache.getDisplayString(row, attr, value, getValueRenderFormat(attr, value));
             } catch (Exception e) {
                 return new DBDValueError(e);
             }
@@ -76,6 +76,9 @@ public class PrefPageResultSetMain extends TargetPrefPage {
     private Button markCellValueOccurrences;
 
     private Button advUseFetchSize;
+    private Button resultCacheCheck;
+    private Text resultCacheTtlText;
+    private Text resultCacheMaxSizeText;
 
     private Button ignoreColumnLabelCheck;
     private Button useDateTimeEditor;
@@ -106,6 +109,9 @@ public class PrefPageResultSetMain extends TargetPrefPage {
             store.contains(ModelPreferences.RESULT_SET_ORDERING_STRATEGY) ||
             store.contains(ModelPreferences.RESULT_SET_ORDERING_POLICY) ||
             store.contains(ModelPreferences.RESULT_SET_USE_FETCH_SIZE) ||
+            store.contains(ModelPreferences.RESULT_SET_CACHE_ENABLED) ||
+            store.contains(ModelPreferences.RESULT_SET_CACHE_TTL) ||
+            store.contains(ModelPreferences.RESULT_SET_CACHE_MAX_SIZE) ||
             store.contains(ResultSetPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS) ||
             store.contains(ResultSetPreferences.RESULT_SET_CONFIRM_BEFORE_SAVE) ||
             store.contains(ResultSetPreferences.RESULT_SET_SHOW_ERRORS_IN_DIALOG) ||
@@ -209,6 +215,18 @@ public class PrefPageResultSetMain extends TargetPrefPage {
 
             ignoreColumnLabelCheck = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_general_use_column_names, ResultSetMessages.pref_page_database_general_use_column_names_tip, false, 2);
             advUseFetchSize = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_resultsets_label_fetch_size, ResultSetMessages.pref_page_database_resultsets_label_fetch_size_tip, false, 2);
+
+            resultCacheCheck = UIUtils.createCheckbox(advGroup, ResultSetMessages.pref_page_database_resultsets_checkbox_result_cache, ResultSetMessages.pref_page_database_resultsets_checkbox_result_cache_tip, false, 2);
+            resultCacheCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    updateOptionsEnablement();
+                }
+            });
+            resultCacheTtlText = UIUtils.createLabelText(advGroup, ResultSetMessages.pref_page_database_resultsets_label_result_cache_ttl, "0");
+            resultCacheTtlText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
+            resultCacheMaxSizeText = UIUtils.createLabelText(advGroup, ResultSetMessages.pref_page_database_resultsets_label_result_cache_max_size, "0");
+            resultCacheMaxSizeText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
         }
 
         // Misc settings
@@ -259,6 +277,8 @@ public class PrefPageResultSetMain extends TargetPrefPage {
         } else {
             disableEditingOnMissingKey.setEnabled(true);
         }
+        resultCacheTtlText.setEnabled(resultCacheCheck.getSelection());
+        resultCacheMaxSizeText.setEnabled(resultCacheCheck.getSelection());
     }
 
     @Override
@@ -297,6 +317,9 @@ public class PrefPageResultSetMain extends TargetPrefPage {
             useNavigatorFilters.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS));
 
             advUseFetchSize.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE));
+            resultCacheCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_CACHE_ENABLED));
+            resultCacheTtlText.setText(store.getString(ModelPreferences.RESULT_SET_CACHE_TTL));
+            resultCacheMaxSizeText.setText(store.getString(ModelPreferences.RESULT_SET_CACHE_MAX_SIZE));
             ignoreColumnLabelCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL));
 
             if (confirmDataSave != null) {
@@ -340,6 +363,9 @@ public class PrefPageResultSetMain extends TargetPrefPage {
             store.setValue(ResultSetPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS, useNavigatorFilters.getSelection());
 
             store.setValue(ModelPreferences.RESULT_SET_USE_FETCH_SIZE, advUseFetchSize.getSelection());
+            store.setValue(ModelPreferences.RESULT_SET_CACHE_ENABLED, resultCacheCheck.getSelection());
+            store.setValue(ModelPreferences.RESULT_SET_CACHE_TTL, resultCacheTtlText.getText());
+            store.setValue(ModelPreferences.RESULT_SET_CACHE_MAX_SIZE, resultCacheMaxSizeText.getText());
             store.setValue(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL, ignoreColumnLabelCheck.getSelection());
 
             if (confirmDataSave != null) {
@@ -375,6 +401,9 @@ public class PrefPageResultSetMain extends TargetPrefPage {
         store.setToDefault(ResultSetPreferences.RESULT_SET_USE_NAVIGATOR_FILTERS);
 
         store.setToDefault(ModelPreferences.RESULT_SET_USE_FETCH_SIZE);
+        store.setToDefault(ModelPreferences.RESULT_SET_CACHE_ENABLED);
+        store.setToDefault(ModelPreferences.RESULT_SET_CACHE_TTL);
+        store.setToDefault(ModelPreferences.RESULT_SET_CACHE_MAX_SIZE);
         store.setToDefault(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL);
 
         store.setToDefault(ResultSetPreferences.RESULT_SET_CONFIRM_BEFORE_SAVE);
@@ -407,6 +436,10 @@ public class PrefPageResultSetMain extends TargetPrefPage {
         showErrorsInDialog.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_SHOW_ERRORS_IN_DIALOG));
         markCellValueOccurrences.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_MARK_CELL_VALUE_OCCURRENCES));
         advUseFetchSize.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE));
+        resultCacheCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_CACHE_ENABLED));
+        resultCacheTtlText.setText(String.valueOf(store.getDefaultInt(ModelPreferences.RESULT_SET_CACHE_TTL)));
+        resultCacheMaxSizeText.setText(String.valueOf(store.getDefaultInt(ModelPreferences.RESULT_SET_CACHE_MAX_SIZE)));
+        updateOptionsEnablement();
         ignoreColumnLabelCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_IGNORE_COLUMN_LABEL));
         useDateTimeEditor.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR));
         useBrowserCheckbox.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_IMAGE_USE_BROWSER_BASED_RENDERER));
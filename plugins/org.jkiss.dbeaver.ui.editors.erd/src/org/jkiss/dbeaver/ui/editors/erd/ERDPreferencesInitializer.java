@@ -46,5 +46,7 @@ public class ERDPreferencesInitializer extends AbstractPreferenceInitializer {
         PrefUtils.setDefaultPreferenceValue(store, ERDUIConstants.PREF_GRID_SNAP_ENABLED, true);
         PrefUtils.setDefaultPreferenceValue(store, ERDUIConstants.PREF_GRID_WIDTH, 20);
         PrefUtils.setDefaultPreferenceValue(store, ERDUIConstants.PREF_GRID_HEIGHT, 20);
+        PrefUtils.setDefaultPreferenceValue(store, ERDUIConstants.PREF_LAYOUT_FORCE_DIRECTED_THRESHOLD, 500);
+        PrefUtils.setDefaultPreferenceValue(store, ERDUIConstants.PREF_LARGE_DIAGRAM_THRESHOLD, 300);
     }
 }
\ No newline at end of file
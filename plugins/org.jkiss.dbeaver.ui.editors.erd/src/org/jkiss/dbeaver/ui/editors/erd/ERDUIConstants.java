@@ -44,6 +44,8 @@ public class ERDUIConstants {
     public static final String PREF_GRID_SNAP_ENABLED = "erd.grid.snap";
     public static final String PREF_GRID_WIDTH = "erd.grid.width";
     public static final String PREF_GRID_HEIGHT = "erd.grid.height";
+    public static final String PREF_LAYOUT_FORCE_DIRECTED_THRESHOLD = "erd.layout.force.threshold";
+    public static final String PREF_LARGE_DIAGRAM_THRESHOLD = "erd.large.diagram.threshold";
 
     public static final String PROP_DIAGRAM_FONT = "org.jkiss.dbeaver.erd.diagram.font";
     public static final String PROP_DIAGRAM_NOTATION_LABEL_FONT = "org.jkiss.dbeaver.erd.diagram.font.notation.label";
@@ -67,6 +67,8 @@ public class ERDPreferencePage extends AbstractPrefPage implements IWorkbenchPre
     private Combo notationType;
     private Spinner spinnerGridWidth;
     private Spinner spinnerGridHeight;
+    private Spinner spinnerForceLayoutThreshold;
+    private Spinner spinnerLargeDiagramThreshold;
 
     private final List<Button> visibilityButtons = new ArrayList<>();
     private final List<Button> styleButtons = new ArrayList<>();
@@ -129,6 +131,14 @@ public class ERDPreferencePage extends AbstractPrefPage implements IWorkbenchPre
         } else {
             notationType.select(0);
         }
+        spinnerForceLayoutThreshold = UIUtils.createLabelSpinner(contentsGroup,
+            ERDUIMessages.erd_preference_page_label_force_layout_threshold,
+            ERDUIMessages.erd_preference_page_label_force_layout_threshold_tip,
+            store.getInt(ERDUIConstants.PREF_LAYOUT_FORCE_DIRECTED_THRESHOLD), 0, Integer.MAX_VALUE);
+        spinnerLargeDiagramThreshold = UIUtils.createLabelSpinner(contentsGroup,
+            ERDUIMessages.erd_preference_page_label_large_diagram_threshold,
+            ERDUIMessages.erd_preference_page_label_large_diagram_threshold_tip,
+            store.getInt(ERDUIConstants.PREF_LARGE_DIAGRAM_THRESHOLD), 0, Integer.MAX_VALUE);
     }
 
     private void createContentsGroup(DBPPreferenceStore store, Composite composite) {
@@ -266,6 +276,9 @@ public class ERDPreferencePage extends AbstractPrefPage implements IWorkbenchPre
         if (hasAdvancedGroup()) {
             routingType.select(routerDescriptors.indexOf(routerRegistry.getActiveRouter()));
             notationType.select(notationDescriptors.indexOf(notationRegistry.getDefaultDescriptor()));
+            DBPPreferenceStore erdStore = ERDUIActivator.getDefault().getPreferences();
+            spinnerForceLayoutThreshold.setSelection(erdStore.getDefaultInt(ERDUIConstants.PREF_LAYOUT_FORCE_DIRECTED_THRESHOLD));
+            spinnerLargeDiagramThreshold.setSelection(erdStore.getDefaultInt(ERDUIConstants.PREF_LARGE_DIAGRAM_THRESHOLD));
         }
 
         if (hasVisibilityGroup()) {
@@ -304,6 +317,8 @@ public class ERDPreferencePage extends AbstractPrefPage implements IWorkbenchPre
             if (erdNotation != null) {
                 ERDNotationRegistry.getInstance().setActiveDescriptor(erdNotation);
             }
+            store.setValue(ERDUIConstants.PREF_LAYOUT_FORCE_DIRECTED_THRESHOLD, spinnerForceLayoutThreshold.getSelection());
+            store.setValue(ERDUIConstants.PREF_LARGE_DIAGRAM_THRESHOLD, spinnerLargeDiagramThreshold.getSelection());
         }
 
         if (hasColorPrefGroup()) {
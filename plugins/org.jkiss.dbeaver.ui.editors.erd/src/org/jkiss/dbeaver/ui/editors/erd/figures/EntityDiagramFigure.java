@@ -27,11 +27,20 @@ import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.text.FlowPage;
 import org.eclipse.draw2d.text.TextFlow;
 import org.eclipse.jface.resource.JFaceResources;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.ui.editors.erd.ERDUIConstants;
 import org.jkiss.dbeaver.ui.editors.erd.editor.ERDGraphicalViewer;
 import org.jkiss.dbeaver.ui.editors.erd.editor.ERDThemeSettings;
+import org.jkiss.dbeaver.ui.editors.erd.internal.ERDUIActivator;
 import org.jkiss.dbeaver.ui.editors.erd.part.DiagramPart;
 import org.jkiss.utils.CommonUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Figure which represents the whole diagram - the view which corresponds to the
  * Schema model object
@@ -40,11 +49,19 @@ import org.jkiss.utils.CommonUtils;
  */
 public class EntityDiagramFigure extends FreeformLayer {
 
+    // Size of spatial index cell in diagram coordinates
+    private static final int INDEX_CELL_SIZE = 256;
+
     private DiagramPart part;
     private FlowPage hintFigure;
+    private final int largeDiagramThreshold;
+    // Children by index cell, in z-order. Rebuilt on demand after children were moved, added or removed
+    private Map<Long, List<IFigure>> childIndex;
+    private final FigureListener childMoveListener = source -> childIndex = null;
 
     public EntityDiagramFigure(DiagramPart diagramPart) {
         this.part = diagramPart;
+        this.largeDiagramThreshold = ERDUIActivator.getDefault().getPreferenceStore().getInt(ERDUIConstants.PREF_LARGE_DIAGRAM_THRESHOLD);
         hintFigure = new FlowPage();
         hintFigure.setHorizontalAligment(PositionConstants.CENTER);
         TextFlow flow = new TextFlow();
@@ -95,5 +112,71 @@ public class EntityDiagramFigure extends FreeformLayer {
             hintFigure = null;
         }
         super.add(child, constraint, index);
+        child.addFigureListener(childMoveListener);
+        childIndex = null;
+    }
+
+    @Override
+    public void remove(IFigure child) {
+        child.removeFigureListener(childMoveListener);
+        childIndex = null;
+        super.remove(child);
+    }
+
+    /**
+     * Large diagrams use spatial index for hit testing and draw entities without details when zoomed out
+     */
+    public boolean isLargeDiagram() {
+        return largeDiagramThreshold > 0 && getChildren().size() >= largeDiagramThreshold;
+    }
+
+    /**
+     * Looks for the figure under the mouse only among children which are in the same index cell
+     */
+    @Override
+    protected IFigure findDescendantAtExcluding(int x, int y, TreeSearch search) {
+        if (!isLargeDiagram()) {
+            return super.findDescendantAtExcluding(x, y, search);
+        }
+        Point point = new Point(x, y);
+        translateFromParent(point);
+        if (!getClientArea(new Rectangle()).contains(point)) {
+            return null;
+        }
+        List<IFigure> candidates = getChildIndex().getOrDefault(getCellKey(
+            Math.floorDiv(point.x, INDEX_CELL_SIZE), Math.floorDiv(point.y, INDEX_CELL_SIZE)), Collections.emptyList());
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            IFigure child = candidates.get(i);
+            if (child.isVisible()) {
+                IFigure figure = child.findFigureAt(point.x, point.y, search);
+                if (figure != null) {
+                    return figure;
+                }
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    private Map<Long, List<IFigure>> getChildIndex() {
+        if (childIndex == null) {
+            Map<Long, List<IFigure>> index = new HashMap<>();
+            for (IFigure child : getChildren()) {
+                Rectangle bounds = child.getBounds();
+                int fromX = Math.floorDiv(bounds.x, INDEX_CELL_SIZE), toX = Math.floorDiv(bounds.right(), INDEX_CELL_SIZE);
+                int fromY = Math.floorDiv(bounds.y, INDEX_CELL_SIZE), toY = Math.floorDiv(bounds.bottom(), INDEX_CELL_SIZE);
+                for (int cellX = fromX; cellX <= toX; cellX++) {
+                    for (int cellY = fromY; cellY <= toY; cellY++) {
+                        index.computeIfAbsent(getCellKey(cellX, cellY), key -> new ArrayList<>()).add(child);
+                    }
+                }
+            }
+            childIndex = index;
+        }
+        return childIndex;
+    }
+
+    private static long getCellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
     }
 }
\ No newline at end of file
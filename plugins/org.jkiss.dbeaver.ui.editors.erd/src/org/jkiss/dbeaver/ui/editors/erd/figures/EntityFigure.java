@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.ui.editors.erd.figures;
 
 import org.eclipse.draw2d.*;
+import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Image;
 import org.jkiss.code.NotNull;
@@ -46,6 +47,9 @@ import java.util.List;
  */
 public class EntityFigure extends Figure {
 
+    // Attributes aren't readable at smaller zoom, large diagrams show only entity names
+    private static final double PLACEHOLDER_MAX_SCALE = 0.4;
+
     private final EntityPart part;
     private AttributeListFigure keyFigure;
     private AttributeListFigure attributeFigure;
@@ -215,6 +219,27 @@ public class EntityFigure extends Figure {
         updateTitleForegroundColor();
     }
 
+    @Override
+    protected void paintChildren(Graphics graphics) {
+        if (!isPlaceholder(graphics)) {
+            super.paintChildren(graphics);
+            return;
+        }
+        if (nameLabel.isVisible() && nameLabel.intersects(graphics.getClip(Rectangle.SINGLETON))) {
+            graphics.clipRect(nameLabel.getBounds());
+            nameLabel.paint(graphics);
+            graphics.restoreState();
+        }
+    }
+
+    private boolean isPlaceholder(@NotNull Graphics graphics) {
+        // Printed diagrams are always drawn in details
+        return !(graphics instanceof PrinterGraphics) &&
+            graphics.getAbsoluteScale() < PLACEHOLDER_MAX_SCALE &&
+            getParent() instanceof EntityDiagramFigure diagramFigure &&
+            diagramFigure.isLargeDiagram();
+    }
+
     public void setSelected(boolean isSelected)
     {
         LineBorder lineBorder = (LineBorder) getBorder();
@@ -71,6 +71,10 @@ public class ERDUIMessages extends NLS {
     public static String erd_preference_page_title_shows_partitions;
     public static String erd_preference_page_title_routing_combo;
     public static String erd_preference_page_title_notation_combo;
+    public static String erd_preference_page_label_force_layout_threshold;
+    public static String erd_preference_page_label_force_layout_threshold_tip;
+    public static String erd_preference_page_label_large_diagram_threshold;
+    public static String erd_preference_page_label_large_diagram_threshold_tip;
     public static String erd_preference_page_title_color_pref;
     public static String erd_preference_page_title_change_border_colors;
     public static String erd_preference_page_title_change_header_colors;
@@ -30,8 +30,11 @@ import org.eclipse.gef.editparts.AbstractConnectionEditPart;
 import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.erd.ERDEntity;
+import org.jkiss.dbeaver.ui.editors.erd.ERDUIConstants;
 import org.jkiss.dbeaver.ui.editors.erd.editor.ERDEditorPart;
+import org.jkiss.dbeaver.ui.editors.erd.internal.ERDUIActivator;
 import org.jkiss.dbeaver.ui.editors.erd.layout.GraphAnimation;
+import org.jkiss.dbeaver.ui.editors.erd.layout.algorithm.force.ForceDirectedGraphLayout;
 import org.jkiss.dbeaver.ui.editors.erd.model.ERDDecorator;
 import org.jkiss.dbeaver.ui.editors.erd.part.AttributePart;
 import org.jkiss.dbeaver.ui.editors.erd.part.DiagramPart;
@@ -56,6 +59,8 @@ public class DirectedGraphLayoutVisitor {
     private final ERDDecorator decorator;
     private Map<EditPart, Object> partToNodesMap;
     private DirectedGraph graph;
+    // Force-directed layout doesn't make bend points
+    private boolean straightEdges;
 
     public DirectedGraphLayoutVisitor(ERDDecorator decorator) {
         this.decorator = decorator;
@@ -80,7 +85,12 @@ public class DirectedGraphLayoutVisitor {
                         }
                         ERDConnectionRouterDescriptor diagramRouter = editor.getDiagramRouter();
                         DirectedGraphLayout layout = null;
-                        if (diagramRouter.supportedAttributeAssociation()) {
+                        int forceLayoutThreshold = ERDUIActivator.getDefault().getPreferenceStore()
+                            .getInt(ERDUIConstants.PREF_LAYOUT_FORCE_DIRECTED_THRESHOLD);
+                        straightEdges = forceLayoutThreshold > 0 && graph.nodes.size() >= forceLayoutThreshold;
+                        if (straightEdges) {
+                            layout = new ForceDirectedGraphLayout();
+                        } else if (diagramRouter.supportedAttributeAssociation()) {
                             layout = new OrthoDirectedGraphLayout(diagram);
                         } else {
                             layout = new NodeJoiningDirectedGraphLayout(diagram);
@@ -281,6 +291,8 @@ public class DirectedGraphLayoutVisitor {
 */
             }
             conn.setRoutingConstraint(bends);
+        } else if (straightEdges) {
+            conn.setRoutingConstraint(null);
         }
 
     }
@@ -0,0 +1,341 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.editors.erd.layout.algorithm.force;
+
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.Node;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Force-directed (Fruchterman-Reingold) layout for large diagrams.
+ * Repulsion between entities is approximated with Barnes-Hut quad tree, so each iteration takes O(n log n).
+ * Edges don't get bend points, connection router draws them.
+ */
+public class ForceDirectedGraphLayout extends DirectedGraphLayout {
+
+    private static final int MIN_ITERATIONS = 50;
+    private static final int MAX_ITERATIONS = 300;
+    // Barnes-Hut accuracy: cells which are seen at smaller angle are approximated by their center of mass
+    private static final double THETA = 0.8;
+    private static final double GRAVITY = 0.02;
+    private static final int NODE_SPACING = 40;
+    private static final int OVERLAP_REMOVAL_PASSES = 20;
+    private static final int MAX_TREE_DEPTH = 32;
+
+    private int nodeCount;
+    private double[] posX;
+    private double[] posY;
+    private double[] dispX;
+    private double[] dispY;
+    private double[] width;
+    private double[] height;
+    private double[] mass;
+    private int[][] edges;
+    private double idealDistance;
+
+    @Override
+    public void visit(DirectedGraph graph) {
+        nodeCount = graph.nodes.size();
+        if (nodeCount == 0) {
+            return;
+        }
+        Map<Node, Integer> nodeIndex = new IdentityHashMap<>(nodeCount);
+        posX = new double[nodeCount];
+        posY = new double[nodeCount];
+        dispX = new double[nodeCount];
+        dispY = new double[nodeCount];
+        width = new double[nodeCount];
+        height = new double[nodeCount];
+        mass = new double[nodeCount];
+        double totalRadius = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            Node node = graph.nodes.getNode(i);
+            nodeIndex.put(node, i);
+            width[i] = Math.max(node.width, 1);
+            height[i] = Math.max(node.height, 1);
+            totalRadius += getRadius(i);
+        }
+        double avgRadius = totalRadius / nodeCount;
+        idealDistance = avgRadius * 2 + NODE_SPACING;
+        for (int i = 0; i < nodeCount; i++) {
+            // Big entities push others stronger
+            mass[i] = getRadius(i) / avgRadius;
+        }
+        edges = new int[graph.edges.size()][];
+        int edgeCount = 0;
+        for (int i = 0; i < graph.edges.size(); i++) {
+            Edge edge = graph.edges.getEdge(i);
+            Integer source = getNodeIndex(nodeIndex, edge.source);
+            Integer target = getNodeIndex(nodeIndex, edge.target);
+            if (source != null && target != null && !source.equals(target)) {
+                edges[edgeCount++] = new int[]{source, target};
+            }
+        }
+        edges = Arrays.copyOf(edges, edgeCount);
+
+        placeOnGrid();
+        int iterations = Math.clamp(20000 / nodeCount, MIN_ITERATIONS, MAX_ITERATIONS);
+        double temperature = idealDistance * Math.sqrt(nodeCount) / 2;
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            applyForces(temperature * (1 - (double) iteration / iterations));
+        }
+        removeOverlaps();
+        applyResults(graph);
+    }
+
+    @Nullable
+    private static Integer getNodeIndex(@NotNull Map<Node, Integer> nodeIndex, @Nullable Node node) {
+        // Edges of entities with self links are connected to fake nodes inside the entity subgraph
+        for (Node n = node; n != null; n = n.getParent()) {
+            Integer index = nodeIndex.get(n);
+            if (index != null) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    private double getRadius(int i) {
+        return Math.sqrt(width[i] * width[i] + height[i] * height[i]) / 2;
+    }
+
+    /**
+     * Initial placement is deterministic, so the same diagram always gets the same layout
+     */
+    private void placeOnGrid() {
+        int columns = (int) Math.ceil(Math.sqrt(nodeCount));
+        double step = idealDistance * 1.5;
+        for (int i = 0; i < nodeCount; i++) {
+            posX[i] = (i % columns) * step;
+            posY[i] = (i / columns) * step;
+        }
+    }
+
+    private void applyForces(double temperature) {
+        Arrays.fill(dispX, 0);
+        Arrays.fill(dispY, 0);
+        double k2 = idealDistance * idealDistance;
+
+        // Repulsion
+        QuadCell root = buildTree();
+        double centerX = root.massX / root.mass;
+        double centerY = root.massY / root.mass;
+        for (int i = 0; i < nodeCount; i++) {
+            addRepulsion(root, i, k2);
+        }
+
+        // Attraction along edges
+        for (int[] edge : edges) {
+            int source = edge[0], target = edge[1];
+            double dx = posX[source] - posX[target];
+            double dy = posY[source] - posY[target];
+            double distance = Math.max(Math.sqrt(dx * dx + dy * dy), 1);
+            double force = distance / idealDistance;
+            dispX[source] -= dx * force;
+            dispY[source] -= dy * force;
+            dispX[target] += dx * force;
+            dispY[target] += dy * force;
+        }
+
+        // Gravity keeps disconnected entities close to the rest of diagram
+        for (int i = 0; i < nodeCount; i++) {
+            dispX[i] -= (posX[i] - centerX) * GRAVITY;
+            dispY[i] -= (posY[i] - centerY) * GRAVITY;
+        }
+
+        for (int i = 0; i < nodeCount; i++) {
+            double length = Math.sqrt(dispX[i] * dispX[i] + dispY[i] * dispY[i]);
+            if (length > 0) {
+                double limited = Math.min(length, temperature);
+                posX[i] += dispX[i] / length * limited;
+                posY[i] += dispY[i] / length * limited;
+            }
+        }
+    }
+
+    private void addRepulsion(@NotNull QuadCell cell, int i, double k2) {
+        if (cell.mass == 0 || cell.body == i) {
+            return;
+        }
+        double cellX = cell.massX / cell.mass;
+        double cellY = cell.massY / cell.mass;
+        double dx = posX[i] - cellX;
+        double dy = posY[i] - cellY;
+        double distance2 = dx * dx + dy * dy;
+        if (cell.children != null && cell.size * cell.size >= THETA * THETA * distance2) {
+            for (QuadCell child : cell.children) {
+                if (child != null) {
+                    addRepulsion(child, i, k2);
+                }
+            }
+            return;
+        }
+        if (distance2 < 1) {
+            // Coincident nodes: push apart in a stable direction
+            dx = (i % 2 == 0 ? 1 : -1);
+            dy = ((i / 2) % 2 == 0 ? 1 : -1);
+            distance2 = 2;
+        }
+        double force = k2 * cell.mass / distance2;
+        dispX[i] += dx * force;
+        dispY[i] += dy * force;
+    }
+
+    @NotNull
+    private QuadCell buildTree() {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < nodeCount; i++) {
+            minX = Math.min(minX, posX[i]);
+            minY = Math.min(minY, posY[i]);
+            maxX = Math.max(maxX, posX[i]);
+            maxY = Math.max(maxY, posY[i]);
+        }
+        QuadCell root = new QuadCell(minX, minY, Math.max(Math.max(maxX - minX, maxY - minY), 1));
+        for (int i = 0; i < nodeCount; i++) {
+            insert(root, i, 0);
+        }
+        return root;
+    }
+
+    private void insert(@NotNull QuadCell cell, int i, int depth) {
+        if (cell.mass == 0 && cell.children == null) {
+            cell.body = i;
+            cell.add(posX[i], posY[i], mass[i]);
+            return;
+        }
+        if (depth >= MAX_TREE_DEPTH) {
+            // Nodes at the same point, keep them in one leaf
+            cell.body = -1;
+            cell.add(posX[i], posY[i], mass[i]);
+            return;
+        }
+        if (cell.children == null) {
+            cell.children = new QuadCell[4];
+            int oldBody = cell.body;
+            cell.body = -1;
+            if (oldBody >= 0) {
+                insert(cell.getChild(posX[oldBody], posY[oldBody]), oldBody, depth + 1);
+            }
+        }
+        cell.add(posX[i], posY[i], mass[i]);
+        insert(cell.getChild(posX[i], posY[i]), i, depth + 1);
+    }
+
+    /**
+     * Forces don't know anything about rectangles, so entities may still overlap.
+     * Overlapping entities are pushed apart along the axis of the smaller overlap.
+     */
+    private void removeOverlaps() {
+        Integer[] order = new Integer[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            order[i] = i;
+        }
+        double gap = NODE_SPACING / 2.0;
+        for (int pass = 0; pass < OVERLAP_REMOVAL_PASSES; pass++) {
+            Arrays.sort(order, Comparator.comparingDouble(i -> posX[i] - width[i] / 2));
+            boolean moved = false;
+            for (int a = 0; a < nodeCount; a++) {
+                int i = order[a];
+                double right = posX[i] + width[i] / 2 + gap;
+                for (int b = a + 1; b < nodeCount; b++) {
+                    int j = order[b];
+                    if (posX[j] - width[j] / 2 >= right) {
+                        break;
+                    }
+                    double overlapX = (width[i] + width[j]) / 2 + gap - Math.abs(posX[i] - posX[j]);
+                    double overlapY = (height[i] + height[j]) / 2 + gap - Math.abs(posY[i] - posY[j]);
+                    if (overlapX <= 0 || overlapY <= 0) {
+                        continue;
+                    }
+                    if (overlapX < overlapY) {
+                        double shift = (posX[i] <= posX[j] ? overlapX : -overlapX) / 2;
+                        posX[i] -= shift;
+                        posX[j] += shift;
+                    } else {
+                        double shift = (posY[i] <= posY[j] ? overlapY : -overlapY) / 2;
+                        posY[i] -= shift;
+                        posY[j] += shift;
+                    }
+                    moved = true;
+                }
+            }
+            if (!moved) {
+                break;
+            }
+        }
+    }
+
+    private void applyResults(@NotNull DirectedGraph graph) {
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        for (int i = 0; i < nodeCount; i++) {
+            minX = Math.min(minX, posX[i] - width[i] / 2);
+            minY = Math.min(minY, posY[i] - height[i] / 2);
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            Node node = graph.nodes.getNode(i);
+            node.x = (int) Math.round(posX[i] - width[i] / 2 - minX) + NODE_SPACING;
+            node.y = (int) Math.round(posY[i] - height[i] / 2 - minY) + NODE_SPACING;
+        }
+    }
+
+    private static class QuadCell {
+        private final double x;
+        private final double y;
+        private final double size;
+        private double mass;
+        private double massX;
+        private double massY;
+        private int body = -1;
+        private QuadCell[] children;
+
+        QuadCell(double x, double y, double size) {
+            this.x = x;
+            this.y = y;
+            this.size = size;
+        }
+
+        void add(double px, double py, double m) {
+            mass += m;
+            massX += px * m;
+            massY += py * m;
+        }
+
+        @NotNull
+        QuadCell getChild(double px, double py) {
+            double half = size / 2;
+            int index = (px >= x + half ? 1 : 0) + (py >= y + half ? 2 : 0);
+            QuadCell child = children[index];
+            if (child == null) {
+                child = new QuadCell(
+                    (index & 1) == 0 ? x : x + half,
+                    (index & 2) == 0 ? y : y + half,
+                    half);
+                children[index] = child;
+            }
+            return child;
+        }
+    }
+
+}
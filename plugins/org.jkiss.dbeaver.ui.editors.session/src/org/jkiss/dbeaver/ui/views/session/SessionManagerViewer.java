@@ -87,6 +87,12 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
 {
     private static final Log log = Log.getLog(SessionManagerViewer.class);
 
+    // One hour of samples with the default sampler interval
+    private static final int HISTORY_CAPACITY = 3600;
+    private static final int HISTORY_ROW_CAPACITY = 100000;
+    private static final long HISTORY_WINDOW_MS = 15 * 60 * 1000;
+    private static final int HISTORY_TOP_COUNT = 10;
+
     private final IWorkbenchPart workbenchPart;
     private final DBAServerSessionManager<SESSION_TYPE> sessionManager;
     private final SessionListControl sessionTable;
@@ -111,6 +117,9 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
     private Object selectedPlanElement;
     private final CTabFolder detailsFolder;
 
+    private DBAServerSessionSampler<SESSION_TYPE> historySampler;
+    private CTabItem historyItem;
+
     protected SessionManagerViewer(IWorkbenchPart part, Composite parent, final DBAServerSessionManager<SESSION_TYPE> sessionManager) {
         this.workbenchPart = part;
         this.sessionManager = sessionManager;
@@ -230,7 +239,9 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
                     public void widgetSelected(SelectionEvent e) {
                         CTabItem item = detailsFolder.getItem(detailsFolder.getSelectionIndex());
                         Object data = item.getData();
-                        if (data instanceof DBAServerSessionDetails) {
+                        if (item == historyItem) {
+                            updateHistorySummary();
+                        } else if (data instanceof DBAServerSessionDetails) {
                             Class<?> detailsType = ((DBAServerSessionDetails) data).getDetailsType();
                             if (DBPObjectWithDescription.class.isAssignableFrom(detailsType)) {
                                 StyledText styledText = (StyledText) item.getControl();
@@ -342,6 +353,10 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
 
     public void dispose()
     {
+        if (historySampler != null) {
+            historySampler.close();
+            historySampler = null;
+        }
         sessionTable.disposeControl();
         UIUtils.dispose(boldFont);
     }
@@ -385,9 +400,96 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
 
     public void refreshSessions() {
         sessionTable.loadData();
+        updateHistorySummary();
         refreshControl.scheduleAutoRefresh(false);
     }
 
+    public boolean isSessionHistoryEnabled() {
+        return historySampler != null;
+    }
+
+    /**
+     * Starts or stops recording of active session history.
+     * History is kept in memory while the viewer is open, its summary is shown in the details panel.
+     */
+    public void setSessionHistoryEnabled(boolean enabled) {
+        if (enabled == isSessionHistoryEnabled()) {
+            return;
+        }
+        if (enabled) {
+            Map<String, Object> options = getSessionOptions();
+            historySampler = new DBAServerSessionSampler<>(
+                sessionManager,
+                new DBAServerSessionHistory(HISTORY_CAPACITY, HISTORY_ROW_CAPACITY, null, 0),
+                options == null ? Collections.emptyMap() : options);
+            historySampler.start();
+
+            StyledText historyText = new StyledText(detailsFolder, SWT.READ_ONLY | SWT.V_SCROLL | SWT.H_SCROLL);
+            historyText.setForeground(UIStyles.getDefaultTextForeground());
+            historyText.setBackground(UIStyles.getDefaultTextBackground());
+            historyText.setFont(UIUtils.getMonospaceFont());
+            historyItem = new CTabItem(detailsFolder, SWT.NONE);
+            historyItem.setText(SessionEditorMessages.viewer_session_history_item);
+            historyItem.setImage(DBeaverIcons.getImage(UIIcon.CHART_LINE));
+            historyItem.setControl(historyText);
+            detailsFolder.setSelection(historyItem);
+            updateHistorySummary();
+        } else {
+            historySampler.close();
+            historySampler = null;
+            if (historyItem != null) {
+                if (detailsFolder.getSelection() == historyItem) {
+                    detailsFolder.setSelection(detailsItem);
+                }
+                historyItem.getControl().dispose();
+                historyItem.dispose();
+                historyItem = null;
+            }
+        }
+    }
+
+    private void updateHistorySummary() {
+        if (historySampler == null || historyItem == null || detailsFolder.getSelection() != historyItem) {
+            return;
+        }
+        long toTime = System.currentTimeMillis();
+        DBAServerSessionHistory.Summary summary = historySampler.getHistory().aggregate(
+            toTime - HISTORY_WINDOW_MS, toTime, HISTORY_TOP_COUNT);
+        String lineSeparator = GeneralUtils.getDefaultLineSeparator();
+        StringBuilder text = new StringBuilder();
+        text.append(NLS.bind(
+            SessionEditorMessages.viewer_session_history_summary,
+            new Object[]{
+                HISTORY_WINDOW_MS / 60000,
+                summary.sampleCount(),
+                String.format("%.2f", summary.getAverageActiveSessions()),
+                summary.blockedSessionSamples()
+            }));
+        text.append(lineSeparator);
+        if (historySampler.getFailedSamples() > 0) {
+            text.append(NLS.bind(SessionEditorMessages.viewer_session_history_failed_samples, historySampler.getFailedSamples()));
+            text.append(lineSeparator);
+        }
+        appendHistoryItems(text, SessionEditorMessages.viewer_session_history_top_queries, summary.topQueries());
+        appendHistoryItems(text, SessionEditorMessages.viewer_session_history_top_wait_events, summary.topWaitEvents());
+        appendHistoryItems(text, SessionEditorMessages.viewer_session_history_top_users, summary.topUsers());
+        appendHistoryItems(text, SessionEditorMessages.viewer_session_history_top_blockers, summary.topBlockers());
+        ((StyledText) historyItem.getControl()).setText(text.toString());
+    }
+
+    private static void appendHistoryItems(StringBuilder text, String title, List<DBAServerSessionHistory.TopItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        String lineSeparator = GeneralUtils.getDefaultLineSeparator();
+        text.append(lineSeparator).append(title).append(lineSeparator);
+        for (DBAServerSessionHistory.TopItem item : items) {
+            text.append(String.format("%8.2f %8d  ", item.averageActiveSessions(), item.samples()))
+                .append(CommonUtils.truncateString(item.name().replaceAll("\\s+", " "), 200))
+                .append(lineSeparator);
+        }
+    }
+
     public void alterSessions(final List<SESSION_TYPE> sessions, Map<String, Object> options) {
         sessionTable.createAlterService(sessions, options).schedule();
     }
@@ -497,6 +599,20 @@ public class SessionManagerViewer<SESSION_TYPE extends DBAServerSession>
                 contributionManager.add(new Separator());
             }
 
+            contributionManager.add(ActionUtils.makeActionContribution(new Action(SessionEditorMessages.viewer_session_history_record_action, IAction.AS_CHECK_BOX) {
+                {
+                    setImageDescriptor(DBeaverIcons.getImageDescriptor(UIIcon.CHART_LINE));
+                    setToolTipText(SessionEditorMessages.viewer_session_history_record_tip);
+                    setChecked(isSessionHistoryEnabled());
+                }
+                @Override
+                public void run()
+                {
+                    setSessionHistoryEnabled(isChecked());
+                }
+            }, true));
+            contributionManager.add(new Separator());
+
             refreshControl.populateRefreshButton(contributionManager);
             contributionManager.add(new Action(SessionEditorMessages.viewer_session_manager_refresh_sessions_action, DBeaverIcons.getImageDescriptor(UIIcon.REFRESH)) {
                 @Override
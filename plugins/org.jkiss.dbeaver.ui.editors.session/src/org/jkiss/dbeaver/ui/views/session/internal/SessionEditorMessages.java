@@ -34,6 +34,15 @@ public class SessionEditorMessages extends NLS {
     public static String viewer_session_manager_error_opening_editor_title;
     public static String viewer_session_manager_error_opening_editor_message;
     public static String viewer_session_manager_refresh_sessions_action;
+    public static String viewer_session_history_record_action;
+    public static String viewer_session_history_record_tip;
+    public static String viewer_session_history_item;
+    public static String viewer_session_history_summary;
+    public static String viewer_session_history_failed_samples;
+    public static String viewer_session_history_top_queries;
+    public static String viewer_session_history_top_wait_events;
+    public static String viewer_session_history_top_users;
+    public static String viewer_session_history_top_blockers;
 
     static {
         // initialize resource bundle
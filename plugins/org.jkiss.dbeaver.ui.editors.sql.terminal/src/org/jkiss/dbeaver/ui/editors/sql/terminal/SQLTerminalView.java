@@ -22,6 +22,7 @@ import org.eclipse.ui.IWorkbenchPartSite;
 import org.eclipse.ui.console.MessageConsole;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.sql.SQLQueryResult;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
@@ -32,26 +33,39 @@ import org.jkiss.dbeaver.ui.editors.sql.SQLEditorOutputConsoleViewer;
 import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.IOException;
+import java.io.PrintWriter;
+
 
 public class SQLTerminalView extends SQLEditorOutputConsoleViewer {
 
+    private static final Log log = Log.getLog(SQLTerminalView.class);
+
     public SQLTerminalView(@NotNull IWorkbenchPartSite site, @NotNull CTabFolder tabsContainer, int styles) {
         super(site, tabsContainer, new MessageConsole("sql-data-log-output", DBeaverIcons.getImageDescriptor(UIIcon.SQL_CONSOLE)));
     }
 
     public void printQueryData(@NotNull DBPPreferenceStore prefs, @NotNull ResultSetModel model, @Nullable String name) {
         PlainTextFormatter formatter = new PlainTextFormatter(prefs);
-        StringBuilder grid = new StringBuilder();
+        PrintWriter writer = this.getOutputWriter();
+        writer.append("\n");
         if (prefs.getBoolean(SQLTerminalPreferencesConstants.SHOW_QUERY_TEXT)) {
-            formatter.printQueryName(grid, name);
-            grid.append("\n");
+            StringBuilder queryName = new StringBuilder();
+            formatter.printQueryName(queryName, name);
+            writer.append(queryName).append("\n");
         }
-        
-        int totalRows = formatter.printGrid(grid, model);
-        this.getOutputWriter().append("\n");
-        this.getOutputWriter().append(grid.toString()).append("\n\n");
-        this.getOutputWriter().append(String.valueOf(totalRows)).append(" row(s) fetched.\n\n");
-        this.getOutputWriter().flush();
+
+        // Grid is streamed to the console, big results are not formatted into one string
+        int totalRows;
+        try {
+            totalRows = formatter.printGrid(writer, model);
+        } catch (IOException e) {
+            log.debug("Error printing query data", e);
+            totalRows = model.getRowCount();
+        }
+        writer.append("\n\n");
+        writer.append(String.valueOf(totalRows)).append(" row(s) fetched.\n\n");
+        writer.flush();
         this.scrollToEnd();
     }
 
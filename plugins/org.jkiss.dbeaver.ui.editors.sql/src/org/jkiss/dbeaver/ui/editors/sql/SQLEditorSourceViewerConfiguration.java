@@ -321,7 +321,8 @@ public class SQLEditorSourceViewerConfiguration extends TextSourceViewerConfigur
     @Override
     public IPresentationReconciler getPresentationReconciler(ISourceViewer sourceViewer) {
         // Create a presentation reconciler to handle handle document changes.
-        PresentationReconciler reconciler = new PresentationReconciler();
+        // Big scripts are highlighted only around the viewport, so lexical highlighting stays on for them.
+        PresentationReconciler reconciler = new SQLViewportPresentationReconciler();
         String docPartitioning = getConfiguredDocumentPartitioning(sourceViewer);
         reconciler.setDocumentPartitioning(docPartitioning);
 
@@ -335,7 +336,7 @@ public class SQLEditorSourceViewerConfiguration extends TextSourceViewerConfigur
         // Add a "damager-repairer" for changes within one-line SQL comments.
         addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_COMMENT, ThemeConstants.SQL_EDITOR_COLOR_COMMENT);
         SQLEditorBase sqlEditor = this.getSQLEditor();
-        if (SQLEditorUtils.isSQLSyntaxParserApplied(sqlEditor.getEditorInput())) {
+        if (SQLEditorUtils.isSQLSyntaxParserEnabled(sqlEditor.getEditorInput())) {
             // Add a "damager-repairer" for changes within string literals.
             addContentTypeDamageRepairer(reconciler, SQLParserPartitions.CONTENT_TYPE_SQL_STRING);
             if (sqlEditor.isAdvancedHighlightingEnabled()) {
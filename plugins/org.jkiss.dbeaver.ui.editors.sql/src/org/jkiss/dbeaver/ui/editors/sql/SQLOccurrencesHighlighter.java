@@ -35,6 +35,7 @@ import org.eclipse.ui.texteditor.IDocumentProvider;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.text.parser.TPWordDetector;
+import org.jkiss.dbeaver.ui.editors.sql.syntax.SQLViewportPresentationReconciler;
 import org.jkiss.utils.CommonUtils;
 
 import java.util.ArrayList;
@@ -119,7 +120,7 @@ class SQLOccurrencesHighlighter {
                     if (wordUnderCursor == null && (CommonUtils.isEmpty(wordSelected) || wordSelected.length() < 2)) {
                         this.removeOccurrenceAnnotations();
                     } else {
-                        OccurrencesFinder finder = new OccurrencesFinder(document, wordUnderCursor, wordSelected);
+                        OccurrencesFinder finder = new OccurrencesFinder(document, getSearchRegion(document), wordUnderCursor, wordSelected);
                         List<OccurrencePosition> positions = finder.perform();
                         if (!CommonUtils.isEmpty(positions)) {
                             this.occurrencesFinderJob = new OccurrencesFinderJob(positions);
@@ -133,6 +134,27 @@ class SQLOccurrencesHighlighter {
         }
     }
 
+    /**
+     * Big documents are searched only around the viewport, the same part which is highlighted
+     */
+    private IRegion getSearchRegion(IDocument document) {
+        ISourceViewer viewer = editor.getViewer();
+        if (viewer == null || document.getLength() < SQLViewportPresentationReconciler.VIEWPORT_MODE_MIN_LENGTH) {
+            return new Region(0, document.getLength());
+        }
+        try {
+            int lastLine = document.getNumberOfLines() - 1;
+            int topIndex = Math.max(viewer.getTopIndex(), 0);
+            int startLine = Math.min(Math.max(topIndex - SQLViewportPresentationReconciler.VIEWPORT_MARGIN_LINES, 0), lastLine);
+            int endLine = Math.min(Math.max(viewer.getBottomIndex(), topIndex) + SQLViewportPresentationReconciler.VIEWPORT_MARGIN_LINES, lastLine);
+            int startOffset = document.getLineOffset(startLine);
+            return new Region(startOffset, document.getLineOffset(endLine) + document.getLineLength(endLine) - startOffset);
+        } catch (BadLocationException e) {
+            log.debug("Error detecting visible region: " + e.getMessage());
+            return new Region(0, document.getLength());
+        }
+    }
+
     private void removeOccurrenceAnnotations() {
         IDocumentProvider documentProvider = editor.getDocumentProvider();
         if (documentProvider != null) {
@@ -220,7 +242,7 @@ class SQLOccurrencesHighlighter {
     }
 
     void updateInput(IEditorInput input) {
-        if (!SQLEditorUtils.isSQLSyntaxParserApplied(input)) {
+        if (!SQLEditorUtils.isSQLSyntaxParserEnabled(input)) {
             uninstallOccurrencesFinder();
         } else {
             final DBPPreferenceStore prefStore = editor.getActivePreferenceStore();
@@ -414,11 +436,13 @@ class SQLOccurrencesHighlighter {
 
     private static class OccurrencesFinder {
         private IDocument fDocument;
+        private IRegion searchRegion;
         private String wordUnderCursor;
         private String wordSelected;
 
-        OccurrencesFinder(IDocument document, String wordUnderCursor, String wordSelected) {
+        OccurrencesFinder(IDocument document, IRegion searchRegion, String wordUnderCursor, String wordSelected) {
             this.fDocument = document;
+            this.searchRegion = searchRegion;
             this.wordUnderCursor = wordUnderCursor;
             this.wordSelected = wordSelected;
         }
@@ -449,14 +473,20 @@ class SQLOccurrencesHighlighter {
         }
 
         private void findPositions(String searchFor, List<OccurrencePosition> positions, boolean forSelection) throws BadLocationException {
-            FindReplaceDocumentAdapter findReplaceDocumentAdapter = new FindReplaceDocumentAdapter(fDocument);
+            IDocument searchDocument = fDocument;
+            int baseOffset = 0;
+            if (searchRegion.getOffset() > 0 || searchRegion.getLength() < fDocument.getLength()) {
+                searchDocument = new Document(fDocument.get(searchRegion.getOffset(), searchRegion.getLength()));
+                baseOffset = searchRegion.getOffset();
+            }
+            FindReplaceDocumentAdapter findReplaceDocumentAdapter = new FindReplaceDocumentAdapter(searchDocument);
             for (int offset = 0; ; ) {
                 IRegion region = findReplaceDocumentAdapter.find(offset, searchFor, true, false, !forSelection, false);
                 if (region == null) {
                     break;
                 }
                 positions.add(
-                    new OccurrencePosition(region.getOffset(), region.getLength(), forSelection)
+                    new OccurrencePosition(baseOffset + region.getOffset(), region.getLength(), forSelection)
                 );
                 offset = region.getOffset() + region.getLength();
             }
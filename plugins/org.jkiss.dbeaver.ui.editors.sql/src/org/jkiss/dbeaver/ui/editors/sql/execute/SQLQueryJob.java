@@ -46,19 +46,31 @@ import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.impl.AbstractStatement;
+import org.jkiss.dbeaver.model.impl.DBObjectNameCaseTransformer;
 import org.jkiss.dbeaver.model.impl.local.LocalStatement;
 import org.jkiss.dbeaver.model.impl.local.StatResultSet;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.runtime.BlockCanceler;
+import org.jkiss.dbeaver.model.runtime.DBRBlockingObject;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableParametrized;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
+import org.jkiss.dbeaver.model.sql.parser.SQLIdentifierDetector;
+import org.jkiss.dbeaver.model.sql.parser.SQLScriptDependencyAnalyzer;
 import org.jkiss.dbeaver.model.sql.parser.SQLSemanticProcessor;
 import org.jkiss.dbeaver.model.sql.registry.SQLCommandHandlerDescriptor;
 import org.jkiss.dbeaver.model.sql.registry.SQLCommandsRegistry;
 import org.jkiss.dbeaver.model.sql.registry.SQLPragmaHandlerDescriptor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSEntityAssociation;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.rdb.DBSProcedure;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
+import org.jkiss.dbeaver.model.struct.rdb.DBSView;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.runtime.jobs.DataSourceJob;
 import org.jkiss.dbeaver.runtime.ui.DBPPlatformUI;
@@ -80,10 +92,9 @@ import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SQLQueryJob
@@ -96,6 +107,7 @@ public class SQLQueryJob extends DataSourceJob {
     public static final Object STATS_RESULTS = new Object();
     private static final int MAX_QUERY_PREVIEW_LENGTH = 8192;
     private static final int MAX_UPDATE_COUNT_READS = 1000;
+    private static final long PARALLEL_POLL_TIMEOUT_MS = 100;
 
     private final DBSDataContainer dataContainer;
     private final List<SQLScriptElement> queries;
@@ -246,7 +258,50 @@ public class SQLQueryJob extends DataSourceJob {
                 }
 
                 resultSetNumber = 0;
+                int[][] parallelDependencies = queryNum == 0
+                    ? getParallelDependencies(monitor, txnManager == null || txnManager.isAutoCommit())
+                    : null;
+                boolean[] parallelExecuted = null;
+                if (parallelDependencies != null) {
+                    parallelExecuted = new boolean[queries.size()];
+                    int failedQuery = executeParallel(session, parallelDependencies, parallelExecuted);
+                    if (failedQuery < 0) {
+                        parallelExecuted = null;
+                    } else if (failedQuery >= queries.size() || monitor.isCanceled()) {
+                        queryNum = queries.size();
+                    } else {
+                        // Ask to continue. The rest of the script is executed sequentially.
+                        queryNum = failedQuery;
+                        log.error(lastError);
+                        DBPPlatformUI.UserResponse response = ExecutionQueueErrorJob.showError(
+                            "SQL script execution",
+                            lastError,
+                            true);
+                        switch (response) {
+                            case STOP:
+                                queryNum = queries.size();
+                                break;
+                            case RETRY:
+                                // Failed query is executed again
+                                lastError = null;
+                                break;
+                            case IGNORE:
+                                lastError = null;
+                                parallelExecuted[failedQuery] = true;
+                                break;
+                            case IGNORE_ALL:
+                                lastError = null;
+                                parallelExecuted[failedQuery] = true;
+                                errorHandling = SQLScriptErrorHandling.IGNORE;
+                                break;
+                        }
+                    }
+                }
                 while (queryNum < queries.size()) {
+                    if (parallelExecuted != null && parallelExecuted[queryNum]) {
+                        queryNum++;
+                        continue;
+                    }
                     // Execute query
                     SQLScriptElement query = queries.get(queryNum);
 
@@ -370,6 +425,446 @@ public class SQLQueryJob extends DataSourceJob {
         }
     }
 
+    /**
+     * Returns dependencies between script queries if the script can be executed in parallel mode.
+     * Parallel mode is used only for scripts of data modification and DDL queries which are committed immediately
+     * and whose tables can be analyzed. Queries returning results are always executed in the editor connection.
+     */
+    @Nullable
+    private int[][] getParallelDependencies(@NotNull DBRProgressMonitor monitor, boolean autoCommit) {
+        DBPDataSourceContainer container = getDataSourceContainer();
+        if (queries.size() < 2
+            || !container.getPreferenceStore().getBoolean(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTION)
+            || !autoCommit
+            || fetchResultSets
+            || dataFilter != null
+            || !scriptContext.getPragmas().isEmpty()
+            || container.isForceUseSingleConnection()
+            || container.getConnectionConfiguration().getConnectionType().isConfirmExecute()
+            || (resultsConsumer instanceof ISmartTransactionManager stm && stm.isSmartAutoCommit())
+        ) {
+            return null;
+        }
+        List<SQLScriptDependencyAnalyzer.StatementTables> statements = new ArrayList<>(queries.size());
+        for (SQLScriptElement element : queries) {
+            if (!(element instanceof SQLQuery query)
+                || query.getScriptElements().size() != 1 || query.getScriptElements().get(0) != query
+                || !CommonUtils.isEmpty(query.getParameters())
+            ) {
+                return null;
+            }
+            SQLScriptDependencyAnalyzer.StatementTables tables = SQLScriptDependencyAnalyzer.getStatementTables(query.getStatement());
+            if (tables.barrier() || tables.writes().isEmpty()) {
+                // Such queries may change session state, which isn't shared between connections
+                log.debug("Query can't be executed in parallel: " + CommonUtils.truncateString(query.getText(), 200));
+                return null;
+            }
+            statements.add(tables);
+        }
+        Map<String, Set<String>> foreignKeys = getForeignKeyTables(monitor, statements);
+        if (foreignKeys == null) {
+            return null;
+        }
+        return SQLScriptDependencyAnalyzer.buildDependencies(statements, foreignKeys);
+    }
+
+    /**
+     * Reads foreign keys of existing tables modified by the script.
+     * Queries which modify tables linked by foreign keys must be executed in the script order.
+     *
+     * @return null if the script uses views or routines in place of tables. Tables they use are not known,
+     * so such scripts are executed sequentially. Functions called in expressions are not detected.
+     */
+    @Nullable
+    private Map<String, Set<String>> getForeignKeyTables(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull List<SQLScriptDependencyAnalyzer.StatementTables> statements
+    ) {
+        Set<String> tableNames = new LinkedHashSet<>();
+        Set<String> writtenTables = new HashSet<>();
+        for (SQLScriptDependencyAnalyzer.StatementTables tables : statements) {
+            tableNames.addAll(tables.writes());
+            tableNames.addAll(tables.reads());
+            writtenTables.addAll(tables.writes());
+        }
+        DBCExecutionContext executionContext = getExecutionContext();
+        SQLIdentifierDetector identifierDetector = new SQLIdentifierDetector(SQLUtils.getDialectFromObject(executionContext));
+        Map<String, Set<String>> result = new HashMap<>();
+        for (String tableName : tableNames) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            DBSObject object = SQLSearchUtils.findObjectByFQN(
+                monitor,
+                null,
+                executionContext,
+                List.of(DBObjectNameCaseTransformer.transformName(executionContext.getDataSource(), tableName)),
+                false,
+                identifierDetector);
+            if (object instanceof DBSView || object instanceof DBSTable table && table.isView() || object instanceof DBSProcedure) {
+                log.debug("Script uses view or routine '" + tableName + "', it can't be executed in parallel");
+                return null;
+            }
+            if (!(object instanceof DBSEntity entity) || !writtenTables.contains(tableName)) {
+                // Table is created by the script (its foreign keys are found by the analyzer) or it is only read
+                continue;
+            }
+            try {
+                Set<String> relatedTables = new HashSet<>();
+                addAssociatedTables(relatedTables, entity.getAssociations(monitor), false);
+                addAssociatedTables(relatedTables, entity.getReferences(monitor), true);
+                relatedTables.remove(tableName);
+                if (!relatedTables.isEmpty()) {
+                    result.put(tableName, relatedTables);
+                }
+            } catch (DBException e) {
+                log.debug("Can't read foreign keys of '" + tableName + "'", e);
+            }
+        }
+        return result;
+    }
+
+    private static void addAssociatedTables(
+        @NotNull Set<String> tableNames,
+        @Nullable Collection<? extends DBSEntityAssociation> associations,
+        boolean referencing
+    ) {
+        if (associations == null) {
+            return;
+        }
+        for (DBSEntityAssociation association : associations) {
+            DBSEntity entity = referencing ? association.getParentObject() : association.getAssociatedEntity();
+            if (entity != null) {
+                tableNames.add(SQLScriptDependencyAnalyzer.normalizeName(entity.getName()));
+            }
+        }
+    }
+
+    /**
+     * Executes independent queries concurrently in isolated contexts.
+     * Query events are reported in the script order.
+     *
+     * @param executed receives queries which were executed successfully (or with ignored errors)
+     * @return -1 if isolated contexts can't be opened, index of the failed query which stopped the script
+     * or number of queries if the script was completed or canceled
+     */
+    private int executeParallel(
+        @NotNull DBCSession session,
+        @NotNull int[][] dependencies,
+        @NotNull boolean[] executed
+    ) throws InterruptedException {
+        final DBRProgressMonitor monitor = session.getProgressMonitor();
+        final int queryCount = queries.size();
+        final int contextCount = Math.min(
+            Math.max(getDataSourceContainer().getPreferenceStore().getInt(SQLPreferenceConstants.SCRIPT_PARALLEL_MAX_CONTEXTS), 1),
+            queryCount);
+
+        List<DBCExecutionContext> contexts = new ArrayList<>(contextCount);
+        monitor.subTask("Open parallel execution contexts");
+        for (int i = 0; i < contextCount && !monitor.isCanceled(); i++) {
+            try {
+                DBCExecutionContext context = getExecutionContext().getOwnerInstance().openIsolatedContext(
+                    monitor, "SQL script parallel execution", getExecutionContext());
+                DBCTransactionManager txnManager = DBUtils.getTransactionManager(context);
+                if (txnManager != null && !txnManager.isAutoCommit()) {
+                    txnManager.setAutoCommit(monitor, true);
+                }
+                contexts.add(context);
+            } catch (Throwable e) {
+                log.debug("Can't open isolated context for parallel script execution", e);
+                break;
+            }
+        }
+        if (contexts.size() < 2) {
+            for (DBCExecutionContext context : contexts) {
+                context.close();
+            }
+            return -1;
+        }
+
+        SQLQueryResult[] results;
+        List<List<Integer>> dependents = new ArrayList<>(queryCount);
+        int[] pendingDependencies = new int[queryCount];
+        for (int i = 0; i < queryCount; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < queryCount; i++) {
+            pendingDependencies[i] = dependencies[i].length;
+            for (int dependency : dependencies[i]) {
+                dependents.get(dependency).add(i);
+            }
+        }
+
+        BlockingQueue<Integer> readyQueue = new LinkedBlockingQueue<>();
+        BlockingQueue<SQLQueryResult> completedQueue = new LinkedBlockingQueue<>();
+        Map<SQLQueryResult, Integer> resultIndexes = new ConcurrentHashMap<>();
+        List<ParallelWorker> workers = new ArrayList<>(contexts.size());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(contexts.size(), r -> {
+            Thread thread = new Thread(r, "SQL script worker #" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (DBCExecutionContext context : contexts) {
+                ParallelWorker worker = new ParallelWorker(context, monitor, readyQueue, completedQueue, resultIndexes);
+                workers.add(worker);
+                executorService.execute(worker);
+            }
+
+            int dispatched = 0;
+            for (int i = 0; i < queryCount; i++) {
+                if (pendingDependencies[i] == 0) {
+                    readyQueue.add(i);
+                    dispatched++;
+                }
+            }
+            results = new SQLQueryResult[queryCount];
+            int nextReported = 0;
+            int running = dispatched;
+            boolean stopped = false;
+            while (running > 0) {
+                if (!stopped && monitor.isCanceled()) {
+                    stopped = true;
+                    for (ParallelWorker worker : workers) {
+                        worker.cancelQuery();
+                    }
+                }
+                if (stopped) {
+                    running -= readyQueue.drainTo(new ArrayList<>());
+                    if (running <= 0) {
+                        break;
+                    }
+                }
+                SQLQueryResult result = completedQueue.poll(PARALLEL_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (result == null) {
+                    continue;
+                }
+                running--;
+                int index = resultIndexes.remove(result);
+                results[index] = result;
+                if (result.getError() != null && errorHandling != SQLScriptErrorHandling.IGNORE) {
+                    stopped = true;
+                }
+                if (!stopped) {
+                    for (int dependent : dependents.get(index)) {
+                        if (--pendingDependencies[dependent] == 0) {
+                            readyQueue.add(dependent);
+                            running++;
+                        }
+                    }
+                }
+                // Report results in the script order
+                while (nextReported < queryCount && results[nextReported] != null) {
+                    reportParallelResult(session, results[nextReported]);
+                    nextReported++;
+                }
+            }
+            // Queries executed after the failed one
+            for (int i = nextReported; i < queryCount; i++) {
+                if (results[i] != null) {
+                    reportParallelResult(session, results[i]);
+                }
+            }
+        } finally {
+            for (ParallelWorker worker : workers) {
+                worker.stop();
+            }
+            executorService.shutdown();
+            if (!executorService.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.debug("Parallel script workers didn't finish in time");
+            }
+            for (DBCExecutionContext context : contexts) {
+                context.close();
+            }
+        }
+        int failedQuery = queryCount;
+        for (int i = 0; i < queryCount; i++) {
+            SQLQueryResult result = results[i];
+            if (result == null) {
+                continue;
+            }
+            if (result.getError() == null || errorHandling == SQLScriptErrorHandling.IGNORE) {
+                executed[i] = true;
+            } else if (failedQuery == queryCount) {
+                failedQuery = i;
+                lastError = result.getError();
+            }
+        }
+        return failedQuery;
+    }
+
+    private void reportParallelResult(@NotNull DBCSession session, @NotNull SQLQueryResult result) {
+        SQLQuery query = result.getStatement();
+        statistics.setQueryText(query.getText());
+        statistics.addStatementsCount();
+        statistics.addExecuteTime(result.getQueryTime());
+        for (SQLQueryResult.ExecuteResult executeResult : result.getExecuteResults()) {
+            if (executeResult.getUpdateCount() != null && executeResult.getUpdateCount() >= 0) {
+                statistics.addRowsUpdated(executeResult.getUpdateCount());
+            }
+        }
+        lastGoodQuery = query;
+        if (result.getError() != null) {
+            lastError = result.getError();
+        }
+        curResult = result;
+        if (listener != null) {
+            try {
+                listener.onStartQuery(session, query);
+            } catch (Exception e) {
+                log.error(e);
+            }
+            notifyQueryExecutionEnd(session, result);
+        }
+        session.getProgressMonitor().worked(1);
+    }
+
+    /**
+     * Executes queries of parallel script in its own isolated context
+     */
+    private class ParallelWorker implements Runnable {
+        private final DBCExecutionContext context;
+        private final WorkerMonitor monitor;
+        private final BlockingQueue<Integer> readyQueue;
+        private final BlockingQueue<SQLQueryResult> completedQueue;
+        private final Map<SQLQueryResult, Integer> resultIndexes;
+        private volatile boolean running = true;
+
+        ParallelWorker(
+            @NotNull DBCExecutionContext context,
+            @NotNull DBRProgressMonitor jobMonitor,
+            @NotNull BlockingQueue<Integer> readyQueue,
+            @NotNull BlockingQueue<SQLQueryResult> completedQueue,
+            @NotNull Map<SQLQueryResult, Integer> resultIndexes
+        ) {
+            this.context = context;
+            this.monitor = new WorkerMonitor(jobMonitor);
+            this.readyQueue = readyQueue;
+            this.completedQueue = completedQueue;
+            this.resultIndexes = resultIndexes;
+        }
+
+        void stop() {
+            running = false;
+        }
+
+        void cancelQuery() {
+            DBRBlockingObject block = monitor.activeBlock;
+            if (block != null) {
+                try {
+                    BlockCanceler.cancelBlock(monitor, block);
+                } catch (DBException e) {
+                    log.debug("Error canceling parallel query", e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Integer index;
+                try {
+                    index = readyQueue.poll(PARALLEL_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                if (index == null) {
+                    continue;
+                }
+                SQLQuery query = (SQLQuery) queries.get(index);
+                SQLQueryResult result = new SQLQueryResult(new SQLQuery(context.getDataSource(), query.getText(), query));
+                resultIndexes.put(result, index);
+                executeQuery(result);
+                completedQueue.add(result);
+            }
+        }
+
+        private void executeQuery(@NotNull SQLQueryResult result) {
+            SQLQuery query = result.getStatement();
+            long startTime = System.currentTimeMillis();
+            try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.USER_SCRIPT, "SQL Query")) {
+                AbstractExecutionSource source = new AbstractExecutionSource(dataContainer, context, partSite.getPart(), query);
+                source.setScriptContext(scriptContext);
+                try (DBCStatement dbcStatement = DBUtils.makeStatement(source, session, DBCStatementType.SCRIPT, query, 0, 0)) {
+                    int statementTimeout = getDataSourceContainer().getPreferenceStore().getInt(SQLPreferenceConstants.STATEMENT_TIMEOUT);
+                    if (statementTimeout > 0) {
+                        try {
+                            dbcStatement.setStatementTimeout(statementTimeout);
+                        } catch (Throwable e) {
+                            log.debug("Can't set statement timeout:" + e.getMessage());
+                        }
+                    }
+                    boolean hasResultSet = dbcStatement.executeStatement();
+                    result.setHasResultSet(hasResultSet);
+                    if (!hasResultSet) {
+                        long updateCount = dbcStatement.getUpdateRowCount();
+                        SQLQueryResult.ExecuteResult executeResult = result.addExecuteResult(false);
+                        if (updateCount >= 0) {
+                            executeResult.setUpdateCount(updateCount);
+                        }
+                    }
+                    try {
+                        result.addWarnings(dbcStatement.getStatementWarnings());
+                    } catch (Throwable e) {
+                        log.warn("Can't read execution warnings", e);
+                    }
+                }
+            } catch (Throwable e) {
+                if (!(e instanceof DBException)) {
+                    log.error("Unexpected error while processing SQL", e);
+                }
+                result.setError(e);
+            } finally {
+                result.setQueryTime(System.currentTimeMillis() - startTime);
+            }
+        }
+    }
+
+    /**
+     * Progress of workers isn't shown. Each worker keeps its own block, so it can be canceled separately.
+     */
+    private static class WorkerMonitor extends ProxyProgressMonitor {
+        private volatile DBRBlockingObject activeBlock;
+
+        WorkerMonitor(@NotNull DBRProgressMonitor original) {
+            super(original);
+        }
+
+        @Override
+        public void beginTask(@NotNull String name, int totalWork) {
+        }
+
+        @Override
+        public void done() {
+        }
+
+        @Override
+        public void subTask(@NotNull String name) {
+        }
+
+        @Override
+        public void worked(int work) {
+        }
+
+        @Override
+        public void startBlock(@NotNull DBRBlockingObject object, @Nullable String taskName) {
+            activeBlock = object;
+        }
+
+        @Override
+        public void endBlock() {
+            activeBlock = null;
+        }
+
+        @Nullable
+        @Override
+        public List<DBRBlockingObject> getActiveBlocks() {
+            DBRBlockingObject block = activeBlock;
+            return block == null ? null : List.of(block);
+        }
+    }
+
     private boolean isQueue() {
         boolean isIncludedScript = partSite.getPart() instanceof IEditorPart ep &&
             ep.getEditorInput() instanceof IncludedScriptFileEditorInput;
@@ -675,6 +1170,11 @@ public class SQLQueryJob extends DataSourceJob {
     }
 
     private void executeStatement(@NotNull DBCSession session, SQLQuery sqlQuery, long startTime, SQLQueryResult curResult) throws DBException {
+        SQLQueryResultCache resultCache = getResultCache(sqlQuery);
+        if (resultCache != null && !CommonUtils.isBitSet(fetchFlags, DBSDataContainer.FLAG_REFRESH)
+            && readCachedResults(session, sqlQuery, curResult, resultCache)) {
+            return;
+        }
         AbstractExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), partSite.getPart(), sqlQuery);
         source.setScriptContext(scriptContext);
         final DBCStatement dbcStatement = DBUtils.makeStatement(
@@ -751,7 +1251,11 @@ public class SQLQueryJob extends DataSourceJob {
                         } else {
                             DBDDataReceiver dataReceiver = resultsConsumer.getDataReceiver(sqlQuery, resultSetNumber);
                             if (dataReceiver != null) {
+                                DBCResultSet sourceResultSet = resultSet;
                                 try {
+                                    if (resultCache != null && resultSetCounter == 1) {
+                                        resultSet = cacheResults(session, sqlQuery, resultCache, resultSet);
+                                    }
                                     hasResultSet = fetchQueryData(session, resultSet, curResult, curResult.addExecuteResult(true), dataReceiver, true);
                                 } catch (DBCException e) {
                                     if (rowsFetched == 0) {
@@ -763,6 +1267,11 @@ public class SQLQueryJob extends DataSourceJob {
                                         statistics.setRowsFetched(rowsFetched);
                                         statistics.setError(e);
                                     }
+                                } finally {
+                                    if (resultSet != sourceResultSet) {
+                                        // Cached result set may read the rest of rows from the source result set
+                                        sourceResultSet.close();
+                                    }
                                 }
                             }
                         }
@@ -935,6 +1444,84 @@ public class SQLQueryJob extends DataSourceJob {
         }
     }
 
+    /**
+     * Returns result cache if results of the query may be cached.
+     * Only plain selects are cached, because other queries may modify data or return several result sets.
+     */
+    @Nullable
+    private SQLQueryResultCache getResultCache(@NotNull SQLQuery sqlQuery) {
+        if (!fetchResultSets
+            || keepStatementOpen()
+            || sqlQuery.getType() != SQLQueryType.SELECT
+            || !sqlQuery.isPlainSelect()
+            || !SQLQueryResultCache.isEnabled(getDataSourceContainer())
+        ) {
+            return null;
+        }
+        return SQLQueryResultCache.getInstance();
+    }
+
+    private boolean readCachedResults(
+        @NotNull DBCSession session,
+        @NotNull SQLQuery sqlQuery,
+        @NotNull SQLQueryResult curResult,
+        @NotNull SQLQueryResultCache resultCache
+    ) throws DBException {
+        if (fetchResultSetNumber >= 0 && fetchResultSetNumber != resultSetNumber) {
+            return false;
+        }
+        DBDDataReceiver dataReceiver = resultsConsumer.getDataReceiver(sqlQuery, resultSetNumber);
+        if (dataReceiver == null) {
+            return false;
+        }
+        DBCResultSet cachedResults = resultCache.getCachedResult(
+            session, sqlQuery.getText(), getParametersKey(sqlQuery), rsOffset, rsMaxRows);
+        if (cachedResults == null) {
+            return false;
+        }
+        statistics.addStatementsCount();
+        curResult.setHasResultSet(true);
+        fetchQueryData(session, cachedResults, curResult, curResult.addExecuteResult(true), dataReceiver, true);
+        resultSetNumber++;
+        fetchResultSetNumber = resultSetNumber;
+        return true;
+    }
+
+    /**
+     * Reads results into the cache. Returns result set which reads cached rows.
+     * The original result set must be closed after the returned one is read.
+     */
+    @NotNull
+    private DBCResultSet cacheResults(
+        @NotNull DBCSession session,
+        @NotNull SQLQuery sqlQuery,
+        @NotNull SQLQueryResultCache resultCache,
+        @NotNull DBCResultSet resultSet
+    ) throws DBCException {
+        DBCResultSet cachedResults;
+        try {
+            cachedResults = resultCache.cacheResult(
+                session, sqlQuery.getText(), getParametersKey(sqlQuery), rsOffset, rsMaxRows, resultSet);
+        } catch (DBCException e) {
+            resultSet.close();
+            throw e;
+        }
+        return cachedResults;
+    }
+
+    @Nullable
+    private static String getParametersKey(@NotNull SQLQuery sqlQuery) {
+        List<SQLQueryParameter> parameters = sqlQuery.getParameters();
+        if (CommonUtils.isEmpty(parameters)) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder();
+        for (SQLQueryParameter parameter : parameters) {
+            key.append(parameter.getName()).append('=').append(parameter.getValue()).append('\n');
+        }
+        return key.toString();
+    }
+
     private boolean fetchQueryData(
         @NotNull DBCSession session,
         @Nullable DBCResultSet resultSet,
@@ -265,6 +265,10 @@ public class SQLEditorMessages extends NLS {
 
     public static String pref_page_sql_editor_checkbox_fetch_resultsets;
     public static String pref_page_sql_editor_checkbox_fetch_resultsets_tip;
+    public static String pref_page_sql_editor_checkbox_parallel_execution;
+    public static String pref_page_sql_editor_checkbox_parallel_execution_tip;
+    public static String pref_page_sql_editor_label_parallel_max_contexts;
+    public static String pref_page_sql_editor_label_parallel_max_contexts_tip;
     public static String pref_page_sql_editor_text_statement_delimiter;
     public static String pref_page_sql_editor_checkbox_ignore_native_delimiter;
     public static String pref_page_sql_editor_checkbox_ignore_native_delimiter_tip;
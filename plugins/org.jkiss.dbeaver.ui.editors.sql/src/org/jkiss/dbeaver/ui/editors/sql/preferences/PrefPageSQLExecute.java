@@ -60,6 +60,8 @@ public class PrefPageSQLExecute extends TargetPrefPage {
     private Spinner commitNQueryText;
     private Combo errorHandlingCombo;
     private Button fetchResultSetsCheck;
+    private Button parallelExecutionCheck;
+    private Spinner parallelMaxContextsSpinner;
     private Button maxEditorCheck;
     private Combo showStatisticsCombo;
     private Button setSelectionToStatisticsTabCheck;
@@ -93,6 +95,8 @@ public class PrefPageSQLExecute extends TargetPrefPage {
                 store.contains(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING) ||
                 store.contains(SQLPreferenceConstants.SCRIPT_COMMIT_LINES) ||
                 store.contains(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS) ||
+                store.contains(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTION) ||
+                store.contains(SQLPreferenceConstants.SCRIPT_PARALLEL_MAX_CONTEXTS) ||
 
                 store.contains(ModelPreferences.SCRIPT_STATEMENT_DELIMITER) ||
                 store.contains(ModelPreferences.SCRIPT_IGNORE_NATIVE_DELIMITER) ||
@@ -242,6 +246,21 @@ public class PrefPageSQLExecute extends TargetPrefPage {
                 false,
                 2
             );
+            parallelExecutionCheck = UIUtils.createCheckbox(
+                scriptsGroup,
+                SQLEditorMessages.pref_page_sql_editor_checkbox_parallel_execution,
+                SQLEditorMessages.pref_page_sql_editor_checkbox_parallel_execution_tip,
+                false,
+                2
+            );
+            parallelMaxContextsSpinner = UIUtils.createLabelSpinner(
+                scriptsGroup,
+                SQLEditorMessages.pref_page_sql_editor_label_parallel_max_contexts,
+                SQLEditorMessages.pref_page_sql_editor_label_parallel_max_contexts_tip,
+                4,
+                2,
+                32
+            );
             maxEditorCheck = UIUtils.createCheckbox(
                 scriptsGroup,
                 SQLEditorMessages.pref_page_sql_editor_checkbox_max_editor_on_script_exec,
@@ -432,6 +451,8 @@ public class PrefPageSQLExecute extends TargetPrefPage {
                 CommonUtils.fromOrdinal(SQLScriptErrorHandling.class, errorHandlingCombo.getSelectionIndex()).name()
             );
             store.setValue(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS, fetchResultSetsCheck.getSelection());
+            store.setValue(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTION, parallelExecutionCheck.getSelection());
+            store.setValue(SQLPreferenceConstants.SCRIPT_PARALLEL_MAX_CONTEXTS, parallelMaxContextsSpinner.getSelection());
             store.setValue(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE, maxEditorCheck.getSelection());
             store.setValue(
                 SQLPreferenceConstants.SHOW_STATISTICS_ON_EXECUTION,
@@ -481,6 +502,8 @@ public class PrefPageSQLExecute extends TargetPrefPage {
         store.setToDefault(SQLPreferenceConstants.SCRIPT_ERROR_HANDLING);
         store.setToDefault(SQLPreferenceConstants.SCRIPT_COMMIT_LINES);
         store.setToDefault(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS);
+        store.setToDefault(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTION);
+        store.setToDefault(SQLPreferenceConstants.SCRIPT_PARALLEL_MAX_CONTEXTS);
 
         store.setToDefault(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE);
         store.setToDefault(SQLPreferenceConstants.SET_SELECTION_TO_STATISTICS_TAB);
@@ -566,6 +589,16 @@ public class PrefPageSQLExecute extends TargetPrefPage {
                 ? store.getDefaultBoolean(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS)
                 : store.getBoolean(SQLPreferenceConstants.SCRIPT_FETCH_RESULT_SETS)
         );
+        parallelExecutionCheck.setSelection(
+            useDefaults
+                ? store.getDefaultBoolean(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTION)
+                : store.getBoolean(SQLPreferenceConstants.SCRIPT_PARALLEL_EXECUTION)
+        );
+        parallelMaxContextsSpinner.setSelection(
+            useDefaults
+                ? store.getDefaultInt(SQLPreferenceConstants.SCRIPT_PARALLEL_MAX_CONTEXTS)
+                : store.getInt(SQLPreferenceConstants.SCRIPT_PARALLEL_MAX_CONTEXTS)
+        );
         maxEditorCheck.setSelection(
             useDefaults
                 ? store.getDefaultBoolean(SQLPreferenceConstants.MAXIMIZE_EDITOR_ON_SCRIPT_EXECUTE)
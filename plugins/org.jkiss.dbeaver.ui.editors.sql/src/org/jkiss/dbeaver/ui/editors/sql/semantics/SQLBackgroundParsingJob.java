@@ -33,6 +33,7 @@ import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.jfr.SQLParseEvent;
 import org.jkiss.dbeaver.model.runtime.RunnableWithResult;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.sql.parser.SQLParserContext;
@@ -82,12 +83,24 @@ public class SQLBackgroundParsingJob {
         @NotNull
         @Override
         protected IStatus run(@NotNull DBRProgressMonitor monitor) {
+            SQLParseEvent parseEvent = null;
+            if (SQLParseEvent.isEventEnabled()) {
+                parseEvent = new SQLParseEvent();
+                parseEvent.begin();
+            }
             try {
                 SQLBackgroundParsingJob.this.doWork(monitor);
                 return Status.OK_STATUS;
             } catch (BadLocationException e) {
                 log.debug(e);
                 return Status.CANCEL_STATUS;
+            } finally {
+                if (parseEvent != null) {
+                    IDocument parsedDocument = document;
+                    parseEvent.setDataSource(editor.getDataSource());
+                    parseEvent.bytes = parsedDocument == null ? 0 : parsedDocument.getLength();
+                    parseEvent.finish();
+                }
             }
         }
     };
@@ -0,0 +1,235 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.editors.sql.syntax;
+
+import org.eclipse.jface.text.*;
+import org.eclipse.jface.text.presentation.PresentationReconciler;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+
+/**
+ * Presentation reconciler which highlights only the visible part of big documents.
+ *
+ * Damaged regions outside of the viewport are stored as document positions, so the document shifts them on edits.
+ * They are highlighted when they are scrolled into view. Scanning always restarts at a line or partition start,
+ * so the cost of each keystroke depends on the viewport size, not on the document size.
+ */
+public class SQLViewportPresentationReconciler extends PresentationReconciler {
+
+    private static final Log log = Log.getLog(SQLViewportPresentationReconciler.class);
+
+    // Smaller documents are highlighted entirely
+    public static final int VIEWPORT_MODE_MIN_LENGTH = 512 * 1024;
+    // Lines highlighted above and below the visible area, so paging doesn't show plain text
+    public static final int VIEWPORT_MARGIN_LINES = 200;
+
+    private static final String DIRTY_CATEGORY = "__sql_dirty_presentation"; //$NON-NLS-1$
+
+    private final IPositionUpdater dirtyPositionUpdater = new DefaultPositionUpdater(DIRTY_CATEGORY);
+    private final ViewerListener viewerListener = new ViewerListener();
+    private ITextViewer viewer;
+
+    @Override
+    public void install(ITextViewer viewer) {
+        super.install(viewer);
+        this.viewer = viewer;
+        viewer.addViewportListener(viewerListener);
+        viewer.addTextInputListener(viewerListener);
+    }
+
+    @Override
+    public void uninstall() {
+        if (viewer != null) {
+            viewer.removeViewportListener(viewerListener);
+            viewer.removeTextInputListener(viewerListener);
+            detachDocument(viewer.getDocument());
+            viewer = null;
+        }
+        super.uninstall();
+    }
+
+    @Override
+    protected TextPresentation createPresentation(IRegion damage, IDocument document) {
+        if (viewer == null || document.getLength() < VIEWPORT_MODE_MIN_LENGTH) {
+            // Document became small, highlight everything which was skipped
+            int start = damage.getOffset();
+            int end = start + damage.getLength();
+            for (Position position : getDirtyPositions(document)) {
+                start = Math.min(start, position.getOffset());
+                end = Math.max(end, position.getOffset() + position.getLength());
+            }
+            detachDocument(document);
+            return super.createPresentation(new Region(start, Math.min(end, document.getLength()) - start), document);
+        }
+        attachDocument(document);
+        IRegion window = getViewportWindow(document);
+        int windowStart = window.getOffset();
+        int windowEnd = windowStart + window.getLength();
+        int damageStart = damage.getOffset();
+        int damageEnd = damageStart + damage.getLength();
+
+        int start = Integer.MAX_VALUE;
+        int end = -1;
+        if (damageStart < windowEnd && damageEnd > windowStart) {
+            start = Math.max(damageStart, windowStart);
+            end = Math.min(damageEnd, windowEnd);
+        }
+        // Repair dirty regions which became visible
+        for (Position position : getDirtyPositions(document)) {
+            int positionEnd = position.getOffset() + position.getLength();
+            if (positionEnd <= windowStart || position.getOffset() >= windowEnd) {
+                continue;
+            }
+            start = Math.min(start, Math.max(position.getOffset(), windowStart));
+            end = Math.max(end, Math.min(positionEnd, windowEnd));
+            removeDirtyPosition(document, position);
+            if (position.getOffset() < windowStart) {
+                addDirtyRegion(document, position.getOffset(), windowStart);
+            }
+            if (positionEnd > windowEnd) {
+                addDirtyRegion(document, windowEnd, positionEnd);
+            }
+        }
+        // Remember invisible parts of the damage
+        if (damageStart < windowStart) {
+            addDirtyRegion(document, damageStart, Math.min(damageEnd, windowStart));
+        }
+        if (damageEnd > windowEnd) {
+            addDirtyRegion(document, Math.max(damageStart, windowEnd), damageEnd);
+        }
+        if (start >= end) {
+            return null;
+        }
+        return super.createPresentation(new Region(start, end - start), document);
+    }
+
+    /**
+     * Returns the visible lines with margins
+     */
+    @NotNull
+    private IRegion getViewportWindow(@NotNull IDocument document) {
+        try {
+            int topIndex = Math.max(viewer.getTopIndex(), 0);
+            int bottomIndex = Math.max(viewer.getBottomIndex(), topIndex);
+            int lastLine = document.getNumberOfLines() - 1;
+            int startOffset = document.getLineOffset(Math.min(Math.max(topIndex - VIEWPORT_MARGIN_LINES, 0), lastLine));
+            int endLine = Math.min(bottomIndex + VIEWPORT_MARGIN_LINES, lastLine);
+            int endOffset = document.getLineOffset(endLine) + document.getLineLength(endLine);
+            return new Region(startOffset, endOffset - startOffset);
+        } catch (BadLocationException e) {
+            log.debug("Error computing viewport region", e);
+            return new Region(0, document.getLength());
+        }
+    }
+
+    @NotNull
+    private static Position[] getDirtyPositions(@NotNull IDocument document) {
+        try {
+            return document.getPositions(DIRTY_CATEGORY);
+        } catch (BadPositionCategoryException e) {
+            return new Position[0];
+        }
+    }
+
+    /**
+     * Adds dirty region. Overlapping and adjacent regions are merged, so there are only a few of them.
+     */
+    private static void addDirtyRegion(@NotNull IDocument document, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+        for (Position position : getDirtyPositions(document)) {
+            int positionEnd = position.getOffset() + position.getLength();
+            if (positionEnd >= start && position.getOffset() <= end) {
+                start = Math.min(start, position.getOffset());
+                end = Math.max(end, positionEnd);
+                removeDirtyPosition(document, position);
+            }
+        }
+        try {
+            document.addPosition(DIRTY_CATEGORY, new Position(start, end - start));
+        } catch (BadLocationException | BadPositionCategoryException e) {
+            log.debug("Error marking region as not highlighted", e);
+        }
+    }
+
+    private static void removeDirtyPosition(@NotNull IDocument document, @NotNull Position position) {
+        try {
+            document.removePosition(DIRTY_CATEGORY, position);
+        } catch (BadPositionCategoryException e) {
+            // Document was detached
+        }
+    }
+
+    private void attachDocument(@NotNull IDocument document) {
+        if (!document.containsPositionCategory(DIRTY_CATEGORY)) {
+            document.addPositionCategory(DIRTY_CATEGORY);
+            document.addPositionUpdater(dirtyPositionUpdater);
+        }
+    }
+
+    private void detachDocument(@Nullable IDocument document) {
+        if (document != null && document.containsPositionCategory(DIRTY_CATEGORY)) {
+            document.removePositionUpdater(dirtyPositionUpdater);
+            try {
+                document.removePositionCategory(DIRTY_CATEGORY);
+            } catch (BadPositionCategoryException e) {
+                // ignore
+            }
+        }
+    }
+
+    private class ViewerListener implements IViewportListener, ITextInputListener {
+
+        @Override
+        public void viewportChanged(int verticalOffset) {
+            IDocument document = viewer == null ? null : viewer.getDocument();
+            if (document == null || !(viewer instanceof ITextViewerExtension2 viewerExtension)) {
+                return;
+            }
+            Position[] dirtyPositions = getDirtyPositions(document);
+            if (dirtyPositions.length == 0) {
+                return;
+            }
+            IRegion window = getViewportWindow(document);
+            int windowEnd = window.getOffset() + window.getLength();
+            int start = Integer.MAX_VALUE;
+            int end = -1;
+            for (Position position : dirtyPositions) {
+                int positionEnd = position.getOffset() + position.getLength();
+                if (positionEnd > window.getOffset() && position.getOffset() < windowEnd) {
+                    start = Math.min(start, Math.max(position.getOffset(), window.getOffset()));
+                    end = Math.max(end, Math.min(positionEnd, windowEnd));
+                }
+            }
+            if (start < end) {
+                // Comes back as damage to createPresentation
+                viewerExtension.invalidateTextPresentation(start, end - start);
+            }
+        }
+
+        @Override
+        public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+            detachDocument(oldInput);
+        }
+
+        @Override
+        public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+        }
+    }
+}
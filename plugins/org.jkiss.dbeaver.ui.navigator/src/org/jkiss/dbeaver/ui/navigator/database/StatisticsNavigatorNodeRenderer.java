@@ -43,6 +43,7 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.LocalCacheProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSRowCountEstimator;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.ui.BaseThemeSettings;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
@@ -346,15 +347,17 @@ public class StatisticsNavigatorNodeRenderer extends DefaultNavigatorNodeRendere
                 if (object instanceof DBPObjectStatistics statistics && statistics.hasStatistics()) {
                     long statObjectSize = statistics.getStatObjectSize();
                     if (statObjectSize > 0) {
-                        String formattedSize;
-                        try {
-                            DBDDataFormatterProfile profile = object.getDataSource().getContainer().getDataFormatterProfile();
-                            DBDDataFormatter formatter = profile.createFormatter(DBDDataFormatter.TYPE_NAME_NUMBER, null);
-                            formattedSize = formatter.formatValue(statObjectSize);
-                        } catch (Exception e) {
-                            formattedSize = String.valueOf(statObjectSize);
+                        String tooltip = NLS.bind("Object size on disk: {0} bytes", formatNumber(object, statObjectSize));
+                        // Row count from the table statistics, no need to count rows
+                        if (object instanceof DBSRowCountEstimator estimator) {
+                            DBSRowCountEstimator.Estimate estimate = estimator.getCachedRowCountEstimate();
+                            if (estimate != null) {
+                                tooltip += "\n" + NLS.bind(
+                                    estimate.exact() ? "Rows: {0}" : "Estimated rows: {0}",
+                                    formatNumber(object, estimate.rowCount()));
+                            }
                         }
-                        return NLS.bind("Object size on disk: {0} bytes", formattedSize);
+                        return tooltip;
                     }
                 }
             }
@@ -370,6 +373,17 @@ public class StatisticsNavigatorNodeRenderer extends DefaultNavigatorNodeRendere
         return null;
     }
 
+    @NotNull
+    private static String formatNumber(@NotNull DBSObject object, long value) {
+        try {
+            DBDDataFormatterProfile profile = object.getDataSource().getContainer().getDataFormatterProfile();
+            DBDDataFormatter formatter = profile.createFormatter(DBDDataFormatter.TYPE_NAME_NUMBER, null);
+            return formatter.formatValue(value);
+        } catch (Exception e) {
+            return String.valueOf(value);
+        }
+    }
+
     @Override
     public void performAction(DBNNode node, Tree tree, Event event, boolean defaultAction) {
         if (DBWorkbench.getPlatform().getPreferenceStore().getBoolean(NavigatorPreferences.NAVIGATOR_SHOW_NODE_ACTIONS)) {
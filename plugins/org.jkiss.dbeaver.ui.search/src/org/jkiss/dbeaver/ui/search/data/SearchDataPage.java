@@ -61,6 +61,9 @@ public class SearchDataPage extends AbstractSearchPage {
     private static final String PROP_SEARCH_NUMBERS = "search.data.search-numbers"; //$NON-NLS-1$
     private static final String PROP_SEARCH_LOBS = "search.data.search-lobs"; //$NON-NLS-1$
     private static final String PROP_SEARCH_FOREIGN = "search.data.search-foreign"; //$NON-NLS-1$
+    private static final String PROP_MAX_OBJECTS = "search.data.max-objects"; //$NON-NLS-1$
+    private static final String PROP_PARALLELISM = "search.data.parallel-searches"; //$NON-NLS-1$
+    private static final String PROP_TABLE_TIMEOUT = "search.data.table-timeout"; //$NON-NLS-1$
     private static final String PROP_HISTORY = "search.data.history"; //$NON-NLS-1$
 
     private static final String PROP_SOURCES = "search.data.object-source"; //$NON-NLS-1$
@@ -215,6 +218,33 @@ public class SearchDataPage extends AbstractSearchPage {
             maxResultsSpinner.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING));
             maxResultsSpinner.addModifyListener(e -> params.maxResults = maxResultsSpinner.getSelection());
 
+            final Spinner maxObjectsSpinner = UIUtils.createLabelSpinner(
+                optionsGroup2,
+                UISearchMessages.dialog_data_search_spinner_max_objects,
+                UISearchMessages.dialog_data_search_spinner_max_objects_tip, params.maxObjects,
+                0,
+                Integer.MAX_VALUE);
+            maxObjectsSpinner.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING));
+            maxObjectsSpinner.addModifyListener(e -> params.maxObjects = maxObjectsSpinner.getSelection());
+
+            final Spinner parallelismSpinner = UIUtils.createLabelSpinner(
+                optionsGroup2,
+                UISearchMessages.dialog_data_search_spinner_parallel_searches,
+                UISearchMessages.dialog_data_search_spinner_parallel_searches_tip, params.parallelism,
+                1,
+                64);
+            parallelismSpinner.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING));
+            parallelismSpinner.addModifyListener(e -> params.parallelism = parallelismSpinner.getSelection());
+
+            final Spinner tableTimeoutSpinner = UIUtils.createLabelSpinner(
+                optionsGroup2,
+                UISearchMessages.dialog_data_search_spinner_table_timeout,
+                UISearchMessages.dialog_data_search_spinner_table_timeout_tip, params.tableTimeout,
+                0,
+                Integer.MAX_VALUE);
+            tableTimeoutSpinner.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING));
+            tableTimeoutSpinner.addModifyListener(e -> params.tableTimeout = tableTimeoutSpinner.getSelection());
+
             final Button caseCheckbox = UIUtils.createCheckbox(
                 optionsGroup2,
                 UISearchMessages.dialog_search_objects_case_sensitive,
@@ -320,6 +350,12 @@ public class SearchDataPage extends AbstractSearchPage {
         params.searchLOBs = store.getBoolean(PROP_SEARCH_LOBS);
         params.searchForeignObjects = store.getBoolean(PROP_SEARCH_FOREIGN);
         params.maxResults = store.getInt(PROP_SAMPLE_ROWS);
+        params.maxObjects = store.getInt(PROP_MAX_OBJECTS);
+        params.parallelism = store.getInt(PROP_PARALLELISM);
+        if (params.parallelism <= 0) {
+            params.parallelism = SearchDataParams.DEFAULT_PARALLELISM;
+        }
+        params.tableTimeout = store.getInt(PROP_TABLE_TIMEOUT);
         for (int i = 0; ; i++) {
             String history = store.getString(PROP_HISTORY + "." + i); //$NON-NLS-1$
             if (CommonUtils.isEmpty(history)) {
@@ -348,6 +384,9 @@ public class SearchDataPage extends AbstractSearchPage {
         store.setValue(PROP_SEARCH_NUMBERS, params.searchNumbers);
         store.setValue(PROP_SEARCH_LOBS, params.searchLOBs);
         store.setValue(PROP_SEARCH_FOREIGN, params.searchForeignObjects);
+        store.setValue(PROP_MAX_OBJECTS, params.maxObjects);
+        store.setValue(PROP_PARALLELISM, params.parallelism);
+        store.setValue(PROP_TABLE_TIMEOUT, params.tableTimeout);
         saveTreeState(store);
 
         {
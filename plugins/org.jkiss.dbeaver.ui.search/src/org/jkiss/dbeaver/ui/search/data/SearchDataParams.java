@@ -27,6 +27,8 @@ import java.util.List;
  */
 public class SearchDataParams {
 
+    public static final int DEFAULT_PARALLELISM = 4;
+
     List<DBSDataContainer> sources = new ArrayList<>();
     String searchString;
     boolean caseSensitive;
@@ -35,6 +37,9 @@ public class SearchDataParams {
     boolean searchLOBs;
     boolean searchForeignObjects;
     int maxResults;
+    int maxObjects; // Stop after this number of matching tables, 0 means no limit
+    int parallelism = DEFAULT_PARALLELISM;
+    int tableTimeout; // Seconds, 0 means no limit
     List<DBNNode> selectedNodes = new ArrayList<>();
 
     public SearchDataParams()
@@ -105,6 +110,30 @@ public class SearchDataParams {
         this.maxResults = maxResults;
     }
 
+    public int getMaxObjects() {
+        return maxObjects;
+    }
+
+    public void setMaxObjects(int maxObjects) {
+        this.maxObjects = maxObjects;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getTableTimeout() {
+        return tableTimeout;
+    }
+
+    public void setTableTimeout(int tableTimeout) {
+        this.tableTimeout = tableTimeout;
+    }
+
     public List<DBNNode> getSelectedNodes() {
         return selectedNodes;
     }
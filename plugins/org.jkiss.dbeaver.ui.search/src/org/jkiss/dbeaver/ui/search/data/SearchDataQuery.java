@@ -36,12 +36,14 @@ import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.DBNModel;
+import org.jkiss.dbeaver.model.runtime.DBRBlockingObject;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DefaultProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.controls.resultset.IResultSetController;
@@ -50,11 +52,14 @@ import org.jkiss.dbeaver.ui.editors.data.DatabaseDataEditor;
 import org.jkiss.dbeaver.ui.editors.entity.EntityEditor;
 import org.jkiss.dbeaver.ui.search.AbstractSearchResult;
 import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SearchDataQuery implements ISearchQuery {
 
@@ -114,14 +119,22 @@ public class SearchDataQuery implements ISearchQuery {
                 "Search \"" + searchString + "\" in " + params.sources.size() + " table(s) / " + dataSources.size() + " database(s)",
                 params.sources.size());
             try {
+                // Prepare search filters. Tables without searchable columns are skipped here.
+                List<SearchTableTask> tasks = new ArrayList<>();
                 for (DBSDataContainer dataContainer : params.sources) {
                     if (monitor.isCanceled()) {
                         break;
                     }
-                    if (searchDataInContainer(monitor, dbnModel, dataContainer)) {
-                        totalObjects++;
+                    SearchTableTask task = prepareSearchTask(monitor, dbnModel, dataContainer);
+                    if (task == null) {
+                        monitor.worked(1);
+                    } else {
+                        tasks.add(task);
                     }
-                    monitor.worked(1);
+                }
+                if (!monitor.isCanceled() && !tasks.isEmpty()) {
+                    tasks.sort(SearchTableTask.SEARCH_ORDER);
+                    totalObjects = runSearchTasks(monitor, tasks);
                 }
             } finally {
                 monitor.done();
@@ -135,22 +148,116 @@ public class SearchDataQuery implements ISearchQuery {
         }
     }
 
-    private boolean searchDataInContainer(DBRProgressMonitor monitor, DBNModel dbnModel, DBSDataContainer dataContainer) {
+    @Nullable
+    private SearchTableTask prepareSearchTask(DBRProgressMonitor monitor, DBNModel dbnModel, DBSDataContainer dataContainer) {
         if (!params.searchForeignObjects && dataContainer instanceof DBPForeignObject && ((DBPForeignObject) dataContainer).isForeignObject()) {
-            return false;
+            return null;
         }
 
         String objectName = DBUtils.getObjectFullName(dataContainer, DBPEvaluationContext.DML);
         DBNDatabaseNode node = dbnModel.getNodeByObject(monitor, dataContainer, false);
         if (node == null) {
             log.warn("Can't find tree node for object \"" + objectName + "\"");
-            return false;
+            return null;
+        }
+        monitor.subTask("Prepare search in '" + objectName + "'");
+        SearchTableTask task = new SearchTableTask(dataContainer, node, objectName);
+        try {
+            if (!makeSearchFilter(monitor, task)) {
+                return null;
+            }
+        } catch (DBException e) {
+            log.debug("Can't prepare search in '" + dataContainer.getName() + "'", e);
+            return null;
+        }
+        return task;
+    }
+
+    /**
+     * Runs table searches in parallel. Each worker uses its own isolated execution context per database instance.
+     * The calling thread watches for cancel, per-table timeouts and found tables limit.
+     */
+    private int runSearchTasks(@NotNull DBRProgressMonitor monitor, @NotNull List<SearchTableTask> tasks) {
+        int workerCount = Math.max(1, Math.min(params.parallelism, tasks.size()));
+        Queue<SearchTableTask> taskQueue = new ConcurrentLinkedQueue<>(tasks);
+        Set<SearchTableTask> activeTasks = ConcurrentHashMap.newKeySet();
+        AtomicInteger foundObjects = new AtomicInteger();
+        boolean useIsolatedContexts = workerCount > 1;
+
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "Data search worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(executor.submit(() -> {
+                    Map<DBSInstance, DBCExecutionContext> contexts = new HashMap<>();
+                    try {
+                        for (SearchTableTask task = taskQueue.poll(); task != null; task = taskQueue.poll()) {
+                            task.searchMonitor = new SearchTableMonitor(monitor);
+                            task.startTime = System.currentTimeMillis();
+                            activeTasks.add(task);
+                            try {
+                                if (searchDataInContainer(task, useIsolatedContexts ? contexts : null)) {
+                                    foundObjects.incrementAndGet();
+                                }
+                            } finally {
+                                activeTasks.remove(task);
+                                synchronized (monitor) {
+                                    monitor.worked(1);
+                                }
+                            }
+                        }
+                    } finally {
+                        for (DBCExecutionContext context : contexts.values()) {
+                            context.close();
+                        }
+                    }
+                }));
+            }
+
+            long timeoutMs = params.tableTimeout * 1000L;
+            while (!workers.stream().allMatch(Future::isDone)) {
+                boolean stopSearch = monitor.isCanceled() || (params.maxObjects > 0 && foundObjects.get() >= params.maxObjects);
+                if (stopSearch) {
+                    taskQueue.clear();
+                }
+                long currentTime = System.currentTimeMillis();
+                for (SearchTableTask task : activeTasks) {
+                    if (stopSearch) {
+                        task.searchMonitor.cancel();
+                    } else if (timeoutMs > 0 && currentTime - task.startTime > timeoutMs && !task.searchMonitor.canceled) {
+                        log.debug("Search in '" + task.objectName + "' timed out");
+                        task.searchMonitor.cancel();
+                    }
+                }
+                RuntimeUtils.pause(100);
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    log.error("Data search worker failed", e.getCause());
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
         }
-        monitor.subTask("Search in '" + objectName + "'");
-        log.debug("Search in '" + objectName + "'");
-        SearchTableMonitor searchMonitor = new SearchTableMonitor(monitor);
-        try (DBCSession session = DBUtils.openUtilSession(searchMonitor, dataContainer, "Search rows in " + objectName)) {
+        return foundObjects.get();
+    }
+
+    private boolean searchDataInContainer(@NotNull SearchTableTask task, @Nullable Map<DBSInstance, DBCExecutionContext> contexts) {
+        DBSDataContainer dataContainer = task.dataContainer;
+        SearchTableMonitor searchMonitor = task.searchMonitor;
+        searchMonitor.baseMonitor.subTask("Search in '" + task.objectName + "'");
+        log.debug("Search in '" + task.objectName + "'");
+        try (DBCSession session = openSearchSession(searchMonitor, dataContainer, contexts, "Search rows in " + task.objectName)) {
             TestDataReceiver dataReceiver = new TestDataReceiver(searchMonitor);
+            dataReceiver.filter = task.filter;
             try {
                 findRows(session, dataContainer, dataReceiver);
             } catch (DBCException e) {
@@ -160,145 +267,177 @@ public class SearchDataQuery implements ISearchQuery {
             }
 
             if (dataReceiver.rowCount > 0) {
-                SearchDataObject object = new SearchDataObject(node, dataReceiver.rowCount, dataReceiver.filter);
-                searchResult.addObjects(Collections.singletonList(object));
+                SearchDataObject object = new SearchDataObject(task.node, dataReceiver.rowCount, dataReceiver.filter);
+                synchronized (searchResult) {
+                    searchResult.addObjects(Collections.singletonList(object));
+                }
                 return true;
             }
-        } catch (DBCException e) {
+        } catch (DBException e) {
             log.error("Error searching data in container", e);
         }
         return false;
     }
 
+    @NotNull
+    private DBCSession openSearchSession(
+        @NotNull SearchTableMonitor monitor,
+        @NotNull DBSDataContainer dataContainer,
+        @Nullable Map<DBSInstance, DBCExecutionContext> contexts,
+        @NotNull String task
+    ) throws DBException {
+        DBPDataSource dataSource = dataContainer.getDataSource();
+        if (contexts != null && dataSource != null && !dataSource.getContainer().getDriver().isEmbedded()) {
+            DBSInstance instance = DBUtils.getObjectOwnerInstance(dataContainer);
+            DBCExecutionContext context = contexts.get(instance);
+            if (context == null) {
+                context = instance.openIsolatedContext(monitor, "Data search", null);
+                contexts.put(instance, context);
+            }
+            return context.openSession(monitor, DBCExecutionPurpose.UTIL, task);
+        }
+        return DBUtils.openUtilSession(monitor, dataContainer, task);
+    }
+
     private DBCStatistics findRows(
         @NotNull DBCSession session,
         @NotNull DBSDataContainer dataContainer,
         @NotNull TestDataReceiver dataReceiver) throws DBCException
     {
+        try {
+            DBCExecutionSource searchSource = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), this);
+            return dataContainer.readData(searchSource, session, dataReceiver, dataReceiver.filter, -1, -1, 0, 0);
+        } catch (DBException e) {
+            throw new DBCException("Error finding rows", e);
+        }
+    }
+
+    /**
+     * Makes search filter over all searchable attributes of the table.
+     * Returns false if table has no attributes suitable for the search value.
+     */
+    private boolean makeSearchFilter(@NotNull DBRProgressMonitor monitor, @NotNull SearchTableTask task) throws DBException {
         DBSEntity entity;
-        if (dataContainer instanceof DBSEntity) {
-            entity = (DBSEntity) dataContainer;
+        if (task.dataContainer instanceof DBSEntity) {
+            entity = (DBSEntity) task.dataContainer;
         } else {
-            log.warn("Data container " + dataContainer + " isn't entity");
-            return null;
+            log.warn("Data container " + task.dataContainer + " isn't entity");
+            return false;
         }
-        try {
 
-            List<DBDAttributeConstraint> constraints = new ArrayList<>();
-            DBDDataFilter dataFilter = searchDataFilterForContainer(dataContainer, session.getProgressMonitor());
-            for (DBSEntityAttribute attribute : CommonUtils.safeCollection(entity.getAttributes(session.getProgressMonitor()))) {
-                if (params.fastSearch) {
-                    if (DBUtils.findAttributeIndex(session.getProgressMonitor(), attribute) == null) {
-                        continue;
-                    }
-                }
-                if (DBUtils.isPseudoAttribute(attribute) || DBUtils.isHiddenObject(attribute)) {
+        List<DBDAttributeConstraint> constraints = new ArrayList<>();
+        DBDDataFilter dataFilter = searchDataFilterForContainer(task.dataContainer, monitor);
+        for (DBSEntityAttribute attribute : CommonUtils.safeCollection(entity.getAttributes(monitor))) {
+            if (params.fastSearch) {
+                if (DBUtils.findAttributeIndex(monitor, attribute) == null) {
                     continue;
                 }
-                DBCLogicalOperator[] supportedOperators = DBUtils.getAttributeOperators(attribute);
-                DBCLogicalOperator operator;
-                Object value;
-                switch (attribute.getDataKind()) {
-                    case BOOLEAN:
+            }
+            if (DBUtils.isPseudoAttribute(attribute) || DBUtils.isHiddenObject(attribute)) {
+                continue;
+            }
+            DBCLogicalOperator[] supportedOperators = DBUtils.getAttributeOperators(attribute);
+            DBCLogicalOperator operator;
+            Object value;
+            switch (attribute.getDataKind()) {
+                case BOOLEAN:
+                    continue;
+                case NUMERIC:
+                    if (!params.searchNumbers) {
                         continue;
-                    case NUMERIC:
-                        if (!params.searchNumbers) {
-                            continue;
-                        }
-                        if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
-                            continue;
-                        }
-                        operator = DBCLogicalOperator.EQUALS;
+                    }
+                    if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
+                        continue;
+                    }
+                    operator = DBCLogicalOperator.EQUALS;
+                    try {
+                        value = Integer.valueOf(params.searchString);
+                    } catch (NumberFormatException e) {
                         try {
-                            value = Integer.valueOf(params.searchString);
-                        } catch (NumberFormatException e) {
+                            value = Long.valueOf(params.searchString);
+                        } catch (NumberFormatException e1) {
                             try {
-                                value = Long.valueOf(params.searchString);
-                            } catch (NumberFormatException e1) {
+                                value = Double.valueOf(params.searchString);
+                            } catch (NumberFormatException e2) {
                                 try {
-                                    value = Double.valueOf(params.searchString);
-                                } catch (NumberFormatException e2) {
-                                    try {
-                                        value = new BigDecimal(params.searchString);
-                                    } catch (Exception e3) {
-                                        // Not a number
-                                        continue;
-                                    }
+                                    value = new BigDecimal(params.searchString);
+                                } catch (Exception e3) {
+                                    // Not a number
+                                    continue;
                                 }
                             }
                         }
-                        break;
-                    case CONTENT:
-                    case BINARY:
-                        if (!params.searchLOBs) {
-                            continue;
-                        }
-                    case STRING:
-                        // Do not check value length. Some columns may be compressed/compacted/have special data type and thus have length < than value length.
-//                        if (attribute.getMaxLength() > 0 && attribute.getMaxLength() < params.searchString.length()) {
-//                            continue;
-//                        }
-
-                        if (!params.isCaseSensitive() && ArrayUtils.contains(supportedOperators, DBCLogicalOperator.ILIKE)) {
-                            operator = DBCLogicalOperator.ILIKE;
-                            value = "%" + params.searchString + "%";
-                        } else if (ArrayUtils.contains(supportedOperators, DBCLogicalOperator.LIKE)) {
-                            operator = DBCLogicalOperator.LIKE;
-                            value = "%" + params.searchString + "%";
-                        } else if (ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
+                    }
+                    task.typedMatches++;
+                    break;
+                case CONTENT:
+                case BINARY:
+                    if (!params.searchLOBs) {
+                        continue;
+                    }
+                case STRING:
+                    // Do not check value length. Some columns may be compressed/compacted/have special data type and thus have length < than value length.
+//                    if (attribute.getMaxLength() > 0 && attribute.getMaxLength() < params.searchString.length()) {
+//                        continue;
+//                    }
+
+                    if (!params.isCaseSensitive() && ArrayUtils.contains(supportedOperators, DBCLogicalOperator.ILIKE)) {
+                        operator = DBCLogicalOperator.ILIKE;
+                        value = "%" + params.searchString + "%";
+                    } else if (ArrayUtils.contains(supportedOperators, DBCLogicalOperator.LIKE)) {
+                        operator = DBCLogicalOperator.LIKE;
+                        value = "%" + params.searchString + "%";
+                    } else if (ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
+                        operator = DBCLogicalOperator.EQUALS;
+                        value = params.searchString;
+                    } else {
+                        continue;
+                    }
+                    break;
+                default: {
+                    // Try to convert string to attribute type
+                    // On success search by exact match
+                    if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
+                        continue;
+                    }
+                    String typeName = attribute.getTypeName();
+                    if (typeName.equals(DBConstants.TYPE_NAME_UUID) || typeName.equals(DBConstants.TYPE_NAME_UUID2)) {
+                        try {
+                            UUID uuid = UUID.fromString(params.searchString);
                             operator = DBCLogicalOperator.EQUALS;
-                            value = params.searchString;
-                        } else {
-                            continue;
-                        }
-                        break;
-                    default: {
-                        // Try to convert string to attribute type
-                        // On success search by exact match
-                        if (!ArrayUtils.contains(supportedOperators, DBCLogicalOperator.EQUALS)) {
-                            continue;
-                        }
-                        String typeName = attribute.getTypeName();
-                        if (typeName.equals(DBConstants.TYPE_NAME_UUID) || typeName.equals(DBConstants.TYPE_NAME_UUID2)) {
-                            try {
-                                UUID uuid = UUID.fromString(params.searchString);
-                                operator = DBCLogicalOperator.EQUALS;
-                                value = uuid.toString();
-                            } catch (Exception e) {
-                                // No a UUID
-                                continue;
-                            }
-                        } else {
+                            value = uuid.toString();
+                        } catch (Exception e) {
+                            // No a UUID
                             continue;
                         }
+                        task.typedMatches++;
+                    } else {
+                        continue;
                     }
                 }
-                DBDAttributeConstraint constraint = null;
-                if (dataFilter != null) {
-                    constraint = dataFilter.getConstraint(attribute, true);
-                }
-                if (constraint == null) {
-                    constraint = new DBDAttributeConstraint(attribute, constraints.size());
-                    constraint.setVisible(true);
-                }
-                constraint.setOperator(operator);
-                constraint.setValue(value);
-                constraints.add(constraint);
-            }
-            if (constraints.isEmpty()) {
-                return null;
             }
+            DBDAttributeConstraint constraint = null;
             if (dataFilter != null) {
-                dataReceiver.filter = dataFilter;
-            } else {
-                dataReceiver.filter = new DBDDataFilter(constraints);
+                constraint = dataFilter.getConstraint(attribute, true);
             }
-            dataReceiver.filter.setAnyConstraint(true);
-            DBCExecutionSource searchSource = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), this);
-            return dataContainer.readData(searchSource, session, dataReceiver, dataReceiver.filter, -1, -1, 0, 0);
-        } catch (DBException e) {
-            throw new DBCException("Error finding rows", e);
+            if (constraint == null) {
+                constraint = new DBDAttributeConstraint(attribute, constraints.size());
+                constraint.setVisible(true);
+            }
+            constraint.setOperator(operator);
+            constraint.setValue(value);
+            constraints.add(constraint);
+        }
+        if (constraints.isEmpty()) {
+            return false;
+        }
+        if (dataFilter != null) {
+            task.filter = dataFilter;
+        } else {
+            task.filter = new DBDDataFilter(constraints);
         }
+        task.filter.setAnyConstraint(true);
+        return true;
     }
 
     static SearchDataQuery createQuery(SearchDataParams params) throws DBException {
@@ -331,9 +470,34 @@ public class SearchDataQuery implements ISearchQuery {
         return dataFilter;
     }
 
-    private class SearchTableMonitor extends VoidProgressMonitor {
+    private static class SearchTableTask {
+        // Tables with exact (typed) column matches first, then smaller tables first
+        static final Comparator<SearchTableTask> SEARCH_ORDER = Comparator
+            .comparingInt((SearchTableTask task) -> -task.typedMatches)
+            .thenComparingLong(task -> task.tableSize < 0 ? Long.MAX_VALUE : task.tableSize);
 
-        private DBRProgressMonitor baseMonitor;
+        private final DBSDataContainer dataContainer;
+        private final DBNDatabaseNode node;
+        private final String objectName;
+        private final long tableSize;
+        private DBDDataFilter filter;
+        private int typedMatches;
+        private volatile SearchTableMonitor searchMonitor;
+        private volatile long startTime;
+
+        SearchTableTask(DBSDataContainer dataContainer, DBNDatabaseNode node, String objectName) {
+            this.dataContainer = dataContainer;
+            this.node = node;
+            this.objectName = objectName;
+            this.tableSize = dataContainer instanceof DBPObjectStatistics statistics && statistics.hasStatistics() ?
+                statistics.getStatObjectSize() : -1;
+        }
+    }
+
+    private static class SearchTableMonitor extends VoidProgressMonitor {
+
+        private final DBRProgressMonitor baseMonitor;
+        private final List<DBRBlockingObject> activeBlocks = new ArrayList<>();
         private volatile boolean canceled;
 
         private SearchTableMonitor(DBRProgressMonitor monitor) {
@@ -344,6 +508,42 @@ public class SearchDataQuery implements ISearchQuery {
         public boolean isCanceled() {
             return canceled || baseMonitor.isCanceled();
         }
+
+        @Override
+        public synchronized void startBlock(@NotNull DBRBlockingObject object, @Nullable String taskName) {
+            activeBlocks.add(object);
+        }
+
+        @Override
+        public synchronized void endBlock() {
+            if (!activeBlocks.isEmpty()) {
+                activeBlocks.remove(activeBlocks.size() - 1);
+            }
+        }
+
+        @Nullable
+        @Override
+        public synchronized List<DBRBlockingObject> getActiveBlocks() {
+            return new ArrayList<>(activeBlocks);
+        }
+
+        /**
+         * Stops the search and cancels currently executed statement
+         */
+        void cancel() {
+            canceled = true;
+            List<DBRBlockingObject> blocks;
+            synchronized (this) {
+                blocks = new ArrayList<>(activeBlocks);
+            }
+            for (DBRBlockingObject block : blocks) {
+                try {
+                    block.cancelBlock(this, null);
+                } catch (Exception e) {
+                    log.debug("Can't cancel search statement", e);
+                }
+            }
+        }
     }
 
     private class TestDataReceiver implements DBDDataReceiver {
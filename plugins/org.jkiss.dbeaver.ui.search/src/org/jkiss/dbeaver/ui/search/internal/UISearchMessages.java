@@ -47,6 +47,12 @@ public class UISearchMessages extends NLS {
     public static String dialog_data_search_control_group_settings;
     public static String dialog_data_search_spinner_max_results;
     public static String dialog_data_search_spinner_max_results_tip;
+    public static String dialog_data_search_spinner_max_objects;
+    public static String dialog_data_search_spinner_max_objects_tip;
+    public static String dialog_data_search_spinner_parallel_searches;
+    public static String dialog_data_search_spinner_parallel_searches_tip;
+    public static String dialog_data_search_spinner_table_timeout;
+    public static String dialog_data_search_spinner_table_timeout_tip;
     public static String dialog_data_search_checkbox_case_sensitive_tip;
     public static String dialog_data_search_checkbox_fast_search;
     public static String dialog_data_search_checkbox_fast_search_tip;
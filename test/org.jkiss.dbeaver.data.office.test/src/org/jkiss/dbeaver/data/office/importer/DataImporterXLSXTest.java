@@ -0,0 +1,189 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.data.office.importer;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.tools.transfer.IDataTransferConsumer;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataImporterSite;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamDataImporterColumnInfo;
+import org.jkiss.dbeaver.tools.transfer.stream.StreamEntityMapping;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Answers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DataImporterXLSXTest extends DBeaverUnitTest {
+
+    private static final String[][] ORDERS = {{"id", "amount"}, {"1", "10.5"}, {"2", "20"}};
+    private static final String[][] CUSTOMERS = {{"name", "city"}, {"Alice", "Paris"}, {"Bob", "Rome"}, {"Carol", "Oslo"}};
+    private static final String[][] NOTES = {{"text"}, {"first"}};
+
+    private Path workbookFile;
+
+    @Before
+    public void createWorkbook() throws IOException {
+        workbookFile = Files.createTempFile("dbeaver-import-test", ".xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(workbookFile)) {
+            addSheet(workbook, "Orders", ORDERS);
+            addSheet(workbook, "Customers", CUSTOMERS);
+            addSheet(workbook, "Notes", NOTES);
+            workbook.write(out);
+        }
+    }
+
+    @After
+    public void deleteWorkbook() throws IOException {
+        Files.deleteIfExists(workbookFile);
+    }
+
+    @Test
+    public void readsAllSheetsWithoutInit() throws Exception {
+        // Entities are extracted before the importer is initialized with a site
+        List<StreamEntityMapping> entities = readEntities(Map.of());
+        Assert.assertEquals(List.of("Orders", "Customers", "Notes"), getNames(entities));
+        for (StreamEntityMapping entity : entities) {
+            Assert.assertTrue(entity.isChild());
+        }
+    }
+
+    @Test
+    public void readsSelectedSheets() throws Exception {
+        List<StreamEntityMapping> entities = readEntities(Map.of("sheets", "Notes, Customers"));
+        Assert.assertEquals(List.of("Customers", "Notes"), getNames(entities));
+    }
+
+    @Test
+    public void importsEachSheet() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("header", "top");
+        List<StreamEntityMapping> entities = readEntities(properties);
+        Map<String, String[][]> expectedSheets = Map.of("Orders", ORDERS, "Customers", CUSTOMERS, "Notes", NOTES);
+
+        for (StreamEntityMapping entity : entities) {
+            String[][] expected = expectedSheets.get(entity.getEntityName());
+            DataImporterXLSX importer = createImporter(entity, properties);
+
+            List<StreamDataImporterColumnInfo> columns;
+            try (InputStream is = Files.newInputStream(workbookFile)) {
+                columns = importer.readColumnsInfo(entity, is);
+            }
+            Assert.assertEquals(Arrays.asList(expected[0]), columns.stream().map(StreamDataImporterColumnInfo::getName).toList());
+            entity.getStreamColumns().addAll(columns);
+
+            List<String[]> rows = importRows(importer, entity, columns.size());
+            Assert.assertEquals(expected.length - 1, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Assert.assertArrayEquals(expected[i + 1], rows.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void defaultMinimalLengthMatchesDescriptor() throws Exception {
+        StreamEntityMapping entity = readEntities(Map.of()).getFirst();
+        DataImporterXLSX importer = createImporter(entity, Map.of());
+        try (InputStream is = Files.newInputStream(workbookFile)) {
+            for (StreamDataImporterColumnInfo column : importer.readColumnsInfo(entity, is)) {
+                Assert.assertTrue(column.getMaxLength() >= 50);
+            }
+        }
+    }
+
+    @NotNull
+    private List<StreamEntityMapping> readEntities(@NotNull Map<String, Object> properties) throws IOException, DBException {
+        try (InputStream is = Files.newInputStream(workbookFile)) {
+            return new DataImporterXLSX().readEntitiesInfo(new StreamEntityMapping(workbookFile), is, properties);
+        }
+    }
+
+    @NotNull
+    private static DataImporterXLSX createImporter(
+        @NotNull StreamEntityMapping entity,
+        @NotNull Map<String, Object> properties
+    ) throws DBException {
+        IStreamDataImporterSite site = mock(IStreamDataImporterSite.class, Answers.RETURNS_DEEP_STUBS);
+        when(site.getSourceObject()).thenReturn(entity);
+        when(site.getProcessorProperties()).thenReturn(properties);
+        when(site.getSettings().getMaxRows()).thenReturn(0);
+        DataImporterXLSX importer = new DataImporterXLSX();
+        importer.init(site);
+        return importer;
+    }
+
+    @NotNull
+    private List<String[]> importRows(
+        @NotNull DataImporterXLSX importer,
+        @NotNull StreamEntityMapping entity,
+        int columnCount
+    ) throws Exception {
+        List<String[]> rows = new ArrayList<>();
+        IDataTransferConsumer<?, ?> consumer = mock(IDataTransferConsumer.class);
+        doAnswer(invocation -> {
+            DBCResultSet resultSet = invocation.getArgument(1);
+            String[] row = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = (String) resultSet.getAttributeValue(i);
+            }
+            rows.add(row);
+            return null;
+        }).when(consumer).fetchRow(any(DBCSession.class), any(DBCResultSet.class));
+        try (InputStream is = Files.newInputStream(workbookFile)) {
+            importer.runImport(new VoidProgressMonitor(), entity.getDataSource(), is, consumer);
+        }
+        return rows;
+    }
+
+    @NotNull
+    private static List<String> getNames(@NotNull List<StreamEntityMapping> entities) {
+        return entities.stream().map(StreamEntityMapping::getEntityName).toList();
+    }
+
+    private static void addSheet(@NotNull XSSFWorkbook workbook, @NotNull String name, @NotNull String[][] rows) {
+        Sheet sheet = workbook.createSheet(name);
+        for (int i = 0; i < rows.length; i++) {
+            Row row = sheet.createRow(i);
+            for (int k = 0; k < rows[i].length; k++) {
+                row.createCell(k).setCellValue(rows[i][k]);
+            }
+        }
+    }
+}
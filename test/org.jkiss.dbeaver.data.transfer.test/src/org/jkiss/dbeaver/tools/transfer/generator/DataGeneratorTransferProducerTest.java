@@ -0,0 +1,151 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.transfer.generator;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DataGeneratorTransferProducerTest extends DBeaverUnitTest {
+
+    private static final long ROW_COUNT = 5500;
+    private static final long SEED = 42;
+
+    @Test
+    public void sameSeedGeneratesSameRowsWithAnyThreadCount() throws DBException {
+        List<Object[]> singleThreadRows = generate(1, SEED);
+        Assert.assertEquals(ROW_COUNT, singleThreadRows.size());
+        for (int threadCount : new int[]{2, 4, 7}) {
+            List<Object[]> rows = generate(threadCount, SEED);
+            Assert.assertEquals(singleThreadRows.size(), rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Assert.assertArrayEquals("Row " + i + " generated by " + threadCount + " threads", singleThreadRows.get(i), rows.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void differentSeedGeneratesDifferentRows() throws DBException {
+        List<Object[]> rows1 = generate(2, SEED);
+        List<Object[]> rows2 = generate(2, SEED + 1);
+        boolean different = false;
+        for (int i = 0; i < rows1.size() && !different; i++) {
+            different = !Arrays.equals(rows1.get(i), rows2.get(i));
+        }
+        Assert.assertTrue(different);
+    }
+
+    @Test
+    public void integerValuesFitColumnType() {
+        IDataGenerator intGenerator = DataGeneratorType.NUMBER.createGenerator(
+            makeColumn(0, "amount", DBPDataKind.NUMERIC, "INT", 0, 10, 0, false), 1);
+        IDataGenerator smallintGenerator = DataGeneratorType.NUMBER.createGenerator(
+            makeColumn(0, "amount", DBPDataKind.NUMERIC, "smallint", 0, 5, 0, false), 1);
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < 10000; i++) {
+            long intValue = ((Number) intGenerator.generateValue(i, random)).longValue();
+            Assert.assertTrue(intValue >= 0 && intValue <= Integer.MAX_VALUE);
+            long smallintValue = ((Number) smallintGenerator.generateValue(i, random)).longValue();
+            Assert.assertTrue(smallintValue >= 0 && smallintValue <= Short.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void textSequenceFitsColumnLength() {
+        GeneratorColumn column = makeColumn(0, "code", DBPDataKind.STRING, "varchar", 3, 0, 0, true);
+        Assert.assertEquals(999, DataGeneratorType.getSequenceCapacity(column, 1));
+        Assert.assertEquals(5, DataGeneratorType.getSequenceCapacity(column, 995));
+        Assert.assertEquals(0, DataGeneratorType.getSequenceCapacity(column, 2000));
+        Assert.assertEquals(Long.MAX_VALUE, DataGeneratorType.getSequenceCapacity(
+            makeColumn(0, "id", DBPDataKind.NUMERIC, "int", 0, 10, 0, true), 1));
+
+        IDataGenerator generator = DataGeneratorType.SEQUENCE.createGenerator(column, 995);
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < DataGeneratorType.getSequenceCapacity(column, 995); i++) {
+            Assert.assertTrue(((String) generator.generateValue(i, random)).length() <= 3);
+        }
+    }
+
+    @Test
+    public void keyValuesMatchWithDifferentTypes() {
+        Assert.assertEquals(
+            GeneratorReference.makeKeyValues(new Object[]{1, "a"}),
+            GeneratorReference.makeKeyValues(new Object[]{1L, "a"}));
+        Assert.assertEquals(
+            GeneratorReference.makeKeyValues(new Object[]{new BigDecimal("10.0")}),
+            GeneratorReference.makeKeyValues(new Object[]{10}));
+        Assert.assertNotEquals(
+            GeneratorReference.makeKeyValues(new Object[]{1, "a"}),
+            GeneratorReference.makeKeyValues(new Object[]{1, "b"}));
+    }
+
+    @NotNull
+    private static List<Object[]> generate(int threadCount, long seed) throws DBException {
+        List<GeneratorColumn> columns = List.of(
+            makeColumn(0, "id", DBPDataKind.NUMERIC, "bigint", 0, 19, 0, true),
+            makeColumn(1, "amount", DBPDataKind.NUMERIC, "numeric", 0, 10, 2, false),
+            makeColumn(2, "customer_name", DBPDataKind.STRING, "varchar", 50, 0, 0, false),
+            makeColumn(3, "comment", DBPDataKind.STRING, "varchar", 200, 0, 0, false),
+            makeColumn(4, "created", DBPDataKind.DATETIME, "timestamp", 0, 0, 0, false)
+        );
+        IDataGenerator[] generators = new IDataGenerator[columns.size()];
+        boolean[] nullable = new boolean[columns.size()];
+        for (GeneratorColumn column : columns) {
+            generators[column.getIndex()] = DataGeneratorType.getDefaultType(column).createGenerator(column, 1);
+            nullable[column.getIndex()] = !column.isUnique();
+        }
+        List<Object[]> rows = new ArrayList<>();
+        DataGeneratorTransferProducer.generateRows(
+            new VoidProgressMonitor(), ROW_COUNT, threadCount, seed, 0, generators, nullable, 0.1, rows::add);
+        return rows;
+    }
+
+    @NotNull
+    private static GeneratorColumn makeColumn(
+        int index,
+        @NotNull String name,
+        @NotNull DBPDataKind dataKind,
+        @NotNull String typeName,
+        long maxLength,
+        int precision,
+        int scale,
+        boolean unique
+    ) {
+        DBSEntityAttribute attribute = mock(DBSEntityAttribute.class);
+        when(attribute.getName()).thenReturn(name);
+        when(attribute.getDataKind()).thenReturn(dataKind);
+        when(attribute.getTypeName()).thenReturn(typeName);
+        when(attribute.getMaxLength()).thenReturn(maxLength);
+        when(attribute.getPrecision()).thenReturn(precision);
+        when(attribute.getScale()).thenReturn(scale);
+        return new GeneratorColumn(attribute, index, unique);
+    }
+}
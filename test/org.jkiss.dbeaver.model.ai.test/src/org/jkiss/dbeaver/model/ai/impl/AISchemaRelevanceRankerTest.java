@@ -0,0 +1,62 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.ai.impl;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AISchemaRelevanceRankerTest {
+
+    @Test
+    public void testTokenize() {
+        assertEquals(List.of("customer", "order", "id"), AISchemaRelevanceRanker.tokenize("customerOrders_ID"));
+        assertEquals(List.of("category", "address"), AISchemaRelevanceRanker.tokenize("categories, addresses"));
+        assertEquals(List.of("status", "of", "order"), AISchemaRelevanceRanker.tokenize("status of order2"));
+    }
+
+    @Test
+    public void testRank() {
+        Map<String, Map<String, Integer>> documents = new LinkedHashMap<>();
+        documents.put("customers", terms("customers", "id", "name", "email"));
+        documents.put("orders", terms("orders", "id", "customer_id", "total"));
+        documents.put("products", terms("products", "id", "title", "price"));
+
+        List<AISchemaRelevanceRanker.RankedItem<String>> ranked =
+            AISchemaRelevanceRanker.rank("Total of orders for each customer", documents);
+        assertEquals(2, ranked.size());
+        assertEquals("orders", ranked.get(0).item());
+        assertEquals("customers", ranked.get(1).item());
+
+        assertTrue(AISchemaRelevanceRanker.rank("weather forecast", documents).isEmpty());
+    }
+
+    private static Map<String, Integer> terms(String name, String... columns) {
+        Map<String, Integer> terms = new HashMap<>();
+        AISchemaRelevanceRanker.addTerms(terms, name, AISchemaRelevanceRanker.NAME_TERM_WEIGHT);
+        for (String column : columns) {
+            AISchemaRelevanceRanker.addTerms(terms, column, 1);
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsp.context;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.jkiss.dbeaver.model.sql.SQLSyntaxManager;
+import org.jkiss.dbeaver.model.sql.parser.tokens.SQLTokenType;
+import org.jkiss.dbeaver.model.text.parser.TPToken;
+import org.jkiss.dbeaver.model.text.parser.TPTokenDefault;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToIntFunction;
+
+public class LspSemanticTokensCacheTest extends DBeaverUnitTest {
+
+    private static final ToIntFunction<TPToken> TOKEN_TYPES = token ->
+        token instanceof TPTokenDefault tokenDefault && tokenDefault.getData() instanceof SQLTokenType tokenType
+            ? tokenType.ordinal()
+            : -1;
+    private static final CancelChecker NOT_CANCELED = () -> {
+    };
+
+    private LspSQLRuleManager ruleManager;
+
+    @Before
+    public void init() {
+        SQLSyntaxManager syntaxManager = new SQLSyntaxManager();
+        syntaxManager.init(BasicSQLDialect.INSTANCE, DBWorkbench.getPlatform().getPreferenceStore());
+        ruleManager = new LspSQLRuleManager(syntaxManager);
+        ruleManager.loadRules();
+    }
+
+    @Test
+    public void multiLineCommentChangesCachedLines() throws BadLocationException {
+        LspTextDocument document = new LspTextDocument("select 1;\nselect 2;\nselect 3;\nselect 4;\n");
+        LspSemanticTokensCache cache = new LspSemanticTokensCache(document);
+        SemanticTokens tokens = cache.getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED);
+        Assert.assertEquals(scan(document.get()), tokens.getData());
+        Assert.assertFalse(getLineTypes(tokens.getData(), 2).contains(SQLTokenType.T_COMMENT.ordinal()));
+
+        // Comment is opened in line 1 and continues up to the end
+        document.replace(document.getLineOffset(1) + 7, 0, "/*");
+        tokens = cache.getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED);
+        Assert.assertEquals(scan(document.get()), tokens.getData());
+        Assert.assertEquals(List.of(SQLTokenType.T_COMMENT.ordinal()), getLineTypes(tokens.getData(), 3));
+
+        // Comment is closed in line 2, the next lines are code again
+        document.replace(document.getLineOffset(2) + 6, 0, "*/");
+        tokens = cache.getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED);
+        Assert.assertEquals(scan(document.get()), tokens.getData());
+        Assert.assertFalse(getLineTypes(tokens.getData(), 3).contains(SQLTokenType.T_COMMENT.ordinal()));
+
+        // Comment start is removed, only the comment end remains
+        document.replace(document.getLineOffset(1) + 7, 2, "");
+        tokens = cache.getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED);
+        Assert.assertEquals(scan(document.get()), tokens.getData());
+        Assert.assertFalse(getLineTypes(tokens.getData(), 1).contains(SQLTokenType.T_COMMENT.ordinal()));
+
+        // Line break inside of the comment adds a line to the comment
+        document.replace(document.getLineOffset(2) + 6, 0, "/*");
+        document.replace(document.getLineOffset(2) + 8, 0, "\n");
+        tokens = cache.getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED);
+        Assert.assertEquals(scan(document.get()), tokens.getData());
+    }
+
+    @Test
+    public void deltaMatchesFullScan() throws BadLocationException {
+        String[] insertions = {"/*", "*/", "'", "\"", "\n", "select", " ", "1", "--", ";\n", "from t"};
+        Random random = new Random(42);
+        LspTextDocument document = new LspTextDocument("select a, b\nfrom t\nwhere a = 'x';\n\nselect 2;\n");
+        LspSemanticTokensCache cache = new LspSemanticTokensCache(document);
+        SemanticTokens tokens = cache.getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED);
+        List<Integer> data = new ArrayList<>(tokens.getData());
+        String resultId = tokens.getResultId();
+
+        for (int i = 0; i < 500; i++) {
+            int offset = random.nextInt(document.getLength() + 1);
+            int length = random.nextInt(4) == 0 ? random.nextInt(Math.min(5, document.getLength() - offset) + 1) : 0;
+            String text = insertions[random.nextInt(insertions.length)];
+            document.replace(offset, length, text);
+
+            Either<SemanticTokens, SemanticTokensDelta> result = cache.getTokensDelta(resultId, ruleManager, TOKEN_TYPES, NOT_CANCELED);
+            Assert.assertTrue(result.isRight());
+            SemanticTokensDelta delta = result.getRight();
+            for (SemanticTokensEdit edit : delta.getEdits()) {
+                List<Integer> range = data.subList(edit.getStart(), edit.getStart() + edit.getDeleteCount());
+                range.clear();
+                range.addAll(edit.getData());
+            }
+            Assert.assertEquals("Tokens after edit " + i + " of " + document.get(), scan(document.get()), data);
+            Assert.assertNotEquals(resultId, delta.getResultId());
+            resultId = delta.getResultId();
+        }
+    }
+
+    @Test
+    public void canceledScanIsResumed() throws BadLocationException {
+        // Each line keeps the state of its start: a comment is closed and opened again, or the line comment hides both
+        StringBuilder text = new StringBuilder("/*\n");
+        for (int i = 0; i < 5000; i++) {
+            text.append("select 1; -- */ /*\n");
+        }
+        LspTextDocument document = new LspTextDocument(text.toString());
+        LspSemanticTokensCache cache = new LspSemanticTokensCache(document);
+        cache.getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED);
+
+        // All lines become code, the scan is canceled in the middle of the document
+        document.replace(0, 2, "");
+        AtomicInteger checks = new AtomicInteger();
+        CancelChecker cancelChecker = () -> {
+            if (checks.incrementAndGet() > 1) {
+                throw new CancellationException();
+            }
+        };
+        Assert.assertThrows(CancellationException.class, () -> cache.getTokens(ruleManager, TOKEN_TYPES, cancelChecker));
+        Assert.assertTrue(checks.get() > 1);
+
+        SemanticTokens tokens = cache.getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED);
+        Assert.assertEquals(scan(document.get()), tokens.getData());
+    }
+
+    @Test
+    public void unknownResultReturnsFullTokens() throws BadLocationException {
+        LspTextDocument document = new LspTextDocument("select 1;\n");
+        LspSemanticTokensCache cache = new LspSemanticTokensCache(document);
+        Either<SemanticTokens, SemanticTokensDelta> result = cache.getTokensDelta("unknown", ruleManager, TOKEN_TYPES, NOT_CANCELED);
+        Assert.assertTrue(result.isLeft());
+        Assert.assertEquals(scan(document.get()), result.getLeft().getData());
+    }
+
+    /**
+     * Returns tokens of a fresh document, without any cached lines
+     */
+    @NotNull
+    private List<Integer> scan(@NotNull String text) throws BadLocationException {
+        return new LspSemanticTokensCache(new LspTextDocument(text)).getTokens(ruleManager, TOKEN_TYPES, NOT_CANCELED).getData();
+    }
+
+    /**
+     * Decodes token types of the line from LSP encoded tokens
+     */
+    @NotNull
+    private static List<Integer> getLineTypes(@NotNull List<Integer> data, int line) {
+        List<Integer> types = new ArrayList<>();
+        int currentLine = 0;
+        for (int i = 0; i < data.size(); i += 5) {
+            currentLine += data.get(i);
+            if (currentLine == line) {
+                types.add(data.get(i + 3));
+            }
+        }
+        return types;
+    }
+}
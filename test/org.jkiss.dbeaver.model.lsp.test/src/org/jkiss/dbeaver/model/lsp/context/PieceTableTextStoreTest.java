@@ -0,0 +1,137 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.lsp.context;
+
+import org.jkiss.code.NotNull;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class PieceTableTextStoreTest {
+
+    @Test
+    public void replaceSplitsPieces() {
+        PieceTableTextStore store = new PieceTableTextStore();
+        store.set("hello world");
+        Assert.assertEquals(1, store.getPieceCount());
+
+        store.replace(5, 0, ",");
+        assertText("hello, world", store);
+        Assert.assertEquals(3, store.getPieceCount());
+
+        store.replace(0, 1, "J");
+        assertText("Jello, world", store);
+
+        // Range covers the end of one piece and the start of another
+        store.replace(4, 4, "y w");
+        assertText("Jelly world", store);
+
+        store.replace(0, store.getLength(), "");
+        assertText("", store);
+        Assert.assertEquals(0, store.getPieceCount());
+
+        store.replace(0, 0, "select");
+        assertText("select", store);
+    }
+
+    @Test
+    public void readsAcrossPieces() {
+        PieceTableTextStore store = new PieceTableTextStore();
+        store.set("select from");
+        store.replace(7, 0, "* ");
+        store.replace(store.getLength(), 0, " dual");
+
+        Assert.assertEquals("select * from dual", store.get(0, store.getLength()));
+        Assert.assertEquals("t * f", store.get(5, 5));
+        Assert.assertEquals('*', store.get(7));
+        // Backward reads move the cursor back
+        Assert.assertEquals('d', store.get(14));
+        Assert.assertEquals('s', store.get(0));
+        Assert.assertEquals('l', store.get(17));
+    }
+
+    @Test
+    public void typingCoalescesPieces() {
+        PieceTableTextStore store = new PieceTableTextStore();
+        store.set("select ");
+        store.replace(store.getLength(), 0, "1");
+        int pieceCount = store.getPieceCount();
+        String typed = " from dual";
+        for (int i = 0; i < typed.length(); i++) {
+            store.replace(store.getLength(), 0, String.valueOf(typed.charAt(i)));
+        }
+        assertText("select 1 from dual", store);
+        Assert.assertEquals(pieceCount, store.getPieceCount());
+
+        // Typing in the middle of the text continues the inserted piece too
+        store.set("select  from dual");
+        store.replace(7, 0, "a");
+        pieceCount = store.getPieceCount();
+        store.replace(8, 0, "b");
+        store.replace(9, 0, "c");
+        assertText("select abc from dual", store);
+        Assert.assertEquals(pieceCount, store.getPieceCount());
+    }
+
+    @Test
+    public void manyPiecesAreCompacted() {
+        PieceTableTextStore store = new PieceTableTextStore();
+        StringBuilder expected = new StringBuilder("end");
+        store.set(expected.toString());
+        for (int i = 0; i < PieceTableTextStore.MAX_PIECES * 2; i++) {
+            // Inserts at the start are never coalesced
+            String text = String.valueOf((char) ('a' + i % 26));
+            store.replace(0, 0, text);
+            expected.insert(0, text);
+            Assert.assertTrue(store.getPieceCount() <= PieceTableTextStore.MAX_PIECES);
+        }
+        assertText(expected.toString(), store);
+    }
+
+    @Test
+    public void randomEditsMatchString() {
+        Random random = new Random(42);
+        PieceTableTextStore store = new PieceTableTextStore();
+        StringBuilder expected = new StringBuilder("select * from test_table where id = 1;\n");
+        store.set(expected.toString());
+        for (int i = 0; i < 5000; i++) {
+            int offset = random.nextInt(expected.length() + 1);
+            int length = random.nextInt(Math.min(10, expected.length() - offset) + 1);
+            String text = random.nextInt(4) == 0 ? "" : "x\ny".substring(0, random.nextInt(3) + 1);
+            store.replace(offset, length, text);
+            expected.replace(offset, offset + length, text);
+
+            Assert.assertEquals(expected.length(), store.getLength());
+            if (expected.length() > 0) {
+                int readOffset = random.nextInt(expected.length());
+                Assert.assertEquals(expected.charAt(readOffset), store.get(readOffset));
+                int readLength = random.nextInt(expected.length() - readOffset + 1);
+                Assert.assertEquals(expected.substring(readOffset, readOffset + readLength), store.get(readOffset, readLength));
+            }
+        }
+        assertText(expected.toString(), store);
+    }
+
+    private static void assertText(@NotNull String expected, @NotNull PieceTableTextStore store) {
+        Assert.assertEquals(expected.length(), store.getLength());
+        for (int i = 0; i < expected.length(); i++) {
+            Assert.assertEquals(expected.charAt(i), store.get(i));
+        }
+        Assert.assertEquals(expected, store.get(0, store.getLength()));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.task;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBPQualifiedObject;
+import org.jkiss.dbeaver.model.edit.DBEPersistAction;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.edit.SQLDatabasePersistAction;
+import org.jkiss.dbeaver.model.runtime.DBRRunnableContext;
+import org.jkiss.dbeaver.model.runtime.DBRRunnableWithProgress;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.task.DBTTask;
+import org.jkiss.dbeaver.model.task.DBTTaskExecutionListener;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Answers;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.Mockito.*;
+
+public class SQLToolExecuteHandlerTest {
+
+    private static final int OBJECT_COUNT = 4;
+
+    @Test
+    public void parallelWorkersCommitOnManualCommitConnection() throws Exception {
+        // Connection is in manual commit mode, worker contexts are closed without commit
+        AtomicBoolean autoCommit = new AtomicBoolean(false);
+        List<Boolean> executedInAutoCommit = Collections.synchronizedList(new ArrayList<>());
+
+        DBCExecutionContext context = mock(DBCExecutionContext.class, withSettings().extraInterfaces(DBCTransactionManager.class));
+        DBCTransactionManager txnManager = (DBCTransactionManager) context;
+        when(context.isConnected()).thenReturn(true);
+        when(txnManager.isSupportsTransactions()).thenReturn(true);
+        when(txnManager.isAutoCommit()).thenAnswer(invocation -> autoCommit.get());
+        doAnswer(invocation -> {
+            autoCommit.set(invocation.getArgument(1));
+            return null;
+        }).when(txnManager).setAutoCommit(any(), anyBoolean());
+
+        DBCStatement statement = mock(DBCStatement.class);
+        when(statement.executeStatement()).thenAnswer(invocation -> {
+            executedInAutoCommit.add(autoCommit.get());
+            return false;
+        });
+        DBCSession session = mock(DBCSession.class);
+        when(session.getExecutionContext()).thenReturn(context);
+        when(session.prepareStatement(any(), anyString(), anyBoolean(), anyBoolean(), anyBoolean())).thenReturn(statement);
+        when(context.openSession(any(), any(), anyString())).thenReturn(session);
+
+        DBSInstance instance = mock(DBSInstance.class);
+        when(instance.openIsolatedContext(any(), anyString(), any())).thenReturn(context);
+        DBPDataSource dataSource = mock(DBPDataSource.class, Answers.RETURNS_DEEP_STUBS);
+        when(dataSource.getContainer().getDriver().isEmbedded()).thenReturn(false);
+        when(dataSource.getDefaultInstance()).thenReturn(instance);
+
+        List<DBSObject> objects = new ArrayList<>();
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            DBSObject object = mock(DBSObject.class, withSettings().extraInterfaces(DBPQualifiedObject.class));
+            when(object.getDataSource()).thenReturn(dataSource);
+            when(((DBPQualifiedObject) object).getFullyQualifiedName(any())).thenReturn("table" + i);
+            objects.add(object);
+        }
+
+        @SuppressWarnings("unchecked")
+        SQLToolExecuteSettings<DBSObject> settings = mock(SQLToolExecuteSettings.class);
+        when(settings.getObjectList()).thenReturn(objects);
+        when(settings.getWarnings()).thenReturn(List.of());
+        when(settings.getParallelism()).thenReturn(2);
+
+        TruncateHandler handler = new TruncateHandler(settings);
+        handler.executeTask(createRunnableContext(), mock(DBTTask.class, Answers.RETURNS_DEEP_STUBS), Locale.ENGLISH,
+            Log.getLog(SQLToolExecuteHandlerTest.class), new PrintStream(OutputStream.nullOutputStream()),
+            mock(DBTTaskExecutionListener.class));
+
+        Assert.assertEquals(OBJECT_COUNT, executedInAutoCommit.size());
+        Assert.assertFalse(executedInAutoCommit.contains(false));
+    }
+
+    @NotNull
+    private static DBRRunnableContext createRunnableContext() throws Exception {
+        DBRRunnableContext runnableContext = mock(DBRRunnableContext.class);
+        doAnswer(invocation -> {
+            DBRRunnableWithProgress runnable = invocation.getArgument(2);
+            runnable.run(new VoidProgressMonitor());
+            return null;
+        }).when(runnableContext).run(anyBoolean(), anyBoolean(), any());
+        return runnableContext;
+    }
+
+    private static class TruncateHandler extends SQLToolExecuteHandler<DBSObject, SQLToolExecuteSettings<DBSObject>> {
+        private final SQLToolExecuteSettings<DBSObject> settings;
+
+        TruncateHandler(@NotNull SQLToolExecuteSettings<DBSObject> settings) {
+            this.settings = settings;
+        }
+
+        @NotNull
+        @Override
+        public SQLToolExecuteSettings<DBSObject> createToolSettings() {
+            return settings;
+        }
+
+        @Override
+        public void generateObjectQueries(
+            DBCSession session,
+            SQLToolExecuteSettings<DBSObject> settings,
+            List<DBEPersistAction> queries,
+            DBSObject object
+        ) {
+            String name = ((DBPQualifiedObject) object).getFullyQualifiedName(DBPEvaluationContext.DDL);
+            queries.add(new SQLDatabasePersistAction("Truncate", "TRUNCATE TABLE " + name));
+        }
+    }
+}
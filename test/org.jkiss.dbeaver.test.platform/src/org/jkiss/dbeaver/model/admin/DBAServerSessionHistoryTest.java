@@ -0,0 +1,180 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.admin;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.admin.sessions.AbstractServerSession;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionActivity;
+import org.jkiss.dbeaver.model.admin.sessions.DBAServerSessionHistory;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class DBAServerSessionHistoryTest extends DBeaverUnitTest {
+
+    @Test
+    public void aggregateSkipsIdleSessions() {
+        try (DBAServerSessionHistory history = new DBAServerSessionHistory(100, 1000, null, 0)) {
+            history.addSample(1000, List.of(
+                new TestSession("1", "alice", "select 1", "Lock:relation", "2"),
+                new TestSession("2", "bob", "update t", null, null),
+                new TestSession("3", "bob", null, null, null)));
+            history.addSample(2000, List.of(
+                new TestSession("1", "alice", "select 1", null, null)));
+
+            DBAServerSessionHistory.Summary summary = history.aggregate(0, 3000, 10);
+            Assert.assertEquals(2, summary.sampleCount());
+            Assert.assertEquals(3, summary.activeSessionSamples());
+            Assert.assertEquals(1, summary.blockedSessionSamples());
+            Assert.assertEquals(1.5, summary.getAverageActiveSessions(), 0.001);
+            Assert.assertEquals("select 1", summary.topQueries().get(0).name());
+            Assert.assertEquals(2, summary.topQueries().get(0).samples());
+            Assert.assertEquals("alice", summary.topUsers().get(0).name());
+            Assert.assertEquals("Lock:relation", summary.topWaitEvents().get(0).name());
+            Assert.assertEquals("2", summary.topBlockers().get(0).name());
+        }
+    }
+
+    @Test
+    public void evictedSamplesAreSpilled() throws Exception {
+        Path spillFile = Files.createTempFile("session-history", ".txt");
+        try (DBAServerSessionHistory history = new DBAServerSessionHistory(2, 10, spillFile, 1024 * 1024)) {
+            for (int i = 1; i <= 5; i++) {
+                history.addSample(i * 1000L, List.of(new TestSession("1", "alice", "select\t" + i + "\n", null, null)));
+            }
+            Assert.assertEquals(2, history.getSampleCount());
+            Assert.assertEquals(4000, history.getOldestSampleTime());
+
+            DBAServerSessionHistory.Summary summary = history.aggregate(0, 10000, 10);
+            Assert.assertEquals(5, summary.sampleCount());
+            Assert.assertEquals(5, summary.activeSessionSamples());
+            Assert.assertTrue(summary.topQueries().stream().anyMatch(item -> item.name().equals("select\t1")));
+
+            summary = history.aggregate(4000, 10000, 10);
+            Assert.assertEquals(2, summary.sampleCount());
+        } finally {
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    @Test
+    public void rowLimitEvictsWholeSamples() {
+        try (DBAServerSessionHistory history = new DBAServerSessionHistory(10, 4, null, 0)) {
+            for (int i = 1; i <= 3; i++) {
+                history.addSample(i * 1000L, List.of(
+                    new TestSession("1", "alice", "select " + i, null, null),
+                    new TestSession("2", "bob", "select " + i, null, null),
+                    new TestSession("3", "carol", "select " + i, null, null)));
+            }
+            // Each sample has 3 rows, so only the last sample fits
+            Assert.assertEquals(1, history.getSampleCount());
+            Assert.assertEquals(3000, history.getOldestSampleTime());
+
+            DBAServerSessionHistory.Summary summary = history.aggregate(0, 10000, 10);
+            Assert.assertEquals(1, summary.sampleCount());
+            Assert.assertEquals(3, summary.activeSessionSamples());
+            Assert.assertEquals(3.0, summary.getAverageActiveSessions(), 0.001);
+            Assert.assertEquals(List.of("select 3"), summary.topQueries().stream().map(DBAServerSessionHistory.TopItem::name).toList());
+        }
+    }
+
+    @Test
+    public void rowLimitSpillsWholeSamples() throws Exception {
+        Path spillFile = Files.createTempFile("session-history", ".txt");
+        try (DBAServerSessionHistory history = new DBAServerSessionHistory(10, 4, spillFile, 1024 * 1024)) {
+            for (int i = 1; i <= 3; i++) {
+                history.addSample(i * 1000L, List.of(
+                    new TestSession("1", "alice", "select " + i, null, null),
+                    new TestSession("2", "bob", "select " + i, null, null),
+                    new TestSession("3", "carol", "select " + i, null, null)));
+            }
+            DBAServerSessionHistory.Summary summary = history.aggregate(0, 10000, 10);
+            Assert.assertEquals(3, summary.sampleCount());
+            Assert.assertEquals(9, summary.activeSessionSamples());
+        } finally {
+            Files.deleteIfExists(spillFile);
+            Files.deleteIfExists(spillFile.resolveSibling(spillFile.getFileName() + ".1"));
+        }
+    }
+
+    @Test
+    public void samplesWithSameTimeAreEvictedSeparately() {
+        try (DBAServerSessionHistory history = new DBAServerSessionHistory(2, 10, null, 0)) {
+            history.addSample(1000, List.of(new TestSession("1", "alice", "select 1", null, null)));
+            history.addSample(1000, List.of(new TestSession("2", "bob", "select 2", null, null)));
+            history.addSample(2000, List.of(new TestSession("3", "carol", "select 3", null, null)));
+
+            // Only the first sample is evicted, rows of the second one have the same time but are kept
+            DBAServerSessionHistory.Summary summary = history.aggregate(0, 10000, 10);
+            Assert.assertEquals(2, summary.sampleCount());
+            Assert.assertEquals(2, summary.activeSessionSamples());
+            Assert.assertEquals(List.of("bob", "carol"),
+                summary.topUsers().stream().map(DBAServerSessionHistory.TopItem::name).sorted().toList());
+        }
+    }
+
+    private static class TestSession extends AbstractServerSession implements DBAServerSessionActivity {
+        private final String id;
+        private final String user;
+        private final String query;
+        private final String waitEvent;
+        private final String blocker;
+
+        TestSession(@NotNull String id, @NotNull String user, @Nullable String query, @Nullable String waitEvent, @Nullable String blocker) {
+            this.id = id;
+            this.user = user;
+            this.query = query;
+            this.waitEvent = waitEvent;
+            this.blocker = blocker;
+        }
+
+        @Override
+        public String getActiveQuery() {
+            return query;
+        }
+
+        @Override
+        public String getSessionId() {
+            return id;
+        }
+
+        @Override
+        public String getSessionUser() {
+            return user;
+        }
+
+        @Override
+        public String getWaitEvent() {
+            return waitEvent;
+        }
+
+        @Override
+        public String getBlockingSessionId() {
+            return blocker;
+        }
+
+        @Override
+        public boolean isSessionActive() {
+            return query != null;
+        }
+    }
+}
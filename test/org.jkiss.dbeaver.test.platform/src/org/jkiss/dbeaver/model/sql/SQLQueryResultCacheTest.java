@@ -0,0 +1,189 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.data.DBDValueHandlerProvider;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.impl.data.DefaultValueHandler;
+import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class SQLQueryResultCacheTest extends DBeaverUnitTest {
+
+    private final SQLQueryResultCache cache = SQLQueryResultCache.getInstance();
+    private final List<DBPDataSourceContainer> containers = new ArrayList<>();
+
+    @After
+    public void invalidateCache() {
+        for (DBPDataSourceContainer container : containers) {
+            cache.invalidate(container);
+        }
+    }
+
+    @Test
+    public void normalizeQuery() {
+        Assert.assertEquals(
+            "SELECT id, name FROM customers WHERE id = 1",
+            SQLQueryResultCache.normalizeQuery("  SELECT id,\n\tname\r\nFROM   customers WHERE id = 1;\n"));
+        // Quoted text is not changed
+        Assert.assertEquals(
+            "SELECT * FROM t WHERE name = 'a  b' AND \"My  Column\" = 1",
+            SQLQueryResultCache.normalizeQuery("SELECT *\nFROM t WHERE name = 'a  b'  AND \"My  Column\" = 1"));
+        Assert.assertEquals(
+            SQLQueryResultCache.normalizeQuery("select 1"),
+            SQLQueryResultCache.normalizeQuery("select\n   1 ;"));
+        // Line break ends the line comment
+        Assert.assertEquals(
+            "select 1 --c\nfrom a",
+            SQLQueryResultCache.normalizeQuery("select 1   --c\r\n  from a"));
+        Assert.assertNotEquals(
+            SQLQueryResultCache.normalizeQuery("select 1 --c\nfrom a"),
+            SQLQueryResultCache.normalizeQuery("select 1 --c from a"));
+        Assert.assertEquals(
+            "select /* a  b */ 1",
+            SQLQueryResultCache.normalizeQuery("select  /* a  b */\n1"));
+    }
+
+    @Test
+    public void writeInvalidatesReadTables() throws Exception {
+        DBCSession session = createSession("write-test", 60, 16);
+        cacheStrings(session, "select name from orders", "order");
+        cacheStrings(session, "select name from customers", "customer");
+
+        cache.handleUnloggedQuery(session, "update orders set name = 'x'");
+        Assert.assertNull(cache.getCachedResult(session, "select name from orders", null, 0, 0));
+        Assert.assertEquals(List.of("customer"), readValues(cache.getCachedResult(session, "select name from customers", null, 0, 0)));
+
+        // Reads don't invalidate anything
+        cache.handleUnloggedQuery(session, "select * from customers");
+        Assert.assertNotNull(cache.getCachedResult(session, "select name from customers", null, 0, 0));
+    }
+
+    @Test
+    public void expiredResultIsDropped() throws Exception {
+        DBCSession session = createSession("ttl-test", 0, 16);
+        cacheStrings(session, "select name from orders", "order");
+        Thread.sleep(20);
+        Assert.assertNull(cache.getCachedResult(session, "select name from orders", null, 0, 0));
+
+        session = createSession("ttl-test-long", 60, 16);
+        cacheStrings(session, "select name from orders", "order");
+        Assert.assertEquals(List.of("order"), readValues(cache.getCachedResult(session, "select name from orders", null, 0, 0)));
+    }
+
+    @Test
+    public void leastRecentlyUsedResultIsEvicted() throws Exception {
+        // Each result takes ~400Kb of 1Mb
+        DBCSession session = createSession("size-test", 60, 1);
+        String value = "x".repeat(200_000);
+        cacheStrings(session, "select name from t1", value);
+        cacheStrings(session, "select name from t2", value);
+        Assert.assertNotNull(cache.getCachedResult(session, "select name from t1", null, 0, 0));
+        cacheStrings(session, "select name from t3", value);
+
+        Assert.assertNotNull(cache.getCachedResult(session, "select name from t1", null, 0, 0));
+        Assert.assertNull(cache.getCachedResult(session, "select name from t2", null, 0, 0));
+        Assert.assertNotNull(cache.getCachedResult(session, "select name from t3", null, 0, 0));
+    }
+
+    @Test
+    public void cachedDatesAreCopied() throws Exception {
+        DBCSession session = createSession("date-test", 60, 16);
+        Timestamp timestamp = Timestamp.valueOf("2024-01-02 03:04:05.123456789");
+        List<Object> values = readValues(cache.cacheResult(
+            session, "select created from orders", null, 0, 0, createResultSet(DBPDataKind.DATETIME, timestamp)));
+        ((Timestamp) values.getFirst()).setTime(0);
+
+        values = readValues(cache.getCachedResult(session, "select created from orders", null, 0, 0));
+        Assert.assertEquals(Timestamp.valueOf("2024-01-02 03:04:05.123456789"), values.getFirst());
+        ((Timestamp) values.getFirst()).setNanos(0);
+        values = readValues(cache.getCachedResult(session, "select created from orders", null, 0, 0));
+        Assert.assertEquals(Timestamp.valueOf("2024-01-02 03:04:05.123456789"), values.getFirst());
+    }
+
+    @NotNull
+    private DBCSession createSession(@NotNull String containerId, long ttl, long maxSize) {
+        DBPPreferenceStore preferences = mock(DBPPreferenceStore.class);
+        when(preferences.getLong(ModelPreferences.RESULT_SET_CACHE_TTL)).thenReturn(ttl);
+        when(preferences.getLong(ModelPreferences.RESULT_SET_CACHE_MAX_SIZE)).thenReturn(maxSize);
+        DBPDataSourceContainer container = mock(DBPDataSourceContainer.class);
+        when(container.getId()).thenReturn(containerId);
+        when(container.getPreferenceStore()).thenReturn(preferences);
+        containers.add(container);
+
+        DBPDataSource dataSource = mock(DBPDataSource.class, withSettings().extraInterfaces(DBDValueHandlerProvider.class));
+        when(dataSource.getContainer()).thenReturn(container);
+        when(dataSource.getSQLDialect()).thenReturn(BasicSQLDialect.INSTANCE);
+        when(((DBDValueHandlerProvider) dataSource).getValueHandler(any(), any(), any())).thenReturn(DefaultValueHandler.INSTANCE);
+
+        DBCSession session = mock(DBCSession.class);
+        when(session.getDataSource()).thenReturn(dataSource);
+        when(session.getExecutionContext()).thenReturn(mock(DBCExecutionContext.class));
+        return session;
+    }
+
+    private void cacheStrings(@NotNull DBCSession session, @NotNull String query, @NotNull Object... values) throws DBCException {
+        // Cached result set must be read instead of the original one
+        Assert.assertEquals(List.of(values), readValues(cache.cacheResult(
+            session, query, null, 0, 0, createResultSet(DBPDataKind.STRING, values))));
+    }
+
+    @NotNull
+    private static DBCResultSet createResultSet(@NotNull DBPDataKind dataKind, @NotNull Object... values) throws DBCException {
+        DBCAttributeMetaData attribute = mock(DBCAttributeMetaData.class);
+        when(attribute.getDataKind()).thenReturn(dataKind);
+        DBCResultSetMetaData meta = mock(DBCResultSetMetaData.class);
+        doReturn(List.of(attribute)).when(meta).getAttributes();
+
+        AtomicInteger position = new AtomicInteger(-1);
+        DBCResultSet resultSet = mock(DBCResultSet.class);
+        when(resultSet.getFeature(DBCResultSet.FEATURE_NAME_JDBC)).thenReturn(true);
+        when(resultSet.getMeta()).thenReturn(meta);
+        when(resultSet.getSourceStatement()).thenReturn(mock(DBCStatement.class));
+        when(resultSet.nextRow()).thenAnswer(invocation -> position.incrementAndGet() < values.length);
+        when(resultSet.getAttributeValue(anyInt())).thenAnswer(invocation -> values[position.get()]);
+        return resultSet;
+    }
+
+    @NotNull
+    private static List<Object> readValues(@NotNull DBCResultSet resultSet) throws DBCException {
+        List<Object> values = new ArrayList<>();
+        while (resultSet.nextRow()) {
+            values.add(resultSet.getAttributeValue(0));
+        }
+        resultSet.close();
+        return values;
+    }
+}
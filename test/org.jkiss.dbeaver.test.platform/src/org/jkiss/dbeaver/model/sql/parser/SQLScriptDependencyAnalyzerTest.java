@@ -0,0 +1,124 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.parser;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class SQLScriptDependencyAnalyzerTest extends DBeaverUnitTest {
+
+    @Test
+    public void statementTables() throws Exception {
+        SQLScriptDependencyAnalyzer.StatementTables tables = getTables("INSERT INTO sales.orders_2024 SELECT * FROM \"orders\" o JOIN customers c ON c.id = o.customer_id");
+        Assert.assertFalse(tables.barrier());
+        Assert.assertEquals(Set.of("orders_2024"), tables.writes());
+        Assert.assertEquals(Set.of("orders", "customers"), tables.reads());
+
+        tables = getTables("CREATE INDEX orders_idx ON orders (customer_id)");
+        Assert.assertEquals(Set.of("orders"), tables.writes());
+        Assert.assertTrue(tables.reads().isEmpty());
+
+        Assert.assertTrue(getTables("SET search_path = sales").barrier());
+        Assert.assertTrue(SQLScriptDependencyAnalyzer.getStatementTables(null).barrier());
+    }
+
+    @Test
+    public void dependencies() throws Exception {
+        int[][] dependencies = buildDependencies(
+            "CREATE INDEX a_idx ON a (id)",
+            "CREATE INDEX b_idx ON b (id)",
+            "INSERT INTO c SELECT * FROM a",
+            "SELECT * FROM c",
+            "UPDATE a SET id = 0",
+            "SET search_path = sales",
+            "SELECT * FROM b"
+        );
+        Assert.assertArrayEquals(new int[0], dependencies[0]);
+        Assert.assertArrayEquals(new int[0], dependencies[1]);
+        Assert.assertArrayEquals(new int[]{0}, dependencies[2]);
+        Assert.assertArrayEquals(new int[]{2}, dependencies[3]);
+        Assert.assertArrayEquals(new int[]{0, 2}, dependencies[4]);
+        Assert.assertArrayEquals(new int[]{0, 1, 2, 3, 4}, dependencies[5]);
+        Assert.assertArrayEquals(new int[]{5}, dependencies[6]);
+    }
+
+    @Test
+    public void foreignKeyDependencies() throws Exception {
+        SQLScriptDependencyAnalyzer.StatementTables tables = getTables(
+            "CREATE TABLE child (id INT PRIMARY KEY, parent_id INT, FOREIGN KEY (parent_id) REFERENCES parent (id))");
+        Assert.assertEquals(Set.of("child"), tables.writes());
+        Assert.assertEquals(Set.of("parent"), tables.references());
+        Assert.assertEquals(Set.of("parent"), tables.reads());
+
+        tables = getTables("CREATE TABLE child (id INT PRIMARY KEY, parent_id INT REFERENCES parent (id))");
+        Assert.assertEquals(Set.of("parent"), tables.references());
+
+        tables = getTables("ALTER TABLE child ADD CONSTRAINT child_fk FOREIGN KEY (parent_id) REFERENCES parent (id)");
+        Assert.assertEquals(Set.of("child"), tables.writes());
+        Assert.assertEquals(Set.of("parent"), tables.reads());
+
+        int[][] dependencies = buildDependencies(
+            "CREATE TABLE child (id INT, parent_id INT, FOREIGN KEY (parent_id) REFERENCES parent (id))",
+            "CREATE TABLE parent (id INT PRIMARY KEY)",
+            "INSERT INTO parent VALUES (1)",
+            "INSERT INTO child VALUES (1, 1)",
+            "INSERT INTO other VALUES (1)"
+        );
+        Assert.assertArrayEquals(new int[0], dependencies[0]);
+        Assert.assertArrayEquals(new int[]{0}, dependencies[1]);
+        Assert.assertArrayEquals(new int[]{0, 1}, dependencies[2]);
+        Assert.assertArrayEquals(new int[]{0, 1, 2}, dependencies[3]);
+        Assert.assertArrayEquals(new int[0], dependencies[4]);
+    }
+
+    @Test
+    public void existingForeignKeyDependencies() throws Exception {
+        List<SQLScriptDependencyAnalyzer.StatementTables> tables = List.of(
+            getTables("DELETE FROM child"),
+            getTables("DELETE FROM parent"),
+            getTables("INSERT INTO parent VALUES (1)"),
+            getTables("INSERT INTO child VALUES (1, 1)")
+        );
+        int[][] dependencies = SQLScriptDependencyAnalyzer.buildDependencies(tables);
+        Assert.assertArrayEquals(new int[0], dependencies[1]);
+
+        dependencies = SQLScriptDependencyAnalyzer.buildDependencies(
+            tables, Map.of("child", Set.of("parent"), "parent", Set.of("child")));
+        Assert.assertArrayEquals(new int[]{0}, dependencies[1]);
+        Assert.assertArrayEquals(new int[]{0, 1}, dependencies[2]);
+        Assert.assertArrayEquals(new int[]{0, 1, 2}, dependencies[3]);
+    }
+
+    private static SQLScriptDependencyAnalyzer.StatementTables getTables(String sql) throws Exception {
+        return SQLScriptDependencyAnalyzer.getStatementTables(CCJSqlParserUtil.parse(sql));
+    }
+
+    private static int[][] buildDependencies(String... statements) throws Exception {
+        List<SQLScriptDependencyAnalyzer.StatementTables> tables = new ArrayList<>();
+        for (String sql : statements) {
+            tables.add(getTables(sql));
+        }
+        return SQLScriptDependencyAnalyzer.buildDependencies(tables);
+    }
+}
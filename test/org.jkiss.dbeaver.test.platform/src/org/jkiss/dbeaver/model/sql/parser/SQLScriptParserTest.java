@@ -41,11 +41,14 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 
 public class SQLScriptParserTest extends DBeaverUnitTest {
 
@@ -854,6 +857,29 @@ public class SQLScriptParserTest extends DBeaverUnitTest {
         );
     }
 
+    @Test
+    public void parseScriptStreamWithSmallWindow() throws Exception {
+        setDialect(POSTGRESQL_DIALECT_NAME);
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            script.append("INSERT INTO test VALUES (").append(i).append(", 'значение ").append(i).append("');\n");
+        }
+        String scriptText = script.toString();
+        List<SQLScriptElement> expected = SQLScriptParser.parseScript(dataSource, scriptText);
+
+        SQLScriptStreamParser streamParser = new SQLScriptStreamParser(
+            dataSource, new StringReader(scriptText), StandardCharsets.UTF_8, 0);
+        streamParser.setWindowSize(1);
+        List<String> actual = new ArrayList<>();
+        for (SQLScriptElement element = streamParser.nextElement(); element != null; element = streamParser.nextElement()) {
+            actual.add(element.getText());
+        }
+        assertEquals(expected.stream().map(SQLScriptElement::getText).toList(), actual);
+        // Processed offset points to the end of the last statement (trailing delimiter and line feed may be not included)
+        long scriptBytes = scriptText.getBytes(StandardCharsets.UTF_8).length;
+        assertTrue(streamParser.getProcessedBytes() <= scriptBytes && streamParser.getProcessedBytes() >= scriptBytes - 2);
+    }
+
 
     private void assertParse(String dialectName, String[] expected) throws DBException {
         String source = Arrays.stream(expected)
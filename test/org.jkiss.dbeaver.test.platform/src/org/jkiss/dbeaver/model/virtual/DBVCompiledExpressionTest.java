@@ -0,0 +1,72 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.virtual;
+
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+public class DBVCompiledExpressionTest extends DBeaverUnitTest {
+
+    private final JexlEngine jexlEngine = new JexlBuilder().create();
+    private final DBDAttributeBinding[] attributes = {
+        makeAttribute("a", 0),
+        makeAttribute("b", 1)
+    };
+
+    @Test
+    public void evaluateAttributesExpression() {
+        JexlExpression expression = jexlEngine.createExpression("a * 2 + b");
+        DBVCompiledExpression compiled = DBVCompiledExpression.compileAttributesExpression(expression, attributes);
+        Assert.assertEquals(10, compiled.evaluate(new Object[]{3, 4}));
+        Assert.assertEquals(7, compiled.evaluate(new Object[]{1, 5}));
+    }
+
+    @Test
+    public void evaluateVariableReference() {
+        JexlExpression expression = jexlEngine.createExpression(" b ");
+        DBVCompiledExpression compiled = DBVCompiledExpression.compileAttributesExpression(expression, attributes);
+        Assert.assertEquals("value", compiled.evaluate(new Object[]{1, "value"}));
+        Assert.assertNull(compiled.evaluate(new Object[]{1, null}));
+    }
+
+    @Test
+    public void bindingIsCheckedByIdentity() {
+        JexlExpression expression = jexlEngine.createExpression("a");
+        DBVCompiledExpression compiled = DBVCompiledExpression.compileAttributesExpression(expression, attributes);
+        Assert.assertTrue(compiled.isBoundTo(expression, attributes));
+        Assert.assertFalse(compiled.isBoundTo(expression, attributes.clone()));
+        Assert.assertFalse(compiled.isBoundTo(jexlEngine.createExpression("a"), attributes));
+    }
+
+    private static DBDAttributeBinding makeAttribute(String name, int position) {
+        DBDAttributeBinding attribute = mock(DBDAttributeBinding.class, Mockito.CALLS_REAL_METHODS);
+        doReturn(name).when(attribute).getName();
+        doReturn(name).when(attribute).getLabel();
+        doReturn(position).when(attribute).getOrdinalPosition();
+        doReturn(null).when(attribute).getParentObject();
+        return attribute;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2026 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.driver;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.junit.DBeaverUnitTest;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+public class DriverClassIndexTest extends DBeaverUnitTest {
+
+    @Test
+    public void resourcesAreMappedToJars() throws Exception {
+        Path folder = Files.createTempDirectory("driver-index");
+        try {
+            Path jar1 = createJar(folder.resolve("a.jar"), "com/acme/Driver.class", "META-INF/services/java.sql.Driver");
+            Path jar2 = createJar(folder.resolve("b.jar"), "com/acme/util/Helper.class", "META-INF/services/java.sql.Driver");
+            Path indexFile = folder.resolve("index.txt");
+
+            DriverClassIndex index = DriverClassIndex.loadIndex(indexFile, List.of(jar1, jar2), Map.of());
+            Assert.assertNotNull(index);
+            Assert.assertArrayEquals(new int[]{0}, index.getResourceJars("com/acme/Driver.class"));
+            Assert.assertArrayEquals(new int[]{1}, index.getResourceJars("com/acme/util/Helper.class"));
+            Assert.assertArrayEquals(new int[]{0, 1}, index.getResourceJars("META-INF/services/java.sql.Driver"));
+            Assert.assertEquals(0, index.getResourceJars("org/other/Missing.class").length);
+            Assert.assertTrue(Files.exists(indexFile));
+
+            // Stored index is used while jars are the same
+            long indexModified = Files.getLastModifiedTime(indexFile).toMillis();
+            index = DriverClassIndex.loadIndex(indexFile, List.of(jar1, jar2), Map.of());
+            Assert.assertNotNull(index);
+            Assert.assertEquals(indexModified, Files.getLastModifiedTime(indexFile).toMillis());
+            Assert.assertArrayEquals(new int[]{1}, index.getResourceJars("com/acme/util/Helper.class"));
+
+            // Changed CRC makes the jar rescanned
+            createJar(jar2, "com/acme/other/Other.class");
+            index = DriverClassIndex.loadIndex(indexFile, List.of(jar1, jar2), Map.of(jar2, 12345L));
+            Assert.assertNotNull(index);
+            Assert.assertEquals(0, index.getResourceJars("com/acme/util/Helper.class").length);
+            Assert.assertArrayEquals(new int[]{1}, index.getResourceJars("com/acme/other/Other.class"));
+        } finally {
+            try (var files = Files.walk(folder)) {
+                files.sorted((p1, p2) -> p2.compareTo(p1)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void classFoldersAreNotIndexed() throws Exception {
+        Path folder = Files.createTempDirectory("driver-index");
+        try {
+            Assert.assertNull(DriverClassIndex.loadIndex(null, List.of(folder), Map.of()));
+        } finally {
+            Files.deleteIfExists(folder);
+        }
+    }
+
+    @Test
+    public void manifestClassPathIsLookedUp() throws Exception {
+        Path folder = Files.createTempDirectory("driver-index");
+        try {
+            Manifest manifest = new Manifest();
+            manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+            manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "lib.jar");
+            Path jar = createJar(folder.resolve("a.jar"), manifest, "com/acme/Driver.class");
+            createJar(folder.resolve("lib.jar"), "com/acme/lib/driver.properties");
+            Path indexFile = folder.resolve("index.txt");
+
+            DriverClassIndex index = DriverClassIndex.loadIndex(indexFile, List.of(jar), Map.of());
+            Assert.assertNotNull(index);
+            Assert.assertTrue(index.hasManifestClassPath());
+            // Stored index keeps the flag
+            index = DriverClassIndex.loadIndex(indexFile, List.of(jar), Map.of());
+            Assert.assertNotNull(index);
+            Assert.assertTrue(index.hasManifestClassPath());
+
+            try (DriverClassLoader classLoader = new DriverClassLoader(null, new URL[]{jar.toUri().toURL()}, null, index)) {
+                Assert.assertNotNull(classLoader.findResource("com/acme/Driver.class"));
+                Assert.assertNotNull(classLoader.findResource("com/acme/lib/driver.properties"));
+                Assert.assertNull(classLoader.findResource("com/acme/lib/missing.properties"));
+            }
+        } finally {
+            try (var files = Files.walk(folder)) {
+                files.sorted((p1, p2) -> p2.compareTo(p1)).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @NotNull
+    private static Path createJar(@NotNull Path file, @NotNull String... entries) throws IOException {
+        return createJar(file, null, entries);
+    }
+
+    @NotNull
+    private static Path createJar(@NotNull Path file, @Nullable Manifest manifest, @NotNull String... entries) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file);
+             JarOutputStream jar = manifest == null ? new JarOutputStream(out) : new JarOutputStream(out, manifest)) {
+            for (String entry : entries) {
+                jar.putNextEntry(new JarEntry(entry));
+                jar.write(new byte[]{1, 2, 3});
+                jar.closeEntry();
+            }
+        }
+        return file;
+    }
+}